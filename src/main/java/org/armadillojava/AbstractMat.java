@@ -33,6 +33,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
+import com.github.fommil.netlib.BLAS;
+
 /**
  * TODO
  * 
@@ -60,6 +62,11 @@ abstract class AbstractMat {
    */
   public int         n_elem;
 
+  /**
+   * The known structure of the matrix, reset to {@link Structure#GENERAL} by any modification
+   */
+  protected Structure _structure = Structure.GENERAL;
+
   /**
    * Returns the value of the {@code n}th element.
    * <p>
@@ -86,6 +93,8 @@ abstract class AbstractMat {
    * @throws UnsupportedOperationException Unexpected operator ({@code unary_operator}).
    */
   public void at(final int n, final Op unary_operator) throws UnsupportedOperationException {
+    _structure = Structure.GENERAL;
+
     switch (unary_operator) {
       case INCREMENT:
         _data[n]++;
@@ -111,6 +120,8 @@ abstract class AbstractMat {
    * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
    */
   public void at(final int n, final Op binary_operator, final double operand) throws UnsupportedOperationException {
+    _structure = Structure.GENERAL;
+
     switch (binary_operator) {
       case EQUAL:
         _data[n] = operand;
@@ -229,10 +240,13 @@ abstract class AbstractMat {
 
   /**
    * Returns a reference to the memory internally representing the matrix.
+   * <p>
+   * As the memory might be modified afterwards, the known structure of the matrix is reset.
    * 
    * @return TODO
    */
   public double[] memptr() {
+    _structure = Structure.GENERAL;
     return _data;
   }
 
@@ -355,6 +369,8 @@ abstract class AbstractMat {
    * @param value The value
    */
   public void fill(final double value) {
+    _structure = Structure.GENERAL;
+
     Arrays.fill(_data, value);
   }
 
@@ -481,6 +497,8 @@ abstract class AbstractMat {
    * <b>Non-canonical:</b> Drawn from [0,1) instead of the closed interval [0,1].
    */
   public void randu() {
+    _structure = Structure.GENERAL;
+
     for (int n = 0; n < n_elem; n++) {
       _data[n] = RNG._rng.nextDouble();
     }
@@ -491,6 +509,8 @@ abstract class AbstractMat {
    * deviation 1.0.
    */
   public void randn() {
+    _structure = Structure.GENERAL;
+
     for (int n = 0; n < n_elem; n++) {
       _data[n] = RNG._rng.nextGaussian();
     }
@@ -709,6 +729,7 @@ abstract class AbstractMat {
     n_rows = numberOfRows;
     n_elem = n_rows * n_cols;
     _data = new double[n_elem];
+    _structure = Structure.GENERAL;
 
     int n = 0;
     for (int j = 0; j < n_cols; j++) {
@@ -945,6 +966,8 @@ abstract class AbstractMat {
    * @throws UnsupportedOperationException Unexpected operator ({@code unary_operator}).
    */
   public void inPlace(final Op unary_operator) {
+    _structure = Structure.GENERAL;
+
     switch (unary_operator) {
       case INCREMENT:
         for (int n = 0; n < n_elem; n++) {
@@ -970,6 +993,8 @@ abstract class AbstractMat {
    * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
    */
   public void inPlace(final Op binary_operator, final double rightHandOperand) throws UnsupportedOperationException {
+    _structure = Structure.GENERAL;
+
     switch (binary_operator) {
       case EQUAL:
         set_size(1);
@@ -1071,6 +1096,204 @@ abstract class AbstractMat {
       default:
         throw new UnsupportedOperationException("Unsupported operation (" + binary_operator + ").");
     }
+
+    _structure = Structure.GENERAL;
+  }
+
+  /**
+   * Adds {@code alpha} * {@code X} to this matrix in a single pass (BLAS-1 {@code daxpy}).
+   * <p>
+   * Avoids the temporary of {@code inPlace(Op.PLUS, X.times(alpha))}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param alpha The scalar
+   * @param X The matrix
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols}) must
+   *           have the same shape.
+   */
+  public void axpy(final double alpha, final AbstractMat X) throws RuntimeException {
+    if (n_rows != X.n_rows || n_cols != X.n_cols) {
+      throw new RuntimeException("Both matrices (" + n_rows + ", " + n_cols + " and " + X.n_rows + ", " + X.n_cols + ") must have the same shape.");
+    }
+
+    if (n_elem > 0) {
+      BLAS.getInstance().daxpy(n_elem, alpha, X._data, 1, _data, 1);
+    }
+
+    _structure = Structure.GENERAL;
+  }
+
+  /**
+   * Replaces this matrix by {@code alpha} * {@code X} + {@code beta} * this matrix in a single pass.
+   * <p>
+   * As with BLAS, the current content is not read if {@code beta} is 0. Therefore, non-finite values are not
+   * propagated in this case.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param alpha The scalar of {@code X}
+   * @param X The matrix
+   * @param beta The scalar of this matrix
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols}) must
+   *           have the same shape.
+   */
+  public void axpby(final double alpha, final AbstractMat X, final double beta) throws RuntimeException {
+    if (n_rows != X.n_rows || n_cols != X.n_cols) {
+      throw new RuntimeException("Both matrices (" + n_rows + ", " + n_cols + " and " + X.n_rows + ", " + X.n_cols + ") must have the same shape.");
+    }
+
+    if (beta == 0) {
+      for (int n = 0; n < n_elem; n++) {
+        _data[n] = alpha * X._data[n];
+      }
+    } else if (beta == 1) {
+      if (n_elem > 0) {
+        BLAS.getInstance().daxpy(n_elem, alpha, X._data, 1, _data, 1);
+      }
+    } else {
+      for (int n = 0; n < n_elem; n++) {
+        _data[n] = alpha * X._data[n] + beta * _data[n];
+      }
+    }
+
+    _structure = Structure.GENERAL;
+  }
+
+  /**
+   * Adds the rank-1 update {@code alpha} * {@code x} * {@code y}<sup>T</sup> to this matrix (BLAS-2 {@code dger}).
+   * <p>
+   * Avoids the temporary outer product of {@code inPlace(Op.PLUS, x.times(y.t()))}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param alpha The scalar
+   * @param x The column vector
+   * @param y The row vector, given as vector
+   * 
+   * @throws RuntimeException The number of elements ({@code x.n_elem}) must be equal to the number of rows (
+   *           {@code n_rows}).
+   * @throws RuntimeException The number of elements ({@code y.n_elem}) must be equal to the number of columns (
+   *           {@code n_cols}).
+   */
+  public void ger(final double alpha, final AbstractVector x, final AbstractVector y) throws RuntimeException {
+    if (x.n_elem != n_rows) {
+      throw new RuntimeException("The number of elements (" + x.n_elem + ") must be equal to the number of rows (" + n_rows + ").");
+    }
+
+    if (y.n_elem != n_cols) {
+      throw new RuntimeException("The number of elements (" + y.n_elem + ") must be equal to the number of columns (" + n_cols + ").");
+    }
+
+    if (n_elem > 0) {
+      /*
+       * BLAS requires the operands not to overlap with the result.
+       */
+      double[] xData = (x._data == _data ? Arrays.copyOf(x._data, x.n_elem) : x._data);
+      double[] yData = (y._data == _data ? Arrays.copyOf(y._data, y.n_elem) : y._data);
+
+      BLAS.getInstance().dger(n_rows, n_cols, alpha, xData, 1, yData, 1, _data, n_rows);
+    }
+
+    _structure = Structure.GENERAL;
+  }
+
+  /**
+   * Adds the rank-k update {@code alpha} * {@code X} * {@code X}<sup>T</sup> to this matrix.
+   * <p>
+   * If this matrix is known to be symmetric, only its upper triangular part is updated (BLAS-3 {@code dsyrk}) and
+   * mirrored afterwards, halving the amount of work. The matrix remains known to be symmetric in this case. Otherwise,
+   * the update is accumulated by {@code dgemm}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param alpha The scalar
+   * @param X The matrix
+   * 
+   * @throws RuntimeException The matrix must be square.
+   * @throws RuntimeException The number of rows ({@code n_rows}) must be equal to the number of rows ({@code X.n_rows})
+   *           in the specified matrix.
+   */
+  public void syrk(final double alpha, final AbstractMat X) throws RuntimeException {
+    if (n_rows != n_cols) {
+      throw new RuntimeException("The matrix must be square.");
+    }
+
+    if (n_rows != X.n_rows) {
+      throw new RuntimeException("The number of rows (" + n_rows + ") must be equal to the number of rows (" + X.n_rows + ") in the specified matrix.");
+    }
+
+    if (n_elem == 0 || X.n_cols == 0) {
+      return; // Nothing to do here.
+    }
+
+    double[] xData = (X._data == _data ? Arrays.copyOf(X._data, X.n_elem) : X._data);
+
+    if (_structure == Structure.SYMMETRIC) {
+      BLAS.getInstance().dsyrk("U", "N", n_rows, X.n_cols, alpha, xData, n_rows, 1, _data, n_rows);
+
+      for (int j = 0; j < n_cols; j++) {
+        for (int i = j + 1; i < n_rows; i++) {
+          _data[i + j * n_rows] = _data[j + i * n_rows];
+        }
+      }
+    } else {
+      BLAS.getInstance().dgemm("N", "T", n_rows, n_rows, X.n_cols, alpha, xData, n_rows, xData, n_rows, 1, _data, n_rows);
+
+      _structure = Structure.GENERAL;
+    }
+  }
+
+  /**
+   * Replaces this matrix by {@code alpha} * {@code A} * {@code B} + {@code beta} * this matrix (BLAS-3 {@code dgemm}).
+   * <p>
+   * The product is accumulated directly into this matrix, avoiding the temporary of
+   * {@code inPlace(Op.PLUS, A.times(B))}. As with BLAS, the current content is not read if {@code beta} is 0.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param alpha The scalar of the product
+   * @param A The multiplicand
+   * @param B The multiplier
+   * @param beta The scalar of this matrix
+   * 
+   * @throws RuntimeException The numbers of columns ({@code A.n_cols}) must be equal to the number of rows (
+   *           {@code B.n_rows}) in the specified multiplier.
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code B.n_cols})-product must be equally in shape to a (
+   *           {@code n_rows}, {@code n_cols})-matrix.
+   */
+  public void gemm(final double alpha, final AbstractMat A, final AbstractMat B, final double beta) throws RuntimeException {
+    if (A.n_cols != B.n_rows) {
+      throw new RuntimeException("The numbers of columns (" + A.n_cols + ") must be equal to the number of rows (" + B.n_rows + ") in the specified multiplier.");
+    }
+
+    if (A.n_rows != n_rows || B.n_cols != n_cols) {
+      throw new RuntimeException("The provided (" + A.n_rows + ", " + B.n_cols + ")-product must be equally in shape to a (" + n_rows + ", " + n_cols + ")-matrix.");
+    }
+
+    if (n_elem > 0) {
+      if (A.n_cols == 0) {
+        if (beta == 0) {
+          Arrays.fill(_data, 0);
+        } else {
+          for (int n = 0; n < n_elem; n++) {
+            _data[n] *= beta;
+          }
+        }
+      } else {
+        /*
+         * BLAS requires the operands not to overlap with the result.
+         */
+        double[] aData = (A._data == _data ? Arrays.copyOf(A._data, A.n_elem) : A._data);
+        double[] bData = (B._data == _data ? (aData != A._data ? aData : Arrays.copyOf(B._data, B.n_elem)) : B._data);
+
+        BLAS.getInstance().dgemm("N", "N", n_rows, n_cols, A.n_cols, alpha, aData, n_rows, bData, B.n_rows, beta, _data, n_rows);
+      }
+    }
+
+    _structure = Structure.GENERAL;
   }
 
   /**
@@ -1152,6 +1375,7 @@ abstract class AbstractMat {
       throw new IndexOutOfBoundsException("The second column (" + col2 + ") is out of bounds.");
     }
 
+    _structure = Structure.GENERAL;
     double[] temp = Arrays.copyOfRange(_data, n_rows * col1, n_rows * (col1 + 1));
     System.arraycopy(_data, n_rows * col2, _data, n_rows * col1, n_rows);
     System.arraycopy(temp, 0, _data, n_rows * col2, n_rows);
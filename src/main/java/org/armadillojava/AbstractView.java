@@ -13,12 +13,20 @@
  ******************************************************************************/
 package org.armadillojava;
 
+import java.util.Arrays;
+
 /**
- * TODO
+ * Provides shallow views on parts of a matrix.
+ * <p>
+ * A view shares the internal data representation with its underlying matrix, such that reading from or writing into
+ * a view directly accesses the matrix without copying the selected elements first. Binary operations
+ * ({@link #plus(double)}, {@link #elemTimes(AbstractMat)}, ...) produce new matrices in a single pass over the view.
+ * <p>
+ * <b>Note:</b> A view becomes invalid if the underlying matrix is resized.
  * 
  * @author Sebastian Niemann
  */
-abstract class AbstractView {
+public abstract class AbstractView {
 
   /**
    * The underlying matrix
@@ -46,161 +54,863 @@ abstract class AbstractView {
   public int            n_elem;
 
   /**
-   * The current iterator
+   * The position of the first run within the underlying matrix
+   */
+  protected int         _first_position;
+
+  /**
+   * The number of runs
+   */
+  protected int         _n_runs;
+
+  /**
+   * The number of elements per run
+   */
+  protected int         _run_length;
+
+  /**
+   * The distance between two subsequent elements of a run within the underlying matrix
+   */
+  protected int         _stride;
+
+  /**
+   * The distance between the first elements of two subsequent runs within the underlying matrix
+   */
+  protected int         _run_step;
+
+  /**
+   * The position of each run within the underlying matrix or null, if the runs are equally spaced by
+   * {@link #_run_step}
+   */
+  protected int[]       _run_offsets;
+
+  /**
+   * The position of each element relative to the start of its run or null, if the elements are equally spaced by
+   * {@link #_stride}
    */
-  protected int         _iterator;
+  protected int[]       _indices;
 
   /**
-   * TODO
+   * Creates a shallow copy of the specified matrix.
    * 
-   * @param matrix TODO
+   * @param matrix The matrix
    */
-  public AbstractView(final AbstractMat matrix) {
+  protected AbstractView(final AbstractMat matrix) {
     _matrix = matrix;
     _data = matrix._data;
   }
 
   /**
-   * Resets the iterator
+   * Sets the bulk descriptor of the view.
+   * <p>
+   * The elements of a view are described as {@code n_runs} runs of {@code run_length} elements each. The elements of a
+   * run are {@code stride} positions apart and the runs itself {@code run_step} positions, starting at
+   * {@code first_position}. Non-contiguous views may additionally set {@link #_run_offsets} and {@link #_indices}.
+   * 
+   * @param first_position The position of the first run
+   * @param n_runs The number of runs
+   * @param run_length The number of elements per run
+   * @param stride The distance between two subsequent elements of a run
+   * @param run_step The distance between two subsequent runs
+   */
+  protected void describe(final int first_position, final int n_runs, final int run_length, final int stride, final int run_step) {
+    _first_position = first_position;
+    _n_runs = n_runs;
+    _run_length = run_length;
+    _stride = stride;
+    _run_step = run_step;
+  }
+
+  /**
+   * Converts the provided (floating-point) indices into integer positions, multiplied by {@code factor}.
+   * 
+   * @param vector_of_indices The indices
+   * @param factor The factor
+   * 
+   * @return The positions
+   */
+  protected static int[] toIndices(final double[] vector_of_indices, final int factor) {
+    int[] indices = new int[vector_of_indices.length];
+    for (int n = 0; n < indices.length; n++) {
+      indices[n] = (int) vector_of_indices[n] * factor;
+    }
+
+    return indices;
+  }
+
+  /**
+   * Returns the position of the first element of the {@code run}th run within the underlying matrix.
+   * 
+   * @param run The run
+   * 
+   * @return The position
+   */
+  protected final int runOffset(final int run) {
+    return (_run_offsets != null) ? _run_offsets[run] : _first_position + run * _run_step;
+  }
+
+  /**
+   * Returns the position of the {@code n}th element of the view within the underlying matrix.
+   * 
+   * @param n The position within the view
+   * 
+   * @return The position within the underlying matrix
    */
-  protected void iteratorReset() {
-    _iterator = 0;
+  protected int position(final int n) {
+    int k = n % _run_length;
+    return runOffset(n / _run_length) + ((_indices != null) ? _indices[k] : k * _stride);
   }
 
   /**
-   * Returns the next iterator
+   * Returns the value of the {@code n}th element.
+   * <p>
+   * <b>Note:</b> Index checking is not enforced. However, the JVM should throw IndexOutOfBoundsException exceptions
+   * upon errors.
    * 
-   * @return TODO
+   * @param n The position
+   * 
+   * @return The value of the {@code n}th element.
    */
-  protected int iteratorNext() {
-    return _iterator++;
+  public double at(final int n) {
+    return _data[position(n)];
   }
 
   /**
-   * Returns true if iterator has yet to reach the last position.
+   * Performs an in-place binary operation on the {@code n}th element with the specified right-hand side operand.
+   * <p>
+   * <b>Note:</b> Index checking is not enforced. However, the JVM should throw IndexOutOfBoundsException exceptions
+   * upon errors.
+   * 
+   * @param n The position
+   * @param binary_operator The binary operator
+   * @param operand The operand
    * 
-   * @return TODO
+   * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
    */
-  protected final boolean iteratorHasNext() {
-    return _iterator < n_elem;
+  public void at(final int n, final Op binary_operator, final double operand) throws UnsupportedOperationException {
+    /*
+     * The parameter "binary_operator" is validated within AbstractMat.at(int, Op, double).
+     */
+    _matrix.at(position(n), binary_operator, operand);
   }
 
   /**
-   * TODO
+   * Returns the value at the specified row and column.
+   * <p>
+   * <b>Note:</b> Index checking is not enforced. However, the JVM should throw IndexOutOfBoundsException exceptions
+   * upon errors.
    * 
-   * @param value TODO
+   * @param row_number The row
+   * @param col_number The column
+   * 
+   * @return The value at the specified row and column.
    */
-  protected void fill(double value) {
-    iteratorReset();
-    while (iteratorHasNext()) {
-      _data[iteratorNext()] = value;
+  public double at(final int row_number, final int col_number) {
+    return at(row_number + col_number * n_rows);
+  }
+
+  /**
+   * Performs an in-place binary operation on the element at the specified row and column with the specified
+   * right-hand side operand.
+   * <p>
+   * <b>Note:</b> Index checking is not enforced. However, the JVM should throw IndexOutOfBoundsException exceptions
+   * upon errors.
+   * 
+   * @param row_number The row
+   * @param col_number The column
+   * @param binary_operator The binary operator
+   * @param operand The operand
+   * 
+   * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
+   */
+  public void at(final int row_number, final int col_number, final Op binary_operator, final double operand) throws UnsupportedOperationException {
+    at(row_number + col_number * n_rows, binary_operator, operand);
+  }
+
+  /**
+   * Returns true if the view has no elements.
+   * 
+   * @return Whether the view is empty
+   */
+  public boolean is_empty() {
+    return (n_elem == 0);
+  }
+
+  /**
+   * Returns true if the view has exactly one column or one row.
+   * 
+   * @return Whether the view is a vector
+   */
+  public boolean is_vec() {
+    return (n_rows == 1 || n_cols == 1);
+  }
+
+  /**
+   * Sets all elements of the view to the specified value.
+   * 
+   * @param value The value
+   */
+  public void fill(double value) {
+    _matrix._structure = Structure.GENERAL;
+
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        for (int k = 0; k < _run_length; k++) {
+          _data[offset + _indices[k]] = value;
+        }
+      } else if (_stride == 1) {
+        Arrays.fill(_data, offset, offset + _run_length, value);
+      } else {
+        for (int k = 0, p = offset; k < _run_length; k++, p += _stride) {
+          _data[p] = value;
+        }
+      }
     }
   }
 
   /**
-   * TODO
+   * Performs an in-place binary operation on all elements of the view with the specified right-hand side operand.
    * 
-   * @param binary_operator TODO
-   * @param rightHandOperand TODO
+   * @param binary_operator The binary operator
+   * @param rightHandOperand The operand
    * 
-   * @throws UnsupportedOperationException TODO
+   * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
    */
-  protected void inPlace(final Op binary_operator, final double rightHandOperand) throws UnsupportedOperationException {
+  public void inPlace(final Op binary_operator, final double rightHandOperand) throws UnsupportedOperationException {
     switch (binary_operator) {
       case PLUS:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] += rightHandOperand;
-        }
-        break;
       case MINUS:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] -= rightHandOperand;
-        }
-        break;
       case TIMES:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] *= rightHandOperand;
-        }
-        break;
       case DIVIDE:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] /= rightHandOperand;
-        }
         break;
       default:
         throw new UnsupportedOperationException("Unexpected operator (" + binary_operator + ").");
     }
+
+    _matrix._structure = Structure.GENERAL;
+
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        switch (binary_operator) {
+          case PLUS:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] += rightHandOperand;
+            }
+            break;
+          case MINUS:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] -= rightHandOperand;
+            }
+            break;
+          case TIMES:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] *= rightHandOperand;
+            }
+            break;
+          default:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] /= rightHandOperand;
+            }
+            break;
+        }
+      } else {
+        int end = offset + _run_length * _stride;
+        switch (binary_operator) {
+          case PLUS:
+            for (int p = offset; p < end; p += _stride) {
+              _data[p] += rightHandOperand;
+            }
+            break;
+          case MINUS:
+            for (int p = offset; p < end; p += _stride) {
+              _data[p] -= rightHandOperand;
+            }
+            break;
+          case TIMES:
+            for (int p = offset; p < end; p += _stride) {
+              _data[p] *= rightHandOperand;
+            }
+            break;
+          default:
+            for (int p = offset; p < end; p += _stride) {
+              _data[p] /= rightHandOperand;
+            }
+            break;
+        }
+      }
+    }
   }
 
   /**
-   * TODO
+   * Performs an in-place element-wise binary operation on the view with the specified right-hand side operand.
    * 
-   * @param binary_operator TODO
-   * @param rightHandOperand TODO
+   * @param binary_operator The binary operator
+   * @param rightHandOperand The operand
    * 
-   * @throws UnsupportedOperationException TODO
+   * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code rightHandOperand.n_rows},
+   *           {@code rightHandOperand.n_cols}) must have the same number of elements.
    */
-  protected void inPlace(final Op binary_operator, final AbstractMat rightHandOperand) throws UnsupportedOperationException {
+  public void inPlace(final Op binary_operator, final AbstractMat rightHandOperand) throws UnsupportedOperationException, RuntimeException {
+    if (n_elem != rightHandOperand.n_elem) {
+      throw new RuntimeException("Both matrices (" + n_rows + ", " + n_cols + " and " + rightHandOperand.n_rows + ", " + rightHandOperand.n_cols + ") must have the same number of elements.");
+    }
+
+    if (_data == rightHandOperand._data) {
+      scatter(binary_operator, Arrays.copyOf(rightHandOperand._data, n_elem));
+    } else {
+      scatter(binary_operator, rightHandOperand._data);
+    }
+  }
+
+  /**
+   * Performs an in-place element-wise binary operation on the view with the specified right-hand side operand.
+   * 
+   * @param binary_operator The binary operator
+   * @param rightHandOperand The operand
+   * 
+   * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code rightHandOperand.n_rows},
+   *           {@code rightHandOperand.n_cols}) must have the same number of elements.
+   */
+  public void inPlace(final Op binary_operator, final AbstractView rightHandOperand) throws UnsupportedOperationException, RuntimeException {
+    if (n_elem != rightHandOperand.n_elem) {
+      throw new RuntimeException("Both matrices (" + n_rows + ", " + n_cols + " and " + rightHandOperand.n_rows + ", " + rightHandOperand.n_cols + ") must have the same number of elements.");
+    }
+
+    /*
+     * The right-hand side operand is gathered first, as both views might overlap.
+     */
+    scatter(binary_operator, rightHandOperand.gather());
+  }
+
+  /**
+   * Copies all elements of the view into a new array, in column-major order.
+   * 
+   * @return The elements
+   */
+  protected double[] gather() {
+    double[] result = new double[n_elem];
+    gather(result);
+    return result;
+  }
+
+  /**
+   * Copies all elements of the view into the provided array, in column-major order.
+   * <p>
+   * Contiguous runs are copied by {@code System.arraycopy}.
+   * 
+   * @param result The array
+   */
+  protected void gather(final double[] result) {
     int n = 0;
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        for (int k = 0; k < _run_length; k++) {
+          result[n++] = _data[offset + _indices[k]];
+        }
+      } else if (_stride == 1) {
+        System.arraycopy(_data, offset, result, n, _run_length);
+        n += _run_length;
+      } else {
+        for (int k = 0, p = offset; k < _run_length; k++, p += _stride) {
+          result[n++] = _data[p];
+        }
+      }
+    }
+  }
+
+  /**
+   * Performs an in-place element-wise binary operation on the view with the first {@code n_elem} elements of the
+   * provided array, in column-major order.
+   * 
+   * @param binary_operator The binary operator
+   * @param operand The operand
+   * 
+   * @throws UnsupportedOperationException Unexpected operator ({@code binary_operator}).
+   */
+  protected void scatter(final Op binary_operator, final double[] operand) throws UnsupportedOperationException {
     switch (binary_operator) {
       case EQUAL:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] = rightHandOperand._data[n++];
-        }
-        break;
       case PLUS:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] += rightHandOperand._data[n++];
-        }
-        break;
       case MINUS:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] -= rightHandOperand._data[n++];
-        }
-        break;
       case ELEMTIMES:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] *= rightHandOperand._data[n++];
-        }
-        break;
       case ELEMDIVIDE:
-        iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] /= rightHandOperand._data[n++];
-        }
         break;
       default:
         throw new UnsupportedOperationException("Unexpected operator (" + binary_operator + ").");
     }
+
+    _matrix._structure = Structure.GENERAL;
+
+    int n = 0;
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        switch (binary_operator) {
+          case EQUAL:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] = operand[n++];
+            }
+            break;
+          case PLUS:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] += operand[n++];
+            }
+            break;
+          case MINUS:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] -= operand[n++];
+            }
+            break;
+          case ELEMTIMES:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] *= operand[n++];
+            }
+            break;
+          default:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + _indices[k]] /= operand[n++];
+            }
+            break;
+        }
+      } else if (_stride == 1) {
+        switch (binary_operator) {
+          case EQUAL:
+            System.arraycopy(operand, n, _data, offset, _run_length);
+            break;
+          case PLUS:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + k] += operand[n + k];
+            }
+            break;
+          case MINUS:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + k] -= operand[n + k];
+            }
+            break;
+          case ELEMTIMES:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + k] *= operand[n + k];
+            }
+            break;
+          default:
+            for (int k = 0; k < _run_length; k++) {
+              _data[offset + k] /= operand[n + k];
+            }
+            break;
+        }
+        n += _run_length;
+      } else {
+        switch (binary_operator) {
+          case EQUAL:
+            for (int k = 0, p = offset; k < _run_length; k++, p += _stride) {
+              _data[p] = operand[n++];
+            }
+            break;
+          case PLUS:
+            for (int k = 0, p = offset; k < _run_length; k++, p += _stride) {
+              _data[p] += operand[n++];
+            }
+            break;
+          case MINUS:
+            for (int k = 0, p = offset; k < _run_length; k++, p += _stride) {
+              _data[p] -= operand[n++];
+            }
+            break;
+          case ELEMTIMES:
+            for (int k = 0, p = offset; k < _run_length; k++, p += _stride) {
+              _data[p] *= operand[n++];
+            }
+            break;
+          default:
+            for (int k = 0, p = offset; k < _run_length; k++, p += _stride) {
+              _data[p] /= operand[n++];
+            }
+            break;
+        }
+      }
+    }
   }
 
   /**
-   * TODO
+   * Returns the sum of all elements.
    * 
-   * @param binary_operator TODO
-   * @param rightHandOperand TODO
+   * @return The sum
+   */
+  protected double sum() {
+    return reduce(Reduction.SUM, 0);
+  }
+
+  /**
+   * Returns the sum of squared differences between all elements and the provided value.
+   * 
+   * @param value The value
    * 
-   * @throws UnsupportedOperationException TODO
+   * @return The sum of squared differences
    */
-  protected void inPlace(final Op binary_operator, final AbstractView rightHandOperand) throws UnsupportedOperationException {
-    switch (binary_operator) {
-      case EQUAL:
-        iteratorReset();
-        rightHandOperand.iteratorReset();
-        while (iteratorHasNext()) {
-          _data[iteratorNext()] = rightHandOperand._data[rightHandOperand.iteratorNext()];
+  protected double sumOfSquaredDifferences(final double value) {
+    return reduce(Reduction.SQUARED_DIFFERENCE, value);
+  }
+
+  /**
+   * Returns the sum of the specified term of all elements (see {@link Reduction}).
+   * <p>
+   * Each run is reduced separately and the partial sums are then summed pairwise. Runs with arbitrary spaced elements
+   * are gathered into a buffer first.
+   * 
+   * @param kind The term to be summed
+   * @param parameter The value subtracted or the exponent
+   * 
+   * @return The sum
+   */
+  protected double reduce(final int kind, final double parameter) {
+    if (_n_runs == 1 && _indices == null) {
+      return Reduction.reduce(kind, parameter, false, _data, runOffset(0), _stride, _run_length);
+    }
+
+    double[] partials = new double[_n_runs];
+    double[] buffer = (_indices != null) ? new double[_run_length] : null;
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        for (int k = 0; k < _run_length; k++) {
+          buffer[k] = _data[offset + _indices[k]];
         }
-        break;
-      default:
-        throw new UnsupportedOperationException("Unexpected operator (" + binary_operator + ").");
+        partials[r] = Reduction.reduce(kind, parameter, false, buffer, 0, 1, _run_length);
+      } else {
+        partials[r] = Reduction.reduce(kind, parameter, false, _data, offset, _stride, _run_length);
+      }
+    }
+
+    return Reduction.sum(partials, 0, 1, _n_runs);
+  }
+
+  /**
+   * Returns the product of all elements.
+   * 
+   * @return The product
+   */
+  protected double prod() {
+    double product = 1;
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        for (int k = 0; k < _run_length; k++) {
+          product *= _data[offset + _indices[k]];
+        }
+      } else {
+        int end = offset + _run_length * _stride;
+        for (int p = offset; p < end; p += _stride) {
+          product *= _data[p];
+        }
+      }
+    }
+
+    return product;
+  }
+
+  /**
+   * Returns the smallest element.
+   * <p>
+   * <b>Note:</b> The view must not be empty.
+   * 
+   * @return The minimum
+   */
+  protected double min() {
+    double minimum = _data[position(0)];
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        for (int k = 0; k < _run_length; k++) {
+          minimum = Math.min(minimum, _data[offset + _indices[k]]);
+        }
+      } else {
+        int end = offset + _run_length * _stride;
+        for (int p = offset; p < end; p += _stride) {
+          minimum = Math.min(minimum, _data[p]);
+        }
+      }
+    }
+
+    return minimum;
+  }
+
+  /**
+   * Returns the largest element.
+   * <p>
+   * <b>Note:</b> The view must not be empty.
+   * 
+   * @return The maximum
+   */
+  protected double max() {
+    double maximum = _data[position(0)];
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        for (int k = 0; k < _run_length; k++) {
+          maximum = Math.max(maximum, _data[offset + _indices[k]]);
+        }
+      } else {
+        int end = offset + _run_length * _stride;
+        for (int p = offset; p < end; p += _stride) {
+          maximum = Math.max(maximum, _data[p]);
+        }
+      }
+    }
+
+    return maximum;
+  }
+
+  /**
+   * Returns the number of non-zero elements.
+   * 
+   * @return The number of non-zero elements
+   */
+  protected int countNonZeros() {
+    int count = 0;
+    for (int r = 0; r < _n_runs; r++) {
+      int offset = runOffset(r);
+
+      if (_indices != null) {
+        for (int k = 0; k < _run_length; k++) {
+          if (_data[offset + _indices[k]] != 0) {
+            count++;
+          }
+        }
+      } else {
+        int end = offset + _run_length * _stride;
+        for (int p = offset; p < end; p += _stride) {
+          if (_data[p] != 0) {
+            count++;
+          }
+        }
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Returns the out-of-place addition with the right-hand side operand.
+   * 
+   * @param operand The operand
+   * 
+   * @return The sum
+   */
+  public Mat plus(final double operand) {
+    return elementwise(Op.PLUS, operand);
+  }
+
+  /**
+   * Returns the out-of-place subtraction with the right-hand side operand.
+   * 
+   * @param operand The operand
+   * 
+   * @return The difference
+   */
+  public Mat minus(final double operand) {
+    return elementwise(Op.MINUS, operand);
+  }
+
+  /**
+   * Returns the out-of-place multiplication with the right-hand side operand.
+   * 
+   * @param operand The operand
+   * 
+   * @return The product
+   */
+  public Mat times(final double operand) {
+    return elementwise(Op.TIMES, operand);
+  }
+
+  /**
+   * Returns the out-of-place division with the right-hand side operand.
+   * 
+   * @param operand The operand
+   * 
+   * @return The quotient
+   */
+  public Mat divide(final double operand) {
+    return elementwise(Op.DIVIDE, operand);
+  }
+
+  /**
+   * Returns the out-of-place element-wise addition with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The sum
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat plus(final AbstractMat X) throws RuntimeException {
+    return elementwise(Op.PLUS, X);
+  }
+
+  /**
+   * Returns the out-of-place element-wise subtraction with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The difference
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat minus(final AbstractMat X) throws RuntimeException {
+    return elementwise(Op.MINUS, X);
+  }
+
+  /**
+   * Returns the out-of-place element-wise multiplication with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The product
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat elemTimes(final AbstractMat X) throws RuntimeException {
+    return elementwise(Op.ELEMTIMES, X);
+  }
+
+  /**
+   * Returns the out-of-place element-wise division with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The quotient
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat elemDivide(final AbstractMat X) throws RuntimeException {
+    return elementwise(Op.ELEMDIVIDE, X);
+  }
+
+  /**
+   * Returns the out-of-place element-wise addition with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The sum
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat plus(final AbstractView X) throws RuntimeException {
+    return elementwise(Op.PLUS, X);
+  }
+
+  /**
+   * Returns the out-of-place element-wise subtraction with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The difference
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat minus(final AbstractView X) throws RuntimeException {
+    return elementwise(Op.MINUS, X);
+  }
+
+  /**
+   * Returns the out-of-place element-wise multiplication with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The product
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat elemTimes(final AbstractView X) throws RuntimeException {
+    return elementwise(Op.ELEMTIMES, X);
+  }
+
+  /**
+   * Returns the out-of-place element-wise division with the right-hand side operand.
+   * 
+   * @param X The operand
+   * 
+   * @return The quotient
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  public Mat elemDivide(final AbstractView X) throws RuntimeException {
+    return elementwise(Op.ELEMDIVIDE, X);
+  }
+
+  /**
+   * Returns the out-of-place binary operation with the right-hand side operand.
+   * 
+   * @param binary_operator The binary operator
+   * @param operand The operand
+   * 
+   * @return The result
+   */
+  protected Mat elementwise(final Op binary_operator, final double operand) {
+    Mat result = new Mat(this);
+    result.inPlace(binary_operator, operand);
+    return result;
+  }
+
+  /**
+   * Returns the out-of-place element-wise binary operation with the right-hand side operand.
+   * 
+   * @param binary_operator The binary operator
+   * @param X The operand
+   * 
+   * @return The result
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  protected Mat elementwise(final Op binary_operator, final AbstractMat X) throws RuntimeException {
+    if (n_elem != X.n_elem) {
+      throw new RuntimeException("Both matrices (" + n_rows + ", " + n_cols + " and " + X.n_rows + ", " + X.n_cols + ") must have the same number of elements.");
+    }
+
+    Mat result = new Mat(this);
+    new ViewSubCols(result, 0, n_cols).scatter(binary_operator, X._data);
+    return result;
+  }
+
+  /**
+   * Returns the out-of-place element-wise binary operation with the right-hand side operand.
+   * 
+   * @param binary_operator The binary operator
+   * @param X The operand
+   * 
+   * @return The result
+   * 
+   * @throws RuntimeException Both matrices ({@code n_rows}, {@code n_cols} and {@code X.n_rows}, {@code X.n_cols})
+   *           must have the same number of elements.
+   */
+  protected Mat elementwise(final Op binary_operator, final AbstractView X) throws RuntimeException {
+    if (n_elem != X.n_elem) {
+      throw new RuntimeException("Both matrices (" + n_rows + ", " + n_cols + " and " + X.n_rows + ", " + X.n_cols + ") must have the same number of elements.");
     }
+
+    Mat result = new Mat(this);
+    new ViewSubCols(result, 0, n_cols).scatter(binary_operator, X.gather());
+    return result;
   }
 }
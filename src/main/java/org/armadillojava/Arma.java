@@ -36,6 +36,12 @@ import com.github.fommil.netlib.LAPACK;
  */
 public class Arma {
 
+  /**
+   * The smallest dimension from which on the divide-and-conquer drivers are used by default for Eigen and singular value
+   * decompositions
+   */
+  protected static final int DIVIDE_AND_CONQUER_THRESHOLD = 128;
+
   /**
    * Returns a matrix with the specified number of rows and columns and all elements along the main diagonal set to 1
    * and all others to 0.
@@ -437,8 +443,10 @@ public class Arma {
       /*
        * First, copy "A.n_cols" columns alongside the rows ...
        */
-      for (int i = 0; i < num_copies_per_row; i++) {
-        new ViewSubMat(result, i * A.n_rows, 0, A.n_rows, A.n_cols).inPlace(Op.EQUAL, A);
+      for (int j = 0; j < A.n_cols; j++) {
+        for (int i = 0; i < num_copies_per_row; i++) {
+          System.arraycopy(A._data, j * A.n_rows, result._data, j * result.n_rows + i * A.n_rows, A.n_rows);
+        }
       }
 
       /*
@@ -446,7 +454,7 @@ public class Arma {
        * Copying alongside the columns is way faster and should therefore handle the largest amount of data to be
        * copied.
        */
-      for (int j = 0; j < num_copies_per_col; j++) {
+      for (int j = 1; j < num_copies_per_col; j++) {
         System.arraycopy(result._data, 0, result._data, j * result.n_rows * A.n_cols, result.n_rows * A.n_cols);
       }
     }
@@ -681,6 +689,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed absolute values of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat abs(final AbstractView X) {
+    Mat result = new Mat(X);
+    abs(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -735,6 +756,20 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed positive distances between each value and next larger
+   * representable of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat eps(final AbstractView X) {
+    Mat result = new Mat(X);
+    eps(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -786,6 +821,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-e exponential values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat exp(final AbstractView A) {
+    Mat result = new Mat(A);
+    exp(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -837,6 +885,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-2 exponential values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat exp2(final AbstractView A) {
+    Mat result = new Mat(A);
+    exp2(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -888,6 +949,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-10 exponential values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat exp10(final AbstractView A) {
+    Mat result = new Mat(A);
+    exp10(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -951,6 +1025,21 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-e exponential values of the provided sub view.
+   * <p>
+   * Elements that would return a value of infinity are truncated to the largest representable number.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat trunc_exp(final AbstractView A) {
+    Mat result = new Mat(A);
+    trunc_exp(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1008,6 +1097,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-e logarithmic values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat log(final AbstractView A) {
+    Mat result = new Mat(A);
+    log(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1065,6 +1167,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-2 logarithmic values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat log2(final AbstractView A) {
+    Mat result = new Mat(A);
+    log2(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1122,6 +1237,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-10 logarithmic values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat log10(final AbstractView A) {
+    Mat result = new Mat(A);
+    log10(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1193,6 +1321,23 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed base-e logarithmic values of the provided sub view.
+   * <p>
+   * Elements that would return a value of infinity are truncated to the base-e logarithmic of the largest representable
+   * number and values that would return a complex number are truncated to the base-e logarithmic of the smallest
+   * representable number.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat trunc_log(final AbstractView A) {
+    Mat result = new Mat(A);
+    trunc_log(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1266,6 +1411,26 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed raise to the specified power of the provided sub view.
+   * 
+   * @param A The sub view
+   * @param p The power
+   * 
+   * @return The matrix
+   * 
+   * @throws RuntimeException The power ({@code p}) must be positive.
+   */
+  public static Mat pow(final AbstractView A, final double p) throws RuntimeException {
+    if (p < 0) {
+      throw new RuntimeException("The power (" + p + ") must be positive");
+    }
+
+    Mat result = new Mat(A);
+    pow(result._data, result._data, p);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1323,6 +1488,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed square root of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat sqrt(final AbstractView A) {
+    Mat result = new Mat(A);
+    sqrt(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1331,7 +1509,7 @@ public class Arma {
    */
   protected static void square(final double[] result, final double[] A) {
     for (int n = 0; n < A.length; n++) {
-      result[n] = Math.pow(A[n], 2);
+      result[n] = A[n] * A[n];
     }
   }
 
@@ -1374,6 +1552,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed squared values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat square(final AbstractView A) {
+    Mat result = new Mat(A);
+    square(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1425,6 +1616,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed floored values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat floor(final AbstractView A) {
+    Mat result = new Mat(A);
+    floor(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1476,6 +1680,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed rounded up values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat ceil(final AbstractView A) {
+    Mat result = new Mat(A);
+    ceil(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1533,6 +1750,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed rounded values of the provided sub view.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat round(final AbstractView A) {
+    Mat result = new Mat(A);
+    round(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1590,6 +1820,21 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed sign values of the provided sub view.
+   * <p>
+   * The sign value is -1 for negative, 0 for zero and 1 for non-negative values.
+   * 
+   * @param A The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat sign(final AbstractView A) {
+    Mat result = new Mat(A);
+    sign(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1641,6 +1886,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed sine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat sin(final AbstractView X) {
+    Mat result = new Mat(X);
+    sin(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1698,6 +1956,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed inverse sine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat asin(final AbstractView X) {
+    Mat result = new Mat(X);
+    asin(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1749,6 +2020,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed hyperbolic sine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat sinh(final AbstractView X) {
+    Mat result = new Mat(X);
+    sinh(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1762,7 +2046,7 @@ public class Arma {
       if (Double.isInfinite(value)) {
         result[n] = value;
       } else {
-        result[n] = Math.log(value + Math.sqrt(Math.pow(value, 2) + 1));
+        result[n] = Math.log(value + Math.sqrt(value * value + 1));
       }
     }
   }
@@ -1806,6 +2090,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed inverse hyperbolic sine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat asinh(final AbstractView X) {
+    Mat result = new Mat(X);
+    asinh(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1857,6 +2154,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed cosine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat cos(final AbstractView X) {
+    Mat result = new Mat(X);
+    cos(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1914,6 +2224,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed inverse cosine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat acos(final AbstractView X) {
+    Mat result = new Mat(X);
+    acos(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1965,6 +2288,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed hyperbolic cosine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat cosh(final AbstractView X) {
+    Mat result = new Mat(X);
+    cosh(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -1978,7 +2314,7 @@ public class Arma {
       if (value < 1) {
         result[n] = Datum.nan;
       } else {
-        result[n] = Math.log(value + Math.sqrt(Math.pow(value, 2) - 1));
+        result[n] = Math.log(value + Math.sqrt(value * value - 1));
       }
     }
   }
@@ -2022,6 +2358,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed inverse hyperbolic cosine of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat acosh(final AbstractView X) {
+    Mat result = new Mat(X);
+    acosh(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -2073,6 +2422,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed tangent of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat tan(final AbstractView X) {
+    Mat result = new Mat(X);
+    tan(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -2124,6 +2486,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed inverse tangent of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat atan(final AbstractView X) {
+    Mat result = new Mat(X);
+    atan(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -2175,6 +2550,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed hyperbolic tangent of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat tanh(final AbstractView X) {
+    Mat result = new Mat(X);
+    tanh(result._data, result._data);
+    return result;
+  }
+
   /**
    * TODO
    * 
@@ -2232,6 +2620,19 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Returns a matrix made of the element-wise computed inverse hyperbolic tangent of the provided sub view.
+   * 
+   * @param X The sub view
+   * 
+   * @return The matrix
+   */
+  public static Mat atanh(final AbstractView X) {
+    Mat result = new Mat(X);
+    atanh(result._data, result._data);
+    return result;
+  }
+
   /**
    * Returns the sum of all elements of the provided matrix.
    * 
@@ -2246,13 +2647,53 @@ public class Arma {
       throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must have at least one element.");
     }
 
-    double sum = X._data[0];
+    return Reduction.sum(X._data, 0, 1, X.n_elem);
+  }
 
-    for (int n = 1; n < X.n_elem; n++) {
-      sum += X._data[n];
+  /**
+   * Returns the sum of all elements of the provided matrix, using either pairwise ({@code method} = "pairwise") or
+   * compensated ({@code method} = "compensated") summation.
+   * <p>
+   * Pairwise summation bounds the rounding error by O(log(n) * eps), while compensated (Kahan-Babuska) summation
+   * bounds the error independently of n at the cost of approx. four times more floating-point operations.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param X The matrix
+   * @param method The summation method
+   * 
+   * @return The sum
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'pairwise' or
+   *           'compensated'.
+   */
+  public static double accu(final AbstractMat X, final String method) throws RuntimeException, IllegalArgumentException {
+    if (X.is_empty()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must have at least one element.");
+    }
+
+    switch (method) {
+      case "pairwise":
+        return Reduction.reduce(Reduction.SUM, 0, false, X._data, 0, 1, X.n_elem);
+      case "compensated":
+        return Reduction.reduce(Reduction.SUM, 0, true, X._data, 0, 1, X.n_elem);
+      default:
+        throw new IllegalArgumentException("The specified method (" + method + ") must be one of 'pairwise' or 'compensated'.");
     }
+  }
 
-    return sum;
+  /**
+   * Returns the sum of all elements of the provided view.
+   * <p>
+   * The elements are read directly from the underlying matrix, without copying the view first.
+   * 
+   * @param X The view
+   * 
+   * @return The sum
+   */
+  public static double accu(final AbstractView X) {
+    return sum(X);
   }
 
   /**
@@ -2294,16 +2735,25 @@ public class Arma {
   }
 
   /**
-   * Returns the determinant of the provided matrix.
+   * Returns an estimate of the reciprocal condition number of the provided square matrix with respect to the 1-norm.
+   * <p>
+   * Values close to 1 indicate a well-conditioned matrix, while values close to 0 indicate a badly conditioned one.
+   * Unlike {@link #cond(Mat)}, no singular value decomposition is performed. Symmetric matrices are first factorised
+   * by a Cholesky decomposition, falling back to a LU decomposition if they are not positive-definite, followed by an
+   * estimation of the norm of the inverse in O(n^2).
+   * <p>
+   * Returns 0 if the provided matrix is singular and NaN if it contains non-finite elements.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
    * @param A The matrix
    * 
-   * @return TODO
+   * @return The reciprocal condition number
    * 
    * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must have at least one element.
    * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
    */
-  public static double det(final Mat A) throws RuntimeException {
+  public static double rcond(final Mat A) throws RuntimeException {
     if (A.empty()) {
       throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must have at least one element.");
     }
@@ -2312,11 +2762,102 @@ public class Arma {
       throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
     }
 
+    if (!A.is_finite()) {
+      return Datum.nan;
+    }
+
+    int n = A.n_rows;
     double[] temp = Arrays.copyOf(A._data, A.n_elem);
-    int[] pivotIndices = new int[Math.min(A.n_rows, A.n_cols)];
+    double[] work = new double[4 * n];
+    int[] iwork = new int[n];
+    doubleW reciprocalCondition = new doubleW(0);
     intW info = new intW(0);
 
-    LAPACK.getInstance().dgetrf(A.n_rows, A.n_cols, temp, A.n_rows, pivotIndices, info);
+    if (isSymmetric(A)) {
+      double norm = LAPACK.getInstance().dlansy("1", "U", n, temp, n, work);
+      LAPACK.getInstance().dpotrf("U", n, temp, n, info);
+
+      if (info.val == 0) {
+        LAPACK.getInstance().dpocon("U", n, temp, n, norm, reciprocalCondition, work, iwork, info);
+        return reciprocalCondition.val;
+      }
+
+      /*
+       * The matrix is not positive-definite. The LU decomposition below needs the original matrix.
+       */
+      System.arraycopy(A._data, 0, temp, 0, A.n_elem);
+      info.val = 0;
+    }
+
+    double norm = LAPACK.getInstance().dlange("1", n, n, temp, n, work);
+    LAPACK.getInstance().dgetrf(n, n, temp, n, new int[n], info);
+    if (info.val != 0) {
+      return 0;
+    }
+
+    LAPACK.getInstance().dgecon("1", n, temp, n, norm, reciprocalCondition, work, iwork, info);
+    return reciprocalCondition.val;
+  }
+
+  /**
+   * Returns true if the provided matrix is square and equal to its transpose.
+   * 
+   * @param A The matrix
+   * 
+   * @return Whether the matrix is symmetric
+   */
+  protected static boolean isSymmetric(final AbstractMat A) {
+    if (A.n_rows != A.n_cols) {
+      return false;
+    }
+
+    for (int j = 0; j < A.n_cols; j++) {
+      for (int i = j + 1; i < A.n_rows; i++) {
+        if (A._data[i + j * A.n_rows] != A._data[j + i * A.n_rows]) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the determinant of the provided matrix.
+   * 
+   * @param A The matrix
+   * 
+   * @return TODO
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must have at least one element.
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   */
+  public static double det(final Mat A) throws RuntimeException {
+    if (A.empty()) {
+      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must have at least one element.");
+    }
+
+    if (!A.is_square()) {
+      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
+    }
+
+    if (A._structure == Structure.DIAGONAL || A._structure.is_trimat()) {
+      /*
+       * The determinant of a diagonal or triangular matrix is the product of its diagonal.
+       */
+      double determinant = 1;
+      for (int i = 0; i < A.n_rows; i++) {
+        determinant *= A._data[i + i * A.n_rows];
+      }
+
+      return determinant;
+    }
+
+    double[] temp = Arrays.copyOf(A._data, A.n_elem);
+    int[] pivotIndices = new int[Math.min(A.n_rows, A.n_cols)];
+    intW info = new intW(0);
+
+    LAPACK.getInstance().dgetrf(A.n_rows, A.n_cols, temp, A.n_rows, pivotIndices, info);
     if (info.val != 0) {
       return 0;
     }
@@ -2451,21 +2992,13 @@ public class Arma {
 
     switch (p) {
       case 1:
-        for (int n = 0; n < X.n_elem; n++) {
-          norm += Math.abs(X._data[n]);
-        }
+        norm = Reduction.reduce(Reduction.ABS, 0, false, X._data, 0, 1, X.n_elem);
         break;
       case 2:
-        for (int n = 0; n < X.n_elem; n++) {
-          norm += Math.pow(X._data[n], 2);
-        }
-        norm = Math.sqrt(norm);
+        norm = Math.sqrt(Reduction.reduce(Reduction.SQUARE, 0, false, X._data, 0, 1, X.n_elem));
         break;
       default:
-        for (int n = 0; n < X.n_elem; n++) {
-          norm += Math.pow(Math.abs(X._data[n]), p);
-        }
-        norm = Math.pow(norm, 1.0 / p);
+        norm = Math.pow(Reduction.reduce(Reduction.POWER, p, false, X._data, 0, 1, X.n_elem), 1.0 / p);
         break;
     }
 
@@ -2502,21 +3035,13 @@ public class Arma {
 
       switch (p) {
         case 1:
-          for (int n = 0; n < X.n_elem; n++) {
-            norm += Math.abs(X._data[n]);
-          }
+          norm = Reduction.reduce(Reduction.ABS, 0, false, X._data, 0, 1, X.n_elem);
           break;
         case 2:
-          for (int n = 0; n < X.n_elem; n++) {
-            norm += Math.pow(X._data[n], 2);
-          }
-          norm = Math.sqrt(norm);
+          norm = Math.sqrt(Reduction.reduce(Reduction.SQUARE, 0, false, X._data, 0, 1, X.n_elem));
           break;
         default:
-          for (int n = 0; n < X.n_elem; n++) {
-            norm += Math.pow(Math.abs(X._data[n]), p);
-          }
-          norm = Math.pow(norm, 1.0 / p);
+          norm = Math.pow(Reduction.reduce(Reduction.POWER, p, false, X._data, 0, 1, X.n_elem), 1.0 / p);
           break;
       }
 
@@ -2525,13 +3050,7 @@ public class Arma {
         case 1:
           norm = Double.NEGATIVE_INFINITY;
           for (int j = 0; j < X.n_cols; j++) {
-            int columnIndex = j * X.n_rows;
-            double sum = 0;
-            for (int i = 0; i < X.n_rows; i++) {
-              sum += Math.abs(X._data[i + columnIndex]);
-            }
-
-            norm = Math.max(norm, sum);
+            norm = Math.max(norm, Reduction.reduce(Reduction.ABS, 0, false, X._data, j * X.n_rows, 1, X.n_rows));
           }
           break;
         case 2:
@@ -2583,11 +3102,7 @@ public class Arma {
           }
           break;
         case "fro":
-          norm = 0;
-          for (int n = 0; n < X.n_elem; n++) {
-            norm += Math.pow(X._data[n], 2);
-          }
-          norm = Math.sqrt(norm);
+          norm = Math.sqrt(Reduction.reduce(Reduction.SQUARE, 0, false, X._data, 0, 1, X.n_elem));
           break;
         default:
           throw new IllegalArgumentException("For vectors, the norm indicator (" + p + ") must be one of '-inf', 'inf' or 'fro'.");
@@ -2598,21 +3113,11 @@ public class Arma {
         case "inf":
           norm = Double.NEGATIVE_INFINITY;
           for (int i = 0; i < X.n_rows; i++) {
-
-            double sum = 0;
-            for (int j = 0; j < X.n_cols; j++) {
-              sum += Math.abs(X._data[i + j * X.n_rows]);
-            }
-
-            norm = Math.max(norm, sum);
+            norm = Math.max(norm, Reduction.reduce(Reduction.ABS, 0, false, X._data, i, X.n_rows, X.n_cols));
           }
           break;
         case "fro":
-          norm = 0;
-          for (int n = 0; n < X.n_elem; n++) {
-            norm += Math.pow(X._data[n], 2);
-          }
-          norm = Math.sqrt(norm);
+          norm = Math.sqrt(Reduction.reduce(Reduction.SQUARE, 0, false, X._data, 0, 1, X.n_elem));
           break;
         default:
           throw new IllegalArgumentException("For non-vectors, the norm indicator (" + p + ") must be one of 'inf' or 'fro'.");
@@ -2634,11 +3139,15 @@ public class Arma {
    * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
    */
   public static int rank(final Mat X) throws RuntimeException {
+    if (X.empty()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must have at least one element.");
+    }
+
     /*
-     * The parameter "X" is validated within rank(AbstractMat, double).
+     * A tolerance of 0 is replaced by the above default within rank(AbstractMat, double), reusing its singular values
+     * instead of computing norm(X, 2) by an additional singular value decomposition.
      */
-
-    return rank(X, Math.max(X.n_rows, X.n_cols) * Math.ulp(norm(X, 2)));
+    return rank(X, 0);
   }
 
   /**
@@ -2682,6 +3191,87 @@ public class Arma {
     return rank;
   }
 
+  /**
+   * Returns the rank of the provided matrix based on a QR decomposition with column pivoting.
+   * <p>
+   * All diagonal elements of R smaller than {@code Math.max(X.n_rows, X.n_cols) * Math.ulp(r)} are treated as zero,
+   * where r is the largest diagonal element in magnitude.
+   * <p>
+   * This is considerably faster than {@link #rank(Mat)}, but might underestimate the rank of badly conditioned
+   * matrices.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param X The matrix
+   * 
+   * @return The rank
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
+   */
+  public static int rank_qr(final Mat X) throws RuntimeException {
+    return rank_qr(X, 0);
+  }
+
+  /**
+   * Returns the rank of the provided matrix based on a QR decomposition with column pivoting.
+   * <p>
+   * All diagonal elements of R smaller than the specified tolerance are treated as zero. A tolerance of 0 is replaced
+   * by the default tolerance of {@link #rank_qr(Mat)}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param X The matrix
+   * @param tolerance The tolerance
+   * 
+   * @return The rank
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
+   * @throws RuntimeException The specified tolerance must be positive.
+   * @throws RuntimeException The calculation could not be completed.
+   */
+  public static int rank_qr(final Mat X, double tolerance) throws RuntimeException {
+    if (X.empty()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must have at least one element.");
+    }
+
+    if (tolerance < 0) {
+      throw new RuntimeException("The specified tolerance must be positive.");
+    }
+
+    double[] temp = Arrays.copyOf(X._data, X.n_elem);
+    int[] pivotIndices = new int[X.n_cols];
+    double[] tau = new double[Math.min(X.n_rows, X.n_cols)];
+    double[] work = new double[1];
+    intW info = new intW(0);
+
+    /*
+     * Queries the optimal workspace size first, as the blocked algorithm requires more than the minimal one.
+     */
+    LAPACK.getInstance().dgeqp3(X.n_rows, X.n_cols, temp, X.n_rows, pivotIndices, tau, work, -1, info);
+    work = new double[Math.max(3 * X.n_cols + 1, (int) work[0])];
+    LAPACK.getInstance().dgeqp3(X.n_rows, X.n_cols, temp, X.n_rows, pivotIndices, tau, work, work.length, info);
+
+    if (info.val != 0) {
+      throw new RuntimeException("The calculation could not be completed.");
+    }
+
+    /*
+     * Due to the column pivoting, the magnitudes of the diagonal elements of R are non-increasing.
+     */
+    if (tolerance == 0) {
+      tolerance = Math.max(X.n_rows, X.n_cols) * Math.ulp(Math.abs(temp[0]));
+    }
+
+    int rank = 0;
+    for (int n = 0; n < tau.length; n++) {
+      if (Math.abs(temp[n + n * X.n_rows]) > tolerance + Datum.eps) {
+        rank++;
+      }
+    }
+
+    return rank;
+  }
+
   /**
    * Returns the trace of the provided square matrix.
    * 
@@ -2761,21 +3351,20 @@ public class Arma {
   }
 
   /**
-   * Returns the smallest value for each column of the provided sub view.
+   * Returns the smallest value within the provided view.
    * 
-   * @param V The sub view
+   * @param V The view
    * 
-   * @return TODO
+   * @return The minimum
+   * 
+   * @throws RuntimeException The provided ({@code V.n_rows}, {@code V.n_cols})-matrix must have at least one element.
    */
-  protected static double min(final AbstractView V) {
-
-    V.iteratorReset();
-    double minimum = V._data[V.iteratorNext()];
-    while (V.iteratorHasNext()) {
-      minimum = Math.min(minimum, V._data[V.iteratorNext()]);
+  public static double min(final AbstractView V) throws RuntimeException {
+    if (V.is_empty()) {
+      throw new RuntimeException("The provided (" + V.n_rows + ", " + V.n_cols + ")-matrix must have at least one element.");
     }
 
-    return minimum;
+    return V.min();
   }
 
   /**
@@ -2826,17 +3415,11 @@ public class Arma {
     switch (dim) {
       case 0:
         result.set_size(X.n_cols);
-
-        for (int j = 0; j < X.n_cols; j++) {
-          result._data[j] = min(new ViewSubCol(X, j));
-        }
+        Reduction.perColumn(Reduction.MINIMUM, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       case 1:
         result.set_size(X.n_rows);
-
-        for (int i = 0; i < X.n_rows; i++) {
-          result._data[i] = min(new ViewSubRow(X, i));
-        }
+        Reduction.perRow(Reduction.MINIMUM, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       default:
         throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -2888,21 +3471,20 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns the largest value within the provided view.
    * 
-   * @param V TODO
+   * @param V The view
    * 
-   * @return TODO
+   * @return The maximum
+   * 
+   * @throws RuntimeException The provided ({@code V.n_rows}, {@code V.n_cols})-matrix must have at least one element.
    */
-  protected static double max(final AbstractView V) {
-
-    V.iteratorReset();
-    double maximum = V._data[V.iteratorNext()];
-    while (V.iteratorHasNext()) {
-      maximum = Math.max(maximum, V._data[V.iteratorNext()]);
+  public static double max(final AbstractView V) throws RuntimeException {
+    if (V.is_empty()) {
+      throw new RuntimeException("The provided (" + V.n_rows + ", " + V.n_cols + ")-matrix must have at least one element.");
     }
 
-    return maximum;
+    return V.max();
   }
 
   /**
@@ -2953,17 +3535,11 @@ public class Arma {
     switch (dim) {
       case 0:
         result.set_size(X.n_cols);
-
-        for (int j = 0; j < X.n_cols; j++) {
-          result._data[j] = max(new ViewSubCol(X, j));
-        }
+        Reduction.perColumn(Reduction.MAXIMUM, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       case 1:
         result.set_size(X.n_rows);
-
-        for (int i = 0; i < X.n_rows; i++) {
-          result._data[i] = max(new ViewSubRow(X, i));
-        }
+        Reduction.perRow(Reduction.MAXIMUM, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       default:
         throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -3021,21 +3597,14 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns the product of all elements of the provided view.
    * 
-   * @param V TODO
+   * @param V The view
    * 
-   * @return TODO
+   * @return The product
    */
-  protected static double prod(final AbstractView V) {
-    double product = 1;
-
-    V.iteratorReset();
-    while (V.iteratorHasNext()) {
-      product *= V._data[V.iteratorNext()];
-    }
-
-    return product;
+  public static double prod(final AbstractView V) {
+    return V.prod();
   }
 
   /**
@@ -3086,17 +3655,11 @@ public class Arma {
     switch (dim) {
       case 0:
         result.set_size(X.n_cols);
-
-        for (int j = 0; j < X.n_cols; j++) {
-          result._data[j] = prod(new ViewSubCol(X, j));
-        }
+        Reduction.perColumn(Reduction.PRODUCT, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       case 1:
         result.set_size(X.n_rows);
-
-        for (int i = 0; i < X.n_rows; i++) {
-          result._data[i] = prod(new ViewSubRow(X, i));
-        }
+        Reduction.perRow(Reduction.PRODUCT, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       default:
         throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -3123,21 +3686,14 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns the sum of all elements of the provided view.
    * 
-   * @param V TODO
+   * @param V The view
    * 
-   * @return TODO
+   * @return The sum
    */
-  protected static double sum(final AbstractView V) {
-    double sum = 0;
-
-    V.iteratorReset();
-    while (V.iteratorHasNext()) {
-      sum += V._data[V.iteratorNext()];
-    }
-
-    return sum;
+  public static double sum(final AbstractView V) {
+    return V.sum();
   }
 
   /**
@@ -3188,17 +3744,11 @@ public class Arma {
     switch (dim) {
       case 0:
         result.set_size(X.n_cols);
-
-        for (int j = 0; j < X.n_cols; j++) {
-          result._data[j] = sum(new ViewSubCol(X, j));
-        }
+        Reduction.perColumn(Reduction.SUM, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       case 1:
         result.set_size(X.n_rows);
-
-        for (int i = 0; i < X.n_rows; i++) {
-          result._data[i] = sum(new ViewSubRow(X, i));
-        }
+        Reduction.perRow(Reduction.SUM, null, result._data, X._data, X.n_rows, X.n_cols);
         break;
       default:
         throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -3225,13 +3775,13 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns the mean of all elements of the provided view.
    * 
-   * @param V TODO
+   * @param V The view
    * 
-   * @return TODO
+   * @return The mean
    */
-  protected static double mean(final AbstractView V) {
+  public static double mean(final AbstractView V) {
     return sum(V) / V.n_elem;
   }
 
@@ -3283,17 +3833,13 @@ public class Arma {
     switch (dim) {
       case 0:
         result.set_size(X.n_cols);
-
-        for (int j = 0; j < X.n_cols; j++) {
-          result._data[j] = mean(new ViewSubCol(X, j));
-        }
+        Reduction.perColumn(Reduction.SUM, null, result._data, X._data, X.n_rows, X.n_cols);
+        result.inPlace(Op.DIVIDE, X.n_rows);
         break;
       case 1:
         result.set_size(X.n_rows);
-
-        for (int i = 0; i < X.n_rows; i++) {
-          result._data[i] = mean(new ViewSubRow(X, i));
-        }
+        Reduction.perRow(Reduction.SUM, null, result._data, X._data, X.n_rows, X.n_cols);
+        result.inPlace(Op.DIVIDE, X.n_cols);
         break;
       default:
         throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -3446,14 +3992,14 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns the standard deviation of all elements of the provided view.
    * 
-   * @param V TODO
-   * @param norm_type TODO
+   * @param V The view
+   * @param norm_type The normalisation
    * 
-   * @return TODO
+   * @return The standard deviation
    */
-  protected static double stddev(final AbstractView V, final int norm_type) {
+  public static double stddev(final AbstractView V, final int norm_type) {
     /*
      * The standard deviation of just one element is 0.
      */
@@ -3467,13 +4013,7 @@ public class Arma {
       return Datum.inf;
     }
 
-    double variance = 0;
-
-    V.iteratorReset();
-    while (V.iteratorHasNext()) {
-      variance += Math.pow(V._data[V.iteratorNext()] - mean, 2);
-    }
-
+    double variance = V.sumOfSquaredDifferences(mean);
     variance /= (norm_type == 0) ? ((V.n_elem > 1) ? V.n_elem - 1 : 1) : V.n_elem;
     return Math.sqrt(variance);
   }
@@ -3553,12 +4093,12 @@ public class Arma {
       case 1:
         switch (dim) {
           case 0:
-          case 1:
             result.set_size(X.n_cols);
-
-            for (int j = 0; j < X.n_cols; j++) {
-              result._data[j] = stddev(new ViewSubCol(X, j), norm_type);
-            }
+            variance(result._data, X, norm_type, dim, true);
+            break;
+          case 1:
+            result.set_size(X.n_rows);
+            variance(result._data, X, norm_type, dim, true);
             break;
           default:
             throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -3611,10 +4151,7 @@ public class Arma {
       return Datum.inf;
     }
 
-    double variance = 0;
-    for (int n = 0; n < V.n_elem; n++) {
-      variance += Math.pow(V._data[n] - mean, 2);
-    }
+    double variance = Reduction.reduce(Reduction.SQUARED_DIFFERENCE, mean, false, V._data, 0, 1, V.n_elem);
 
     switch (norm_type) {
       case 0:
@@ -3633,26 +4170,21 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns the variance of all elements of the provided view.
    * 
-   * @param V TODO
-   * @param norm_type TODO
+   * @param V The view
+   * @param norm_type The normalisation
    * 
-   * @return TODO
+   * @return The variance
    */
-  protected static double var(final AbstractView V, final int norm_type) {
+  public static double var(final AbstractView V, final int norm_type) {
     double mean = mean(V);
-    double variance = 0;
 
     if (Double.isNaN(mean)) {
       return Datum.inf;
     }
 
-    V.iteratorReset();
-    while (V.iteratorHasNext()) {
-      variance += Math.pow(V._data[V.iteratorNext()] - mean, 2);
-    }
-
+    double variance = V.sumOfSquaredDifferences(mean);
     variance /= (norm_type == 0) ? ((V.n_elem > 1) ? V.n_elem - 1 : 1) : V.n_elem;
     return variance;
   }
@@ -3732,12 +4264,12 @@ public class Arma {
       case 1:
         switch (dim) {
           case 0:
-          case 1:
             result.set_size(X.n_cols);
-
-            for (int j = 0; j < X.n_cols; j++) {
-              result._data[j] = var(new ViewSubCol(X, j), norm_type);
-            }
+            variance(result._data, X, norm_type, dim, false);
+            break;
+          case 1:
+            result.set_size(X.n_rows);
+            variance(result._data, X, norm_type, dim, false);
             break;
           default:
             throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -3750,6 +4282,57 @@ public class Arma {
     return result;
   }
 
+  /**
+   * Computes the variance ({@code standard_deviation} = false) or standard deviation ({@code standard_deviation} =
+   * true) for each column ({@code dim} = 0) or row ({@code dim} = 1) of the provided matrix normalised by
+   * {@code n - 1} ({@code norm_type} = 0) or {@code n} ({@code norm_type} = 1), with {@code n} being the number of
+   * elements per column or row.
+   * <p>
+   * The variance of a column or row with a NaN mean is infinity, while the standard deviation of a single element is
+   * always 0.
+   * 
+   * @param result The result
+   * @param X The matrix
+   * @param norm_type The normalisation
+   * @param dim The dimension
+   * @param standard_deviation Whether to compute the standard deviation
+   */
+  protected static void variance(final double[] result, final Mat X, final int norm_type, final int dim, final boolean standard_deviation) {
+    int n = (dim == 0) ? X.n_rows : X.n_cols;
+
+    double[] mean = new double[result.length];
+    if (dim == 0) {
+      Reduction.perColumn(Reduction.SUM, null, mean, X._data, X.n_rows, X.n_cols);
+    } else {
+      Reduction.perRow(Reduction.SUM, null, mean, X._data, X.n_rows, X.n_cols);
+    }
+
+    for (int k = 0; k < mean.length; k++) {
+      mean[k] /= n;
+    }
+
+    if (dim == 0) {
+      Reduction.perColumn(Reduction.SQUARED_DIFFERENCE, mean, result, X._data, X.n_rows, X.n_cols);
+    } else {
+      Reduction.perRow(Reduction.SQUARED_DIFFERENCE, mean, result, X._data, X.n_rows, X.n_cols);
+    }
+
+    double normalisation = (norm_type == 0) ? ((n > 1) ? n - 1 : 1) : n;
+    for (int k = 0; k < result.length; k++) {
+      if (standard_deviation && n < 2) {
+        result[k] = 0;
+      } else if (Double.isNaN(mean[k])) {
+        result[k] = Datum.inf;
+      } else {
+        result[k] /= normalisation;
+
+        if (standard_deviation) {
+          result[k] = Math.sqrt(result[k]);
+        }
+      }
+    }
+  }
+
   /**
    * Returns {@code true} if all elements of the provided vector are non-zero.
    * 
@@ -3774,21 +4357,14 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns true if all elements of the provided view are non-zero.
    * 
-   * @param V TODO
+   * @param V The view
    * 
-   * @return TODO
+   * @return Whether all elements are non-zero
    */
-  protected static boolean all(final AbstractView V) {
-    V.iteratorReset();
-    while (V.iteratorHasNext()) {
-      if (V._data[V.iteratorNext()] == 0) {
-        return false;
-      }
-    }
-
-    return true;
+  public static boolean all(final AbstractView V) {
+    return V.countNonZeros() == V.n_elem;
   }
 
   /**
@@ -3839,27 +4415,17 @@ public class Arma {
 
     switch (dim) {
       case 0:
-        /*
-         * All uninitialised matrices are already equal to a zero matrix.
-         */
         result.set_size(X.n_cols);
-
+        Reduction.perColumn(Reduction.NON_ZEROS, null, result._data, X._data, X.n_rows, X.n_cols);
         for (int j = 0; j < X.n_cols; j++) {
-          if (all(new ViewSubCol(X, j))) {
-            result._data[j] = 1;
-          }
+          result._data[j] = (result._data[j] == X.n_rows) ? 1 : 0;
         }
         break;
       case 1:
-        /*
-         * All uninitialised matrices are already equal to a zero matrix.
-         */
         result.set_size(X.n_rows);
-
+        Reduction.perRow(Reduction.NON_ZEROS, null, result._data, X._data, X.n_rows, X.n_cols);
         for (int i = 0; i < X.n_rows; i++) {
-          if (all(new ViewSubRow(X, i))) {
-            result._data[i] = 1;
-          }
+          result._data[i] = (result._data[i] == X.n_cols) ? 1 : 0;
         }
         break;
       default:
@@ -3893,21 +4459,14 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Returns true if any element of the provided view is non-zero.
    * 
-   * @param V TODO
+   * @param V The view
    * 
-   * @return TODO
+   * @return Whether any element is non-zero
    */
-  protected static boolean any(final AbstractView V) {
-    V.iteratorReset();
-    while (V.iteratorHasNext()) {
-      if (V._data[V.iteratorNext()] != 0) {
-        return true;
-      }
-    }
-
-    return false;
+  public static boolean any(final AbstractView V) {
+    return V.countNonZeros() > 0;
   }
 
   /**
@@ -3959,27 +4518,17 @@ public class Arma {
 
     switch (dim) {
       case 0:
-        /*
-         * All uninitialised matrices are already equal to a zero matrix.
-         */
         result.set_size(X.n_cols);
-
+        Reduction.perColumn(Reduction.NON_ZEROS, null, result._data, X._data, X.n_rows, X.n_cols);
         for (int j = 0; j < X.n_cols; j++) {
-          if (any(new ViewSubCol(X, j))) {
-            result._data[j] = 1;
-          }
+          result._data[j] = (result._data[j] > 0) ? 1 : 0;
         }
         break;
       case 1:
-        /*
-         * All uninitialised matrices are already equal to a zero matrix.
-         */
         result.set_size(X.n_rows);
-
+        Reduction.perRow(Reduction.NON_ZEROS, null, result._data, X._data, X.n_rows, X.n_cols);
         for (int i = 0; i < X.n_rows; i++) {
-          if (any(new ViewSubRow(X, i))) {
-            result._data[i] = 1;
-          }
+          result._data[i] = (result._data[i] > 0) ? 1 : 0;
         }
         break;
       default:
@@ -4173,8 +4722,7 @@ public class Arma {
   public static Mat cor(final Mat X, final Mat Y, final int norm_type) throws RuntimeException {
     /*
      * The parameters "X", "Y" and "norm_type" are validated within cor(AbstractVector, AbstractVector, int), if
-     * the provided matrices are in the shape of a vector, and otherwise within sum(Class<T>, Mat) (excluding
-     * "norm_type" in this case).
+     * the provided matrices are in the shape of a vector, and otherwise within covariance(Mat, Mat, int, boolean).
      */
 
     if (X.n_rows != Y.n_rows || X.n_cols != Y.n_cols) {
@@ -4187,23 +4735,7 @@ public class Arma {
     } else if (X.is_colvec()) {
       result = new Mat(new double[]{cor(new Col(X), new Col(Y), norm_type)});
     } else {
-      result = trans(X).times(Y);
-      result.inPlace(Op.MINUS, trans(sum(Row.class, X)).times(sum(Row.class, Y)).divide(X.n_rows));
-
-      switch (norm_type) {
-        case 0:
-          if (X.n_rows > 1) {
-            result.inPlace(Op.DIVIDE, X.n_rows - 1);
-          }
-          break;
-        case 1:
-          result.inPlace(Op.DIVIDE, X.n_rows);
-          break;
-        default:
-          throw new IllegalArgumentException("The specified normalisation (" + norm_type + ") must either be 0 or 1.");
-      }
-
-      result.inPlace(Op.ELEMDIVIDE, trans(stddev(Row.class, X)).times(stddev(Row.class, Y)));
+      result = covariance(X, Y, norm_type, true);
     }
 
     return result;
@@ -4248,7 +4780,7 @@ public class Arma {
   public static Mat cor(final Mat X, final int norm_type) throws RuntimeException {
     /*
      * The parameters "X" and "norm_type" are validated within cor(AbstractVector, int), if the provided matrices are in
-     * the shape of a vector, and otherwise within sum(Class<T>, Mat) (excluding "norm_type" in this case).
+     * the shape of a vector, and otherwise within covariance(Mat, Mat, int, boolean).
      */
 
     if (X.is_rowvec()) {
@@ -4257,28 +4789,7 @@ public class Arma {
       return new Mat(new double[]{cor(new Col(X), norm_type)});
     }
 
-    Row sum = sum(Row.class, X);
-    Row stddev = stddev(Row.class, X);
-
-    Mat result = trans(X).times(X);
-    result.inPlace(Op.MINUS, trans(sum).times(sum).divide(X.n_rows));
-
-    switch (norm_type) {
-      case 0:
-        if (X.n_rows > 1) {
-          result.inPlace(Op.DIVIDE, X.n_rows - 1);
-        }
-        break;
-      case 1:
-        result.inPlace(Op.DIVIDE, X.n_rows);
-        break;
-      default:
-        throw new IllegalArgumentException("The specified normalisation (" + norm_type + ") must either be 0 or 1.");
-    }
-
-    result.inPlace(Op.ELEMDIVIDE, trans(stddev).times(stddev));
-
-    return result;
+    return covariance(X, X, norm_type, true);
   }
 
   /**
@@ -4457,7 +4968,7 @@ public class Arma {
   public static Mat cov(final Mat X, final Mat Y, final int norm_type) throws RuntimeException, IllegalArgumentException {
     /*
      * The parameters "X" and "norm_type" are validated within cov(AbstractVector, int), if the provided matrices are in
-     * the shape of a vector, and otherwise within sum(Class<T>, Mat) (excluding "norm_type" in this case).
+     * the shape of a vector, and otherwise within covariance(Mat, Mat, int, boolean).
      */
 
     if (X.n_rows != Y.n_rows || X.n_cols != Y.n_cols) {
@@ -4470,23 +4981,7 @@ public class Arma {
       return new Mat(new double[]{cov(new Col(X), new Col(Y), norm_type)});
     }
 
-    Mat result = trans(X).times(Y);
-    result.inPlace(Op.MINUS, trans(sum(Row.class, X)).times(sum(Row.class, Y)).divide(X.n_rows));
-
-    switch (norm_type) {
-      case 0:
-        if (X.n_rows > 1) {
-          result.inPlace(Op.DIVIDE, X.n_rows - 1);
-        }
-        break;
-      case 1:
-        result.inPlace(Op.DIVIDE, X.n_rows);
-        break;
-      default:
-        throw new IllegalArgumentException("The specified normalisation (" + norm_type + ") must either be 0 or 1.");
-    }
-
-    return result;
+    return covariance(X, Y, norm_type, false);
   }
 
   /**
@@ -4529,8 +5024,7 @@ public class Arma {
   public static Mat cov(final Mat X, final int norm_type) throws RuntimeException, IllegalArgumentException {
     /*
      * The parameters "X" and "norm_type" are validated within cov(AbstractVector, AbstractVector, int), if the provided
-     * matrices are in the shape of a vector, and otherwise within sum(Class<T>, Mat) (excluding "norm_type" in this
-     * case).
+     * matrices are in the shape of a vector, and otherwise within covariance(Mat, Mat, int, boolean).
      */
 
     if (X.is_rowvec()) {
@@ -4539,27 +5033,152 @@ public class Arma {
       return new Mat(new double[]{cov(new Col(X), norm_type)});
     }
 
-    Row sum = sum(Row.class, X);
+    return covariance(X, X, norm_type, false);
+  }
+
+  /**
+   * Returns the covariance ({@code correlation} = false) or correlation ({@code correlation} = true) between the
+   * columns of the first and second provided matrix normalised by {@code X.n_rows - 1} ({@code norm_type} = 0) or
+   * {@code X.n_rows} ({@code norm_type} = 1).
+   * <p>
+   * The columns are centered before any product is computed, which avoids the cancellation of subtracting the outer
+   * product of the column sums afterwards. The product of the centered matrices is computed blockwise over columns of
+   * the result in parallel. If both matrices are the same, only the upper triangular part is computed (using
+   * {@code dsyrk} on the diagonal blocks) and mirrored afterwards.
+   * 
+   * @param X The first matrix
+   * @param Y The second matrix
+   * @param norm_type The normalisation
+   * @param correlation Whether to compute the correlation
+   * 
+   * @return The covariance or correlation
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
+   * @throws IllegalArgumentException The specified normalisation ({@code norm_type}) must either be 0 or 1.
+   */
+  protected static Mat covariance(final Mat X, final Mat Y, final int norm_type, final boolean correlation) throws RuntimeException, IllegalArgumentException {
+    if (X.is_empty()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must have at least one element.");
+    }
+
+    if (norm_type != 0 && norm_type != 1) {
+      throw new IllegalArgumentException("The specified normalisation (" + norm_type + ") must either be 0 or 1.");
+    }
 
-    Mat result = trans(X).times(X);
-    result.inPlace(Op.MINUS, trans(sum).times(sum).divide(X.n_rows));
+    final int n_rows = X.n_rows;
+    final boolean isSymmetric = (X == Y);
+    final double[] centeredX = center(X);
+    final double[] centeredY = isSymmetric ? centeredX : center(Y);
 
-    switch (norm_type) {
-      case 0:
-        if (X.n_rows > 1) {
-          result.inPlace(Op.DIVIDE, X.n_rows - 1);
+    final int m = X.n_cols;
+    final int n = Y.n_cols;
+    final Mat result = new Mat(m, n);
+
+    if (isSymmetric) {
+      /*
+       * The work of the k-th column of the upper triangular part is proportional to k, such that the blocks are bounded
+       * by the square roots of evenly spaced fractions to balance their work.
+       */
+      final int n_blocks = Parallel.numberOfBlocks((long) n * n * n_rows / 2, n);
+      Parallel.run(n_blocks, n, new Parallel.Block() {
+        @Override
+        void run(final int block, final int first, final int last) {
+          int firstColumn = (int) Math.round(n * Math.sqrt((double) block / n_blocks));
+          int lastColumn = (int) Math.round(n * Math.sqrt((double) (block + 1) / n_blocks));
+          int n_columns = lastColumn - firstColumn;
+
+          if (n_columns < 1) {
+            return;
+          }
+
+          if (firstColumn > 0) {
+            BLAS.getInstance().dgemm("T", "N", firstColumn, n_columns, n_rows, 1, centeredX, 0, n_rows, centeredX, firstColumn * n_rows, n_rows, 0, result._data, firstColumn * n, n);
+          }
+          BLAS.getInstance().dsyrk("U", "T", n_columns, n_rows, 1, centeredX, firstColumn * n_rows, n_rows, 0, result._data, firstColumn * n + firstColumn, n);
         }
-        break;
-      case 1:
-        result.inPlace(Op.DIVIDE, X.n_rows);
-        break;
-      default:
-        throw new IllegalArgumentException("The specified normalisation (" + norm_type + ") must either be 0 or 1.");
+      });
+
+      for (int j = 0; j < n; j++) {
+        for (int i = j + 1; i < n; i++) {
+          result._data[i + j * n] = result._data[j + i * n];
+        }
+      }
+    } else {
+      Parallel.run(Parallel.numberOfBlocks((long) m * n * n_rows, n), n, new Parallel.Block() {
+        @Override
+        void run(final int block, final int first, final int last) {
+          BLAS.getInstance().dgemm("T", "N", m, last - first, n_rows, 1, centeredX, 0, n_rows, centeredY, first * n_rows, n_rows, 0, result._data, first * m, m);
+        }
+      });
+    }
+
+    if (correlation) {
+      /*
+       * As in Armadillo C++, the standard deviations are always normalised by n_rows - 1, such that only the
+       * normalisation of the covariance remains.
+       */
+      double factor = (norm_type == 0 || n_rows < 2) ? 1 : (n_rows - 1.0) / n_rows;
+
+      double[] normsX = new double[m];
+      for (int i = 0; i < m; i++) {
+        normsX[i] = isSymmetric ? Math.sqrt(result._data[i + i * m]) : Math.sqrt(Reduction.reduce(Reduction.SQUARE, 0, false, centeredX, i * n_rows, 1, n_rows));
+      }
+
+      double[] normsY = normsX;
+      if (!isSymmetric) {
+        normsY = new double[n];
+        for (int j = 0; j < n; j++) {
+          normsY[j] = Math.sqrt(Reduction.reduce(Reduction.SQUARE, 0, false, centeredY, j * n_rows, 1, n_rows));
+        }
+      }
+
+      for (int j = 0; j < n; j++) {
+        for (int i = 0; i < m; i++) {
+          result._data[i + j * m] = factor * result._data[i + j * m] / (normsX[i] * normsY[j]);
+        }
+      }
+    } else if (norm_type == 0) {
+      if (n_rows > 1) {
+        result.inPlace(Op.DIVIDE, n_rows - 1);
+      }
+    } else {
+      result.inPlace(Op.DIVIDE, n_rows);
     }
 
     return result;
   }
 
+  /**
+   * Returns the provided matrix with the mean of each column subtracted from all its elements.
+   * <p>
+   * The columns are centered in parallel.
+   * 
+   * @param X The matrix
+   * 
+   * @return The centered matrix
+   */
+  protected static double[] center(final Mat X) {
+    final int n_rows = X.n_rows;
+    final double[] mean = new double[X.n_cols];
+    Reduction.perColumn(Reduction.SUM, null, mean, X._data, n_rows, X.n_cols);
+
+    final double[] source = X._data;
+    final double[] centered = new double[X.n_elem];
+    Parallel.run(Parallel.numberOfBlocks(X.n_elem, X.n_cols), X.n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int j = first; j < last; j++) {
+          double columnMean = mean[j] / n_rows;
+          for (int i = 0, p = j * n_rows; i < n_rows; i++, p++) {
+            centered[p] = source[p] - columnMean;
+          }
+        }
+      }
+    });
+
+    return centered;
+  }
+
   /**
    * TODO
    * 
@@ -4658,25 +5277,12 @@ public class Arma {
     return result;
   }
 
-  /**
-   * TODO
-   * 
-   * @param result TODO
-   * @param V TODO
-   */
-  protected static void cumsum(final double[] result, final double[] V) {
-    result[0] = V[0];
-    for (int n = 1; n < result.length; n++) {
-      result[n] = result[n - 1] + V[n];
-    }
-  }
-
   /**
    * Returns the cumulative sum of the provided vector.
    * 
    * @param V The vector
    * 
-   * @return TODO
+   * @return The cumulative sum
    * 
    * @throws RuntimeException The provided ({@code V.n_rows}, {@code V.n_cols})-vector must have at least one element.
    */
@@ -4686,7 +5292,7 @@ public class Arma {
     }
 
     Col result = new Col(V.n_elem);
-    cumsum(result._data, V._data);
+    Scan.scan(Scan.SUM, result._data, V._data, 0, V.n_elem);
     return result;
   }
 
@@ -4695,7 +5301,7 @@ public class Arma {
    * 
    * @param V The vector
    * 
-   * @return TODO
+   * @return The cumulative sum
    * 
    * @throws RuntimeException The provided ({@code V.n_rows}, {@code V.n_cols})-vector must have at least one element.
    */
@@ -4705,60 +5311,128 @@ public class Arma {
     }
 
     Row result = new Row(V.n_elem);
-    cumsum(result._data, V._data);
+    Scan.scan(Scan.SUM, result._data, V._data, 0, V.n_elem);
     return result;
   }
 
   /**
-   * TODO
+   * Returns the cumulative sum for each column of the provided matrix.
    * 
-   * @param result TODO
-   * @param V TODO
+   * @param X The matrix
+   * 
+   * @return The cumulative sum
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
+   * @throws IllegalArgumentException The specified dimension ({@code dim}) must either be 0 or 1.
+   */
+  public static Mat cumsum(final Mat X) throws RuntimeException {
+    /*
+     * The parameter "X" is validated within cumsum(Mat, int).
+     */
+
+    return cumsum(X, 0);
+  }
+
+  /**
+   * Returns the cumulative sum for each column ({@code dim} = 0) or row ({@code dim} = 1) of the provided matrix.
+   * 
+   * @param X The matrix
+   * @param dim The dimension
+   * 
+   * @return The cumulative sum
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
+   * @throws IllegalArgumentException The specified dimension ({@code dim}) must either be 0 or 1.
    */
-  protected static void cumsum(final AbstractView result, final AbstractView V) {
-    V.iteratorReset();
-    result.iteratorReset();
+  public static Mat cumsum(final Mat X, final int dim) throws RuntimeException, IllegalArgumentException {
+    if (X.is_empty()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must have at least one element.");
+    }
 
-    int previousPosition = result.iteratorNext();
+    Mat result = new Mat(X.n_rows, X.n_cols);
 
-    result._data[previousPosition] = V._data[V.iteratorNext()];
-    for (int n = 1; n < result.n_elem; n++) {
-      int currentPosition = result.iteratorNext();
-      result._data[currentPosition] = result._data[previousPosition] + V._data[V.iteratorNext()];
-      previousPosition = currentPosition;
+    switch (dim) {
+      case 0:
+        Scan.perColumn(Scan.SUM, result._data, X._data, X.n_rows, X.n_cols);
+        break;
+      case 1:
+        Scan.perRow(Scan.SUM, result._data, X._data, X.n_rows, X.n_cols);
+        break;
+      default:
+        throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
     }
+
+    return result;
   }
 
   /**
-   * Returns the cumulative sum for each column of the provided matrix.
+   * Returns the cumulative product of the provided vector.
+   * 
+   * @param V The vector
+   * 
+   * @return The cumulative product
+   * 
+   * @throws RuntimeException The provided ({@code V.n_rows}, {@code V.n_cols})-vector must have at least one element.
+   */
+  public static Col cumprod(final Col V) throws RuntimeException {
+    if (V.is_empty()) {
+      throw new RuntimeException("The provided (" + V.n_rows + ", " + V.n_cols + ")-vector must have at least one element.");
+    }
+
+    Col result = new Col(V.n_elem);
+    Scan.scan(Scan.PRODUCT, result._data, V._data, 0, V.n_elem);
+    return result;
+  }
+
+  /**
+   * Returns the cumulative product of the provided vector.
+   * 
+   * @param V The vector
+   * 
+   * @return The cumulative product
+   * 
+   * @throws RuntimeException The provided ({@code V.n_rows}, {@code V.n_cols})-vector must have at least one element.
+   */
+  public static Row cumprod(final Row V) throws RuntimeException {
+    if (V.is_empty()) {
+      throw new RuntimeException("The provided (" + V.n_rows + ", " + V.n_cols + ")-vector must have at least one element.");
+    }
+
+    Row result = new Row(V.n_elem);
+    Scan.scan(Scan.PRODUCT, result._data, V._data, 0, V.n_elem);
+    return result;
+  }
+
+  /**
+   * Returns the cumulative product for each column of the provided matrix.
    * 
    * @param X The matrix
    * 
-   * @return TODO
+   * @return The cumulative product
    * 
    * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
    * @throws IllegalArgumentException The specified dimension ({@code dim}) must either be 0 or 1.
    */
-  public static Mat cumsum(final Mat X) throws RuntimeException {
+  public static Mat cumprod(final Mat X) throws RuntimeException {
     /*
-     * The parameter "X" is validated within cumsum(Mat, int).
+     * The parameter "X" is validated within cumprod(Mat, int).
      */
 
-    return cumsum(X, 0);
+    return cumprod(X, 0);
   }
 
   /**
-   * Returns the cumulative sum for each column ({@code dim} = 0) or row ({@code dim} = 1) of the provided matrix.
+   * Returns the cumulative product for each column ({@code dim} = 0) or row ({@code dim} = 1) of the provided matrix.
    * 
    * @param X The matrix
    * @param dim The dimension
    * 
-   * @return TODO
+   * @return The cumulative product
    * 
    * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
    * @throws IllegalArgumentException The specified dimension ({@code dim}) must either be 0 or 1.
    */
-  public static Mat cumsum(final Mat X, final int dim) throws RuntimeException, IllegalArgumentException {
+  public static Mat cumprod(final Mat X, final int dim) throws RuntimeException, IllegalArgumentException {
     if (X.is_empty()) {
       throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must have at least one element.");
     }
@@ -4767,14 +5441,10 @@ public class Arma {
 
     switch (dim) {
       case 0:
-        for (int j = 0; j < X.n_cols; j++) {
-          cumsum(new ViewSubCol(result, j), new ViewSubCol(X, j));
-        }
+        Scan.perColumn(Scan.PRODUCT, result._data, X._data, X.n_rows, X.n_cols);
         break;
       case 1:
-        for (int i = 0; i < X.n_rows; i++) {
-          cumsum(new ViewSubRow(result, i), new ViewSubRow(X, i));
-        }
+        Scan.perRow(Scan.PRODUCT, result._data, X._data, X.n_rows, X.n_cols);
         break;
       default:
         throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -4785,6 +5455,8 @@ public class Arma {
 
   /**
    * Returns a diagonal matrix with the provided vector set as the main diagonal.
+   * <p>
+   * Use {@link DiagOperator} instead, if only products with the diagonal matrix are needed.
    * 
    * @param X The vector
    * 
@@ -4799,6 +5471,7 @@ public class Arma {
 
     Mat result = new Mat(X.n_elem, X.n_elem);
     new ViewDiag(result, 0).inPlace(Op.EQUAL, X);
+    result._structure = Structure.DIAGONAL;
     return result;
   }
 
@@ -4826,6 +5499,7 @@ public class Arma {
      */
     Mat result = new Mat(X.n_rows, X.n_cols);
     new ViewDiag(result, 0).inPlace(Op.EQUAL, new ViewDiag(X, 0));
+    result._structure = Structure.DIAGONAL;
     return result;
   }
 
@@ -5050,53 +5724,215 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Counts each value into the bin of its nearest center. Non-finite values are counted into the first (negative
+   * infinity) or last (positive infinity) bin, while NaN is ignored.
+   * <p>
+   * The values are split into blocks, each counted in parallel into its own bins, which are merged afterwards.
    * 
-   * @param result TODO
-   * @param V TODO
-   * @param centers TODO
+   * @param result The bins
+   * @param V The values
+   * @param centers The bin centers
    */
   protected static void hist(final double[] result, final double[] V, final double[] centers) {
-    for (int n = 0; n < V.length; n++) {
+    final boolean isSorted = isIncreasing(centers, true);
+    final double step = (isSorted ? uniformStep(centers) : 0);
+
+    final int n_blocks = Parallel.numberOfBlocks(V.length, V.length);
+    if (n_blocks <= 1) {
+      hist(result, 0, V, 0, V.length, centers, isSorted, step);
+      return;
+    }
+
+    final double[][] bins = new double[n_blocks][result.length];
+    Parallel.run(n_blocks, V.length, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        hist(bins[block], 0, V, first, last, centers, isSorted, step);
+      }
+    });
+
+    for (double[] partialResult : bins) {
+      for (int n = 0; n < result.length; n++) {
+        result[n] += partialResult[n];
+      }
+    }
+  }
+
+  /**
+   * Counts the values {@code V[first]} to {@code V[last - 1]} into the bins {@code result[offset]} to
+   * {@code result[offset + centers.length - 1]} of their nearest center.
+   * <p>
+   * For sorted centers, the bin is guessed in constant time if the centers are uniformly distributed and by binary
+   * search otherwise. Afterwards, the guess is corrected towards the nearest center, preferring the lower one on ties.
+   * Unsorted centers are searched linearly from the first center onwards.
+   * 
+   * @param result The bins
+   * @param offset The position of the first bin
+   * @param V The values
+   * @param first The first value
+   * @param last The last value (exclusive)
+   * @param centers The bin centers
+   * @param isSorted Whether the centers are strictly increasing
+   * @param step The distance between uniformly distributed centers or 0 if they are not uniformly distributed
+   */
+  protected static void hist(final double[] result, final int offset, final double[] V, final int first, final int last, final double[] centers, final boolean isSorted, final double step) {
+    int n_bins = centers.length;
+
+    for (int n = first; n < last; n++) {
       double value = V[n];
 
       if (is_finite(value)) {
-        double previousDistance = Math.abs(value - centers[0]);
-        int index = 0;
+        int index;
 
-        for (int nn = 1; nn < centers.length; nn++) {
-          double currentDistance = Math.abs(value - centers[nn]);
+        if (isSorted) {
+          if (step > 0) {
+            index = (int) Math.max(0, Math.min(n_bins - 1, Math.floor((value - centers[0]) / step + 0.5)));
+          } else {
+            index = Math.min(n_bins - 1, lowerBound(centers, value));
+          }
 
-          if (currentDistance < previousDistance) {
-            previousDistance = currentDistance;
+          while (index > 0 && Math.abs(value - centers[index - 1]) <= Math.abs(value - centers[index])) {
+            --index;
+          }
 
+          while (index < n_bins - 1 && Math.abs(value - centers[index + 1]) < Math.abs(value - centers[index])) {
             ++index;
-          } else {
-            break;
+          }
+        } else {
+          double previousDistance = Math.abs(value - centers[0]);
+          index = 0;
+
+          for (int nn = 1; nn < n_bins; nn++) {
+            double currentDistance = Math.abs(value - centers[nn]);
+
+            if (currentDistance < previousDistance) {
+              previousDistance = currentDistance;
+
+              ++index;
+            } else {
+              break;
+            }
           }
         }
 
-        result[index]++;
+        result[offset + index]++;
       } else {
         if (value < 0) {
-          result[0]++;
+          result[offset]++;
         }
 
         if (value > 0) {
-          result[result.length - 1]++;
+          result[offset + n_bins - 1]++;
         }
       }
     }
   }
 
   /**
-   * Returns the histogramm for each column of the provided matrix for the provided, monotonically increasing bin
-   * centers.
-   * 
-   * @param X The matrix
-   * @param centers The bin centers
-   * 
-   * @return TODO
+   * Returns true if the values are increasing and none is NaN.
+   * 
+   * @param values The values
+   * @param strict Whether the values must be strictly increasing
+   * @return Whether the values are increasing
+   */
+  protected static boolean isIncreasing(final double[] values, final boolean strict) {
+    for (int n = 0; n < values.length; n++) {
+      if (Double.isNaN(values[n])) {
+        return false;
+      }
+
+      if (n > 0 && (strict ? values[n] <= values[n - 1] : values[n] < values[n - 1])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the distance between two neighbouring values, if the provided increasing values are uniformly distributed
+   * (up to rounding errors), and 0 otherwise.
+   * 
+   * @param values The values
+   * @return The distance
+   */
+  protected static double uniformStep(final double[] values) {
+    if (values.length < 2) {
+      return 0;
+    }
+
+    double step = (values[values.length - 1] - values[0]) / (values.length - 1);
+    if (!(step > 0) || Double.isInfinite(step)) {
+      return 0;
+    }
+
+    for (int n = 1; n < values.length - 1; n++) {
+      if (Math.abs(values[n] - (values[0] + n * step)) > 1e-3 * step) {
+        return 0;
+      }
+    }
+
+    return step;
+  }
+
+  /**
+   * Returns the position of the first value not less than {@code value} within the provided increasing values, or
+   * {@code values.length} if there is none.
+   * 
+   * @param values The values
+   * @param value The value
+   * @return The position
+   */
+  protected static int lowerBound(final double[] values, final double value) {
+    int low = 0;
+    int high = values.length;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+
+      if (values[middle] < value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Returns the position of the first value greater than {@code value} within the provided increasing values, or
+   * {@code values.length} if there is none.
+   * 
+   * @param values The values
+   * @param value The value
+   * @return The position
+   */
+  protected static int upperBound(final double[] values, final double value) {
+    int low = 0;
+    int high = values.length;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+
+      if (values[middle] <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Returns the histogramm for each column of the provided matrix for the provided, monotonically increasing bin
+   * centers.
+   * 
+   * @param X The matrix
+   * @param centers The bin centers
+   * 
+   * @return TODO
    * 
    * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must have at least one element.
    */
@@ -5136,22 +5972,19 @@ public class Arma {
       return result;
     }
     else {
-      Mat matrixX = new Mat(X);
-
       switch (dim) {
         case 0:
           result.set_size(centers.n_elem, X.n_cols);
-
-          for (int j = 0; j < X.n_cols; j++) {
-            new ViewSubCol(result, j).inPlace(Op.EQUAL, hist(matrixX.col(j), centers));
-          }
+          hist(result._data, X._data, X.n_rows, X.n_cols, centers._data);
           break;
         case 1:
-          result.set_size(X.n_rows, centers.n_elem);
-
-          for (int i = 0; i < X.n_rows; i++) {
-            new ViewSubRow(result, i).inPlace(Op.EQUAL, hist(matrixX.row(i), centers));
-          }
+          /*
+           * Rows are counted as columns of the transpose, which keeps the traversal contiguous in memory.
+           */
+          Mat transposedX = new Mat(X).t();
+          result.set_size(centers.n_elem, X.n_rows);
+          hist(result._data, transposedX._data, transposedX.n_rows, transposedX.n_cols, centers._data);
+          inplace_trans(result);
           break;
         default:
           throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -5162,28 +5995,152 @@ public class Arma {
   }
 
   /**
-   * TODO
+   * Counts each column of the provided column-major matrix into its own bins, stored as columns of {@code result}.
+   * <p>
+   * The columns are counted in parallel.
    * 
-   * @param result TODO
-   * @param V TODO
-   * @param edges TODO
+   * @param result The bins
+   * @param X The matrix
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   * @param centers The bin centers
+   */
+  protected static void hist(final double[] result, final double[] X, final int n_rows, final int n_cols, final double[] centers) {
+    final boolean isSorted = isIncreasing(centers, true);
+    final double step = (isSorted ? uniformStep(centers) : 0);
+
+    Parallel.run(Parallel.numberOfBlocks((long) n_rows * n_cols, n_cols), n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int j = first; j < last; j++) {
+          hist(result, j * centers.length, X, j * n_rows, (j + 1) * n_rows, centers, isSorted, step);
+        }
+      }
+    });
+  }
+
+  /**
+   * Counts each value into the bin {@code n} with {@code edges[n] <= value < edges[n + 1]}. Values equal to the last
+   * edge are counted into the last bin, while all other values outside of the edges are ignored.
+   * <p>
+   * The values are split into blocks, each counted in parallel into its own bins, which are merged afterwards.
+   * 
+   * @param result The bins
+   * @param V The values
+   * @param edges The bin edges
    */
   protected static void histc(final double[] result, final double[] V, final double[] edges) {
-    for (int n = 0; n < V.length; n++) {
+    final boolean isSorted = isIncreasing(edges, false);
+    final double step = (isSorted ? uniformStep(edges) : 0);
+
+    final int n_blocks = Parallel.numberOfBlocks(V.length, V.length);
+    if (n_blocks <= 1) {
+      histc(result, 0, V, 0, V.length, edges, isSorted, step);
+      return;
+    }
+
+    final double[][] bins = new double[n_blocks][result.length];
+    Parallel.run(n_blocks, V.length, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        histc(bins[block], 0, V, first, last, edges, isSorted, step);
+      }
+    });
+
+    for (double[] partialResult : bins) {
+      for (int n = 0; n < result.length; n++) {
+        result[n] += partialResult[n];
+      }
+    }
+  }
+
+  /**
+   * Counts the values {@code V[first]} to {@code V[last - 1]} into the bins {@code result[offset]} to
+   * {@code result[offset + edges.length - 1]}.
+   * <p>
+   * For sorted edges, the bin is guessed in constant time if the edges are uniformly distributed and by binary search
+   * otherwise. Afterwards, the guess is corrected to the bin containing the value. Unsorted edges are searched linearly
+   * from the first edge onwards.
+   * 
+   * @param result The bins
+   * @param offset The position of the first bin
+   * @param V The values
+   * @param first The first value
+   * @param last The last value (exclusive)
+   * @param edges The bin edges
+   * @param isSorted Whether the edges are increasing
+   * @param step The distance between uniformly distributed edges or 0 if they are not uniformly distributed
+   */
+  protected static void histc(final double[] result, final int offset, final double[] V, final int first, final int last, final double[] edges, final boolean isSorted, final double step) {
+    int lastEdge = edges.length - 1;
+
+    for (int n = first; n < last; n++) {
       double value = V[n];
 
-      for (int nn = 0; nn < edges.length - 1; nn++) {
-        if (edges[nn] <= value && value < edges[nn + 1]) {
-          result[nn]++;
-          break;
-        } else if (value == edges[edges.length - 1]) {
-          result[edges.length - 1]++;
-          break;
+      if (isSorted) {
+        if (lastEdge < 1) {
+          continue;
+        }
+
+        if (value == edges[lastEdge]) {
+          result[offset + lastEdge]++;
+        } else if (edges[0] <= value && value < edges[lastEdge]) {
+          int index;
+          if (step > 0) {
+            index = (int) Math.max(0, Math.min(lastEdge - 1, Math.floor((value - edges[0]) / step)));
+          } else {
+            index = Math.min(lastEdge - 1, upperBound(edges, value) - 1);
+          }
+
+          while (index > 0 && edges[index] > value) {
+            --index;
+          }
+
+          while (index < lastEdge - 1 && edges[index + 1] <= value) {
+            ++index;
+          }
+
+          result[offset + index]++;
+        }
+      } else {
+        for (int nn = 0; nn < lastEdge; nn++) {
+          if (edges[nn] <= value && value < edges[nn + 1]) {
+            result[offset + nn]++;
+            break;
+          } else if (value == edges[lastEdge]) {
+            result[offset + lastEdge]++;
+            break;
+          }
         }
       }
     }
   }
 
+  /**
+   * Counts each column of the provided column-major matrix into its own bins, stored as columns of {@code result}.
+   * <p>
+   * The columns are counted in parallel.
+   * 
+   * @param result The bins
+   * @param X The matrix
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   * @param edges The bin edges
+   */
+  protected static void histc(final double[] result, final double[] X, final int n_rows, final int n_cols, final double[] edges) {
+    final boolean isSorted = isIncreasing(edges, false);
+    final double step = (isSorted ? uniformStep(edges) : 0);
+
+    Parallel.run(Parallel.numberOfBlocks((long) n_rows * n_cols, n_cols), n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int j = first; j < last; j++) {
+          histc(result, j * edges.length, X, j * n_rows, (j + 1) * n_rows, edges, isSorted, step);
+        }
+      }
+    });
+  }
+
   /**
    * Returns the histogramm for each column of the provided matrix for the provided, monotonically increasing bin edges.
    * 
@@ -5228,22 +6185,19 @@ public class Arma {
       return result;
     }
     else {
-      Mat matrixX = new Mat(X);
-
       switch (dim) {
         case 0:
           result.set_size(edges.n_elem, X.n_cols);
-
-          for (int j = 0; j < X.n_cols; j++) {
-            new ViewSubCol(result, j).inPlace(Op.EQUAL, histc(matrixX.col(j), edges));
-          }
+          histc(result._data, X._data, X.n_rows, X.n_cols, edges._data);
           break;
         case 1:
-          result.set_size(X.n_rows, edges.n_elem);
-
-          for (int i = 0; i < X.n_rows; i++) {
-            new ViewSubRow(result, i).inPlace(Op.EQUAL, histc(matrixX.row(i), edges));
-          }
+          /*
+           * Rows are counted as columns of the transpose, which keeps the traversal contiguous in memory.
+           */
+          Mat transposedX = new Mat(X).t();
+          result.set_size(edges.n_elem, X.n_rows);
+          histc(result._data, transposedX._data, transposedX.n_rows, transposedX.n_cols, edges._data);
+          inplace_trans(result);
           break;
         default:
           throw new IllegalArgumentException("The specified dimension (" + dim + ") must either be 0 or 1.");
@@ -5253,6 +6207,261 @@ public class Arma {
     }
   }
 
+  /**
+   * Returns the linear interpolation at the provided query points {@code XI} of the function given by the values
+   * {@code Y} at the points {@code X}.
+   * <p>
+   * Query points outside of [min(X), max(X)] are set to NaN.
+   * 
+   * @param X The points
+   * @param Y The values
+   * @param XI The query points
+   * @param YI The interpolated values
+   * 
+   * @throws RuntimeException Both provided vectors must have the same number of elements ({@code X.n_elem},
+   *           {@code Y.n_elem}).
+   * @throws RuntimeException The provided vector X must have at least two elements.
+   * @throws RuntimeException The provided vector X must neither contain NaN nor duplicated values.
+   */
+  public static void interp1(final AbstractVector X, final AbstractVector Y, final AbstractVector XI, final AbstractVector YI) throws RuntimeException {
+    /*
+     * The parameters "X", "Y" and "XI" are validated within interp1(AbstractVector, AbstractVector, AbstractVector,
+     * AbstractVector, String, double).
+     */
+
+    interp1(X, Y, XI, YI, "linear", Datum.nan);
+  }
+
+  /**
+   * Returns the nearest neighbour ({@code method} = "nearest") or linear ({@code method} = "linear") interpolation at
+   * the provided query points {@code XI} of the function given by the values {@code Y} at the points {@code X}.
+   * <p>
+   * Query points outside of [min(X), max(X)] are set to NaN.
+   * 
+   * @param X The points
+   * @param Y The values
+   * @param XI The query points
+   * @param YI The interpolated values
+   * @param method The interpolation method
+   * 
+   * @throws RuntimeException Both provided vectors must have the same number of elements ({@code X.n_elem},
+   *           {@code Y.n_elem}).
+   * @throws RuntimeException The provided vector X must have at least two elements.
+   * @throws RuntimeException The provided vector X must neither contain NaN nor duplicated values.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'nearest' or 'linear'.
+   */
+  public static void interp1(final AbstractVector X, final AbstractVector Y, final AbstractVector XI, final AbstractVector YI, final String method) throws RuntimeException, IllegalArgumentException {
+    /*
+     * The parameters "X", "Y", "XI" and "method" are validated within interp1(AbstractVector, AbstractVector,
+     * AbstractVector, AbstractVector, String, double).
+     */
+
+    interp1(X, Y, XI, YI, method, Datum.nan);
+  }
+
+  /**
+   * Returns the nearest neighbour ({@code method} = "nearest") or linear ({@code method} = "linear") interpolation at
+   * the provided query points {@code XI} of the function given by the values {@code Y} at the points {@code X}.
+   * <p>
+   * Query points outside of [min(X), max(X)] are set to {@code extrapolation_value}, while NaN query points result in
+   * NaN. The points {@code X} do not need to be sorted. If the query points are sorted, all intervals are located by a
+   * single merge-like traversal, and otherwise by binary search.
+   * 
+   * @param X The points
+   * @param Y The values
+   * @param XI The query points
+   * @param YI The interpolated values
+   * @param method The interpolation method
+   * @param extrapolation_value The value of query points outside of [min(X), max(X)]
+   * 
+   * @throws RuntimeException Both provided vectors must have the same number of elements ({@code X.n_elem},
+   *           {@code Y.n_elem}).
+   * @throws RuntimeException The provided vector X must have at least two elements.
+   * @throws RuntimeException The provided vector X must neither contain NaN nor duplicated values.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'nearest' or 'linear'.
+   */
+  public static void interp1(final AbstractVector X, final AbstractVector Y, final AbstractVector XI, final AbstractVector YI, final String method, final double extrapolation_value) throws RuntimeException, IllegalArgumentException {
+    if (X.n_elem != Y.n_elem) {
+      throw new RuntimeException("Both provided vectors must have the same number of elements (" + X.n_elem + ", " + Y.n_elem + ").");
+    }
+
+    double[] result = interp1(X._data, Y._data, 1, XI._data, method, extrapolation_value);
+    YI.set_size(result.length);
+    System.arraycopy(result, 0, YI._data, 0, result.length);
+  }
+
+  /**
+   * Returns the nearest neighbour ({@code method} = "nearest") or linear ({@code method} = "linear") interpolation at
+   * the provided query points {@code XI} of each function given by a column of {@code Y} at the points {@code X}.
+   * <p>
+   * The {@code j}th column of the ({@code XI.n_elem}, {@code Y.n_cols})-matrix {@code YI} holds the interpolation of
+   * the {@code j}th column of {@code Y}. The intervals of all query points are located once and shared by all columns.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param X The points
+   * @param Y The values
+   * @param XI The query points
+   * @param YI The interpolated values
+   * @param method The interpolation method
+   * @param extrapolation_value The value of query points outside of [min(X), max(X)]
+   * 
+   * @throws RuntimeException The number of rows ({@code Y.n_rows}) must be equal to the number of points (
+   *           {@code X.n_elem}).
+   * @throws RuntimeException The provided vector X must have at least two elements.
+   * @throws RuntimeException The provided vector X must neither contain NaN nor duplicated values.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'nearest' or 'linear'.
+   */
+  public static void interp1(final AbstractVector X, final Mat Y, final AbstractVector XI, final Mat YI, final String method, final double extrapolation_value) throws RuntimeException, IllegalArgumentException {
+    if (Y.n_rows != X.n_elem) {
+      throw new RuntimeException("The number of rows (" + Y.n_rows + ") must be equal to the number of points (" + X.n_elem + ").");
+    }
+
+    int n_cols = Y.n_cols;
+    double[] result = interp1(X._data, Y._data, n_cols, XI._data, method, extrapolation_value);
+    YI.set_size(XI.n_elem, n_cols);
+    System.arraycopy(result, 0, YI._data, 0, result.length);
+  }
+
+  /**
+   * Returns the interpolation at the query points {@code XI} of each function given by a column of the (
+   * {@code X.length}, {@code n_cols})-matrix {@code Y} at the points {@code X}.
+   * <p>
+   * First, the interval of each query point is located, in parallel over blocks of query points. Afterwards, all
+   * values are interpolated in parallel over blocks of query points and columns.
+   * 
+   * @param X The points
+   * @param Y The values
+   * @param n_cols The number of columns of the values
+   * @param XI The query points
+   * @param method The interpolation method
+   * @param extrapolation_value The value of query points outside of [min(X), max(X)]
+   * @return The interpolated values
+   * 
+   * @throws RuntimeException The provided vector X must have at least two elements.
+   * @throws RuntimeException The provided vector X must neither contain NaN nor duplicated values.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'nearest' or 'linear'.
+   */
+  protected static double[] interp1(double[] X, double[] Y, final int n_cols, final double[] XI, final String method, final double extrapolation_value) throws RuntimeException, IllegalArgumentException {
+    final boolean nearest;
+    switch (method) {
+      case "nearest":
+        nearest = true;
+        break;
+      case "linear":
+        nearest = false;
+        break;
+      default:
+        throw new IllegalArgumentException("The specified method (" + method + ") must be one of 'nearest' or 'linear'.");
+    }
+
+    final int n = X.length;
+    if (n < 2) {
+      throw new RuntimeException("The provided vector X must have at least two elements.");
+    }
+
+    if (!isIncreasing(X, true)) {
+      double[] indices = new double[n];
+      stable_sort_index(indices, X, "ascend");
+
+      double[] sortedX = new double[n];
+      double[] sortedY = new double[Y.length];
+      for (int k = 0; k < n; k++) {
+        int index = (int) indices[k];
+        sortedX[k] = X[index];
+        for (int j = 0; j < n_cols; j++) {
+          sortedY[k + j * n] = Y[index + j * n];
+        }
+      }
+
+      if (!isIncreasing(sortedX, true)) {
+        throw new RuntimeException("The provided vector X must neither contain NaN nor duplicated values.");
+      }
+
+      X = sortedX;
+      Y = sortedY;
+    }
+
+    final double[] points = X;
+    final double[] values = Y;
+    final int m = XI.length;
+    final int[] intervals = new int[m];
+    final double[] weights = nearest ? null : new double[m];
+    final boolean isSorted = isIncreasing(XI, false);
+
+    Parallel.run(Parallel.numberOfBlocks((long) m * (isSorted ? 1 : 32 - Integer.numberOfLeadingZeros(n)), m), m, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        int k = (first < last && isSorted) ? upperBound(points, XI[first]) - 1 : 0;
+
+        for (int q = first; q < last; q++) {
+          double value = XI[q];
+
+          if (Double.isNaN(value)) {
+            intervals[q] = -2;
+            continue;
+          } else if (value < points[0] || value > points[n - 1]) {
+            intervals[q] = -1;
+            continue;
+          }
+
+          if (isSorted) {
+            while (k + 1 < n && points[k + 1] <= value) {
+              k++;
+            }
+          } else {
+            k = upperBound(points, value) - 1;
+          }
+
+          /*
+           * The interval [points[k], points[k + 1]] contains the query point, with k = n - 2 for the last point.
+           */
+          int lower = Math.min(k, n - 2);
+          if (nearest) {
+            intervals[q] = (points[lower + 1] - value < value - points[lower]) ? lower + 1 : lower;
+          } else {
+            intervals[q] = lower;
+            weights[q] = (value - points[lower]) / (points[lower + 1] - points[lower]);
+          }
+        }
+      }
+    });
+
+    final double[] result = new double[m * n_cols];
+    Parallel.run(Parallel.numberOfBlocks(result.length, result.length), result.length, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int p = first; p < last; p++) {
+          int q = p % m;
+          int offset = (p / m) * n;
+          int interval = intervals[q];
+
+          if (interval == -2) {
+            result[p] = Datum.nan;
+          } else if (interval == -1) {
+            result[p] = extrapolation_value;
+          } else if (nearest) {
+            result[p] = values[offset + interval];
+          } else {
+            /*
+             * The values at the points are returned exactly, even if their neighbours are not finite.
+             */
+            double weight = weights[q];
+            double lower = values[offset + interval];
+            if (weight == 0) {
+              result[p] = lower;
+            } else {
+              double upper = values[offset + interval + 1];
+              result[p] = (weight == 1) ? upper : lower + weight * (upper - lower);
+            }
+          }
+        }
+      }
+    });
+
+    return result;
+  }
+
   /**
    * Replaces the matrix with its tranpose in-place.
    * 
@@ -5283,6 +6492,7 @@ public class Arma {
           n++;
         }
       }
+      X._structure = X._structure.t();
     } else {
       X.inPlace(Op.EQUAL, X.t());
     }
@@ -5367,8 +6577,10 @@ public class Arma {
 
     Mat result = new Mat(A.n_rows + B.n_rows, A.n_cols);
 
-    new ViewSubRows(result, 0, A.n_rows).inPlace(Op.EQUAL, A);
-    new ViewSubRows(result, A.n_rows, B.n_rows).inPlace(Op.EQUAL, B);
+    for (int j = 0; j < result.n_cols; j++) {
+      System.arraycopy(A._data, j * A.n_rows, result._data, j * result.n_rows, A.n_rows);
+      System.arraycopy(B._data, j * B.n_rows, result._data, j * result.n_rows + A.n_rows, B.n_rows);
+    }
 
     return result;
   }
@@ -5382,20 +6594,40 @@ public class Arma {
    * @return TODO
    */
   public static Mat kron(final AbstractMat A, final AbstractMat B) {
-    Mat result = repmat(B, A.n_rows, A.n_cols);
+    final Mat result = new Mat(A.n_rows * B.n_rows, A.n_cols * B.n_cols);
 
-    int n = 0;
-    for (int j = 0; j < A.n_cols; j++) {
-      for (int i = 0; i < A.n_rows; i++) {
-        AbstractView subView = new ViewSubMat(result, i * B.n_rows, j * B.n_cols, B.n_rows, B.n_cols);
+    if (result.is_empty()) {
+      return result;
+    }
 
-        double value = A._data[n++];
-        subView.iteratorReset();
-        while (subView.iteratorHasNext()) {
-          result._data[subView.iteratorNext()] *= value;
+    /*
+     * Each column of the result consists of the scaled copies A(i, j) * B(:, jj) for all rows i of A. The columns are
+     * written in a single pass, in parallel over blocks of columns.
+     */
+    final double[] dataA = A._data;
+    final double[] dataB = B._data;
+    final int n_rowsA = A.n_rows;
+    final int n_rowsB = B.n_rows;
+    final int n_colsB = B.n_cols;
+
+    Parallel.run(Parallel.numberOfBlocks(result.n_elem, result.n_cols), result.n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int j = first; j < last; j++) {
+          int columnIndexA = (j / n_colsB) * n_rowsA;
+          int columnIndexB = (j % n_colsB) * n_rowsB;
+
+          int n = j * result.n_rows;
+          for (int i = 0; i < n_rowsA; i++) {
+            double factor = dataA[columnIndexA + i];
+
+            for (int ii = 0; ii < n_rowsB; ii++) {
+              result._data[n++] = factor * dataB[columnIndexB + ii];
+            }
+          }
         }
       }
-    }
+    });
 
     return result;
   }
@@ -5991,6 +7223,7 @@ public class Arma {
         n++;
       }
     }
+    result._structure = Structure.SYMMETRIC;
 
     return result;
   }
@@ -6027,6 +7260,7 @@ public class Arma {
         n++;
       }
     }
+    result._structure = Structure.SYMMETRIC;
 
     return result;
   }
@@ -6093,6 +7327,7 @@ public class Arma {
         n++;
       }
     }
+    result._structure = Structure.UPPER_TRIANGULAR;
 
     return result;
   }
@@ -6126,6 +7361,7 @@ public class Arma {
         n++;
       }
     }
+    result._structure = Structure.LOWER_TRIANGULAR;
 
     return result;
   }
@@ -6344,18 +7580,123 @@ public class Arma {
   }
 
   /**
-   * Performs an Eigen decomposition of the provided symmetric matrix and returns its eigenvalues.
+   * Updates the provided upper triangular Cholesky factor {@code R} of a matrix {@code X} in-place to the Cholesky
+   * factor of {@code X + x.times(x.t())}.
+   * <p>
+   * Requires O(n^2) operations, instead of O(n^3) for a new decomposition.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param R The Cholesky factor
+   * @param x The vector
+   * 
+   * @throws RuntimeException The provided ({@code R.n_rows}, {@code R.n_cols})-matrix must be square.
+   * @throws RuntimeException The provided matrix and vector must have the same number of rows ({@code R.n_rows} and
+   *           {@code x.n_elem}).
+   */
+  public static void chol_update(final Mat R, final AbstractVector x) throws RuntimeException {
+    validateCholeskyFactor(R, x);
+
+    int n = R.n_rows;
+    double[] temp = Arrays.copyOf(x._data, n);
+    for (int k = 0; k < n; k++) {
+      int diagonalIndex = k + k * n;
+      double diagonal = R._data[diagonalIndex];
+      double radius = Math.hypot(diagonal, temp[k]);
+      double c = radius / diagonal;
+      double s = temp[k] / diagonal;
+      R._data[diagonalIndex] = radius;
+
+      for (int j = k + 1; j < n; j++) {
+        int index = k + j * n;
+        R._data[index] = (R._data[index] + s * temp[j]) / c;
+        temp[j] = c * temp[j] - s * R._data[index];
+      }
+    }
+  }
+
+  /**
+   * Downdates the provided upper triangular Cholesky factor {@code R} of a matrix {@code X} in-place to the Cholesky
+   * factor of {@code X - x.times(x.t())}.
+   * <p>
+   * Requires O(n^2) operations, instead of O(n^3) for a new decomposition.
+   * <p>
+   * Returns {@code false} and leaves {@code R} unchanged if the downdated matrix is not positive-definite.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param X The matrix
+   * @param R The Cholesky factor
+   * @param x The vector
    * 
-   * @return TODO
+   * @return Whether the downdate succeeded
    * 
-   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must be square.
-   * @throws RuntimeException The decomposition could not be completed. Ensure that the provided matrix is symmetric.
+   * @throws RuntimeException The provided ({@code R.n_rows}, {@code R.n_cols})-matrix must be square.
+   * @throws RuntimeException The provided matrix and vector must have the same number of rows ({@code R.n_rows} and
+   *           {@code x.n_elem}).
    */
-  public static Col eig_sym(final Mat X) throws RuntimeException {
-    if (!X.is_square()) {
-      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must be square.");
+  public static boolean chol_downdate(final Mat R, final AbstractVector x) throws RuntimeException {
+    validateCholeskyFactor(R, x);
+
+    int n = R.n_rows;
+    double[] result = Arrays.copyOf(R._data, R.n_elem);
+    double[] temp = Arrays.copyOf(x._data, n);
+    for (int k = 0; k < n; k++) {
+      int diagonalIndex = k + k * n;
+      double diagonal = result[diagonalIndex];
+      double squaredRadius = (diagonal - temp[k]) * (diagonal + temp[k]);
+      if (!(squaredRadius > 0)) {
+        return false;
+      }
+
+      double radius = Math.sqrt(squaredRadius);
+      double c = radius / diagonal;
+      double s = temp[k] / diagonal;
+      result[diagonalIndex] = radius;
+
+      for (int j = k + 1; j < n; j++) {
+        int index = k + j * n;
+        result[index] = (result[index] - s * temp[j]) / c;
+        temp[j] = c * temp[j] - s * result[index];
+      }
+    }
+
+    System.arraycopy(result, 0, R._data, 0, R.n_elem);
+    return true;
+  }
+
+  /**
+   * Validates the arguments of a Cholesky update or downdate.
+   * 
+   * @param R The Cholesky factor
+   * @param x The vector
+   * 
+   * @throws RuntimeException The provided ({@code R.n_rows}, {@code R.n_cols})-matrix must be square.
+   * @throws RuntimeException The provided matrix and vector must have the same number of rows ({@code R.n_rows} and
+   *           {@code x.n_elem}).
+   */
+  protected static void validateCholeskyFactor(final Mat R, final AbstractVector x) throws RuntimeException {
+    if (!R.is_square()) {
+      throw new RuntimeException("The provided (" + R.n_rows + ", " + R.n_cols + ")-matrix must be square.");
+    }
+
+    if (R.n_rows != x.n_elem) {
+      throw new RuntimeException("The provided matrix and vector must have the same number of rows (" + R.n_rows + " and " + x.n_elem + ").");
+    }
+  }
+
+  /**
+   * Performs an Eigen decomposition of the provided symmetric matrix and returns its eigenvalues.
+   * 
+   * @param X The matrix
+   * 
+   * @return TODO
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must be square.
+   * @throws RuntimeException The decomposition could not be completed. Ensure that the provided matrix is symmetric.
+   */
+  public static Col eig_sym(final Mat X) throws RuntimeException {
+    if (!X.is_square()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must be square.");
     }
 
     Col eigval = new Col();
@@ -6380,18 +7721,11 @@ public class Arma {
       return false;
     }
 
-    double temp[] = Arrays.copyOf(X._data, X.n_elem);
-    eigval.set_size(X.n_rows);
-
-    double[] work = new double[Math.max(1, 3 * X.n_rows - 1)];
-    intW info = new intW(0);
-
-    LAPACK.getInstance().dsyev("N", "U", X.n_rows, temp, Math.max(1, X.n_rows), eigval._data, work, work.length, info);
-    if (info.val != 0) {
-      return false;
+    if (X._structure == Structure.DIAGONAL) {
+      return eigDiagonal(eigval, null, X);
     }
 
-    return true;
+    return eig_sym("N", eigval, Arrays.copyOf(X._data, X.n_elem), X.n_rows, defaultMethod(X));
   }
 
   /**
@@ -6407,192 +7741,967 @@ public class Arma {
    * @return TODO
    */
   public static boolean eig_sym(final AbstractVector eigval, final Mat eigvec, final Mat X) {
+    return eig_sym(eigval, eigvec, X, defaultMethod(X));
+  }
+
+  /**
+   * Performs an Eigen decomposition of the provided matrix and stores the eigenvalues in {@code eigval} and the
+   * corresponding eigenvectors in {@code eigvec}.
+   * <ul>
+   * <li>For {@code method} = "dc", the divide-and-conquer algorithm is used, which is considerably faster for large
+   * matrices.
+   * <li>For {@code method} = "std", the standard algorithm is used.
+   * </ul>
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * 
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors
+   * @param X The matrix
+   * @param method The algorithm
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'dc' or 'std'.
+   */
+  public static boolean eig_sym(final AbstractVector eigval, final Mat eigvec, final Mat X, final String method) throws IllegalArgumentException {
     if (!X.is_square()) {
       return false;
     }
 
+    if (X._structure == Structure.DIAGONAL) {
+      if (!method.equals("dc") && !method.equals("std")) {
+        throw new IllegalArgumentException("The specified method (" + method + ") must be one of 'dc' or 'std'.");
+      }
+
+      return eigDiagonal(eigval, eigvec, X);
+    }
+
     eigvec.inPlace(Op.EQUAL, X);
-    eigval.set_size(X.n_rows);
+    return eig_sym("V", eigval, eigvec._data, X.n_rows, method);
+  }
 
-    double[] work = new double[Math.max(1, 3 * X.n_rows - 1)];
-    intW info = new intW(0);
+  /**
+   * Performs an Eigen decomposition of the provided diagonal matrix, whose eigenvalues are its diagonal elements and
+   * whose eigenvectors are the corresponding unit vectors, in ascending order of the eigenvalues.
+   * <p>
+   * Returns {@code false} if the diagonal contains NaN.
+   * 
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors or null
+   * @param X The matrix
+   * 
+   * @return Whether the decomposition succeeded
+   */
+  protected static boolean eigDiagonal(final AbstractVector eigval, final Mat eigvec, final Mat X) {
+    double[] diagonal = Mat.diagonal(X);
+    for (double value : diagonal) {
+      if (Double.isNaN(value)) {
+        return false;
+      }
+    }
 
-    LAPACK.getInstance().dsyev("V", "U", X.n_rows, eigvec._data, Math.max(1, X.n_rows), eigval._data, work, work.length, info);
-    if (info.val != 0) {
-      return false;
+    double[] indices = new double[diagonal.length];
+    stable_sort_index(indices, diagonal, "ascend");
+
+    eigval.set_size(diagonal.length);
+    if (eigvec != null) {
+      eigvec.zeros(diagonal.length, diagonal.length);
+    }
+
+    for (int n = 0; n < diagonal.length; n++) {
+      int index = (int) indices[n];
+      eigval._data[n] = diagonal[index];
+
+      if (eigvec != null) {
+        eigvec._data[index + n * diagonal.length] = 1;
+      }
     }
 
     return true;
   }
 
   /**
-   * Returns the inverse of the provided symmetric and positive-definite matrix.
-   * <p>
-   * Use {@link #inv_sympd(Mat)} instead, if the provided matrix is known to be symmetric and positive-definite.
+   * Performs an Eigen decomposition of the provided symmetric (n, n)-matrix, overwriting {@code a} with the eigenvectors
+   * if {@code jobz} = "V".
    * 
-   * @param A The matrix
+   * @param jobz Either "N" (eigenvalues only) or "V" (eigenvalues and eigenvectors)
+   * @param eigval The storage of the eigenvalues
+   * @param a The matrix
+   * @param n The number of rows and columns
+   * @param method The algorithm
    * 
-   * @return TODO
+   * @return Whether the decomposition succeeded
    * 
-   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
-   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'dc' or 'std'.
    */
-  public static Mat inv(final Mat A) throws RuntimeException {
-    if (!A.is_square()) {
-      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
-    }
+  protected static boolean eig_sym(final String jobz, final AbstractVector eigval, final double[] a, final int n, final String method) throws IllegalArgumentException {
+    eigval.set_size(n);
+    intW info = new intW(0);
 
-    Mat B = new Mat();
-    if (!inv(B, A)) {
-      throw new RuntimeException("The calculation could not be completed. The provided matrix appears to be singular.");
+    switch (method) {
+      case "dc": {
+        /*
+         * Queries the optimal workspace sizes first.
+         */
+        double[] work = new double[1];
+        int[] iwork = new int[1];
+        LAPACK.getInstance().dsyevd(jobz, "U", n, a, Math.max(1, n), eigval._data, work, -1, iwork, -1, info);
+
+        work = new double[Math.max(1, (int) work[0])];
+        iwork = new int[Math.max(1, iwork[0])];
+        LAPACK.getInstance().dsyevd(jobz, "U", n, a, Math.max(1, n), eigval._data, work, work.length, iwork, iwork.length, info);
+        break;
+      }
+      case "std": {
+        double[] work = new double[Math.max(1, 3 * n - 1)];
+        LAPACK.getInstance().dsyev(jobz, "U", n, a, Math.max(1, n), eigval._data, work, work.length, info);
+        break;
+      }
+      default:
+        throw new IllegalArgumentException("The specified method (" + method + ") must be one of 'dc' or 'std'.");
     }
 
-    return B;
+    return (info.val == 0);
   }
 
   /**
-   * Calculates the inverse of the provided symmetric and positive-definite matrix and stores the result in {@code B}.
+   * Performs a partial Eigen decomposition of the provided symmetric matrix and stores the eigenvalues with index
+   * {@code first_index} to {@code last_index} (both included, in ascending order of all eigenvalues) in {@code eigval}.
    * <p>
-   * Returns {@code false} if the calculation failed.
+   * Only the requested eigenvalues are calculated, based on the relatively robust representations algorithm.
    * <p>
-   * Use {@link #inv_sympd(Mat, Mat)} instead, if the provided matrix is known to be symmetric and positive-definite.
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param B The storage of the inserve
-   * @param A The matrix
+   * @param eigval The storage of the eigenvalues
+   * @param X The matrix
+   * @param first_index The first index
+   * @param last_index The last index
    * 
-   * @return TODO
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IndexOutOfBoundsException The first specified index ({@code first_index}) is out of bounds.
+   * @throws IndexOutOfBoundsException The last specified index ({@code last_index}) is out of bounds.
    */
-  public static boolean inv(final Mat B, final Mat A) {
-    try {
-      B.inPlace(Op.EQUAL, A.i());
-    } catch(Exception e) {
-      return false;
-    }
-
-    return true;
+  public static boolean eig_sym_index(final AbstractVector eigval, final Mat X, final int first_index, final int last_index) throws IndexOutOfBoundsException {
+    return eig_sym_index(eigval, null, X, first_index, last_index);
   }
 
   /**
-   * Returns the inverse of the provided symmetric and positive-definite matrix.
+   * Performs a partial Eigen decomposition of the provided symmetric matrix and stores the eigenvalues with index
+   * {@code first_index} to {@code last_index} (both included, in ascending order of all eigenvalues) in {@code eigval}
+   * and the corresponding eigenvectors in {@code eigvec}.
    * <p>
-   * This method is faster than {@link #inv(Mat)} for matrices that are known to be symmetric and positive-definite.
+   * Only the requested eigenpairs are calculated, based on the relatively robust representations algorithm.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param A The matrix
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors
+   * @param X The matrix
+   * @param first_index The first index
+   * @param last_index The last index
    * 
-   * @return TODO
+   * @return Whether the decomposition succeeded
    * 
-   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
-   * @throws RuntimeException The inverse could not be computed. Ensure that the provided matrix is symmetric,
-   *           positive-definite and not singular.
+   * @throws IndexOutOfBoundsException The first specified index ({@code first_index}) is out of bounds.
+   * @throws IndexOutOfBoundsException The last specified index ({@code last_index}) is out of bounds.
    */
-  public static Mat inv_sympd(final Mat A) throws RuntimeException {
-    if (!A.is_square()) {
-      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
+  public static boolean eig_sym_index(final AbstractVector eigval, final Mat eigvec, final Mat X, final int first_index, final int last_index) throws IndexOutOfBoundsException {
+    if (!X.is_square()) {
+      return false;
     }
 
-    Mat B = new Mat();
+    if (first_index < 0 || first_index >= X.n_rows) {
+      throw new IndexOutOfBoundsException("The first specified index (" + first_index + ") is out of bounds.");
+    }
 
-    if (!inv_sympd(B, A)) {
-      throw new RuntimeException("The inverse could not be computed. Ensure that the provided matrix is symmetric, positive-definite and not singular.");
+    if (last_index < first_index || last_index >= X.n_rows) {
+      throw new IndexOutOfBoundsException("The last specified index (" + last_index + ") is out of bounds.");
     }
 
-    return B;
+    return eig_sym_subset(eigval, eigvec, X, "I", 0, 0, first_index + 1, last_index + 1);
   }
 
   /**
-   * Calculates the inverse of the provided symmetric and positive-definite matrix and stores the result in {@code B}.
+   * Performs a partial Eigen decomposition of the provided symmetric matrix and stores all eigenvalues within the
+   * half-open interval ({@code lower_bound}, {@code upper_bound}] in ascending order in {@code eigval}.
    * <p>
-   * Returns {@code false} if the calculation failed.
+   * Only the requested eigenvalues are calculated, based on the relatively robust representations algorithm.
    * <p>
-   * This method is faster than {@link #inv(Mat, Mat)} for matrices that are known to be symmetric and
-   * positive-definite.
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param B The storage of the inserve
-   * @param A The matrix
+   * @param eigval The storage of the eigenvalues
+   * @param X The matrix
+   * @param lower_bound The lower bound
+   * @param upper_bound The upper bound
    * 
-   * @return TODO
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The lower bound ({@code lower_bound}) must be less than the upper bound
+   *           ({@code upper_bound}).
    */
-  public static boolean inv_sympd(final Mat B, final Mat A) {
-    if (!A.is_square()) {
+  public static boolean eig_sym_interval(final AbstractVector eigval, final Mat X, final double lower_bound, final double upper_bound) throws IllegalArgumentException {
+    return eig_sym_interval(eigval, null, X, lower_bound, upper_bound);
+  }
+
+  /**
+   * Performs a partial Eigen decomposition of the provided symmetric matrix and stores all eigenvalues within the
+   * half-open interval ({@code lower_bound}, {@code upper_bound}] in ascending order in {@code eigval} and the
+   * corresponding eigenvectors in {@code eigvec}.
+   * <p>
+   * Only the requested eigenpairs are calculated, based on the relatively robust representations algorithm.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors
+   * @param X The matrix
+   * @param lower_bound The lower bound
+   * @param upper_bound The upper bound
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The lower bound ({@code lower_bound}) must be less than the upper bound
+   *           ({@code upper_bound}).
+   */
+  public static boolean eig_sym_interval(final AbstractVector eigval, final Mat eigvec, final Mat X, final double lower_bound, final double upper_bound) throws IllegalArgumentException {
+    if (!X.is_square()) {
       return false;
     }
 
-    B.inPlace(Op.EQUAL, A);
+    if (!(lower_bound < upper_bound)) {
+      throw new IllegalArgumentException("The lower bound (" + lower_bound + ") must be less than the upper bound (" + upper_bound + ").");
+    }
+
+    return eig_sym_subset(eigval, eigvec, X, "V", lower_bound, upper_bound, 0, 0);
+  }
+
+  /**
+   * Performs a partial Eigen decomposition of the provided symmetric matrix, selecting the eigenpairs either by index (
+   * {@code range} = "I") or by value ({@code range} = "V").
+   * 
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors or null, if only the eigenvalues are to be calculated
+   * @param X The matrix
+   * @param range Either "I" or "V"
+   * @param lower_bound The lower bound (exclusive) for {@code range} = "V"
+   * @param upper_bound The upper bound (inclusive) for {@code range} = "V"
+   * @param first_index The first index (1-based) for {@code range} = "I"
+   * @param last_index The last index (1-based) for {@code range} = "I"
+   * 
+   * @return Whether the decomposition succeeded
+   */
+  protected static boolean eig_sym_subset(final AbstractVector eigval, final Mat eigvec, final Mat X, final String range, final double lower_bound, final double upper_bound, final int first_index, final int last_index) {
+    int n = X.n_rows;
+    String jobz = (eigvec != null) ? "V" : "N";
+    int maximalNumberOfEigenvalues = range.equals("I") ? last_index - first_index + 1 : n;
+
+    double[] temp = Arrays.copyOf(X._data, X.n_elem);
+    double[] w = new double[Math.max(1, n)];
+    double[] z = new double[(eigvec != null) ? Math.max(1, n * maximalNumberOfEigenvalues) : 1];
+    int[] isuppz = new int[2 * Math.max(1, maximalNumberOfEigenvalues)];
+    double absoluteTolerance = LAPACK.getInstance().dlamch("S");
+    intW numberOfEigenvalues = new intW(0);
     intW info = new intW(0);
 
-    LAPACK.getInstance().dpotrf("U", A.n_rows, B._data, Math.max(1, A.n_rows), info);
-    if (info.val != 0) {
-      return false;
-    }
+    /*
+     * Queries the optimal workspace sizes first.
+     */
+    double[] work = new double[1];
+    int[] iwork = new int[1];
+    LAPACK.getInstance().dsyevr(jobz, range, "U", n, temp, Math.max(1, n), lower_bound, upper_bound, first_index, last_index, absoluteTolerance, numberOfEigenvalues, w, z, Math.max(1, n), isuppz, work, -1, iwork, -1, info);
+
+    work = new double[Math.max(1, (int) work[0])];
+    iwork = new int[Math.max(1, iwork[0])];
+    LAPACK.getInstance().dsyevr(jobz, range, "U", n, temp, Math.max(1, n), lower_bound, upper_bound, first_index, last_index, absoluteTolerance, numberOfEigenvalues, w, z, Math.max(1, n), isuppz, work, work.length, iwork, iwork.length, info);
 
-    LAPACK.getInstance().dpotri("U", A.n_rows, B._data, Math.max(1, A.n_rows), info);
     if (info.val != 0) {
       return false;
     }
 
-    int n = 0;
-    for (int i = 0; i < B.n_rows; i++) {
-      for (int j = 0; j < B.n_cols; j++) {
-        if (i > j) {
-          B._data[i + j * B.n_rows] = B._data[n];
-        }
-        n++;
-      }
+    eigval.set_size(numberOfEigenvalues.val);
+    System.arraycopy(w, 0, eigval._data, 0, numberOfEigenvalues.val);
+
+    if (eigvec != null) {
+      eigvec.set_size(n, numberOfEigenvalues.val);
+      System.arraycopy(z, 0, eigvec._data, 0, eigvec.n_elem);
     }
 
     return true;
   }
 
   /**
-   * Performs a Lower-upper decomposition (with partial pivoting) of the provided matrix and stores the lower-triangular
-   * matrix in {@code L}, the upper-triangular matrix in {@code U} and the permutation matrix in {@code P}, such that
-   * {@code trans(P).times(L).times(U) = X}.
+   * Returns the {@code k} eigenvalues of largest magnitude of the provided symmetric matrix in ascending order.
    * <p>
-   * Returns {@code false} if the decomposition failed.
+   * See {@link #eigs_sym(AbstractVector, Mat, LinearOperator, int, String, double)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ provides {@code eigs_sym} only for sparse matrices.
    * 
-   * @param L The storage of the lower-triangular matrix
-   * @param U The storage of the upper-triangular matrix
-   * @param P The storage of the permutation matrix
    * @param X The matrix
+   * @param k The number of eigenvalues
    * 
-   * @return TODO
+   * @return The eigenvalues
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must be square.
+   * @throws RuntimeException The algorithm failed to converge.
+   * @throws IllegalArgumentException The number of eigenvalues ({@code k}) must be within [1, {@code X.n_rows}].
    */
-  public static boolean lu(final Mat L, final Mat U, final Mat P, final Mat X) {
-    U.inPlace(Op.EQUAL, X);
-
-    int[] pivotIndices = new int[Math.min(X.n_rows, X.n_cols)];
-    intW info = new intW(0);
+  public static Col eigs_sym(final Mat X, final int k) throws RuntimeException, IllegalArgumentException {
+    return eigs_sym(X, k, "lm");
+  }
 
-    LAPACK.getInstance().dgetrf(X.n_rows, X.n_cols, U._data, X.n_rows, pivotIndices, info);
-    if (info.val != 0) {
-      return false;
+  /**
+   * Returns {@code k} eigenvalues of the provided symmetric matrix in ascending order.
+   * <p>
+   * See {@link #eigs_sym(AbstractVector, Mat, LinearOperator, int, String, double)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ provides {@code eigs_sym} only for sparse matrices.
+   * 
+   * @param X The matrix
+   * @param k The number of eigenvalues
+   * @param form The eigenvalues to be calculated
+   * 
+   * @return The eigenvalues
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must be square.
+   * @throws RuntimeException The algorithm failed to converge.
+   * @throws IllegalArgumentException The number of eigenvalues ({@code k}) must be within [1, {@code X.n_rows}].
+   * @throws IllegalArgumentException The specified form ({@code form}) must be one of 'lm', 'la' or 'sa'.
+   */
+  public static Col eigs_sym(final Mat X, final int k, final String form) throws RuntimeException, IllegalArgumentException {
+    if (!X.is_square()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must be square.");
     }
 
-    L.copy_size(U);
-
-    int n = 0;
-    for (int j = 0; j < X.n_cols; j++) {
-      for (int i = 0; i < X.n_rows; i++) {
-        if (i < j) {
-          /*
-           * strict upper triangle
-           */
-          L._data[n] = 0;
-        } else if (i == j) {
-          /*
-           * main diagonal
-           */
-          L._data[n] = 1;
-        } else {
-          /*
-           * strict lower triangle
-           */
-          L._data[n] = U._data[n];
-          U._data[n] = 0;
-        }
-
-        n++;
-      }
+    Col eigval = new Col();
+    if (!eigs_sym(eigval, null, new MatOperator(X), k, form, 0)) {
+      throw new RuntimeException("The algorithm failed to converge.");
+    }
+
+    return eigval;
+  }
+
+  /**
+   * Returns the {@code k} eigenvalues of largest magnitude of the provided symmetric linear operator in ascending
+   * order.
+   * <p>
+   * See {@link #eigs_sym(AbstractVector, Mat, LinearOperator, int, String, double)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param A The linear operator
+   * @param k The number of eigenvalues
+   * 
+   * @return The eigenvalues
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows()}, {@code A.n_cols()})-operator must be square.
+   * @throws RuntimeException The algorithm failed to converge.
+   * @throws IllegalArgumentException The number of eigenvalues ({@code k}) must be within [1, {@code A.n_rows()}].
+   */
+  public static Col eigs_sym(final LinearOperator A, final int k) throws RuntimeException, IllegalArgumentException {
+    if (A.n_rows() != A.n_cols()) {
+      throw new RuntimeException("The provided (" + A.n_rows() + ", " + A.n_cols() + ")-operator must be square.");
+    }
+
+    Col eigval = new Col();
+    if (!eigs_sym(eigval, null, A, k, "lm", 0)) {
+      throw new RuntimeException("The algorithm failed to converge.");
+    }
+
+    return eigval;
+  }
+
+  /**
+   * Performs a partial Eigen decomposition of the provided symmetric matrix and stores the {@code k} eigenvalues of
+   * largest magnitude in ascending order in {@code eigval} and the corresponding eigenvectors in {@code eigvec}.
+   * <p>
+   * See {@link #eigs_sym(AbstractVector, Mat, LinearOperator, int, String, double)} for details.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ provides {@code eigs_sym} only for sparse matrices.
+   * 
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors
+   * @param X The matrix
+   * @param k The number of eigenvalues
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The number of eigenvalues ({@code k}) must be within [1, {@code X.n_rows}].
+   */
+  public static boolean eigs_sym(final AbstractVector eigval, final Mat eigvec, final Mat X, final int k) throws IllegalArgumentException {
+    return eigs_sym(eigval, eigvec, X, k, "lm", 0);
+  }
+
+  /**
+   * Performs a partial Eigen decomposition of the provided symmetric matrix and stores {@code k} eigenvalues in
+   * ascending order in {@code eigval} and the corresponding eigenvectors in {@code eigvec}.
+   * <p>
+   * See {@link #eigs_sym(AbstractVector, Mat, LinearOperator, int, String, double)} for details.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ provides {@code eigs_sym} only for sparse matrices.
+   * 
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors
+   * @param X The matrix
+   * @param k The number of eigenvalues
+   * @param form The eigenvalues to be calculated
+   * @param tolerance The tolerance
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The number of eigenvalues ({@code k}) must be within [1, {@code X.n_rows}].
+   * @throws IllegalArgumentException The specified form ({@code form}) must be one of 'lm', 'la' or 'sa'.
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be positive.
+   */
+  public static boolean eigs_sym(final AbstractVector eigval, final Mat eigvec, final Mat X, final int k, final String form, final double tolerance) throws IllegalArgumentException {
+    if (!X.is_square()) {
+      return false;
+    }
+
+    return eigs_sym(eigval, eigvec, new MatOperator(X), k, form, tolerance);
+  }
+
+  /**
+   * Performs a partial Eigen decomposition of the provided symmetric linear operator and stores {@code k} eigenvalues
+   * in ascending order in {@code eigval} and the corresponding eigenvectors in {@code eigvec}.
+   * <ul>
+   * <li>For {@code form} = "lm", the eigenvalues of largest magnitude are calculated.
+   * <li>For {@code form} = "la", the largest eigenvalues are calculated.
+   * <li>For {@code form} = "sa", the smallest eigenvalues are calculated.
+   * </ul>
+   * <p>
+   * The decomposition is based on a restarted Lanczos algorithm, requiring only matrix-vector products with
+   * {@code A}. Its memory requirement is O(n * k). The Krylov subspace is restarted with the most wanted Ritz vectors
+   * (thick restart), which is equivalent to an implicit restart with exact shifts. An eigenpair is considered as
+   * converged, if its residual norm is at most {@code tolerance} times its eigenvalue (in magnitude). A tolerance of
+   * 0 is replaced by the machine precision.
+   * <p>
+   * The starting vector is drawn from {@link RNG} and is therefore reproducible by {@link RNG#set_seed(long)}.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param eigval The storage of the eigenvalues
+   * @param eigvec The storage of the eigenvectors or null, if only the eigenvalues are to be stored
+   * @param A The linear operator
+   * @param k The number of eigenvalues
+   * @param form The eigenvalues to be calculated
+   * @param tolerance The tolerance
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The number of eigenvalues ({@code k}) must be within [1, {@code A.n_rows()}].
+   * @throws IllegalArgumentException The specified form ({@code form}) must be one of 'lm', 'la' or 'sa'.
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be positive.
+   */
+  public static boolean eigs_sym(final AbstractVector eigval, final Mat eigvec, final LinearOperator A, final int k, final String form, double tolerance) throws IllegalArgumentException {
+    if (A.n_rows() != A.n_cols()) {
+      return false;
+    }
+
+    final int n = A.n_rows();
+    if (k < 1 || k > n) {
+      throw new IllegalArgumentException("The number of eigenvalues (" + k + ") must be within [1, " + n + "].");
+    }
+
+    switch (form) {
+      case "lm":
+      case "la":
+      case "sa":
+        break;
+      default:
+        throw new IllegalArgumentException("The specified form (" + form + ") must be one of 'lm', 'la' or 'sa'.");
+    }
+
+    if (tolerance < 0) {
+      throw new IllegalArgumentException("The specified tolerance (" + tolerance + ") must be positive.");
+    }
+
+    if (tolerance == 0) {
+      tolerance = Datum.eps;
+    }
+
+    /*
+     * The size of the Krylov subspace and the number of Ritz vectors kept per restart.
+     */
+    final int m = Math.min(n, Math.max(2 * k + 1, k + 20));
+    final int l = (m > k) ? k + (m - k) / 2 : k;
+
+    /*
+     * Lanczos basis (column-wise) and the projection of A onto it.
+     */
+    double[] basis = new double[n * (m + 1)];
+    Mat T = new Mat(m, m, Fill.ZEROS);
+    double[] h = new double[m + 1];
+    double residualNorm = 0;
+
+    randomOrthonormalColumn(basis, n, 0);
+
+    int first = 0;
+    Col theta = new Col();
+    Mat S = new Mat();
+    int[] order = new int[m];
+
+    for (int restart = 0; restart < 1000; restart++) {
+      for (int j = first; j < m; j++) {
+        Col v = new Col(n);
+        System.arraycopy(basis, j * n, v._data, 0, n);
+        double[] w = A.times(v)._data;
+
+        /*
+         * Full reorthogonalisation with two passes of classical Gram-Schmidt, as the Lanczos vectors otherwise lose
+         * their orthogonality once Ritz values converge. The Gram-Schmidt coefficients form the upper triangle of the
+         * projected matrix, which is not tridiagonal after a restart.
+         */
+        Arrays.fill(h, 0);
+        for (int pass = 0; pass < 2; pass++) {
+          double[] coefficients = new double[j + 1];
+          BLAS.getInstance().dgemv("T", n, j + 1, 1, basis, n, w, 1, 0, coefficients, 1);
+          BLAS.getInstance().dgemv("N", n, j + 1, -1, basis, n, coefficients, 1, 1, w, 1);
+          for (int i = 0; i <= j; i++) {
+            h[i] += coefficients[i];
+          }
+        }
+
+        for (int i = 0; i <= j; i++) {
+          T._data[i + j * m] = h[i];
+          T._data[j + i * m] = h[i];
+        }
+
+        residualNorm = BLAS.getInstance().dnrm2(n, w, 1);
+        if (j + 1 < n && residualNorm <= Datum.eps * Math.max(1, Math.abs(h[j]))) {
+          /*
+           * An invariant subspace was found. The basis is continued by a random direction, decoupled from the current
+           * one.
+           */
+          residualNorm = 0;
+          randomOrthonormalColumn(basis, n, j + 1);
+        } else if (j + 1 < n) {
+          BLAS.getInstance().dscal(n, 1 / residualNorm, w, 1);
+          System.arraycopy(w, 0, basis, (j + 1) * n, n);
+        } else {
+          residualNorm = 0;
+        }
+
+        if (j + 1 < m) {
+          T._data[(j + 1) + j * m] = residualNorm;
+          T._data[j + (j + 1) * m] = residualNorm;
+        }
+      }
+
+      if (!eig_sym(theta, S, T)) {
+        return false;
+      }
+
+      sortRitzValues(theta, form, order);
+
+      boolean converged = true;
+      for (int i = 0; i < k; i++) {
+        int index = order[i];
+        double residual = Math.abs(residualNorm * S._data[(m - 1) + index * m]);
+        if (residual > tolerance * Math.max(Math.pow(Datum.eps, 2.0 / 3.0), Math.abs(theta._data[index]))) {
+          converged = false;
+          break;
+        }
+      }
+
+      int n_kept = converged ? k : l;
+
+      /*
+       * The kept Ritz vectors are the new leading basis vectors, followed by the current residual direction.
+       */
+      double[] coefficients = new double[m * n_kept];
+      for (int i = 0; i < n_kept; i++) {
+        System.arraycopy(S._data, order[i] * m, coefficients, i * m, m);
+      }
+      double[] ritzVectors = new double[n * n_kept];
+      BLAS.getInstance().dgemm("N", "N", n, n_kept, m, 1, basis, n, coefficients, m, 0, ritzVectors, n);
+
+      if (converged) {
+        /*
+         * Sorts the wanted eigenpairs in ascending order of their eigenvalues.
+         */
+        Integer[] ascending = new Integer[k];
+        for (int i = 0; i < k; i++) {
+          ascending[i] = i;
+        }
+        final double[] values = new double[k];
+        for (int i = 0; i < k; i++) {
+          values[i] = theta._data[order[i]];
+        }
+        Arrays.sort(ascending, new Comparator<Integer>() {
+          @Override
+          public int compare(final Integer a, final Integer b) {
+            return Double.compare(values[a], values[b]);
+          }
+        });
+
+        eigval.set_size(k);
+        if (eigvec != null) {
+          eigvec.set_size(n, k);
+        }
+        for (int i = 0; i < k; i++) {
+          eigval._data[i] = values[ascending[i]];
+          if (eigvec != null) {
+            System.arraycopy(ritzVectors, ascending[i] * n, eigvec._data, i * n, n);
+          }
+        }
+
+        return true;
+      }
+
+      System.arraycopy(basis, m * n, basis, n_kept * n, n);
+      System.arraycopy(ritzVectors, 0, basis, 0, n * n_kept);
+
+      T.zeros();
+      for (int i = 0; i < n_kept; i++) {
+        T._data[i + i * m] = theta._data[order[i]];
+      }
+      first = n_kept;
+    }
+
+    return false;
+  }
+
+  /**
+   * Sorts the indices of the provided Ritz values by their wantedness, such that the {@code order[0]}th Ritz value is
+   * the most wanted one.
+   * 
+   * @param theta The Ritz values in ascending order
+   * @param form The eigenvalues to be calculated
+   * @param order The storage of the indices
+   */
+  protected static void sortRitzValues(final Col theta, final String form, final int[] order) {
+    int m = theta.n_elem;
+
+    switch (form) {
+      case "la":
+        for (int i = 0; i < m; i++) {
+          order[i] = m - 1 - i;
+        }
+        break;
+      case "sa":
+        for (int i = 0; i < m; i++) {
+          order[i] = i;
+        }
+        break;
+      default:
+        /*
+         * Merges both ends of the ascending Ritz values by their magnitude.
+         */
+        int lower = 0;
+        int upper = m - 1;
+        for (int i = 0; i < m; i++) {
+          if (Math.abs(theta._data[upper]) >= Math.abs(theta._data[lower])) {
+            order[i] = upper--;
+          } else {
+            order[i] = lower++;
+          }
+        }
+        break;
+    }
+  }
+
+  /**
+   * Sets the {@code j}th column of the provided (n, j + 1)-basis to a random unit vector, orthogonal to all previous
+   * columns.
+   * 
+   * @param basis The basis
+   * @param n The number of rows
+   * @param j The column
+   */
+  protected static void randomOrthonormalColumn(final double[] basis, final int n, final int j) {
+    double[] v = new double[n];
+
+    double norm = 0;
+    while (norm == 0) {
+      for (int i = 0; i < n; i++) {
+        v[i] = RNG._rng.nextGaussian();
+      }
+
+      if (j > 0) {
+        for (int pass = 0; pass < 2; pass++) {
+          double[] coefficients = new double[j];
+          BLAS.getInstance().dgemv("T", n, j, 1, basis, n, v, 1, 0, coefficients, 1);
+          BLAS.getInstance().dgemv("N", n, j, -1, basis, n, coefficients, 1, 1, v, 1);
+        }
+      }
+
+      norm = BLAS.getInstance().dnrm2(n, v, 1);
+    }
+
+    BLAS.getInstance().dscal(n, 1 / norm, v, 1);
+    System.arraycopy(v, 0, basis, j * n, n);
+  }
+
+  /**
+   * Returns the inverse of the provided symmetric and positive-definite matrix.
+   * <p>
+   * Use {@link #inv_sympd(Mat)} instead, if the provided matrix is known to be symmetric and positive-definite.
+   * 
+   * @param A The matrix
+   * 
+   * @return TODO
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   */
+  public static Mat inv(final Mat A) throws RuntimeException {
+    if (!A.is_square()) {
+      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
+    }
+
+    Mat B = new Mat();
+    if (!inv(B, A)) {
+      throw new RuntimeException("The calculation could not be completed. The provided matrix appears to be singular.");
+    }
+
+    return B;
+  }
+
+  /**
+   * Calculates the inverse of the provided symmetric and positive-definite matrix and stores the result in {@code B}.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * <p>
+   * Use {@link #inv_sympd(Mat, Mat)} instead, if the provided matrix is known to be symmetric and positive-definite.
+   * 
+   * @param B The storage of the inserve
+   * @param A The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean inv(final Mat B, final Mat A) {
+    try {
+      Mat inverse = A.i();
+      B.inPlace(Op.EQUAL, inverse);
+      B._structure = inverse._structure;
+    } catch(Exception e) {
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the inverse of the provided symmetric and positive-definite matrix.
+   * <p>
+   * This method is faster than {@link #inv(Mat)} for matrices that are known to be symmetric and positive-definite.
+   * 
+   * @param A The matrix
+   * 
+   * @return TODO
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException The inverse could not be computed. Ensure that the provided matrix is symmetric,
+   *           positive-definite and not singular.
+   */
+  public static Mat inv_sympd(final Mat A) throws RuntimeException {
+    if (!A.is_square()) {
+      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
+    }
+
+    Mat B = new Mat();
+
+    if (!inv_sympd(B, A)) {
+      throw new RuntimeException("The inverse could not be computed. Ensure that the provided matrix is symmetric, positive-definite and not singular.");
+    }
+
+    return B;
+  }
+
+  /**
+   * Calculates the inverse of the provided symmetric and positive-definite matrix and stores the result in {@code B}.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * <p>
+   * This method is faster than {@link #inv(Mat, Mat)} for matrices that are known to be symmetric and
+   * positive-definite.
+   * 
+   * @param B The storage of the inserve
+   * @param A The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean inv_sympd(final Mat B, final Mat A) {
+    if (!A.is_square()) {
+      return false;
+    }
+
+    B.inPlace(Op.EQUAL, A);
+    intW info = new intW(0);
+
+    LAPACK.getInstance().dpotrf("U", A.n_rows, B._data, Math.max(1, A.n_rows), info);
+    if (info.val != 0) {
+      return false;
+    }
+
+    LAPACK.getInstance().dpotri("U", A.n_rows, B._data, Math.max(1, A.n_rows), info);
+    if (info.val != 0) {
+      return false;
+    }
+
+    int n = 0;
+    for (int i = 0; i < B.n_rows; i++) {
+      for (int j = 0; j < B.n_cols; j++) {
+        if (i > j) {
+          B._data[i + j * B.n_rows] = B._data[n];
+        }
+        n++;
+      }
+    }
+    B._structure = Structure.SYMMETRIC;
+
+    return true;
+  }
+
+  /**
+   * Performs a Lower-upper decomposition (with partial pivoting) of the provided matrix and stores the lower-triangular
+   * matrix in {@code L}, the upper-triangular matrix in {@code U} and the permutation matrix in {@code P}, such that
+   * {@code trans(P).times(L).times(U) = X}.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * 
+   * @param L The storage of the lower-triangular matrix
+   * @param U The storage of the upper-triangular matrix
+   * @param P The storage of the permutation matrix
+   * @param X The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean lu(final Mat L, final Mat U, final Mat P, final Mat X) {
+    U.inPlace(Op.EQUAL, X);
+
+    int[] pivotIndices = new int[Math.min(X.n_rows, X.n_cols)];
+    intW info = new intW(0);
+
+    LAPACK.getInstance().dgetrf(X.n_rows, X.n_cols, U._data, X.n_rows, pivotIndices, info);
+    if (info.val != 0) {
+      return false;
+    }
+
+    L.copy_size(U);
+
+    int n = 0;
+    for (int j = 0; j < X.n_cols; j++) {
+      for (int i = 0; i < X.n_rows; i++) {
+        if (i < j) {
+          /*
+           * strict upper triangle
+           */
+          L._data[n] = 0;
+        } else if (i == j) {
+          /*
+           * main diagonal
+           */
+          L._data[n] = 1;
+        } else {
+          /*
+           * strict lower triangle
+           */
+          L._data[n] = U._data[n];
+          U._data[n] = 0;
+        }
+
+        n++;
+      }
+    }
+
+    int[] pivotVector = new int[X.n_rows];
+    for (int nn = 0; nn < pivotVector.length; nn++) {
+      pivotVector[nn] = nn;
+    }
+
+    for (int nn = 0; nn < pivotIndices.length; nn++) {
+      int nnn = pivotIndices[nn] - 1;
+
+      if (pivotVector[nn] != pivotVector[nnn]) {
+        int temp = pivotVector[nn];
+        pivotVector[nn] = pivotVector[nnn];
+        pivotVector[nnn] = temp;
+      }
+    }
+
+    P.zeros(X.n_rows, X.n_rows);
+    for (int i = 0; i < P.n_rows; i++) {
+      P._data[i + pivotVector[i] * P.n_rows] = 1;
+    }
+
+    if (L.n_cols > U.n_rows) {
+      L.shed_cols(U.n_rows, L.n_cols - 1);
+    }
+
+    if (U.n_rows > L.n_cols) {
+      U.shed_rows(L.n_cols, U.n_rows - 1);
+    }
+
+    return true;
+  }
+
+  /**
+   * Performs a Lower-upper decomposition (with partial pivoting) of the provided matrix and stores the permuted
+   * lower-triangular matrix in {@code L} and the permuted upper-triangular matrix in {@code U}, such that
+   * {@code L.times(U) = X}.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * 
+   * @param L The storage of the permuted lower-triangular matrix
+   * @param U The storage of the permuted upper-triangular matrix
+   * @param X The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean lu(final Mat L, final Mat U, final Mat X) {
+    U.inPlace(Op.EQUAL, X);
+
+    int[] pivotIndices = new int[Math.min(X.n_rows, X.n_cols)];
+    intW info = new intW(0);
+
+    LAPACK.getInstance().dgetrf(X.n_rows, X.n_cols, U._data, X.n_rows, pivotIndices, info);
+    if (info.val != 0) {
+      return false;
+    }
+
+    L.copy_size(U);
+
+    int n = 0;
+    for (int j = 0; j < X.n_cols; j++)
+    {
+      for (int i = 0; i < X.n_rows; i++)
+      {
+        if (i < j) {
+          /*
+           * strict upper triangle
+           */
+          L._data[n] = 0;
+        } else if (i == j) {
+          /*
+           * main diagonal
+           */
+          L._data[n] = 1;
+        } else {
+          /*
+           * strict lower triangle
+           */
+          L._data[n] = U._data[n];
+          U._data[n] = 0;
+        }
+        n++;
+      }
     }
 
     int[] pivotVector = new int[X.n_rows];
@@ -6600,619 +8709,1723 @@ public class Arma {
       pivotVector[nn] = nn;
     }
 
-    for (int nn = 0; nn < pivotIndices.length; nn++) {
-      int nnn = pivotIndices[nn] - 1;
+    for (int nn = 0; nn < pivotIndices.length; nn++) {
+      int nnn = pivotIndices[nn] - 1;
+
+      if (pivotVector[nn] != pivotVector[nnn]) {
+        int temp = pivotVector[nn];
+        pivotVector[nn] = pivotVector[nnn];
+        pivotVector[nnn] = temp;
+
+        L.swap_rows(pivotVector[nn], pivotVector[nnn]);
+      }
+    }
+
+    if (L.n_cols > U.n_rows) {
+      L.shed_cols(U.n_rows, L.n_cols - 1);
+    }
+
+    if (U.n_rows > L.n_cols) {
+      U.shed_rows(L.n_cols, U.n_rows - 1);
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the Moore-Penrose pseudo-inverse of the provided matrix while treating any singular value below
+   * {@code Math.max(A.n_rows, A.n_cols) * norm(A, 2) * Datum.eps} as zero.
+   * 
+   * @param A The matrix
+   * 
+   * @return The pseudo-inverse
+   * 
+   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   */
+  public static Mat pinv(final Mat A) throws RuntimeException {
+    Mat B = new Mat();
+    if (!pinv(B, A, 0, defaultMethod(A), true)) {
+      throw new RuntimeException("The calculation could not be completed. The provided matrix appears to be singular.");
+    }
+
+    return B;
+  }
+
+  /**
+   * Returns the Moore-Penrose pseudo-inverse of the provided matrix while treating any singular value below the
+   * specified tolerance as zero.
+   * 
+   * @param A The matrix
+   * @param tolerance The tolerance
+   * 
+   * @return The pseudo-inverse
+   * 
+   * @throws RuntimeException The specified tolerance must be positive.
+   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   */
+  public static Mat pinv(final Mat A, final double tolerance) throws RuntimeException {
+    return pinv(A, tolerance, defaultMethod(A));
+  }
+
+  /**
+   * Returns the Moore-Penrose pseudo-inverse of the provided matrix while treating any singular value below the
+   * specified tolerance as zero.
+   * <ul>
+   * <li>For {@code method} = "dc", the divide-and-conquer algorithm is used, which is considerably faster for large
+   * matrices.
+   * <li>For {@code method} = "std", the standard algorithm is used.
+   * </ul>
+   * 
+   * @param A The matrix
+   * @param tolerance The tolerance
+   * @param method The algorithm
+   * 
+   * @return The pseudo-inverse
+   * 
+   * @throws RuntimeException The specified tolerance must be positive.
+   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'dc' or 'std'.
+   */
+  public static Mat pinv(final Mat A, final double tolerance, final String method) throws RuntimeException, IllegalArgumentException {
+    /*
+     * The parameters "tolerance" and "method" are validated within pinv(Mat, Mat, double, String, boolean).
+     */
+
+    Mat B = new Mat();
+    if (!pinv(B, A, tolerance, method, false)) {
+      throw new RuntimeException("The calculation could not be completed. The provided matrix appears to be singular.");
+    }
+
+    return B;
+  }
+
+  /**
+   * Calculates the Moore-Penrose pseudo-inverse of the provided matrix and stores the inverse in {@code B} while
+   * treating any singular value below {@code Math.max(A.n_rows, A.n_cols) * norm(A, 2) * Datum.eps} as zero.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * 
+   * @param B The storage of the inverse
+   * @param A The matrix
+   * 
+   * @return Whether the calculation succeeded
+   */
+  public static boolean pinv(final Mat B, final Mat A) {
+    return pinv(B, A, 0, defaultMethod(A), true);
+  }
+
+  /**
+   * Calculates the Moore-Penrose pseudo-inverse of the provided matrix and stores the inverse in {@code B} while
+   * treating any singular value below the specified tolerance as zero.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * 
+   * @param B The storage of the inverse
+   * @param A The matrix
+   * @param tolerance The tolerance
+   * 
+   * @return Whether the calculation succeeded
+   * 
+   * @throws RuntimeException The specified tolerance must be positive.
+   */
+  public static boolean pinv(final Mat B, final Mat A, final double tolerance) throws RuntimeException {
+    return pinv(B, A, tolerance, defaultMethod(A));
+  }
+
+  /**
+   * Calculates the Moore-Penrose pseudo-inverse of the provided matrix and stores the inverse in {@code B} while
+   * treating any singular value below the specified tolerance as zero.
+   * <ul>
+   * <li>For {@code method} = "dc", the divide-and-conquer algorithm is used, which is considerably faster for large
+   * matrices.
+   * <li>For {@code method} = "std", the standard algorithm is used.
+   * </ul>
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * 
+   * @param B The storage of the inverse
+   * @param A The matrix
+   * @param tolerance The tolerance
+   * @param method The algorithm
+   * 
+   * @return Whether the calculation succeeded
+   * 
+   * @throws RuntimeException The specified tolerance must be positive.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'dc' or 'std'.
+   */
+  public static boolean pinv(final Mat B, final Mat A, final double tolerance, final String method) throws RuntimeException, IllegalArgumentException {
+    return pinv(B, A, tolerance, method, false);
+  }
+
+  /**
+   * Calculates the Moore-Penrose pseudo-inverse of the provided matrix and stores the inverse in {@code B}.
+   * <p>
+   * If {@code scaledTolerance} is true, any singular value below {@code Math.max(A.n_rows, A.n_cols) * norm(A, 2) *
+   * Datum.eps} is treated as zero, using the singular values at hand instead of an additional decomposition within
+   * {@code norm(A, 2)}.
+   * 
+   * @param B The storage of the inverse
+   * @param A The matrix
+   * @param tolerance The tolerance
+   * @param method The algorithm
+   * @param scaledTolerance Whether the tolerance is scaled by the largest singular value
+   * 
+   * @return Whether the calculation succeeded
+   * 
+   * @throws RuntimeException The specified tolerance must be positive.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'dc' or 'std'.
+   */
+  protected static boolean pinv(final Mat B, final Mat A, double tolerance, final String method, final boolean scaledTolerance) throws RuntimeException, IllegalArgumentException {
+    if (tolerance < 0) {
+      throw new RuntimeException("The specified tolerance must be positive.");
+    }
+
+    if (A.is_empty()) {
+      B.zeros(A.n_cols, A.n_rows);
+      return true;
+    }
+
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+
+    boolean status;
+
+    if (A.n_cols > A.n_rows) {
+      status = svd_econ(U, s, V, A.t(), "both", method);
+    } else {
+      status = svd_econ(U, s, V, A, "both", method);
+    }
+
+    if (status == false) {
+      return false;
+    }
+
+    /*
+     * The pseudo-inverse of a zero matrix is a zero matrix of transposed shape. This is handled explicitly, as the
+     * default tolerance would be 0 in this case.
+     */
+    if (s.max() == 0) {
+      B.zeros(A.n_cols, A.n_rows);
+      return true;
+    }
+
+    if (scaledTolerance) {
+      tolerance = Math.max(A.n_rows, A.n_cols) * s.max() * Datum.eps;
+    } else if (tolerance == 0) {
+      tolerance = Math.max(A.n_rows, A.n_cols) * Math.ulp(s.max());
+    }
+
+    int count = 0;
+    for (int n = 0; n < s.n_elem; n++) {
+      if (s._data[n] > tolerance + Datum.eps) {
+        count++;
+      }
+    }
+
+    if (count > 0) {
+      /*
+       * Contains all singular values that are larger than the specififed tolerance.
+       */
+      Col singularValues = new Col(count);
+
+      int n = 0;
+      for (int nn = 0; nn < s.n_elem; nn++) {
+        double value = s._data[nn];
+        if (value > tolerance + Datum.eps) {
+          singularValues._data[n++] = 1 / value;
+        }
+      }
+
+      if (V.n_cols > count) {
+        V = V.cols(0, count - 1);
+      }
+
+      if (U.n_cols > count) {
+        U = U.cols(0, count - 1);
+      }
+
+      if (A.n_rows >= A.n_cols) {
+        B.inPlace(Op.EQUAL, V.times(diagmat(singularValues).times(U.t())));
+      } else {
+        B.inPlace(Op.EQUAL, U.times(diagmat(singularValues).times(V.t())));
+      }
+    } else {
+      B.zeros(A.n_cols, A.n_rows);
+    }
+
+    return true;
+  }
+
+  /**
+   * Performs a principal component analysis of the provided matrix and returns the coefficients of the {@code k} most
+   * significant principal components.
+   * <p>
+   * See {@link #princomp(Mat, Mat, Col, Mat, int)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param X The matrix
+   * @param k The number of principal components
+   * 
+   * @return The coefficients
+   * 
+   * @throws RuntimeException The calculation could not be completed.
+   * @throws IllegalArgumentException The number of singular values ({@code k}) must be within [1, {@code min(X.n_rows,
+   *           X.n_cols)}].
+   */
+  public static Mat princomp(final Mat X, final int k) throws RuntimeException, IllegalArgumentException {
+    Mat coeff = new Mat();
+    if (!princomp(coeff, new Mat(), new Col(), X, k)) {
+      throw new RuntimeException("The calculation could not be completed.");
+    }
+
+    return coeff;
+  }
+
+  /**
+   * Performs a principal component analysis of the provided matrix for the {@code k} most significant principal
+   * components only and stores their coefficients in {@code coeff}, the projected data in {@code score} and their
+   * variances in {@code latent}.
+   * <p>
+   * The principal components are based on a randomised truncated singular value decomposition (see
+   * {@link #svds(Mat, Col, Mat, Mat, int)}) instead of a full one, reducing the runtime for {@code k} much smaller than
+   * {@code X.n_cols}.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param coeff The storage of the principal component coefficients
+   * @param score The storage of the projected data
+   * @param latent The storage of the eigenvalues of the covariance matrix
+   * @param X The matrix
+   * @param k The number of principal components
+   * 
+   * @return Whether the calculation succeeded
+   * 
+   * @throws IllegalArgumentException The number of singular values ({@code k}) must be within [1, {@code min(X.n_rows,
+   *           X.n_cols)}].
+   */
+  public static boolean princomp(final Mat coeff, final Mat score, final Col latent, final Mat X, final int k) throws IllegalArgumentException {
+    Mat centred = new Mat(X);
+    centred.each_row(Op.MINUS, mean(Row.class, X));
+
+    Mat U = new Mat();
+    Col s = new Col();
+
+    if (!svds(U, s, coeff, centred, k)) {
+      return false;
+    }
+
+    score.inPlace(Op.EQUAL, centred.times(coeff));
+    latent.inPlace(Op.EQUAL, square(s));
+    latent.inPlace(Op.DIVIDE, Math.max(1, X.n_rows - 1));
+
+    return true;
+  }
+
+  /**
+   * Performs a principal component analysis of the provided matrix and returns the principal component coefficients.
+   * 
+   * @param X The matrix
+   * 
+   * @return TODO
+   * 
+   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   */
+  public static Mat princomp(Mat X) throws RuntimeException {
+    Mat coeff = new Mat();
+    if (!princomp(coeff, X)) {
+      throw new RuntimeException("The calculation could not be completed. The provided matrix appears to be singular.");
+    }
+
+    return coeff;
+  }
+
+  /**
+   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
+   * {@code coeff}.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * 
+   * @param coeff The storage of the principal component coefficients
+   * @param X The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean princomp(final Mat coeff, final Mat X) {
+    if (X.n_rows > 1) {
+      Mat temp = new Mat(X);
+      temp.each_row(Op.MINUS, mean(Row.class, X));
+
+      Mat U = new Mat();
+      Col s = new Col();
+
+      if (!svd(U, s, coeff, temp)) {
+        return false;
+      }
+    } else {
+      coeff.eye(X.n_cols, X.n_cols);
+    }
+
+    return true;
+  }
+
+  /**
+   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
+   * {@code coeff} and the projected data in {@code score}.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * 
+   * @param coeff The storage of the principal component coefficients
+   * @param score The storage of the projected data
+   * @param X The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean princomp(final Mat coeff, final Mat score, final Mat X) {
+    if (X.n_rows > 1) {
+      score.inPlace(Op.EQUAL, X);
+      score.each_row(Op.MINUS, mean(Row.class, X));
+
+      Mat U = new Mat();
+      Col s = new Col();
+
+      if (!svd(U, s, coeff, score)) {
+        return false;
+      }
+
+      score.inPlace(Op.TIMES, coeff);
+
+      if (X.n_rows <= X.n_cols) {
+        new ViewSubCols(score, X.n_rows - 1, X.n_cols - X.n_rows + 1).fill(0);
+      }
+    } else {
+      coeff.eye(X.n_cols, X.n_cols);
+
+      score.copy_size(X);
+      score.zeros();
+    }
+
+    return true;
+  }
+
+  /**
+   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
+   * {@code coeff}, the projected data in {@code score} and the eigenvalues of the covariance matrix of the provided
+   * matrix
+   * in {@code latent}.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * 
+   * @param coeff The storage of the principal component coefficients
+   * @param score The storage of the projected data
+   * @param latent The storage of the eigenvalues of the covariance matrix
+   * @param X The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean princomp(final Mat coeff, final Mat score, final Col latent, final Mat X) {
+    if (X.n_rows > 1) {
+      score.inPlace(Op.EQUAL, X);
+      score.each_row(Op.MINUS, mean(Row.class, X));
+
+      Mat U = new Mat();
+      Col s = new Col();
+
+      if (!svd(U, s, coeff, score)) {
+        return false;
+      }
+
+      s.inPlace(Op.DIVIDE, Math.sqrt(X.n_rows - 1));
+
+      score.inPlace(Op.TIMES, coeff);
+
+      if (X.n_rows <= X.n_cols) {
+        new ViewSubCols(score, X.n_rows - 1, X.n_cols - X.n_rows + 1).fill(0);
+
+        Col s_temp = new Col(X.n_cols, Fill.ZEROS);
+        new ViewSubRows(s_temp, 0, X.n_rows - 1).inPlace(Op.EQUAL, new ViewSubRows(s, 0, X.n_rows - 1));
+        s.inPlace(Op.EQUAL, s_temp);
+      }
+
+      latent.inPlace(Op.EQUAL, square(s));
+    } else {
+      coeff.eye(X.n_cols, X.n_cols);
+
+      score.copy_size(X);
+      score.zeros();
+
+      latent.set_size(X.n_cols);
+      latent.zeros();
+    }
+
+    return true;
+  }
 
-      if (pivotVector[nn] != pivotVector[nnn]) {
-        int temp = pivotVector[nn];
-        pivotVector[nn] = pivotVector[nnn];
-        pivotVector[nnn] = temp;
+  /**
+   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
+   * {@code coeff}, the projected data in {@code score}, the eigenvalues of the covariance matrix of the provided matrix
+   * in {@code latent} and the Hotteling's statistic for each sample in {@code tsquared}.
+   * <p>
+   * Returns {@code false} if the calculation failed.
+   * 
+   * @param coeff The storage of the principal component coefficients
+   * @param score The storage of the projected data
+   * @param latent The storage of the eigenvalues of the covariance matrix
+   * @param tsquared The storage of the Hotteling's statistic for each sample
+   * @param X The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean princomp(final Mat coeff, final Mat score, final Col latent, final Col tsquared, final Mat X) {
+    if (X.n_rows > 1) {
+      score.inPlace(Op.EQUAL, X);
+      score.each_row(Op.MINUS, mean(Row.class, X));
+
+      Mat U = new Mat();
+      Col s = new Col();
+
+      if (!svd(U, s, coeff, score)) {
+        return false;
+      }
+
+      s.inPlace(Op.DIVIDE, Math.sqrt(X.n_rows - 1));
+
+      score.inPlace(Op.TIMES, coeff);
+
+      Mat S;
+      if (X.n_rows <= X.n_cols) {
+        new ViewSubCols(score, X.n_rows - 1, X.n_cols - X.n_rows + 1).fill(0);
+
+        Col s_temp = new Col(X.n_cols, Fill.ZEROS);
+        new ViewSubRows(s_temp, 0, X.n_rows - 1).inPlace(Op.EQUAL, new ViewSubRows(s, 0, X.n_rows - 1));
+        s.inPlace(Op.EQUAL, s_temp);
+
+        new ViewSubRows(s_temp, 0, X.n_rows - 1).inPlace(Op.EQUAL, reciprocal(s_temp.rows(0, X.n_rows - 2)));
+
+        S = score.times(diagmat(s_temp));
+      } else {
+        S = score.times(diagmat(reciprocal(s)));
       }
+
+      tsquared.inPlace(Op.EQUAL, sum(Col.class, square(S), 1));
+      latent.inPlace(Op.EQUAL, square(s));
+    } else {
+      coeff.eye(X.n_cols, X.n_cols);
+
+      score.copy_size(X);
+      score.zeros();
+
+      latent.set_size(X.n_cols);
+      latent.zeros();
+
+      tsquared.set_size(X.n_rows);
+      tsquared.zeros();
     }
 
-    P.zeros(X.n_rows, X.n_rows);
-    for (int i = 0; i < P.n_rows; i++) {
-      P._data[i + pivotVector[i] * P.n_rows] = 1;
+    return true;
+  }
+
+  /**
+   * Performs a QR decomposition of the provided matrix and stores the orthogonal matrix in {@code Q}, the right
+   * -triangular matrix in {@code R}, such that {@code Q.times(U) = X}.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * 
+   * @param Q The storage of the orthogonal matrix
+   * @param R The storage of the right-triangular matrix
+   * @param X The matrix
+   * 
+   * @return TODO
+   */
+  public static boolean qr(final Mat Q, final Mat R, final Mat X) {
+    if (X.empty()) {
+      return false;
     }
 
-    if (L.n_cols > U.n_rows) {
-      L.shed_cols(U.n_rows, L.n_cols - 1);
+    R.inPlace(Op.EQUAL, X);
+
+    double[] tau = new double[Math.min(X.n_rows, X.n_cols)];
+    double[] work = new double[Math.max(1, Math.max(X.n_rows, X.n_cols))];
+    intW info = new intW(0);
+
+    LAPACK.getInstance().dgeqrf(X.n_rows, X.n_cols, R._data, X.n_rows, tau, work, work.length, info);
+
+    if (info.val != 0) {
+      return false;
     }
 
-    if (U.n_rows > L.n_cols) {
-      U.shed_rows(L.n_cols, U.n_rows - 1);
+    Q.set_size(X.n_rows, X.n_rows);
+    System.arraycopy(R._data, 0, Q._data, 0, Math.min(Q.n_elem, R.n_elem));
+
+    for (int j = 0; j < R.n_cols; j++) {
+      for (int i = (j + 1); i < R.n_rows; i++) {
+        R._data[i + j * R.n_rows] = 0;
+      }
     }
 
-    return true;
+    LAPACK.getInstance().dorgqr(X.n_rows, X.n_rows, tau.length, Q._data, X.n_rows, tau, work, work.length, info);
+
+    return (info.val == 0);
   }
 
   /**
-   * Performs a Lower-upper decomposition (with partial pivoting) of the provided matrix and stores the permuted
-   * lower-triangular matrix in {@code L} and the permuted upper-triangular matrix in {@code U}, such that
-   * {@code L.times(U) = X}.
+   * Performs an economical (memory friendly) QR decomposition of the provided matrix and stores the orthogonal matrix
+   * in {@code Q}, the right -triangular matrix in {@code R}, such that {@code Q.times(U) = X}.
+   * <p>
+   * {@code R} is calculated only up to the first {@code X.n_rows} rows and {@code Q} up to the first {@code X.n_cols}
+   * columns.
    * <p>
    * Returns {@code false} if the decomposition failed.
    * 
-   * @param L The storage of the permuted lower-triangular matrix
-   * @param U The storage of the permuted upper-triangular matrix
+   * @param Q The storage of the orthogonal matrix
+   * @param R The storage of the right-triangular matrix
    * @param X The matrix
    * 
    * @return TODO
    */
-  public static boolean lu(final Mat L, final Mat U, final Mat X) {
-    U.inPlace(Op.EQUAL, X);
+  public static boolean qr_econ(final Mat Q, final Mat R, final Mat X) {
+    if (X.is_empty()) {
+      return false;
+    }
 
-    int[] pivotIndices = new int[Math.min(X.n_rows, X.n_cols)];
+    if (X.n_rows <= X.n_cols) {
+      return qr(Q, R, X);
+    }
+
+    Q.inPlace(Op.EQUAL, X);
+
+    double[] tau = new double[Math.min(X.n_rows, X.n_cols)];
+    double[] work = new double[Math.max(1, Math.max(X.n_rows, X.n_cols))];
     intW info = new intW(0);
 
-    LAPACK.getInstance().dgetrf(X.n_rows, X.n_cols, U._data, X.n_rows, pivotIndices, info);
+    LAPACK.getInstance().dgeqrf(X.n_rows, X.n_cols, Q._data, X.n_rows, tau, work, work.length, info);
+
     if (info.val != 0) {
       return false;
     }
 
-    L.copy_size(U);
+    R.set_size(X.n_cols, X.n_cols);
 
-    int n = 0;
-    for (int j = 0; j < X.n_cols; j++)
-    {
-      for (int i = 0; i < X.n_rows; i++)
-      {
-        if (i < j) {
-          /*
-           * strict upper triangle
-           */
-          L._data[n] = 0;
-        } else if (i == j) {
-          /*
-           * main diagonal
-           */
-          L._data[n] = 1;
-        } else {
-          /*
-           * strict lower triangle
-           */
-          L._data[n] = U._data[n];
-          U._data[n] = 0;
-        }
-        n++;
+    for (int j = 0; j < R.n_cols; j++) {
+      for (int i = 0; i <= j; ++i) {
+        R._data[i + j * R.n_rows] = Q._data[i + j * Q.n_rows];
+      }
+
+      for (int i = (j + 1); i < R.n_cols; i++) {
+        R._data[i + j * R.n_rows] = 0;
       }
     }
 
-    int[] pivotVector = new int[X.n_rows];
-    for (int nn = 0; nn < pivotVector.length; nn++) {
-      pivotVector[nn] = nn;
+    LAPACK.getInstance().dorgqr(X.n_rows, X.n_cols, tau.length, Q._data, X.n_rows, tau, work, work.length, info);
+
+    return (info.val == 0);
+  }
+
+  /**
+   * Updates the provided QR decomposition {@code Q.times(R) = X} in-place to a decomposition of {@code X} with the
+   * provided vector inserted as new column at {@code col_number}.
+   * <p>
+   * Requires O(m^2 + m * n) operations for a (m, n)-matrix {@code X}, instead of O(m^2 * n) for a new decomposition.
+   * {@code Q} and {@code R} must be the full decomposition, as provided by {@link #qr(Mat, Mat, Mat)}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param Q The orthogonal matrix
+   * @param R The right-triangular matrix
+   * @param col_number The column position
+   * @param X The column to be inserted
+   * 
+   * @throws RuntimeException The provided decomposition must consist of a square ({@code Q.n_rows}, {@code Q.n_cols}
+   *           )-matrix Q and a ({@code R.n_rows}, {@code R.n_cols})-matrix R with the same number of rows.
+   * @throws IndexOutOfBoundsException The specified column ({@code col_number}) is out of bounds.
+   * @throws RuntimeException The provided vector must have exactly {@code R.n_rows} elements, but had
+   *           {@code X.n_elem}.
+   */
+  public static void qr_insert_col(final Mat Q, final Mat R, final int col_number, final AbstractVector X) throws RuntimeException, IndexOutOfBoundsException {
+    validateQr(Q, R);
+
+    if (col_number < 0 || col_number > R.n_cols) {
+      throw new IndexOutOfBoundsException("The specified column (" + col_number + ") is out of bounds.");
+    }
+
+    int m = R.n_rows;
+    if (X.n_elem != m) {
+      throw new RuntimeException("The provided vector must have exactly " + m + " elements, but had " + X.n_elem + ".");
+    }
+
+    Col w = new Col(m);
+    BLAS.getInstance().dgemv("T", m, m, 1, Q._data, Math.max(1, m), X._data, 1, 0, w._data, 1);
+    R.insert_cols(col_number, w);
+
+    /*
+     * Eliminates the inserted column below the diagonal from bottom to top, which keeps all other columns triangular.
+     */
+    for (int k = m - 1; k > col_number; k--) {
+      double a = R._data[(k - 1) + col_number * m];
+      double b = R._data[k + col_number * m];
+      if (b == 0) {
+        continue;
+      }
+
+      double radius = Math.hypot(a, b);
+      double c = a / radius;
+      double s = b / radius;
+
+      BLAS.getInstance().drot(R.n_cols - col_number, R._data, (k - 1) + col_number * m, m, R._data, k + col_number * m, m, c, s);
+      BLAS.getInstance().drot(m, Q._data, (k - 1) * m, 1, Q._data, k * m, 1, c, s);
+      R._data[k + col_number * m] = 0;
+    }
+  }
+
+  /**
+   * Updates the provided QR decomposition {@code Q.times(R) = X} in-place to a decomposition of {@code X} without
+   * its column at {@code col_number}.
+   * <p>
+   * Requires O(m^2 + m * n) operations for a (m, n)-matrix {@code X}, instead of O(m^2 * n) for a new decomposition.
+   * {@code Q} and {@code R} must be the full decomposition, as provided by {@link #qr(Mat, Mat, Mat)}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param Q The orthogonal matrix
+   * @param R The right-triangular matrix
+   * @param col_number The column position
+   * 
+   * @throws RuntimeException The provided decomposition must consist of a square ({@code Q.n_rows}, {@code Q.n_cols}
+   *           )-matrix Q and a ({@code R.n_rows}, {@code R.n_cols})-matrix R with the same number of rows.
+   * @throws IndexOutOfBoundsException The specified column ({@code col_number}) is out of bounds.
+   */
+  public static void qr_delete_col(final Mat Q, final Mat R, final int col_number) throws RuntimeException, IndexOutOfBoundsException {
+    validateQr(Q, R);
+
+    /*
+     * The parameter "col_number" is validated within Mat.shed_col(int).
+     */
+    R.shed_col(col_number);
+
+    /*
+     * The columns right of the removed one have a non-zero subdiagonal element, which is eliminated from left to right.
+     */
+    int m = R.n_rows;
+    for (int k = col_number; k < Math.min(m - 1, R.n_cols); k++) {
+      double a = R._data[k + k * m];
+      double b = R._data[(k + 1) + k * m];
+      if (b == 0) {
+        continue;
+      }
+
+      double radius = Math.hypot(a, b);
+      double c = a / radius;
+      double s = b / radius;
+
+      BLAS.getInstance().drot(R.n_cols - k, R._data, k + k * m, m, R._data, (k + 1) + k * m, m, c, s);
+      BLAS.getInstance().drot(m, Q._data, k * m, 1, Q._data, (k + 1) * m, 1, c, s);
+      R._data[(k + 1) + k * m] = 0;
+    }
+  }
+
+  /**
+   * Updates the provided QR decomposition {@code Q.times(R) = X} in-place to a decomposition of {@code X} with the
+   * provided vector inserted as new row at {@code row_number}.
+   * <p>
+   * Requires O(m^2 + m * n) operations for a (m, n)-matrix {@code X}, instead of O(m^2 * n) for a new decomposition.
+   * {@code Q} and {@code R} must be the full decomposition, as provided by {@link #qr(Mat, Mat, Mat)}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param Q The orthogonal matrix
+   * @param R The right-triangular matrix
+   * @param row_number The row position
+   * @param X The row to be inserted
+   * 
+   * @throws RuntimeException The provided decomposition must consist of a square ({@code Q.n_rows}, {@code Q.n_cols}
+   *           )-matrix Q and a ({@code R.n_rows}, {@code R.n_cols})-matrix R with the same number of rows.
+   * @throws IndexOutOfBoundsException The specified row ({@code row_number}) is out of bounds.
+   * @throws RuntimeException The provided vector must have exactly {@code R.n_cols} elements, but had
+   *           {@code X.n_elem}.
+   */
+  public static void qr_insert_row(final Mat Q, final Mat R, final int row_number, final AbstractVector X) throws RuntimeException, IndexOutOfBoundsException {
+    validateQr(Q, R);
+
+    int m = R.n_rows;
+    int n = R.n_cols;
+    if (row_number < 0 || row_number > m) {
+      throw new IndexOutOfBoundsException("The specified row (" + row_number + ") is out of bounds.");
+    }
+
+    if (X.n_elem != n) {
+      throw new RuntimeException("The provided vector must have exactly " + n + " elements, but had " + X.n_elem + ".");
+    }
+
+    /*
+     * Starts from the decomposition [X; x] = [1, 0; 0, Q] * [x; R], with the new row on top.
+     */
+    R.insert_rows(0, 1);
+    BLAS.getInstance().dcopy(n, X._data, 0, 1, R._data, 0, m + 1);
+
+    double[] extendedQ = new double[(m + 1) * (m + 1)];
+    extendedQ[0] = 1;
+    for (int j = 0; j < m; j++) {
+      System.arraycopy(Q._data, j * m, extendedQ, 1 + (j + 1) * (m + 1), m);
+    }
+
+    /*
+     * [x; R] is upper Hessenberg. Its subdiagonal is eliminated from left to right.
+     */
+    for (int k = 0; k < Math.min(m, n); k++) {
+      double a = R._data[k + k * (m + 1)];
+      double b = R._data[(k + 1) + k * (m + 1)];
+      if (b == 0) {
+        continue;
+      }
+
+      double radius = Math.hypot(a, b);
+      double c = a / radius;
+      double s = b / radius;
+
+      BLAS.getInstance().drot(n - k, R._data, k + k * (m + 1), m + 1, R._data, (k + 1) + k * (m + 1), m + 1, c, s);
+      BLAS.getInstance().drot(m + 1, extendedQ, k * (m + 1), 1, extendedQ, (k + 1) * (m + 1), 1, c, s);
+      R._data[(k + 1) + k * (m + 1)] = 0;
+    }
+
+    /*
+     * Moves the first row of Q to the specified position.
+     */
+    Q.set_size(m + 1, m + 1);
+    for (int j = 0; j <= m; j++) {
+      int columnIndex = j * (m + 1);
+      System.arraycopy(extendedQ, columnIndex + 1, Q._data, columnIndex, row_number);
+      Q._data[row_number + columnIndex] = extendedQ[columnIndex];
+      System.arraycopy(extendedQ, columnIndex + 1 + row_number, Q._data, columnIndex + row_number + 1, m - row_number);
     }
+  }
 
-    for (int nn = 0; nn < pivotIndices.length; nn++) {
-      int nnn = pivotIndices[nn] - 1;
+  /**
+   * Updates the provided QR decomposition {@code Q.times(R) = X} in-place to a decomposition of {@code X} without its
+   * row at {@code row_number}.
+   * <p>
+   * Requires O(m^2 + m * n) operations for a (m, n)-matrix {@code X}, instead of O(m^2 * n) for a new decomposition.
+   * {@code Q} and {@code R} must be the full decomposition, as provided by {@link #qr(Mat, Mat, Mat)}.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param Q The orthogonal matrix
+   * @param R The right-triangular matrix
+   * @param row_number The row position
+   * 
+   * @throws RuntimeException The provided decomposition must consist of a square ({@code Q.n_rows}, {@code Q.n_cols}
+   *           )-matrix Q and a ({@code R.n_rows}, {@code R.n_cols})-matrix R with the same number of rows.
+   * @throws IndexOutOfBoundsException The specified row ({@code row_number}) is out of bounds.
+   */
+  public static void qr_delete_row(final Mat Q, final Mat R, final int row_number) throws RuntimeException, IndexOutOfBoundsException {
+    validateQr(Q, R);
 
-      if (pivotVector[nn] != pivotVector[nnn]) {
-        int temp = pivotVector[nn];
-        pivotVector[nn] = pivotVector[nnn];
-        pivotVector[nnn] = temp;
+    int m = R.n_rows;
+    int n = R.n_cols;
+    if (row_number < 0 || row_number >= m) {
+      throw new IndexOutOfBoundsException("The specified row (" + row_number + ") is out of bounds.");
+    }
 
-        L.swap_rows(pivotVector[nn], pivotVector[nnn]);
+    /*
+     * Rotates the specified row of Q from right to left into its first element, such that the first column of Q
+     * becomes a unit vector and the first row of R can be dropped together with it.
+     */
+    for (int k = m - 1; k > 0; k--) {
+      double a = Q._data[row_number + (k - 1) * m];
+      double b = Q._data[row_number + k * m];
+      if (b == 0) {
+        continue;
       }
-    }
 
-    if (L.n_cols > U.n_rows) {
-      L.shed_cols(U.n_rows, L.n_cols - 1);
+      double radius = Math.hypot(a, b);
+      double c = a / radius;
+      double s = b / radius;
+
+      BLAS.getInstance().drot(m, Q._data, (k - 1) * m, 1, Q._data, k * m, 1, c, s);
+      if (k - 1 < n) {
+        BLAS.getInstance().drot(n - (k - 1), R._data, (k - 1) + (k - 1) * m, m, R._data, k + (k - 1) * m, m, c, s);
+      }
     }
 
-    if (U.n_rows > L.n_cols) {
-      U.shed_rows(L.n_cols, U.n_rows - 1);
+    Mat reducedQ = new Mat(m - 1, m - 1);
+    for (int j = 1; j < m; j++) {
+      int columnIndex = j * m;
+      int reducedColumnIndex = (j - 1) * (m - 1);
+      System.arraycopy(Q._data, columnIndex, reducedQ._data, reducedColumnIndex, row_number);
+      System.arraycopy(Q._data, columnIndex + row_number + 1, reducedQ._data, reducedColumnIndex + row_number, m - row_number - 1);
     }
+    Q.inPlace(Op.EQUAL, reducedQ);
 
-    return true;
+    R.shed_row(0);
   }
 
   /**
-   * Returns the Moore-Penrose pseudo-inverse of the provided matrix while treating any singular value below
-   * {@code Math.max(A.n_rows, A.n_cols) * norm(A, 2) * Datum.eps} as zero.
-   * 
-   * @param A The matrix
+   * Validates the provided QR decomposition.
    * 
-   * @return TODO
+   * @param Q The orthogonal matrix
+   * @param R The right-triangular matrix
    * 
-   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   * @throws RuntimeException The provided decomposition must consist of a square ({@code Q.n_rows}, {@code Q.n_cols}
+   *           )-matrix Q and a ({@code R.n_rows}, {@code R.n_cols})-matrix R with the same number of rows.
    */
-  public static Mat pinv(final Mat A) throws RuntimeException {
-    return pinv(A, Math.max(A.n_rows, A.n_cols) * norm(A, 2) * Datum.eps);
+  protected static void validateQr(final Mat Q, final Mat R) throws RuntimeException {
+    if (!Q.is_square() || Q.n_rows != R.n_rows) {
+      throw new RuntimeException("The provided decomposition must consist of a square (" + Q.n_rows + ", " + Q.n_cols + ")-matrix Q and a (" + R.n_rows + ", " + R.n_cols + ")-matrix R with the same number of rows.");
+    }
   }
 
   /**
-   * Returns the Moore-Penrose pseudo-inverse of the provided matrix while treating any singular value below the
-   * specified tolerance as zero.
+   * Returns the solution of a system of linear equations {@code A.times(X) = B} with unknown {@code X}.
    * 
-   * @param A The matrix
-   * @param tolerance The tolerance
+   * @param A The matrix A
+   * @param B The matrix B
    * 
    * @return TODO
    * 
-   * @throws RuntimeException The specified tolerance must be positive.
-   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   * @throws RuntimeException Both matrices must have the same number of rows ({@code A.n_rows} and {@code B.n_rows}).
+   * @throws RuntimeException No solution was found.
    */
-  public static Mat pinv(final Mat A, final double tolerance) throws RuntimeException {
-    /*
-     * The parameter "tolerance" is validated within pinv(Mat, Mat, double).
-     */
-    
-    Mat B = new Mat();
-    if (!pinv(B, A, tolerance)) {
-      throw new RuntimeException("The calculation could not be completed. The provided matrix appears to be singular.");
+  public static Mat solve(final Mat A, final Mat B) throws RuntimeException {
+    if (A.n_rows != B.n_rows) {
+      throw new RuntimeException("Both matrices must have the same number of rows (" + A.n_rows + " and " + B.n_rows + ").");
     }
 
-    return B;
-  }
+    Mat X = new Mat();
+    if (!solve(X, A, B)) {
+      throw new RuntimeException("No solution was found.");
+    }
 
-  /**
-   * Calculates the Moore-Penrose pseudo-inverse of the provided matrix and stores the inverse in {@code B} while
-   * treating any singular value below {@code Math.max(A.n_rows, A.n_cols) * norm(A, 2) * Datum.eps} as zero.
-   * <p>
-   * Returns {@code false} if the calculation failed.
-   * 
-   * @param B The storage of the inverse
-   * @param A The matrix
-   * 
-   * @return TODO
-   */
-  public static boolean pinv(final Mat B, final Mat A) {
-    return pinv(B, A, Math.max(A.n_rows, A.n_cols) * norm(A, 2) * Datum.eps);
+    return X;
   }
 
   /**
-   * Calculates the Moore-Penrose pseudo-inverse of the provided matrix and stores the inverse in {@code B} while
-   * treating any singular value below the specified tolerance as zero.
+   * Solves a system of linear equations {@code A.times(X) = B} with unknown {@code X} and stores the solution in
+   * {@code X}.
    * <p>
    * Returns {@code false} if the calculation failed.
    * 
-   * @param B The storage of the inverse
-   * @param A The matrix
-   * @param tolerance The tolerance
+   * @param X The storage of the solution
+   * @param A The matrix A
+   * @param B The matrix B
    * 
    * @return TODO
-   * 
-   * @throws RuntimeException The specified tolerance must be positive.
    */
-  public static boolean pinv(final Mat B, final Mat A, double tolerance) throws RuntimeException {
-    if (tolerance < 0) {
-      throw new RuntimeException("The specified tolerance must be positive.");
-    }
-    
-    Mat U = new Mat();
-    Col s = new Col();
-    Mat V = new Mat();
-
-    boolean status;
-
-    if (A.n_cols > A.n_rows) {
-      status = svd_econ(U, s, V, A.t());
-    } else {
-      status = svd_econ(U, s, V, A);
+  public static boolean solve(final Mat X, final Mat A, final Mat B) {
+    if (A.n_rows != B.n_rows) {
+      throw new RuntimeException("Both matrices must have the same number of rows (" + A.n_rows + " and " + B.n_rows + ").");
     }
 
-    if (status == false) {
+    if (A.empty() || B.empty()) {
       return false;
     }
 
-    if (tolerance == 0) {
-      tolerance = Math.max(A.n_rows, A.n_cols) * Math.ulp(s.max());
+    if (A.n_rows == A.n_cols && A._structure != Structure.GENERAL) {
+      return structuredSolve(X, A, B);
     }
 
-    int count = 0;
-    for (int n = 0; n < s.n_elem; n++) {
-      if (s._data[n] > tolerance + Datum.eps) {
-        count++;
+    X.set_size(A.n_cols, B.n_cols);
+    intW info = new intW(0);
+
+    if (A.n_rows == A.n_cols) {
+      double[] tempA = Arrays.copyOf(A._data, A.n_elem);
+      System.arraycopy(B._data, 0, X._data, 0, B.n_elem);
+      int[] pivotIndices = new int[A.n_rows + 2];
+
+      LAPACK.getInstance().dgesv(A.n_rows, B.n_cols, tempA, A.n_rows, pivotIndices, X._data, A.n_rows, info);
+    } else if (A.n_rows > A.n_cols) {
+      double[] tempA = Arrays.copyOf(A._data, A.n_elem);
+      double[] tempB = Arrays.copyOf(B._data, B.n_elem);
+      double[] work = new double[3 * Math.max(1, A.n_cols + Math.max(A.n_cols, B.n_cols))];
+
+      LAPACK.getInstance().dgels("N", A.n_rows, A.n_cols, B.n_cols, tempA, A.n_rows, tempB, A.n_rows, work, work.length, info);
+      System.arraycopy(tempB, 0, X._data, 0, X.n_elem);
+    } else {
+      double[] tempA = Arrays.copyOf(A._data, A.n_elem);
+      double[] tempB = new double[X.n_elem];
+      for (int j = 0; j < B.n_cols; j++) {
+        System.arraycopy(B._data, j * B.n_rows, tempB, j * X.n_rows, B.n_rows);
       }
+      double[] work = new double[3 * Math.max(1, A.n_cols + Math.max(A.n_cols, B.n_cols))];
+
+      LAPACK.getInstance().dgels("N", A.n_rows, A.n_cols, B.n_cols, tempA, A.n_rows, tempB, A.n_cols, work, work.length, info);
+      System.arraycopy(tempB, 0, X._data, 0, X.n_elem);
     }
 
-    if (count > 0) {
-      /*
-       * Contains all singular values that are larger than the specififed tolerance.
-       */
-      Col singularValues = new Col(count);
+    return (info.val == 0);
+  }
 
-      int n = 0;
-      for (int nn = 0; nn < s.n_elem; nn++) {
-        double value = s._data[nn];
-        if (value > tolerance + Datum.eps) {
-          singularValues._data[n++] = 1 / value;
+  /**
+   * Solves a system of linear equations {@code A.times(X) = B} with unknown {@code X} and stores the solution in
+   * {@code X}, for a square matrix {@code A} known to be diagonal, triangular or symmetric.
+   * <p>
+   * Diagonal systems are solved by dividing each row of {@code B}, triangular systems by {@code dtrtrs} and symmetric
+   * systems by {@code dsysv}. Returns {@code false} if the calculation failed.
+   * 
+   * @param X The storage of the solution
+   * @param A The matrix A
+   * @param B The matrix B
+   * 
+   * @return Whether the calculation succeeded
+   */
+  protected static boolean structuredSolve(final Mat X, final Mat A, final Mat B) {
+    int n = A.n_rows;
+    int nrhs = B.n_cols;
+
+    /*
+     * The solution is computed into a separate array first, as X might share its memory with A or B.
+     */
+    double[] solution = Arrays.copyOf(B._data, B.n_elem);
+    intW info = new intW(0);
+
+    switch (A._structure) {
+      case DIAGONAL:
+        double[] diagonal = Mat.diagonal(A);
+        for (int i = 0; i < n; i++) {
+          if (diagonal[i] == 0) {
+            return false;
+          }
+          diagonal[i] = 1 / diagonal[i];
         }
-      }
 
-      if (V.n_cols > count) {
-        V = V.cols(0, count - 1);
-      }
+        Mat.scaleRows(solution, solution, diagonal, n, nrhs);
+        break;
+      case UPPER_TRIANGULAR:
+      case LOWER_TRIANGULAR:
+        LAPACK.getInstance().dtrtrs(A._structure.uplo(), "N", "N", n, nrhs, A._data, n, solution, n, info);
+        break;
+      default:
+        double[] tempA = Arrays.copyOf(A._data, A.n_elem);
+        int[] pivotIndices = new int[n];
 
-      if (U.n_cols > count) {
-        U = U.cols(0, count - 1);
-      }
+        /*
+         * Queries the optimal workspace size first.
+         */
+        double[] work = new double[1];
+        LAPACK.getInstance().dsysv("U", n, nrhs, tempA, n, pivotIndices, solution, n, work, -1, info);
+        work = new double[Math.max(1, (int) work[0])];
 
-      if (A.n_rows >= A.n_cols) {
-        B.inPlace(Op.EQUAL, V.times(diagmat(singularValues).times(U.t())));
-      } else {
-        B.inPlace(Op.EQUAL, U.times(diagmat(singularValues).times(V.t())));
-      }
-    } else {
-      B.zeros(A.n_cols, A.n_rows);
+        LAPACK.getInstance().dsysv("U", n, nrhs, tempA, n, pivotIndices, solution, n, work, work.length, info);
+        break;
+    }
+
+    if (info.val != 0) {
+      return false;
     }
 
+    X.set_size(n, nrhs);
+    System.arraycopy(solution, 0, X._data, 0, solution.length);
     return true;
   }
 
   /**
-   * Performs a principal component analysis of the provided matrix and returns the principal component coefficients.
+   * Returns the solution {@code x} of {@code A.times(x) = b} based on the (preconditioned) conjugate gradient method.
+   * <p>
+   * Iterates until the residual norm is at most 1e-10 times the norm of {@code b}, but at most 10 * {@code A.n_rows}
+   * times, starting from zero. See
+   * {@link #cg(Col, LinearOperator, Col, double, int, Preconditioner, ConvergenceCallback)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param X The matrix
+   * @param A The matrix
+   * @param b The right-hand side vector
    * 
-   * @return TODO
+   * @return The solution
    * 
-   * @throws RuntimeException The calculation could not be completed. The provided matrix appears to be singular.
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException The provided matrix and vector must have the same number of rows ({@code A.n_rows} and
+   *           {@code b.n_elem}).
+   * @throws RuntimeException The algorithm failed to converge.
    */
-  public static Mat princomp(Mat X) throws RuntimeException {
-    Mat coeff = new Mat();
-    if (!princomp(coeff, X)) {
-      throw new RuntimeException("The calculation could not be completed. The provided matrix appears to be singular.");
+  public static Col cg(final Mat A, final Col b) throws RuntimeException {
+    Col x = new Col();
+    if (!cg(x, new MatOperator(A), b, 1e-10, 10 * A.n_rows, null, null)) {
+      throw new RuntimeException("The algorithm failed to converge.");
     }
 
-    return coeff;
+    return x;
   }
 
   /**
-   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
-   * {@code coeff}.
+   * Solves {@code A.times(x) = b} for {@code x} based on the (preconditioned) conjugate gradient method.
    * <p>
-   * Returns {@code false} if the calculation failed.
+   * The operator {@code A} and the preconditioner {@code M} must both be symmetric and positive-definite.
+   * <p>
+   * If {@code x} already has {@code A.n_rows} elements, it is used as initial guess (warm start) and otherwise set to
+   * zero. Iterates until the residual norm is at most {@code tolerance} times the norm of {@code b}, but at most
+   * {@code max_iterations} times. The preconditioner {@code M} and the callback may be null.
+   * <p>
+   * Returns {@code false} if the algorithm did not converge or was stopped by the callback, while {@code x} holds
+   * the last iterate.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param coeff The storage of the principal component coefficients
-   * @param X The matrix
+   * @param x The storage of the solution and its initial guess
+   * @param A The linear operator
+   * @param b The right-hand side vector
+   * @param tolerance The tolerance
+   * @param max_iterations The maximal number of iterations
+   * @param M The preconditioner
+   * @param callback The callback
    * 
-   * @return TODO
+   * @return Whether the algorithm converged
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows()}, {@code A.n_cols()})-operator must be square.
+   * @throws RuntimeException The provided operator and vector must have the same number of rows ({@code A.n_rows()}
+   *           and {@code b.n_elem}).
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be positive.
+   * @throws IllegalArgumentException The maximal number of iterations ({@code max_iterations}) must be positive.
    */
-  public static boolean princomp(final Mat coeff, final Mat X) {
-    if (X.n_rows > 1) {
-      Mat temp = new Mat(X);
-      temp.each_row(Op.MINUS, mean(Row.class, X));
+  public static boolean cg(final Col x, final LinearOperator A, final Col b, final double tolerance, final int max_iterations, final Preconditioner M, final ConvergenceCallback callback) throws RuntimeException, IllegalArgumentException {
+    validateIterativeSolver(x, A, b, tolerance, max_iterations);
 
-      Mat U = new Mat();
-      Col s = new Col();
+    int n = b.n_elem;
+    double normB = BLAS.getInstance().dnrm2(n, b._data, 1);
+    if (normB == 0) {
+      x.zeros();
+      return true;
+    }
 
-      if (!svd(U, s, coeff, temp)) {
-        return false;
-      }
-    } else {
-      coeff.eye(X.n_cols, X.n_cols);
+    double[] r = residual(A, x, b);
+    double relativeResidual = BLAS.getInstance().dnrm2(n, r, 1) / normB;
+    if (relativeResidual <= tolerance) {
+      return true;
     }
 
-    return true;
-  }
+    double[] z = precondition(M, r);
+    double[] p = Arrays.copyOf(z, n);
+    double rz = BLAS.getInstance().ddot(n, r, 1, z, 1);
 
-  /**
-   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
-   * {@code coeff} and the projected data in {@code score}.
-   * <p>
-   * Returns {@code false} if the calculation failed.
-   * 
-   * @param coeff The storage of the principal component coefficients
-   * @param score The storage of the projected data
-   * @param X The matrix
-   * 
-   * @return TODO
-   */
-  public static boolean princomp(final Mat coeff, final Mat score, final Mat X) {
-    if (X.n_rows > 1) {
-      score.inPlace(Op.EQUAL, X);
-      score.each_row(Op.MINUS, mean(Row.class, X));
+    for (int iteration = 1; iteration <= max_iterations; iteration++) {
+      double[] q = times(A, p);
 
-      Mat U = new Mat();
-      Col s = new Col();
+      double alpha = rz / BLAS.getInstance().ddot(n, p, 1, q, 1);
+      BLAS.getInstance().daxpy(n, alpha, p, 1, x._data, 1);
+      BLAS.getInstance().daxpy(n, -alpha, q, 1, r, 1);
 
-      if (!svd(U, s, coeff, score)) {
+      relativeResidual = BLAS.getInstance().dnrm2(n, r, 1) / normB;
+      if (callback != null && !callback.update(iteration, relativeResidual)) {
         return false;
       }
 
-      score.inPlace(Op.TIMES, coeff);
+      if (relativeResidual <= tolerance) {
+        return true;
+      }
 
-      if (X.n_rows <= X.n_cols) {
-        new ViewSubCols(score, X.n_rows - 1, X.n_cols - X.n_rows + 1).fill(0);
+      if (Double.isNaN(relativeResidual)) {
+        return false;
       }
-    } else {
-      coeff.eye(X.n_cols, X.n_cols);
 
-      score.copy_size(X);
-      score.zeros();
+      z = precondition(M, r);
+      double rzNew = BLAS.getInstance().ddot(n, r, 1, z, 1);
+
+      /*
+       * p = z + beta * p
+       */
+      BLAS.getInstance().dscal(n, rzNew / rz, p, 1);
+      BLAS.getInstance().daxpy(n, 1, z, 1, p, 1);
+      rz = rzNew;
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the solution {@code x} of {@code A.times(x) = b} based on the (preconditioned) minimal residual method.
+   * <p>
+   * Iterates until the residual norm is at most 1e-10 times the norm of {@code b}, but at most 10 * {@code A.n_rows}
+   * times, starting from zero. See
+   * {@link #minres(Col, LinearOperator, Col, double, int, Preconditioner, ConvergenceCallback)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param A The matrix
+   * @param b The right-hand side vector
+   * 
+   * @return The solution
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException The provided matrix and vector must have the same number of rows ({@code A.n_rows} and
+   *           {@code b.n_elem}).
+   * @throws RuntimeException The algorithm failed to converge.
+   */
+  public static Col minres(final Mat A, final Col b) throws RuntimeException {
+    Col x = new Col();
+    if (!minres(x, new MatOperator(A), b, 1e-10, 10 * A.n_rows, null, null)) {
+      throw new RuntimeException("The algorithm failed to converge.");
     }
 
-    return true;
+    return x;
   }
 
   /**
-   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
-   * {@code coeff}, the projected data in {@code score} and the eigenvalues of the covariance matrix of the provided
-   * matrix
-   * in {@code latent}.
+   * Solves {@code A.times(x) = b} for {@code x} based on the (preconditioned) minimal residual method.
    * <p>
-   * Returns {@code false} if the calculation failed.
+   * The operator {@code A} must be symmetric, but may be indefinite. The preconditioner {@code M} must be symmetric
+   * and positive-definite. If a preconditioner is provided, the residual norm is measured in the norm induced by its
+   * inverse.
+   * <p>
+   * If {@code x} already has {@code A.n_rows} elements, it is used as initial guess (warm start) and otherwise set to
+   * zero. Iterates until the residual norm is at most {@code tolerance} times the norm of {@code b}, but at most
+   * {@code max_iterations} times. The preconditioner {@code M} and the callback may be null.
+   * <p>
+   * Returns {@code false} if the algorithm did not converge or was stopped by the callback, while {@code x} holds
+   * the last iterate.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param coeff The storage of the principal component coefficients
-   * @param score The storage of the projected data
-   * @param latent The storage of the eigenvalues of the covariance matrix
-   * @param X The matrix
+   * @param x The storage of the solution and its initial guess
+   * @param A The linear operator
+   * @param b The right-hand side vector
+   * @param tolerance The tolerance
+   * @param max_iterations The maximal number of iterations
+   * @param M The preconditioner
+   * @param callback The callback
    * 
-   * @return TODO
+   * @return Whether the algorithm converged
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows()}, {@code A.n_cols()})-operator must be square.
+   * @throws RuntimeException The provided operator and vector must have the same number of rows ({@code A.n_rows()}
+   *           and {@code b.n_elem}).
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be positive.
+   * @throws IllegalArgumentException The maximal number of iterations ({@code max_iterations}) must be positive.
    */
-  public static boolean princomp(final Mat coeff, final Mat score, final Col latent, final Mat X) {
-    if (X.n_rows > 1) {
-      score.inPlace(Op.EQUAL, X);
-      score.each_row(Op.MINUS, mean(Row.class, X));
+  public static boolean minres(final Col x, final LinearOperator A, final Col b, final double tolerance, final int max_iterations, final Preconditioner M, final ConvergenceCallback callback) throws RuntimeException, IllegalArgumentException {
+    validateIterativeSolver(x, A, b, tolerance, max_iterations);
 
-      Mat U = new Mat();
-      Col s = new Col();
+    int n = b.n_elem;
+    double normB = BLAS.getInstance().dnrm2(n, b._data, 1);
+    if (normB == 0) {
+      x.zeros();
+      return true;
+    }
 
-      if (!svd(U, s, coeff, score)) {
+    /*
+     * Follows the algorithm by Paige and Saunders, updating the solution by a three-term recurrence of the search
+     * directions and Givens rotations of the tridiagonal Lanczos matrix.
+     */
+    double[] r1 = residual(A, x, b);
+    double normR = BLAS.getInstance().dnrm2(n, r1, 1);
+    if (normR / normB <= tolerance) {
+      return true;
+    }
+
+    double[] y = precondition(M, r1);
+    double beta1 = BLAS.getInstance().ddot(n, r1, 1, y, 1);
+    if (!(beta1 > 0)) {
+      return false;
+    }
+    beta1 = Math.sqrt(beta1);
+
+    /*
+     * The residual norm is estimated in the norm induced by the inverse of the preconditioner and therefore rescaled,
+     * such that the initial estimate matches the actual initial relative residual norm.
+     */
+    double normReference = beta1 * normB / normR;
+
+    double[] r2 = Arrays.copyOf(r1, n);
+    double[] v = new double[n];
+    double[] w = new double[n];
+    double[] w1 = new double[n];
+    double[] w2 = new double[n];
+
+    double oldBeta = 0;
+    double beta = beta1;
+    double dbar = 0;
+    double epsilon = 0;
+    double phibar = beta1;
+    double cs = -1;
+    double sn = 0;
+
+    for (int iteration = 1; iteration <= max_iterations; iteration++) {
+      System.arraycopy(y, 0, v, 0, n);
+      BLAS.getInstance().dscal(n, 1 / beta, v, 1);
+
+      y = times(A, v);
+      if (iteration >= 2) {
+        BLAS.getInstance().daxpy(n, -beta / oldBeta, r1, 1, y, 1);
+      }
+
+      double alpha = BLAS.getInstance().ddot(n, v, 1, y, 1);
+      BLAS.getInstance().daxpy(n, -alpha / beta, r2, 1, y, 1);
+
+      r1 = r2;
+      r2 = y;
+      y = precondition(M, r2);
+
+      oldBeta = beta;
+      beta = BLAS.getInstance().ddot(n, r2, 1, y, 1);
+      if (beta < 0) {
         return false;
       }
+      beta = Math.sqrt(beta);
 
-      s.inPlace(Op.DIVIDE, Math.sqrt(X.n_rows - 1));
+      double oldEpsilon = epsilon;
+      double delta = cs * dbar + sn * alpha;
+      double gbar = sn * dbar - cs * alpha;
+      epsilon = sn * beta;
+      dbar = -cs * beta;
 
-      score.inPlace(Op.TIMES, coeff);
+      double gamma = Math.max(Math.hypot(gbar, beta), Datum.eps);
+      cs = gbar / gamma;
+      sn = beta / gamma;
 
-      if (X.n_rows <= X.n_cols) {
-        new ViewSubCols(score, X.n_rows - 1, X.n_cols - X.n_rows + 1).fill(0);
+      double phi = cs * phibar;
+      phibar = sn * phibar;
 
-        Col s_temp = new Col(X.n_cols, Fill.ZEROS);
-        new ViewSubRows(s_temp, 0, X.n_rows - 1).inPlace(Op.EQUAL, new ViewSubRows(s, 0, X.n_rows - 1));
-        s.inPlace(Op.EQUAL, s_temp);
+      /*
+       * w = (v - oldEpsilon * w1 - delta * w2) / gamma
+       */
+      double[] temp = w1;
+      w1 = w2;
+      w2 = w;
+      w = temp;
+      System.arraycopy(v, 0, w, 0, n);
+      BLAS.getInstance().daxpy(n, -oldEpsilon, w1, 1, w, 1);
+      BLAS.getInstance().daxpy(n, -delta, w2, 1, w, 1);
+      BLAS.getInstance().dscal(n, 1 / gamma, w, 1);
+
+      BLAS.getInstance().daxpy(n, phi, w, 1, x._data, 1);
+
+      double relativeResidual = phibar / normReference;
+      if (callback != null && !callback.update(iteration, relativeResidual)) {
+        return false;
       }
 
-      latent.inPlace(Op.EQUAL, square(s));
-    } else {
-      coeff.eye(X.n_cols, X.n_cols);
-
-      score.copy_size(X);
-      score.zeros();
+      if (relativeResidual <= tolerance) {
+        return true;
+      }
 
-      latent.set_size(X.n_cols);
-      latent.zeros();
+      if (Double.isNaN(relativeResidual)) {
+        return false;
+      }
     }
 
-    return true;
+    return false;
   }
 
   /**
-   * Performs a principal component analysis of the provided matrix and stores the principal component coefficients in
-   * {@code coeff}, the projected data in {@code score}, the eigenvalues of the covariance matrix of the provided matrix
-   * in {@code latent} and the Hotteling's statistic for each sample in {@code tsquared}.
+   * Returns the solution {@code x} of {@code A.times(x) = b} based on the restarted generalised minimal residual
+   * method.
    * <p>
-   * Returns {@code false} if the calculation failed.
+   * Restarts every 20 iterations and iterates until the residual norm is at most 1e-10 times the norm of {@code b},
+   * but at most 10 * {@code A.n_rows} times, starting from zero. See
+   * {@link #gmres(Col, LinearOperator, Col, double, int, int, Preconditioner, ConvergenceCallback)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param coeff The storage of the principal component coefficients
-   * @param score The storage of the projected data
-   * @param latent The storage of the eigenvalues of the covariance matrix
-   * @param tsquared The storage of the Hotteling's statistic for each sample
-   * @param X The matrix
+   * @param A The matrix
+   * @param b The right-hand side vector
    * 
-   * @return TODO
+   * @return The solution
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException The provided matrix and vector must have the same number of rows ({@code A.n_rows} and
+   *           {@code b.n_elem}).
+   * @throws RuntimeException The algorithm failed to converge.
    */
-  public static boolean princomp(final Mat coeff, final Mat score, final Col latent, final Col tsquared, final Mat X) {
-    if (X.n_rows > 1) {
-      score.inPlace(Op.EQUAL, X);
-      score.each_row(Op.MINUS, mean(Row.class, X));
+  public static Col gmres(final Mat A, final Col b) throws RuntimeException {
+    Col x = new Col();
+    if (!gmres(x, new MatOperator(A), b, 1e-10, 10 * A.n_rows, 20, null, null)) {
+      throw new RuntimeException("The algorithm failed to converge.");
+    }
 
-      Mat U = new Mat();
-      Col s = new Col();
+    return x;
+  }
 
-      if (!svd(U, s, coeff, score)) {
+  /**
+   * Solves {@code A.times(x) = b} for {@code x} based on the restarted generalised minimal residual method.
+   * <p>
+   * The operator {@code A} may be non-symmetric. The Krylov subspace is restarted every {@code restart} iterations,
+   * limiting the memory requirement to O(n * {@code restart}). The preconditioner is applied from the right, such that
+   * the residual norm is not affected by it.
+   * <p>
+   * If {@code x} already has {@code A.n_rows} elements, it is used as initial guess (warm start) and otherwise set to
+   * zero. Iterates until the residual norm is at most {@code tolerance} times the norm of {@code b}, but at most
+   * {@code max_iterations} times. The preconditioner {@code M} and the callback may be null.
+   * <p>
+   * Returns {@code false} if the algorithm did not converge or was stopped by the callback, while {@code x} holds
+   * the last iterate.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param x The storage of the solution and its initial guess
+   * @param A The linear operator
+   * @param b The right-hand side vector
+   * @param tolerance The tolerance
+   * @param max_iterations The maximal number of iterations
+   * @param restart The number of iterations between two restarts
+   * @param M The preconditioner
+   * @param callback The callback
+   * 
+   * @return Whether the algorithm converged
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows()}, {@code A.n_cols()})-operator must be square.
+   * @throws RuntimeException The provided operator and vector must have the same number of rows ({@code A.n_rows()}
+   *           and {@code b.n_elem}).
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be positive.
+   * @throws IllegalArgumentException The maximal number of iterations ({@code max_iterations}) must be positive.
+   * @throws IllegalArgumentException The number of iterations between two restarts ({@code restart}) must be at least 1.
+   */
+  public static boolean gmres(final Col x, final LinearOperator A, final Col b, final double tolerance, final int max_iterations, final int restart, final Preconditioner M, final ConvergenceCallback callback) throws RuntimeException, IllegalArgumentException {
+    validateIterativeSolver(x, A, b, tolerance, max_iterations);
+
+    if (restart < 1) {
+      throw new IllegalArgumentException("The number of iterations between two restarts (" + restart + ") must be at least 1.");
+    }
+
+    int n = b.n_elem;
+    double normB = BLAS.getInstance().dnrm2(n, b._data, 1);
+    if (normB == 0) {
+      x.zeros();
+      return true;
+    }
+
+    int m = Math.min(restart, n);
+    double[] basis = new double[n * (m + 1)];
+    double[] hessenberg = new double[(m + 1) * m];
+    double[] cs = new double[m];
+    double[] sn = new double[m];
+    double[] g = new double[m + 1];
+
+    int iteration = 0;
+    while (true) {
+      double[] r = residual(A, x, b);
+      double beta = BLAS.getInstance().dnrm2(n, r, 1);
+      if (beta / normB <= tolerance) {
+        return true;
+      }
+
+      if (iteration >= max_iterations || Double.isNaN(beta)) {
         return false;
       }
 
-      s.inPlace(Op.DIVIDE, Math.sqrt(X.n_rows - 1));
+      BLAS.getInstance().dscal(n, 1 / beta, r, 1);
+      System.arraycopy(r, 0, basis, 0, n);
+      Arrays.fill(g, 0);
+      g[0] = beta;
 
-      score.inPlace(Op.TIMES, coeff);
+      int j = 0;
+      while (j < m && iteration < max_iterations) {
+        double[] w = times(A, precondition(M, Arrays.copyOfRange(basis, j * n, (j + 1) * n)));
 
-      Mat S;
-      if (X.n_rows <= X.n_cols) {
-        new ViewSubCols(score, X.n_rows - 1, X.n_cols - X.n_rows + 1).fill(0);
+        /*
+         * Orthogonalises the new direction against the basis by two passes of classical Gram-Schmidt.
+         */
+        int columnIndex = j * (m + 1);
+        Arrays.fill(hessenberg, columnIndex, columnIndex + m + 1, 0);
+        for (int pass = 0; pass < 2; pass++) {
+          double[] coefficients = new double[j + 1];
+          BLAS.getInstance().dgemv("T", n, j + 1, 1, basis, n, w, 1, 0, coefficients, 1);
+          BLAS.getInstance().dgemv("N", n, j + 1, -1, basis, n, coefficients, 1, 1, w, 1);
+          for (int i = 0; i <= j; i++) {
+            hessenberg[i + columnIndex] += coefficients[i];
+          }
+        }
 
-        Col s_temp = new Col(X.n_cols, Fill.ZEROS);
-        new ViewSubRows(s_temp, 0, X.n_rows - 1).inPlace(Op.EQUAL, new ViewSubRows(s, 0, X.n_rows - 1));
-        s.inPlace(Op.EQUAL, s_temp);
+        double normW = BLAS.getInstance().dnrm2(n, w, 1);
+        hessenberg[j + 1 + columnIndex] = normW;
+        if (normW > 0) {
+          BLAS.getInstance().dscal(n, 1 / normW, w, 1);
+        }
+        System.arraycopy(w, 0, basis, (j + 1) * n, n);
 
-        new ViewSubRows(s_temp, 0, X.n_rows - 1).inPlace(Op.EQUAL, reciprocal(s_temp.rows(0, X.n_rows - 2)));
+        /*
+         * Applies all previous Givens rotations to the new column and eliminates its subdiagonal element.
+         */
+        for (int i = 0; i < j; i++) {
+          double upper = hessenberg[i + columnIndex];
+          double lower = hessenberg[i + 1 + columnIndex];
+          hessenberg[i + columnIndex] = cs[i] * upper + sn[i] * lower;
+          hessenberg[i + 1 + columnIndex] = -sn[i] * upper + cs[i] * lower;
+        }
 
-        S = score.times(diagmat(s_temp));
-      } else {
-        S = score.times(diagmat(reciprocal(s)));
-      }
+        double diagonal = hessenberg[j + columnIndex];
+        double radius = Math.hypot(diagonal, normW);
+        cs[j] = (radius == 0) ? 1 : diagonal / radius;
+        sn[j] = (radius == 0) ? 0 : normW / radius;
+        hessenberg[j + columnIndex] = radius;
+        hessenberg[j + 1 + columnIndex] = 0;
 
-      tsquared.inPlace(Op.EQUAL, sum(Col.class, square(S), 1));
-      latent.inPlace(Op.EQUAL, square(s));
-    } else {
-      coeff.eye(X.n_cols, X.n_cols);
+        g[j + 1] = -sn[j] * g[j];
+        g[j] = cs[j] * g[j];
 
-      score.copy_size(X);
-      score.zeros();
+        j++;
+        iteration++;
 
-      latent.set_size(X.n_cols);
-      latent.zeros();
+        double relativeResidual = Math.abs(g[j]) / normB;
+        if (callback != null && !callback.update(iteration, relativeResidual)) {
+          updateGmres(x, M, basis, hessenberg, g, n, m, j);
+          return false;
+        }
 
-      tsquared.set_size(X.n_rows);
-      tsquared.zeros();
-    }
+        if (relativeResidual <= tolerance || normW == 0) {
+          break;
+        }
+      }
 
-    return true;
+      /*
+       * If converged, the estimated residual norm might still differ from the actual one due to rounding errors, which
+       * is checked by the next restart.
+       */
+      updateGmres(x, M, basis, hessenberg, g, n, m, j);
+    }
   }
 
   /**
-   * Performs a QR decomposition of the provided matrix and stores the orthogonal matrix in {@code Q}, the right
-   * -triangular matrix in {@code R}, such that {@code Q.times(U) = X}.
-   * <p>
-   * Returns {@code false} if the decomposition failed.
-   * 
-   * @param Q The storage of the orthogonal matrix
-   * @param R The storage of the right-triangular matrix
-   * @param X The matrix
+   * Adds the (preconditioned) linear combination of the first {@code j} basis vectors, minimising the residual norm,
+   * to {@code x}.
    * 
-   * @return TODO
+   * @param x The current solution
+   * @param M The preconditioner
+   * @param basis The basis
+   * @param hessenberg The triangularised Hessenberg matrix
+   * @param g The rotated right-hand side
+   * @param n The number of rows
+   * @param m The maximal number of basis vectors
+   * @param j The number of basis vectors
    */
-  public static boolean qr(final Mat Q, final Mat R, final Mat X) {
-    if (X.empty()) {
-      return false;
+  protected static void updateGmres(final Col x, final Preconditioner M, final double[] basis, final double[] hessenberg, final double[] g, final int n, final int m, final int j) {
+    if (j == 0) {
+      return;
     }
 
-    R.inPlace(Op.EQUAL, X);
-
-    double[] tau = new double[Math.min(X.n_rows, X.n_cols)];
-    double[] work = new double[Math.max(1, Math.max(X.n_rows, X.n_cols))];
-    intW info = new intW(0);
-
-    LAPACK.getInstance().dgeqrf(X.n_rows, X.n_cols, R._data, X.n_rows, tau, work, work.length, info);
-
-    if (info.val != 0) {
-      return false;
-    }
+    double[] y = Arrays.copyOf(g, j);
+    BLAS.getInstance().dtrsv("U", "N", "N", j, hessenberg, m + 1, y, 1);
 
-    Q.set_size(X.n_rows, X.n_rows);
-    System.arraycopy(R._data, 0, Q._data, 0, Math.min(Q.n_elem, R.n_elem));
+    double[] update = new double[n];
+    BLAS.getInstance().dgemv("N", n, j, 1, basis, n, y, 1, 0, update, 1);
+    BLAS.getInstance().daxpy(n, 1, precondition(M, update), 1, x._data, 1);
+  }
 
-    for (int j = 0; j < R.n_cols; j++) {
-      for (int i = (j + 1); i < R.n_rows; i++) {
-        R._data[i + j * R.n_rows] = 0;
-      }
+  /**
+   * Returns the solution {@code x} of {@code A.times(x) = b} based on the biconjugate gradient stabilised method.
+   * <p>
+   * Iterates until the residual norm is at most 1e-10 times the norm of {@code b}, but at most 10 * {@code A.n_rows}
+   * times, starting from zero. See
+   * {@link #bicgstab(Col, LinearOperator, Col, double, int, Preconditioner, ConvergenceCallback)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param A The matrix
+   * @param b The right-hand side vector
+   * 
+   * @return The solution
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException The provided matrix and vector must have the same number of rows ({@code A.n_rows} and
+   *           {@code b.n_elem}).
+   * @throws RuntimeException The algorithm failed to converge.
+   */
+  public static Col bicgstab(final Mat A, final Col b) throws RuntimeException {
+    Col x = new Col();
+    if (!bicgstab(x, new MatOperator(A), b, 1e-10, 10 * A.n_rows, null, null)) {
+      throw new RuntimeException("The algorithm failed to converge.");
     }
 
-    LAPACK.getInstance().dorgqr(X.n_rows, X.n_rows, tau.length, Q._data, X.n_rows, tau, work, work.length, info);
-
-    return (info.val == 0);
+    return x;
   }
 
   /**
-   * Performs an economical (memory friendly) QR decomposition of the provided matrix and stores the orthogonal matrix
-   * in {@code Q}, the right -triangular matrix in {@code R}, such that {@code Q.times(U) = X}.
+   * Solves {@code A.times(x) = b} for {@code x} based on the biconjugate gradient stabilised method.
    * <p>
-   * {@code R} is calculated only up to the first {@code X.n_rows} rows and {@code Q} up to the first {@code X.n_cols}
-   * columns.
+   * The operator {@code A} may be non-symmetric. Unlike {@link #gmres(Col, LinearOperator, Col, double, int, int,
+   * Preconditioner, ConvergenceCallback)}, the memory requirement is independent of the number of iterations. The
+   * preconditioner is applied from the right, such that the residual norm is not affected by it.
    * <p>
-   * Returns {@code false} if the decomposition failed.
+   * If {@code x} already has {@code A.n_rows} elements, it is used as initial guess (warm start) and otherwise set to
+   * zero. Iterates until the residual norm is at most {@code tolerance} times the norm of {@code b}, but at most
+   * {@code max_iterations} times. The preconditioner {@code M} and the callback may be null.
+   * <p>
+   * Returns {@code false} if the algorithm did not converge or was stopped by the callback, while {@code x} holds
+   * the last iterate.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
    * 
-   * @param Q The storage of the orthogonal matrix
-   * @param R The storage of the right-triangular matrix
-   * @param X The matrix
+   * @param x The storage of the solution and its initial guess
+   * @param A The linear operator
+   * @param b The right-hand side vector
+   * @param tolerance The tolerance
+   * @param max_iterations The maximal number of iterations
+   * @param M The preconditioner
+   * @param callback The callback
    * 
-   * @return TODO
+   * @return Whether the algorithm converged
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows()}, {@code A.n_cols()})-operator must be square.
+   * @throws RuntimeException The provided operator and vector must have the same number of rows ({@code A.n_rows()}
+   *           and {@code b.n_elem}).
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be positive.
+   * @throws IllegalArgumentException The maximal number of iterations ({@code max_iterations}) must be positive.
    */
-  public static boolean qr_econ(final Mat Q, final Mat R, final Mat X) {
-    if (X.is_empty()) {
-      return false;
-    }
+  public static boolean bicgstab(final Col x, final LinearOperator A, final Col b, final double tolerance, final int max_iterations, final Preconditioner M, final ConvergenceCallback callback) throws RuntimeException, IllegalArgumentException {
+    validateIterativeSolver(x, A, b, tolerance, max_iterations);
 
-    if (X.n_rows <= X.n_cols) {
-      return qr(Q, R, X);
+    int n = b.n_elem;
+    double normB = BLAS.getInstance().dnrm2(n, b._data, 1);
+    if (normB == 0) {
+      x.zeros();
+      return true;
     }
 
-    Q.inPlace(Op.EQUAL, X);
+    double[] r = residual(A, x, b);
+    double relativeResidual = BLAS.getInstance().dnrm2(n, r, 1) / normB;
+    if (relativeResidual <= tolerance) {
+      return true;
+    }
 
-    double[] tau = new double[Math.min(X.n_rows, X.n_cols)];
-    double[] work = new double[Math.max(1, Math.max(X.n_rows, X.n_cols))];
-    intW info = new intW(0);
+    double[] shadow = Arrays.copyOf(r, n);
+    double[] p = new double[n];
+    double[] v = new double[n];
+    double rho = 1;
+    double alpha = 1;
+    double omega = 1;
 
-    LAPACK.getInstance().dgeqrf(X.n_rows, X.n_cols, Q._data, X.n_rows, tau, work, work.length, info);
+    for (int iteration = 1; iteration <= max_iterations; iteration++) {
+      double rhoNew = BLAS.getInstance().ddot(n, shadow, 1, r, 1);
+      if (rhoNew == 0 || omega == 0) {
+        /*
+         * Breakdown of the underlying biconjugate gradient method.
+         */
+        return false;
+      }
 
-    if (info.val != 0) {
-      return false;
-    }
+      /*
+       * p = r + beta * (p - omega * v)
+       */
+      double beta = (rhoNew / rho) * (alpha / omega);
+      BLAS.getInstance().daxpy(n, -omega, v, 1, p, 1);
+      BLAS.getInstance().dscal(n, beta, p, 1);
+      BLAS.getInstance().daxpy(n, 1, r, 1, p, 1);
 
-    R.set_size(X.n_cols, X.n_cols);
+      double[] preconditionedP = precondition(M, p);
+      v = times(A, preconditionedP);
+      alpha = rhoNew / BLAS.getInstance().ddot(n, shadow, 1, v, 1);
 
-    for (int j = 0; j < R.n_cols; j++) {
-      for (int i = 0; i <= j; ++i) {
-        R._data[i + j * R.n_rows] = Q._data[i + j * Q.n_rows];
-      }
+      /*
+       * s = r - alpha * v, stored in r
+       */
+      BLAS.getInstance().daxpy(n, -alpha, v, 1, r, 1);
+      BLAS.getInstance().daxpy(n, alpha, preconditionedP, 1, x._data, 1);
 
-      for (int i = (j + 1); i < R.n_cols; i++) {
-        R._data[i + j * R.n_rows] = 0;
+      relativeResidual = BLAS.getInstance().dnrm2(n, r, 1) / normB;
+      if (relativeResidual <= tolerance) {
+        if (callback != null) {
+          callback.update(iteration, relativeResidual);
+        }
+        return true;
       }
-    }
 
-    LAPACK.getInstance().dorgqr(X.n_rows, X.n_cols, tau.length, Q._data, X.n_rows, tau, work, work.length, info);
+      double[] preconditionedS = precondition(M, r);
+      double[] t = times(A, preconditionedS);
+      double tt = BLAS.getInstance().ddot(n, t, 1, t, 1);
+      omega = (tt == 0) ? 0 : BLAS.getInstance().ddot(n, t, 1, r, 1) / tt;
 
-    return (info.val == 0);
-  }
+      BLAS.getInstance().daxpy(n, omega, preconditionedS, 1, x._data, 1);
+      BLAS.getInstance().daxpy(n, -omega, t, 1, r, 1);
 
-  /**
-   * Returns the solution of a system of linear equations {@code A.times(X) = B} with unknown {@code X}.
-   * 
-   * @param A The matrix A
-   * @param B The matrix B
-   * 
-   * @return TODO
-   * 
-   * @throws RuntimeException Both matrices must have the same number of rows ({@code A.n_rows} and {@code B.n_rows}).
-   * @throws RuntimeException No solution was found.
-   */
-  public static Mat solve(final Mat A, final Mat B) throws RuntimeException {
-    if (A.n_rows != B.n_rows) {
-      throw new RuntimeException("Both matrices must have the same number of rows (" + A.n_rows + " and " + B.n_rows + ").");
-    }
+      relativeResidual = BLAS.getInstance().dnrm2(n, r, 1) / normB;
+      if (callback != null && !callback.update(iteration, relativeResidual)) {
+        return false;
+      }
 
-    Mat X = new Mat();
-    if (!solve(X, A, B)) {
-      throw new RuntimeException("No solution was found.");
+      if (relativeResidual <= tolerance) {
+        return true;
+      }
+
+      if (Double.isNaN(relativeResidual)) {
+        return false;
+      }
+
+      rho = rhoNew;
     }
 
-    return X;
+    return false;
   }
 
   /**
-   * Solves a system of linear equations {@code A.times(X) = B} with unknown {@code X} and stores the solution in
-   * {@code X}.
-   * <p>
-   * Returns {@code false} if the calculation failed.
+   * Validates the arguments of an iterative solver and initialises the solution if no initial guess is provided.
    * 
-   * @param X The storage of the solution
-   * @param A The matrix A
-   * @param B The matrix B
+   * @param x The storage of the solution and its initial guess
+   * @param A The linear operator
+   * @param b The right-hand side vector
+   * @param tolerance The tolerance
+   * @param max_iterations The maximal number of iterations
    * 
-   * @return TODO
+   * @throws RuntimeException The provided ({@code A.n_rows()}, {@code A.n_cols()})-operator must be square.
+   * @throws RuntimeException The provided operator and vector must have the same number of rows ({@code A.n_rows()}
+   *           and {@code b.n_elem}).
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be positive.
+   * @throws IllegalArgumentException The maximal number of iterations ({@code max_iterations}) must be positive.
    */
-  public static boolean solve(final Mat X, final Mat A, final Mat B) {
-    if (A.n_rows != B.n_rows) {
-      throw new RuntimeException("Both matrices must have the same number of rows (" + A.n_rows + " and " + B.n_rows + ").");
+  protected static void validateIterativeSolver(final Col x, final LinearOperator A, final Col b, final double tolerance, final int max_iterations) throws RuntimeException, IllegalArgumentException {
+    if (A.n_rows() != A.n_cols()) {
+      throw new RuntimeException("The provided (" + A.n_rows() + ", " + A.n_cols() + ")-operator must be square.");
     }
 
-    if (A.empty() || B.empty()) {
-      return false;
+    if (A.n_rows() != b.n_elem) {
+      throw new RuntimeException("The provided operator and vector must have the same number of rows (" + A.n_rows() + " and " + b.n_elem + ").");
     }
 
-    X.set_size(A.n_cols, B.n_cols);
-    intW info = new intW(0);
+    if (!(tolerance >= 0)) {
+      throw new IllegalArgumentException("The specified tolerance (" + tolerance + ") must be positive.");
+    }
 
-    if (A.n_rows == A.n_cols) {
-      double[] tempA = Arrays.copyOf(A._data, A.n_elem);
-      System.arraycopy(B._data, 0, X._data, 0, B.n_elem);
-      int[] pivotIndices = new int[A.n_rows + 2];
+    if (max_iterations < 0) {
+      throw new IllegalArgumentException("The maximal number of iterations (" + max_iterations + ") must be positive.");
+    }
 
-      LAPACK.getInstance().dgesv(A.n_rows, B.n_cols, tempA, A.n_rows, pivotIndices, X._data, A.n_rows, info);
-    } else if (A.n_rows > A.n_cols) {
-      double[] tempA = Arrays.copyOf(A._data, A.n_elem);
-      double[] tempB = Arrays.copyOf(B._data, B.n_elem);
-      double[] work = new double[3 * Math.max(1, A.n_cols + Math.max(A.n_cols, B.n_cols))];
+    if (x.n_elem != b.n_elem) {
+      x.zeros(b.n_elem);
+    }
+  }
 
-      LAPACK.getInstance().dgels("N", A.n_rows, A.n_cols, B.n_cols, tempA, A.n_rows, tempB, A.n_rows, work, work.length, info);
-      System.arraycopy(tempB, 0, X._data, 0, X.n_elem);
-    } else {
-      double[] tempA = Arrays.copyOf(A._data, A.n_elem);
-      double[] tempB = new double[X.n_elem];
-      for (int j = 0; j < B.n_cols; j++) {
-        System.arraycopy(B._data, j * B.n_rows, tempB, j * X.n_rows, B.n_rows);
-      }
-      double[] work = new double[3 * Math.max(1, A.n_cols + Math.max(A.n_cols, B.n_cols))];
+  /**
+   * Returns {@code b - A.times(x)}.
+   * 
+   * @param A The linear operator
+   * @param x The vector
+   * @param b The right-hand side vector
+   * 
+   * @return The residual
+   */
+  protected static double[] residual(final LinearOperator A, final Col x, final Col b) {
+    double[] r = Arrays.copyOf(b._data, b.n_elem);
+    BLAS.getInstance().daxpy(b.n_elem, -1, A.times(x)._data, 1, r, 1);
+    return r;
+  }
 
-      LAPACK.getInstance().dgels("N", A.n_rows, A.n_cols, B.n_cols, tempA, A.n_rows, tempB, A.n_cols, work, work.length, info);
-      System.arraycopy(tempB, 0, X._data, 0, X.n_elem);
+  /**
+   * Returns the product of the provided linear operator with the provided vector.
+   * 
+   * @param A The linear operator
+   * @param x The vector
+   * 
+   * @return The product
+   */
+  protected static double[] times(final LinearOperator A, final double[] x) {
+    Col temp = new Col(x.length);
+    System.arraycopy(x, 0, temp._data, 0, x.length);
+    return A.times(temp)._data;
+  }
+
+  /**
+   * Returns the provided vector preconditioned by {@code M}, or the vector itself if {@code M} is null.
+   * 
+   * @param M The preconditioner
+   * @param x The vector
+   * 
+   * @return The preconditioned vector
+   */
+  protected static double[] precondition(final Preconditioner M, final double[] x) {
+    if (M == null) {
+      return x;
     }
 
-    return (info.val == 0);
+    Col temp = new Col(x.length);
+    System.arraycopy(x, 0, temp._data, 0, x.length);
+    return M.solve(temp)._data;
   }
 
   /**
@@ -7275,6 +10488,31 @@ public class Arma {
    * @return TODO
    */
   public static boolean svd(final Mat U, final Col s, final Mat V, final Mat X) {
+    return svd(U, s, V, X, defaultMethod(X));
+  }
+
+  /**
+   * Performs a singular value decomposition of the provided matrix and stores the singular values in descending order
+   * in {@code s}, such that {@code U.times(diagmat(s)).times(transpose(V)) = X}.
+   * <ul>
+   * <li>For {@code method} = "dc", the divide-and-conquer algorithm is used, which is considerably faster for large
+   * matrices.
+   * <li>For {@code method} = "std", the standard algorithm is used.
+   * </ul>
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * 
+   * @param U The storage of U
+   * @param s The storage of the singular values
+   * @param V The storage of V
+   * @param X The matrix
+   * @param method The algorithm
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'dc' or 'std'.
+   */
+  public static boolean svd(final Mat U, final Col s, final Mat V, final Mat X, final String method) throws IllegalArgumentException {
     if (X.is_empty()) {
       return false;
     }
@@ -7284,10 +10522,20 @@ public class Arma {
     V.set_size(X.n_cols, X.n_cols);
 
     double[] temp = Arrays.copyOf(X._data, X.n_elem);
-    double[] work = new double[Math.max(1, Math.max(3 * Math.min(X.n_rows, X.n_cols) + Math.max(X.n_rows, X.n_cols), 5 * Math.min(X.n_rows, X.n_cols)))];
     intW info = new intW(0);
 
-    LAPACK.getInstance().dgesvd("A", "A", X.n_rows, X.n_cols, temp, X.n_rows, s._data, U._data, U.n_rows, V._data, V.n_rows, work, work.length, info);
+    switch (method) {
+      case "dc":
+        gesdd("A", X.n_rows, X.n_cols, temp, s._data, U._data, U.n_rows, V._data, V.n_rows, info);
+        break;
+      case "std": {
+        double[] work = new double[Math.max(1, Math.max(3 * Math.min(X.n_rows, X.n_cols) + Math.max(X.n_rows, X.n_cols), 5 * Math.min(X.n_rows, X.n_cols)))];
+        LAPACK.getInstance().dgesvd("A", "A", X.n_rows, X.n_cols, temp, X.n_rows, s._data, U._data, U.n_rows, V._data, V.n_rows, work, work.length, info);
+        break;
+      }
+      default:
+        throw new IllegalArgumentException("The specified method (" + method + ") must be one of 'dc' or 'std'.");
+    }
 
     inplace_trans(V);
 
@@ -7333,10 +10581,51 @@ public class Arma {
    * @throws IllegalArgumentException The specified side ({@code side}) must be one of 'left', 'right' or 'both'.
    */
   public static boolean svd_econ(final Mat U, final Col s, final Mat V, final Mat X, final String side) throws IllegalArgumentException {
+    return svd_econ(U, s, V, X, side, defaultMethod(X));
+  }
+
+  /**
+   * Performs an economical (memory friendly) singular value decomposition of the provided matrix and stores the
+   * singular values in descending order in {@code s}.
+   * <ul>
+   * <li>For {@code side} = "left", only the left-singular vectors are calculated.
+   * <li>For {@code side} = "right", only the right-singular vectors are calculated.
+   * <li>For {@code side} = "both", both the left-singular and right-singular vectors are calculated.
+   * </ul>
+   * <ul>
+   * <li>For {@code method} = "dc", the divide-and-conquer algorithm is used, which is considerably faster for large
+   * matrices. It always calculates both sides.
+   * <li>For {@code method} = "std", the standard algorithm is used.
+   * </ul>
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * 
+   * @param U The storage of the left-singular vectors U
+   * @param s The storage of the singular values
+   * @param V The storage of the right-singular vectors V
+   * @param X The matrix
+   * @param side The singular vectors to be calculated
+   * @param method The algorithm
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The specified side ({@code side}) must be one of 'left', 'right' or 'both'.
+   * @throws IllegalArgumentException The specified method ({@code method}) must be one of 'dc' or 'std'.
+   */
+  public static boolean svd_econ(final Mat U, final Col s, final Mat V, final Mat X, final String side, final String method) throws IllegalArgumentException {
     if (X.is_empty()) {
       return false;
     }
 
+    switch (method) {
+      case "dc":
+        return svd_econ_dc(U, s, V, X, side);
+      case "std":
+        break;
+      default:
+        throw new IllegalArgumentException("The specified method (" + method + ") must be one of 'dc' or 'std'.");
+    }
+
     s.set_size(Math.min(X.n_rows, X.n_cols));
 
     double[] temp = Arrays.copyOf(X._data, X.n_elem);
@@ -7371,6 +10660,262 @@ public class Arma {
     return (info.val == 0);
   }
 
+  /**
+   * Returns the {@code k} largest singular values of the provided matrix in descending order, based on a randomised
+   * truncated singular value decomposition.
+   * <p>
+   * Uses 10 additional samples and 2 power iterations. See
+   * {@link #svds(Mat, Col, Mat, Mat, int, int, int)} for details.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ provides {@code svds} only for sparse matrices, based on a different
+   * algorithm.
+   * 
+   * @param X The matrix
+   * @param k The number of singular values
+   * 
+   * @return The singular values
+   * 
+   * @throws RuntimeException The decomposition could not be completed.
+   * @throws IllegalArgumentException The number of singular values ({@code k}) must be within [1, {@code min(X.n_rows,
+   *           X.n_cols)}].
+   */
+  public static Col svds(final Mat X, final int k) throws RuntimeException, IllegalArgumentException {
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+    if (!svds(U, s, V, X, k)) {
+      throw new RuntimeException("The decomposition could not be completed.");
+    }
+
+    return s;
+  }
+
+  /**
+   * Performs a randomised truncated singular value decomposition of the provided matrix and stores the {@code k}
+   * largest singular values in descending order in {@code s} and the corresponding left-singular and right-singular
+   * vectors in {@code U} and {@code V}.
+   * <p>
+   * Uses 10 additional samples and 2 power iterations. See
+   * {@link #svds(Mat, Col, Mat, Mat, int, int, int)} for details.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ provides {@code svds} only for sparse matrices, based on a different
+   * algorithm.
+   * 
+   * @param U The storage of the left-singular vectors U
+   * @param s The storage of the singular values
+   * @param V The storage of the right-singular vectors V
+   * @param X The matrix
+   * @param k The number of singular values
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The number of singular values ({@code k}) must be within [1, {@code min(X.n_rows,
+   *           X.n_cols)}].
+   */
+  public static boolean svds(final Mat U, final Col s, final Mat V, final Mat X, final int k) throws IllegalArgumentException {
+    return svds(U, s, V, X, k, 10, 2);
+  }
+
+  /**
+   * Performs a randomised truncated singular value decomposition of the provided matrix and stores the {@code k}
+   * largest singular values in descending order in {@code s} and the corresponding left-singular and right-singular
+   * vectors in {@code U} and {@code V}.
+   * <p>
+   * The range of {@code X} is approximated by an orthonormal basis Q of {@code X.times(randn(X.n_cols, k +
+   * n_oversamples))}, refined by {@code n_power_iterations} power iterations. The singular value decomposition is then
+   * performed on the small matrix {@code Q.t().times(X)} only. Additional samples and power iterations increase the
+   * accuracy, especially for slowly decaying singular values, at the cost of runtime.
+   * <p>
+   * The random samples are drawn from {@link RNG} and are therefore reproducible by {@link RNG#set_seed(long)}.
+   * <p>
+   * Returns {@code false} if the decomposition failed.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ provides {@code svds} only for sparse matrices, based on a different
+   * algorithm.
+   * 
+   * @param U The storage of the left-singular vectors U
+   * @param s The storage of the singular values
+   * @param V The storage of the right-singular vectors V
+   * @param X The matrix
+   * @param k The number of singular values
+   * @param n_oversamples The number of additional samples
+   * @param n_power_iterations The number of power iterations
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The number of singular values ({@code k}) must be within [1, {@code min(X.n_rows,
+   *           X.n_cols)}].
+   * @throws IllegalArgumentException The number of additional samples ({@code n_oversamples}) must be positive.
+   * @throws IllegalArgumentException The number of power iterations ({@code n_power_iterations}) must be positive.
+   */
+  public static boolean svds(final Mat U, final Col s, final Mat V, final Mat X, final int k, final int n_oversamples, final int n_power_iterations) throws IllegalArgumentException {
+    int n_singularValues = Math.min(X.n_rows, X.n_cols);
+    if (k < 1 || k > n_singularValues) {
+      throw new IllegalArgumentException("The number of singular values (" + k + ") must be within [1, " + n_singularValues + "].");
+    }
+
+    if (n_oversamples < 0) {
+      throw new IllegalArgumentException("The number of additional samples (" + n_oversamples + ") must be positive.");
+    }
+
+    if (n_power_iterations < 0) {
+      throw new IllegalArgumentException("The number of power iterations (" + n_power_iterations + ") must be positive.");
+    }
+
+    int n_samples = Math.min(k + n_oversamples, n_singularValues);
+
+    Mat Q = new Mat();
+    Mat R = new Mat();
+
+    /*
+     * Each multiplication is followed by an orthonormalisation, as the power iterations would otherwise lose all
+     * information but the largest singular values due to rounding errors.
+     */
+    if (!qr_econ(Q, R, X.times(randn(X.n_cols, n_samples)))) {
+      return false;
+    }
+
+    for (int n = 0; n < n_power_iterations; n++) {
+      if (!qr_econ(Q, R, transposeTimes(X, Q))) {
+        return false;
+      }
+
+      if (!qr_econ(Q, R, X.times(Q))) {
+        return false;
+      }
+    }
+
+    /*
+     * The singular values of Q.t().times(X) approximate the largest ones of X, while its left-singular vectors need
+     * to be projected back by Q.
+     */
+    Mat W = new Mat();
+    if (!svd_econ(W, s, V, transposeTimes(Q, X))) {
+      return false;
+    }
+
+    U.inPlace(Op.EQUAL, Q.times(W.cols(0, k - 1)));
+    if (s.n_elem > k) {
+      s.inPlace(Op.EQUAL, s.rows(0, k - 1));
+      V.inPlace(Op.EQUAL, V.cols(0, k - 1));
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns {@code A.t().times(B)} without creating the transpose of {@code A}.
+   * 
+   * @param A The left-hand side matrix
+   * @param B The right-hand side matrix
+   * 
+   * @return The product
+   */
+  protected static Mat transposeTimes(final Mat A, final Mat B) {
+    Mat result = new Mat(A.n_cols, B.n_cols);
+
+    if (A.n_rows > 0) {
+      BLAS.getInstance().dgemm("T", "N", A.n_cols, B.n_cols, A.n_rows, 1, A._data, A.n_rows, B._data, B.n_rows, 0, result._data, Math.max(1, result.n_rows));
+    } else {
+      result.zeros();
+    }
+
+    return result;
+  }
+
+  /**
+   * Performs an economical singular value decomposition of the provided non-empty matrix by the divide-and-conquer
+   * algorithm.
+   * 
+   * @param U The storage of the left-singular vectors U
+   * @param s The storage of the singular values
+   * @param V The storage of the right-singular vectors V
+   * @param X The matrix
+   * @param side The singular vectors to be kept
+   * 
+   * @return Whether the decomposition succeeded
+   * 
+   * @throws IllegalArgumentException The specified side ({@code side}) must be one of 'left', 'right' or 'both'.
+   */
+  protected static boolean svd_econ_dc(final Mat U, final Col s, final Mat V, final Mat X, final String side) throws IllegalArgumentException {
+    switch (side) {
+      case "left":
+      case "right":
+      case "both":
+        break;
+      default:
+        throw new IllegalArgumentException("The specified side (" + side + ") must be one of 'left', 'right' or 'both'.");
+    }
+
+    int n_singularValues = Math.min(X.n_rows, X.n_cols);
+    s.set_size(n_singularValues);
+
+    /*
+     * The divide-and-conquer driver calculates either none or both sides.
+     */
+    Mat left = side.equals("right") ? new Mat() : U;
+    Mat right = side.equals("left") ? new Mat() : V;
+    left.set_size(X.n_rows, n_singularValues);
+    right.set_size(n_singularValues, X.n_cols);
+
+    double[] temp = Arrays.copyOf(X._data, X.n_elem);
+    intW info = new intW(0);
+
+    gesdd("S", X.n_rows, X.n_cols, temp, s._data, left._data, left.n_rows, right._data, right.n_rows, info);
+
+    if (side.equals("right")) {
+      U.reset();
+    } else if (side.equals("left")) {
+      V.reset();
+    }
+    inplace_trans(V);
+
+    return (info.val == 0);
+  }
+
+  /**
+   * Performs a singular value decomposition of the provided (m, n)-matrix by the divide-and-conquer algorithm,
+   * overwriting {@code a}.
+   * 
+   * @param jobz Either "N", "S" or "A"
+   * @param m The number of rows
+   * @param n The number of columns
+   * @param a The matrix
+   * @param s The storage of the singular values
+   * @param u The storage of the left-singular vectors
+   * @param ldu The leading dimension of {@code u}
+   * @param vt The storage of the transposed right-singular vectors
+   * @param ldvt The leading dimension of {@code vt}
+   * @param info The status
+   */
+  protected static void gesdd(final String jobz, final int m, final int n, final double[] a, final double[] s, final double[] u, final int ldu, final double[] vt, final int ldvt, final intW info) {
+    int[] iwork = new int[8 * Math.min(m, n)];
+
+    /*
+     * Queries the optimal workspace size first.
+     */
+    double[] work = new double[1];
+    LAPACK.getInstance().dgesdd(jobz, m, n, a, Math.max(1, m), s, u, Math.max(1, ldu), vt, Math.max(1, ldvt), work, -1, iwork, info);
+
+    work = new double[Math.max(1, (int) work[0])];
+    LAPACK.getInstance().dgesdd(jobz, m, n, a, Math.max(1, m), s, u, Math.max(1, ldu), vt, Math.max(1, ldvt), work, work.length, iwork, info);
+  }
+
+  /**
+   * Returns the default algorithm for Eigen and singular value decompositions of the provided matrix.
+   * <p>
+   * Returns "dc" if the smaller dimension is at least {@link #DIVIDE_AND_CONQUER_THRESHOLD} and "std" otherwise.
+   * 
+   * @param X The matrix
+   * 
+   * @return The algorithm
+   */
+  protected static String defaultMethod(final AbstractMat X) {
+    return (Math.min(X.n_rows, X.n_cols) >= DIVIDE_AND_CONQUER_THRESHOLD) ? "dc" : "std";
+  }
+
   /**
    * Returns the solution of the Sylvester equations {@code A.times(X) + X.times(B) = C} with unknown {@code X}.
    * 
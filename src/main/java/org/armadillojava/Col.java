@@ -13,8 +13,6 @@
  ******************************************************************************/
 package org.armadillojava;
 
-import java.util.Arrays;
-
 import com.github.fommil.netlib.BLAS;
 
 /**
@@ -128,13 +126,10 @@ public class Col extends AbstractVector {
    * 
    * @param view The sub view
    */
-  protected Col(final AbstractView view) {
+  public Col(final AbstractView view) {
     copy_size(view);
 
-    view.iteratorReset();
-    for (int n = 0; n < n_elem; n++) {
-      _data[n] = view._data[view.iteratorNext()];
-    }
+    view.gather(_data);
   }
 
   /**
@@ -404,12 +399,18 @@ public class Col extends AbstractVector {
       copy_size(X);
       System.arraycopy(X._data, 0, _data, 0, X.n_elem);
     } else {
-      double[] temp = Arrays.copyOf(_data, n_elem);
-      set_size(n_elem + X.n_elem);
+      /*
+       * set_size(int) allocates a new array, so the current one can be read from without copying it first. This also
+       * holds if X is this vector.
+       */
+      double[] temp = _data;
+      double[] dataX = X._data;
+      int n_elemX = X.n_elem;
+      set_size(n_elem + n_elemX);
 
       System.arraycopy(temp, 0, _data, 0, row_number);
-      System.arraycopy(X._data, 0, _data, row_number, X.n_elem);
-      System.arraycopy(temp, row_number, _data, row_number + X.n_elem, temp.length - row_number);
+      System.arraycopy(dataX, 0, _data, row_number, n_elemX);
+      System.arraycopy(temp, row_number, _data, row_number + n_elemX, temp.length - row_number);
     }
   }
 
@@ -436,7 +437,10 @@ public class Col extends AbstractVector {
     } else if (is_empty()) {
       set_size(number_of_rows);
     } else {
-      double[] temp = Arrays.copyOf(_data, n_elem);
+      /*
+       * set_size(int) allocates a new array, so the current one can be read from without copying it first.
+       */
+      double[] temp = _data;
       set_size(n_elem + number_of_rows);
 
       System.arraycopy(temp, 0, _data, 0, row_number);
@@ -966,7 +970,10 @@ public class Col extends AbstractVector {
       throw new IndexOutOfBoundsException("The specified row (" + row_number + ") is out of bound.");
     }
 
-    double[] temp = Arrays.copyOf(_data, n_elem);
+    /*
+     * set_size(int) allocates a new array, so the current one can be read from without copying it first.
+     */
+    double[] temp = _data;
     set_size(n_elem - 1);
 
     System.arraycopy(temp, 0, _data, 0, row_number);
@@ -997,7 +1004,10 @@ public class Col extends AbstractVector {
       throw new IndexOutOfBoundsException("The last specified row (" + last_row + ") is out of bound.");
     }
 
-    double[] temp = Arrays.copyOf(_data, n_elem);
+    /*
+     * set_size(int) allocates a new array, so the current one can be read from without copying it first.
+     */
+    double[] temp = _data;
     set_size(n_elem - (last_row - first_row + 1));
 
     System.arraycopy(temp, 0, _data, 0, first_row);
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides a callback for iterative solvers, invoked after each iteration.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public interface ConvergenceCallback {
+
+  /**
+   * Is called after each iteration of an iterative solver.
+   * <p>
+   * Returns {@code false} to stop the solver early.
+   * 
+   * @param iteration The number of completed iterations
+   * @param relative_residual The residual norm relative to the norm of the right-hand side
+   * 
+   * @return Whether the solver should continue
+   */
+  boolean update(int iteration, double relative_residual);
+
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides a diagonal matrix as linear operator, storing only its diagonal.
+ * <p>
+ * Products with a diagonal matrix scale the rows (from the left) or columns (from the right) of the other multiplier.
+ * This requires O(n) memory and O({@code X.n_elem}) operations for a multiplier X, instead of O(n^2) memory and
+ * O(n * {@code X.n_elem}) operations for the product with {@link Arma#diagmat(AbstractVector)}.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class DiagOperator implements LinearOperator {
+
+  /**
+   * The diagonal
+   */
+  protected final Col _diagonal;
+
+  /**
+   * Creates a diagonal matrix with the provided vector set as the main diagonal.
+   * <p>
+   * The vector is copied.
+   * 
+   * @param X The vector
+   */
+  public DiagOperator(final AbstractVector X) {
+    _diagonal = new Col(X._data);
+  }
+
+  /**
+   * Creates a diagonal matrix with the main diagonal of the provided square matrix, equal to
+   * {@link Arma#diagmat(Mat)}.
+   * 
+   * @param X The matrix
+   * 
+   * @throws RuntimeException The provided ({@code X.n_rows}, {@code X.n_cols})-matrix must be square.
+   */
+  public DiagOperator(final Mat X) throws RuntimeException {
+    if (!X.is_square()) {
+      throw new RuntimeException("The provided (" + X.n_rows + ", " + X.n_cols + ")-matrix must be square.");
+    }
+
+    _diagonal = new Col(Mat.diagonal(X));
+  }
+
+  @Override
+  public int n_rows() {
+    return _diagonal.n_elem;
+  }
+
+  @Override
+  public int n_cols() {
+    return _diagonal.n_elem;
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * @throws RuntimeException The number of columns ({@code n_cols()}) must be equal to the number of rows (
+   *           {@code X.n_rows}) in the specified multiplier.
+   */
+  @Override
+  public Col times(final Col X) throws RuntimeException {
+    if (n_cols() != X.n_rows) {
+      throw new RuntimeException("The numbers of columns (" + n_cols() + ") must be equal to the number of rows (" + X.n_rows + ") in the specified multiplier.");
+    }
+
+    Col result = new Col(X.n_elem);
+    Mat.scaleRows(result._data, X._data, _diagonal._data, X.n_elem, 1);
+    return result;
+  }
+
+  /**
+   * Return the out-of-place matrix multiplication with the provided right-hand side multiplier.
+   * <p>
+   * Each row is scaled by the corresponding diagonal element.
+   * 
+   * @param X The multiplier
+   * 
+   * @return The product
+   * 
+   * @throws RuntimeException The number of columns ({@code n_cols()}) must be equal to the number of rows (
+   *           {@code X.n_rows}) in the specified multiplier.
+   */
+  public Mat times(final Mat X) throws RuntimeException {
+    if (n_cols() != X.n_rows) {
+      throw new RuntimeException("The numbers of columns (" + n_cols() + ") must be equal to the number of rows (" + X.n_rows + ") in the specified multiplier.");
+    }
+
+    Mat result = new Mat(X.n_rows, X.n_cols);
+    Mat.scaleRows(result._data, X._data, _diagonal._data, X.n_rows, X.n_cols);
+    return result;
+  }
+
+  /**
+   * Returns the product with the provided diagonal matrix, which is again diagonal.
+   * 
+   * @param X The multiplier
+   * 
+   * @return The product
+   * 
+   * @throws RuntimeException The number of columns ({@code n_cols()}) must be equal to the number of rows (
+   *           {@code X.n_rows()}) in the specified multiplier.
+   */
+  public DiagOperator times(final DiagOperator X) throws RuntimeException {
+    if (n_cols() != X.n_rows()) {
+      throw new RuntimeException("The numbers of columns (" + n_cols() + ") must be equal to the number of rows (" + X.n_rows() + ") in the specified multiplier.");
+    }
+
+    return new DiagOperator(_diagonal.elemTimes(X._diagonal));
+  }
+
+  /**
+   * Returns the inverse, i.e. the diagonal matrix with the reciprocal of each diagonal element.
+   * 
+   * @return The inverse
+   * 
+   * @throws RuntimeException The matrix appears to be singular.
+   */
+  public DiagOperator i() throws RuntimeException {
+    double[] inverse = new double[_diagonal.n_elem];
+    for (int n = 0; n < inverse.length; n++) {
+      if (_diagonal._data[n] == 0) {
+        throw new RuntimeException("The matrix appears to be singular.");
+      }
+
+      inverse[n] = 1 / _diagonal._data[n];
+    }
+
+    return new DiagOperator(new Col(inverse));
+  }
+
+  /**
+   * Returns a copy of the main diagonal.
+   * 
+   * @return The diagonal
+   */
+  public Col diag() {
+    return new Col(_diagonal);
+  }
+
+  /**
+   * Returns the diagonal matrix as dense matrix.
+   * 
+   * @return The matrix
+   */
+  public Mat toMat() {
+    return Arma.diagmat(_diagonal);
+  }
+
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides exponentially weighted statistical measures that are updated iterative per sample.
+ * <p>
+ * Each update weights the new sample by {@code alpha} and all previous samples by (1 - {@code alpha}), such that the
+ * influence of a sample decays exponentially over time.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class ExponentialRunningStat {
+  /**
+   * The weight of new samples
+   */
+  protected final double _alpha;
+  /**
+   * The amount of samples
+   */
+  protected double       _count;
+  /**
+   * The exponentially weighted mean
+   */
+  protected double       _mean;
+  /**
+   * The exponentially weighted variance
+   */
+  protected double       _var;
+
+  /**
+   * Initialises the statistical measures.
+   * <p>
+   * The smoothing factor {@code alpha} can also be derived from a span of samples {@code n} by 2 / ({@code n} + 1) or
+   * from a half-life of {@code h} samples by 1 - 2^(-1 / {@code h}).
+   * 
+   * @param alpha The weight of new samples
+   * 
+   * @throws IllegalArgumentException The smoothing factor ({@code alpha}) must be within (0, 1].
+   */
+  public ExponentialRunningStat(final double alpha) throws IllegalArgumentException {
+    if (!(alpha > 0 && alpha <= 1)) {
+      throw new IllegalArgumentException("The smoothing factor (" + alpha + ") must be within (0, 1].");
+    }
+
+    _alpha = alpha;
+
+    reset();
+  }
+
+  /**
+   * Recalculates the statistical values with inclusion of the sample.
+   * 
+   * @param sample The sample
+   * 
+   * @throws IllegalArgumentException NaN is not valid sample.
+   */
+  public void update(final double sample) throws IllegalArgumentException {
+    if (Double.isNaN(sample)) {
+      throw new IllegalArgumentException("NaN is not valid sample value.");
+    }
+
+    if (_count > 0) {
+      double delta = sample - _mean;
+      double increment = _alpha * delta;
+
+      _mean += increment;
+      _var = (1 - _alpha) * (_var + delta * increment);
+    } else {
+      _mean = sample;
+      _var = 0;
+    }
+
+    _count++;
+  }
+
+  /**
+   * Returns the amount of samples.
+   * 
+   * @return The amount
+   */
+  public double count() {
+    return _count;
+  }
+
+  /**
+   * Returns the weight of new samples.
+   * 
+   * @return The smoothing factor
+   */
+  public double alpha() {
+    return _alpha;
+  }
+
+  /**
+   * Returns the exponentially weighted mean.
+   * 
+   * @return The mean
+   */
+  public double mean() {
+    return _mean;
+  }
+
+  /**
+   * Returns the exponentially weighted variance.
+   * 
+   * @return The variance
+   */
+  public double var() {
+    return _var;
+  }
+
+  /**
+   * Returns the exponentially weighted standard deviation.
+   * 
+   * @return The standard deviation
+   */
+  public double stddev() {
+    return Math.sqrt(_var);
+  }
+
+  /**
+   * Resets all statistical values.
+   */
+  public void reset() {
+    _mean = Double.NaN;
+    _var = Double.NaN;
+
+    _count = 0;
+  }
+}
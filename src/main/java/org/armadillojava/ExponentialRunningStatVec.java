@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import com.github.fommil.netlib.BLAS;
+
+/**
+ * Provides exponentially weighted statistical measures that are updated iterative per sample vector.
+ * <p>
+ * Each update weights the new sample by {@code alpha} and all previous samples by (1 - {@code alpha}), such that the
+ * influence of a sample decays exponentially over time. Besides the buffers allocated for the first sample, updates
+ * are performed in-place without further allocations.
+ * <p>
+ * Besides the covariance, each measurement is calculated per dimension.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class ExponentialRunningStatVec {
+  /**
+   * The weight of new samples
+   */
+  protected final double  _alpha;
+  /**
+   * Whether to calculate the covariance
+   */
+  protected final boolean _calculateCovariance;
+  /**
+   * The amount of samples
+   */
+  protected double        _count;
+  /**
+   * The exponentially weighted mean
+   */
+  protected Col           _mean;
+  /**
+   * The exponentially weighted variance
+   */
+  protected Col           _var;
+  /**
+   * The upper triangular part of the exponentially weighted covariance
+   */
+  protected Mat           _cov;
+  /**
+   * The differences to the mean of the current update
+   */
+  protected double[]      _delta;
+
+  /**
+   * Initialises the statistical measures. Calculation of the covariance will be deactivated.
+   * 
+   * @param alpha The weight of new samples
+   * 
+   * @throws IllegalArgumentException The smoothing factor ({@code alpha}) must be within (0, 1].
+   */
+  public ExponentialRunningStatVec(final double alpha) throws IllegalArgumentException {
+    this(alpha, false);
+  }
+
+  /**
+   * Initialises the statistical measures.
+   * <p>
+   * {@code calculateCovariance} must be set to true to activate the calculation of the covariance.
+   * 
+   * @param alpha The weight of new samples
+   * @param calculateCovariance Whether to calculate the covariance
+   * 
+   * @throws IllegalArgumentException The smoothing factor ({@code alpha}) must be within (0, 1].
+   */
+  public ExponentialRunningStatVec(final double alpha, final boolean calculateCovariance) throws IllegalArgumentException {
+    if (!(alpha > 0 && alpha <= 1)) {
+      throw new IllegalArgumentException("The smoothing factor (" + alpha + ") must be within (0, 1].");
+    }
+
+    _alpha = alpha;
+    _calculateCovariance = calculateCovariance;
+
+    _mean = new Col();
+    _var = new Col();
+    _cov = new Mat();
+    _delta = new double[0];
+
+    reset();
+  }
+
+  /**
+   * Recalculates the statistical values with inclusion of the sample vector.
+   * 
+   * @param samples The vector
+   * 
+   * @throws IllegalArgumentException NaN is not valid sample value for any element.
+   * @throws RuntimeException The number of elements ({@code samples.n_elem}) must be equal to the dimension of previous
+   *           samples.
+   */
+  public void update(final Col samples) throws IllegalArgumentException, RuntimeException {
+    for (int n = 0; n < samples.n_elem; n++) {
+      if (Double.isNaN(samples._data[n])) {
+        throw new IllegalArgumentException("NaN is not valid sample value for any element.");
+      }
+    }
+
+    int n_dims = samples.n_elem;
+
+    if (_count > 0) {
+      if (n_dims != _mean.n_elem) {
+        throw new RuntimeException("The number of elements (" + n_dims + ") must be equal to the dimension of previous samples (" + _mean.n_elem + ").");
+      }
+
+      for (int i = 0; i < n_dims; i++) {
+        double delta = samples._data[i] - _mean._data[i];
+        double increment = _alpha * delta;
+
+        _mean._data[i] += increment;
+        _var._data[i] = (1 - _alpha) * (_var._data[i] + delta * increment);
+        _delta[i] = delta;
+      }
+
+      if (_calculateCovariance) {
+        BLAS.getInstance().dsyr("U", n_dims, _alpha, _delta, 1, _cov._data, n_dims);
+        BLAS.getInstance().dscal(_cov.n_elem, 1 - _alpha, _cov._data, 1);
+      }
+    } else {
+      if (n_dims != _mean.n_elem) {
+        _mean = new Col(n_dims);
+        _var = new Col(n_dims);
+        _cov = new Mat(n_dims, n_dims);
+        _delta = new double[n_dims];
+      }
+
+      System.arraycopy(samples._data, 0, _mean._data, 0, n_dims);
+      _var.fill(0);
+      _cov.fill(0);
+    }
+
+    _count++;
+  }
+
+  /**
+   * Returns the amount of samples.
+   * 
+   * @return The amount
+   */
+  public double count() {
+    return _count;
+  }
+
+  /**
+   * Returns the weight of new samples.
+   * 
+   * @return The smoothing factor
+   */
+  public double alpha() {
+    return _alpha;
+  }
+
+  /**
+   * Returns the exponentially weighted mean per dimension.
+   * 
+   * @return The mean
+   */
+  public Col mean() {
+    return _mean;
+  }
+
+  /**
+   * Returns the exponentially weighted variance per dimension.
+   * 
+   * @return The variance
+   */
+  public Col var() {
+    return _var;
+  }
+
+  /**
+   * Returns the exponentially weighted standard deviation per dimension.
+   * 
+   * @return The standard deviation
+   */
+  public Col stddev() {
+    return Arma.sqrt(_var);
+  }
+
+  /**
+   * Returns the exponentially weighted covariance.
+   * 
+   * @return The covariance
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  public Mat cov() throws IllegalAccessException {
+    if (!_calculateCovariance) {
+      throw new IllegalAccessException("The constructor must be invoked with calculateCovariance be set to true to activate the calculation of the covariance.");
+    }
+
+    int n_dims = _cov.n_rows;
+
+    Mat result = new Mat(_cov);
+    for (int j = 0; j < n_dims; j++) {
+      for (int i = j + 1; i < n_dims; i++) {
+        result._data[i + j * n_dims] = result._data[j + i * n_dims];
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Resets all statistical values.
+   */
+  public void reset() {
+    _mean.fill(Double.NaN);
+    _var.fill(Double.NaN);
+    _cov.fill(Double.NaN);
+
+    _count = 0;
+  }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import java.util.Arrays;
+
+import com.github.fommil.netlib.BLAS;
+
+/**
+ * Provides an incomplete Cholesky preconditioner with zero fill-in (IC(0)).
+ * <p>
+ * The lower triangular factor {@code L} has the same pattern of non-zero elements as the lower triangle of the
+ * provided symmetric and positive-definite matrix, such that {@code L.times(L.t())} approximates the matrix. For
+ * matrices without any zeros, this is identical to the Cholesky decomposition.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class IncompleteCholeskyPreconditioner implements Preconditioner {
+
+  /**
+   * The lower triangular factor (column-major, upper triangle is unused)
+   */
+  protected final double[] _factor;
+
+  /**
+   * The number of rows and columns
+   */
+  protected final int      _n;
+
+  /**
+   * Creates an incomplete Cholesky preconditioner of the provided symmetric and positive-definite matrix.
+   * <p>
+   * Only the lower triangle of the matrix is accessed.
+   * 
+   * @param A The matrix
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException The decomposition could not be completed. Ensure that the provided matrix is symmetric and
+   *           positive-definite.
+   */
+  public IncompleteCholeskyPreconditioner(final Mat A) throws RuntimeException {
+    if (!A.is_square()) {
+      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
+    }
+
+    _n = A.n_rows;
+    _factor = Arrays.copyOf(A._data, A.n_elem);
+
+    for (int k = 0; k < _n; k++) {
+      int columnIndex = k * _n;
+
+      double pivot = _factor[k + columnIndex];
+      if (!(pivot > 0)) {
+        throw new RuntimeException("The decomposition could not be completed. Ensure that the provided matrix is symmetric and positive-definite.");
+      }
+
+      pivot = Math.sqrt(pivot);
+      _factor[k + columnIndex] = pivot;
+      for (int i = k + 1; i < _n; i++) {
+        _factor[i + columnIndex] /= pivot;
+      }
+
+      /*
+       * Updates only elements that are non-zero within the provided matrix, discarding any fill-in.
+       */
+      for (int j = k + 1; j < _n; j++) {
+        double value = _factor[j + columnIndex];
+        if (value == 0) {
+          continue;
+        }
+
+        int otherColumnIndex = j * _n;
+        for (int i = j; i < _n; i++) {
+          if (A._data[i + otherColumnIndex] != 0) {
+            _factor[i + otherColumnIndex] -= _factor[i + columnIndex] * value;
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public Col solve(final Col X) {
+    Col result = new Col(X);
+
+    BLAS.getInstance().dtrsv("L", "N", "N", _n, _factor, Math.max(1, _n), result._data, 1);
+    BLAS.getInstance().dtrsv("L", "T", "N", _n, _factor, Math.max(1, _n), result._data, 1);
+
+    return result;
+  }
+
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides the principal component analysis of all observations, updated iterative per block of observations.
+ * <p>
+ * Useful if the data matrix does not fit into memory or grows over time. Only the mean, the {@code k} largest
+ * singular values and their right-singular vectors of the centred observations are kept, such that the memory is
+ * bounded by O({@code k} * d) for d-dimensional observations, independent of the amount of observations.
+ * <p>
+ * Each block is merged by an incremental singular value decomposition of the current low-rank approximation,
+ * the centred block and a correction for the shifted mean (Ross et al., 2008). If no more than {@code k} components
+ * are present at any time, the result matches {@link Arma#princomp(Mat, Mat, Col, Mat)} up to the signs of the
+ * principal components.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class IncrementalPrincomp {
+  /**
+   * The maximal number of principal components
+   */
+  protected final int _k;
+  /**
+   * The amount of observations
+   */
+  protected double    _count;
+  /**
+   * The mean of all observations
+   */
+  protected Row       _mean;
+  /**
+   * The singular values of the centred observations in descending order
+   */
+  protected Col       _singularValues;
+  /**
+   * The principal components, stored column-wise
+   */
+  protected Mat       _coeff;
+
+  /**
+   * Initialises the principal component analysis, keeping at most {@code k} principal components.
+   * 
+   * @param k The number of principal components
+   * 
+   * @throws IllegalArgumentException The specified number of principal components ({@code k}) must be positive.
+   */
+  public IncrementalPrincomp(final int k) throws IllegalArgumentException {
+    if (k < 1) {
+      throw new IllegalArgumentException("The specified number of principal components (" + k + ") must be positive.");
+    }
+
+    _k = k;
+
+    reset();
+  }
+
+  /**
+   * Recalculates the principal components with inclusion of all observations, each stored as a row of the provided
+   * matrix.
+   * <p>
+   * Returns {@code false} and leaves the current state unchanged if the decomposition failed.
+   * 
+   * @param X The observations
+   * @return Whether the update succeeded
+   * 
+   * @throws RuntimeException The number of columns ({@code X.n_cols}) must be equal to the dimension of previous
+   *           observations.
+   * @throws UnsupportedOperationException No more than 2^53 (approx. 9 * 10^15) observations can be processed
+   *           without loss of precision.
+   */
+  public boolean update(final Mat X) throws RuntimeException, UnsupportedOperationException {
+    if (X.is_empty()) {
+      return true; // Nothing to do here.
+    }
+
+    if (_count > 0 && X.n_cols != _mean.n_elem) {
+      throw new RuntimeException("The number of columns (" + X.n_cols + ") must be equal to the dimension of previous observations (" + _mean.n_elem + ").");
+    }
+
+    if (_count + X.n_rows > 9007199254740992.0) { // 2^53
+      throw new UnsupportedOperationException("No more than 2^53 (approx. 9 * 10^15) observations can be processed without loss of precision.");
+    }
+
+    int n_dims = X.n_cols;
+    int n_observations = X.n_rows;
+    int n_components = _singularValues.n_elem;
+
+    Row blockMean = Arma.mean(Row.class, X);
+
+    /*
+     * Stacks the current low-rank approximation diag(s) * V', the centred block and the mean correction on top of each
+     * other. The right-singular vectors of this (n_components + n_observations + 1, n_dims)-matrix are the principal
+     * components of all observations so far.
+     */
+    int n_rows = n_components + n_observations + (_count > 0 ? 1 : 0);
+    Mat stacked = new Mat(n_rows, n_dims);
+
+    for (int j = 0; j < n_dims; j++) {
+      int columnIndex = j * n_rows;
+      double mean = blockMean._data[j];
+
+      for (int i = 0; i < n_components; i++) {
+        stacked._data[columnIndex + i] = _singularValues._data[i] * _coeff._data[j + i * n_dims];
+      }
+
+      int observationIndex = j * n_observations;
+      for (int i = 0; i < n_observations; i++) {
+        stacked._data[columnIndex + n_components + i] = X._data[observationIndex + i] - mean;
+      }
+
+      if (_count > 0) {
+        stacked._data[columnIndex + n_rows - 1] = Math.sqrt(_count * n_observations / (_count + n_observations)) * (_mean._data[j] - mean);
+      }
+    }
+
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+    if (!Arma.svd_econ(U, s, V, stacked, "right", "std")) {
+      return false;
+    }
+
+    int n_kept = Math.min(_k, s.n_elem);
+    _singularValues = new Col(n_kept);
+    System.arraycopy(s._data, 0, _singularValues._data, 0, n_kept);
+    _coeff = V.cols(0, n_kept - 1);
+
+    if (_count > 0) {
+      _mean.inPlace(Op.PLUS, blockMean.minus(_mean).times(n_observations / (_count + n_observations)));
+    } else {
+      _mean = blockMean;
+    }
+    _count += n_observations;
+
+    return true;
+  }
+
+  /**
+   * Recalculates the principal components with inclusion of the observation.
+   * <p>
+   * Returns {@code false} and leaves the current state unchanged if the decomposition failed.
+   * 
+   * @param X The observation
+   * @return Whether the update succeeded
+   * 
+   * @throws RuntimeException The number of columns ({@code X.n_cols}) must be equal to the dimension of previous
+   *           observations.
+   * @throws UnsupportedOperationException No more than 2^53 (approx. 9 * 10^15) observations can be processed
+   *           without loss of precision.
+   */
+  public boolean update(final Row X) throws RuntimeException, UnsupportedOperationException {
+    return update(new Mat(X));
+  }
+
+  /**
+   * Returns the principal components, stored column-wise in descending order of their variance.
+   * 
+   * @return The principal components
+   */
+  public Mat coeff() {
+    return new Mat(_coeff);
+  }
+
+  /**
+   * Returns the projection of the provided observations, each stored as a row, onto the principal components.
+   * <p>
+   * The observations are centred by the mean of all observations so far.
+   * 
+   * @param X The observations
+   * @return The projected observations
+   * 
+   * @throws RuntimeException The number of columns ({@code X.n_cols}) must be equal to the dimension of previous
+   *           observations.
+   */
+  public Mat score(final Mat X) throws RuntimeException {
+    if (X.n_cols != _mean.n_elem) {
+      throw new RuntimeException("The number of columns (" + X.n_cols + ") must be equal to the dimension of previous observations (" + _mean.n_elem + ").");
+    }
+
+    Mat centred = new Mat(X);
+    centred.each_row(Op.MINUS, _mean);
+
+    return centred.times(_coeff);
+  }
+
+  /**
+   * Returns the variances of all observations along the principal components in descending order.
+   * 
+   * @return The variances
+   */
+  public Col latent() {
+    Col latent = Arma.square(_singularValues);
+    latent.inPlace(Op.DIVIDE, Math.max(1, _count - 1));
+
+    return latent;
+  }
+
+  /**
+   * Returns the mean of all observations.
+   * 
+   * @return The mean
+   */
+  public Row mean() {
+    return new Row(_mean);
+  }
+
+  /**
+   * Returns the amount of observations.
+   * 
+   * @return The amount
+   */
+  public double count() {
+    return _count;
+  }
+
+  /**
+   * Removes all observations.
+   */
+  public void reset() {
+    _count = 0;
+    _mean = new Row();
+    _singularValues = new Col();
+    _coeff = new Mat();
+  }
+}
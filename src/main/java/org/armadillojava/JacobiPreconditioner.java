@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides a Jacobi (diagonal) preconditioner, approximating a matrix by its main diagonal.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class JacobiPreconditioner implements Preconditioner {
+
+  /**
+   * The reciprocal of the main diagonal
+   */
+  protected final double[] _reciprocalDiagonal;
+
+  /**
+   * Creates a Jacobi preconditioner based on the main diagonal of the provided square matrix.
+   * 
+   * @param A The matrix
+   * 
+   * @throws RuntimeException The provided ({@code A.n_rows}, {@code A.n_cols})-matrix must be square.
+   * @throws RuntimeException All elements on the main diagonal must be non-zero.
+   */
+  public JacobiPreconditioner(final Mat A) throws RuntimeException {
+    if (!A.is_square()) {
+      throw new RuntimeException("The provided (" + A.n_rows + ", " + A.n_cols + ")-matrix must be square.");
+    }
+
+    _reciprocalDiagonal = new double[A.n_rows];
+    for (int n = 0; n < A.n_rows; n++) {
+      double value = A._data[n + n * A.n_rows];
+      if (value == 0) {
+        throw new RuntimeException("All elements on the main diagonal must be non-zero.");
+      }
+
+      _reciprocalDiagonal[n] = 1 / value;
+    }
+  }
+
+  @Override
+  public Col solve(final Col X) {
+    Col result = new Col(X.n_elem);
+    for (int n = 0; n < X.n_elem; n++) {
+      result._data[n] = X._data[n] * _reciprocalDiagonal[n];
+    }
+
+    return result;
+  }
+
+}
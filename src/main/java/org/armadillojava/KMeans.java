@@ -0,0 +1,494 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import java.util.Arrays;
+
+import com.github.fommil.netlib.BLAS;
+
+/**
+ * Provides k-means clustering of points, each stored as a column of a matrix.
+ * <p>
+ * The initial means are chosen by k-means++ seeding (Arthur and Vassilvitskii, 2007), drawing from {@link RNG}, and
+ * then refined by Lloyd iterations until no point changes its cluster, the means move less than the tolerance or the
+ * maximal number of iterations is reached. Given the same seed, the result is the same, regardless of the number of
+ * available processors.
+ * <p>
+ * The assignment step calculates the squared distances ||x - c||^2 = ||x||^2 + ||c||^2 - 2 * c' * x to all means by a
+ * single matrix multiplication ({@code dgemm}) per tile of points. The points are split into blocks processed in
+ * parallel, each accumulating its own partial sums per cluster, which are merged in order of the blocks afterwards.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class KMeans {
+
+  /**
+   * The default maximal number of Lloyd iterations
+   */
+  public static final int       DEFAULT_MAX_ITERATIONS = 100;
+
+  /**
+   * The default tolerance
+   */
+  public static final double    DEFAULT_TOLERANCE      = 1e-4;
+
+  /**
+   * The number of points per matrix multiplication
+   */
+  protected static final int    TILE_SIZE              = 256;
+
+  /**
+   * The maximal number of blocks processed in parallel
+   */
+  protected static final int    MAXIMAL_BLOCKS         = 64;
+
+  /**
+   * The number of clusters
+   */
+  protected final int           _k;
+
+  /**
+   * The maximal number of Lloyd iterations
+   */
+  protected final int           _max_iterations;
+
+  /**
+   * The tolerance
+   */
+  protected final double        _tolerance;
+
+  /**
+   * The means, stored column-wise
+   */
+  protected Mat                 _means;
+
+  /**
+   * The cluster of each point
+   */
+  protected int[]               _assignments;
+
+  /**
+   * The number of Lloyd iterations performed
+   */
+  protected int                 _iterations;
+
+  /**
+   * The sum of squared distances between each point and its mean
+   */
+  protected double              _inertia;
+
+  /**
+   * Initialises k-means clustering with {@link #DEFAULT_MAX_ITERATIONS} iterations at most and a tolerance of
+   * {@link #DEFAULT_TOLERANCE}.
+   * 
+   * @param k The number of clusters
+   * 
+   * @throws IllegalArgumentException The specified number of clusters ({@code k}) must be positive.
+   */
+  public KMeans(final int k) throws IllegalArgumentException {
+    this(k, DEFAULT_MAX_ITERATIONS, DEFAULT_TOLERANCE);
+  }
+
+  /**
+   * Initialises k-means clustering.
+   * <p>
+   * The iterations stop early, if the sum of squared movements of all means is not larger than {@code tolerance} times
+   * the average variance of the points per dimension.
+   * 
+   * @param k The number of clusters
+   * @param max_iterations The maximal number of Lloyd iterations
+   * @param tolerance The tolerance
+   * 
+   * @throws IllegalArgumentException The specified number of clusters ({@code k}) must be positive.
+   * @throws IllegalArgumentException The specified maximal number of iterations ({@code max_iterations}) must be
+   *           positive.
+   * @throws IllegalArgumentException The specified tolerance ({@code tolerance}) must be non-negative.
+   */
+  public KMeans(final int k, final int max_iterations, final double tolerance) throws IllegalArgumentException {
+    if (k < 1) {
+      throw new IllegalArgumentException("The specified number of clusters (" + k + ") must be positive.");
+    }
+
+    if (max_iterations < 1) {
+      throw new IllegalArgumentException("The specified maximal number of iterations (" + max_iterations + ") must be positive.");
+    }
+
+    if (!(tolerance >= 0)) {
+      throw new IllegalArgumentException("The specified tolerance (" + tolerance + ") must be non-negative.");
+    }
+
+    _k = k;
+    _max_iterations = max_iterations;
+    _tolerance = tolerance;
+  }
+
+  /**
+   * Clusters the provided points, each stored as a column.
+   * <p>
+   * Returns {@code false} if the iterations did not converge within the maximal number of iterations. The means and
+   * assignments are available afterwards in either case.
+   * 
+   * @param data The points
+   * @return Whether the iterations converged
+   * 
+   * @throws RuntimeException The number of points ({@code data.n_cols}) must be at least the number of clusters (
+   *           {@code k}).
+   * @throws RuntimeException All points must be finite.
+   */
+  public boolean fit(final Mat data) throws RuntimeException {
+    if (data.n_cols < _k) {
+      throw new RuntimeException("The number of points (" + data.n_cols + ") must be at least the number of clusters (" + _k + ").");
+    }
+
+    if (!data.is_finite()) {
+      throw new RuntimeException("All points must be finite.");
+    }
+
+    int n_dims = data.n_rows;
+    int n_points = data.n_cols;
+
+    double[] pointNorms = new double[n_points];
+    if (n_dims > 0) {
+      Reduction.perColumn(Reduction.SQUARED_DIFFERENCE, new double[n_points], pointNorms, data._data, n_dims, n_points);
+    }
+
+    double threshold = 0;
+    if (n_dims > 0) {
+      double[] variances = new double[n_dims];
+      Arma.variance(variances, data, 1, 1, false);
+      threshold = _tolerance * Reduction.sum(variances, 0, 1, n_dims) / n_dims;
+    }
+
+    _means = seed(data, pointNorms);
+    _assignments = new int[n_points];
+    Arrays.fill(_assignments, -1);
+
+    double[] sums = new double[n_dims * _k];
+    double[] counts = new double[_k];
+    double[] distances = new double[n_points];
+    int[] changes = new int[1];
+
+    /*
+     * Each iteration updates the means and re-assigns the points afterwards, such that the assignments and inertia
+     * always belong to the current means. If no point changed its cluster, the means are already the centroids of their
+     * clusters.
+     */
+    _inertia = assign(data, pointNorms, _assignments, sums, counts, distances, changes);
+    _iterations = 0;
+    while (changes[0] > 0 && _iterations < _max_iterations) {
+      double movement = update(data, sums, counts, distances);
+      _iterations++;
+      _inertia = assign(data, pointNorms, _assignments, sums, counts, distances, changes);
+
+      if (movement <= threshold) {
+        return true;
+      }
+    }
+
+    return changes[0] == 0;
+  }
+
+  /**
+   * Returns the cluster of each of the provided points, stored as columns, based on the current means.
+   * 
+   * @param data The points
+   * @return The clusters
+   * 
+   * @throws RuntimeException The clustering must be fitted first.
+   * @throws RuntimeException The number of rows ({@code data.n_rows}) must be equal to the dimension of the means.
+   */
+  public Col assign(final Mat data) throws RuntimeException {
+    if (_means == null) {
+      throw new RuntimeException("The clustering must be fitted first.");
+    }
+
+    if (data.n_rows != _means.n_rows) {
+      throw new RuntimeException("The number of rows (" + data.n_rows + ") must be equal to the dimension of the means (" + _means.n_rows + ").");
+    }
+
+    double[] pointNorms = new double[data.n_cols];
+    if (data.n_rows > 0 && data.n_cols > 0) {
+      Reduction.perColumn(Reduction.SQUARED_DIFFERENCE, new double[data.n_cols], pointNorms, data._data, data.n_rows, data.n_cols);
+    }
+
+    int[] assignments = new int[data.n_cols];
+    Arrays.fill(assignments, -1);
+    assign(data, pointNorms, assignments, new double[_means.n_elem], new double[_k], new double[data.n_cols], new int[1]);
+
+    return toCol(assignments);
+  }
+
+  /**
+   * Returns the means, stored column-wise.
+   * 
+   * @return The means
+   */
+  public Mat means() {
+    return (_means == null) ? new Mat() : new Mat(_means);
+  }
+
+  /**
+   * Returns the cluster of each point of the last fitted data.
+   * 
+   * @return The clusters
+   */
+  public Col assignments() {
+    return (_assignments == null) ? new Col() : toCol(_assignments);
+  }
+
+  /**
+   * Returns the number of Lloyd iterations performed by the last fit.
+   * 
+   * @return The number of iterations
+   */
+  public int iterations() {
+    return _iterations;
+  }
+
+  /**
+   * Returns the sum of squared distances between each point of the last fitted data and its mean.
+   * 
+   * @return The inertia
+   */
+  public double inertia() {
+    return _inertia;
+  }
+
+  /**
+   * Returns the initial means, chosen by k-means++ seeding.
+   * <p>
+   * The first mean is drawn uniformly from all points and each further mean with a probability proportional to the
+   * squared distance to the nearest mean chosen so far.
+   * 
+   * @param data The points
+   * @param pointNorms The squared norm of each point
+   * @return The means
+   */
+  protected Mat seed(final Mat data, final double[] pointNorms) {
+    final int n_dims = data.n_rows;
+    final int n_points = data.n_cols;
+    final Mat means = new Mat(n_dims, _k);
+    final double[] distances = new double[n_points];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+    int chosen = RNG._rng.nextInt(n_points);
+    for (int c = 0; c < _k; c++) {
+      System.arraycopy(data._data, chosen * n_dims, means._data, c * n_dims, n_dims);
+
+      if (c + 1 == _k) {
+        break;
+      }
+
+      final int offset = chosen * n_dims;
+      Parallel.run(Parallel.numberOfBlocks((long) n_points * n_dims, n_points), n_points, new Parallel.Block() {
+        @Override
+        void run(final int block, final int first, final int last) {
+          for (int p = first; p < last; p++) {
+            double distance = 0;
+            for (int i = 0, q = p * n_dims; i < n_dims; i++, q++) {
+              double difference = data._data[q] - data._data[offset + i];
+              distance += difference * difference;
+            }
+
+            distances[p] = Math.min(distances[p], distance);
+          }
+        }
+      });
+
+      double total = Reduction.sum(distances, 0, 1, n_points);
+      if (total > 0) {
+        double threshold = RNG._rng.nextDouble() * total;
+        double cumulative = 0;
+        chosen = -1;
+        for (int p = 0; p < n_points; p++) {
+          if (distances[p] > 0) {
+            chosen = p;
+            cumulative += distances[p];
+            if (cumulative > threshold) {
+              break;
+            }
+          }
+        }
+      } else {
+        /*
+         * All points coincide with the means chosen so far.
+         */
+        chosen = RNG._rng.nextInt(n_points);
+      }
+    }
+
+    return means;
+  }
+
+  /**
+   * Assigns each point to its nearest mean, accumulates the sum and number of points per cluster and returns the sum
+   * of squared distances between each point and its mean.
+   * <p>
+   * Stores the squared distance between each point and its mean in {@code distances} and the number of points that
+   * changed their cluster in {@code changes[0]}.
+   * 
+   * @param data The points
+   * @param pointNorms The squared norm of each point
+   * @param assignments The cluster of each point, updated in-place
+   * @param sums The sum of all points per cluster, stored column-wise
+   * @param counts The number of points per cluster
+   * @param distances The squared distance between each point and its mean
+   * @param changes The number of points that changed their cluster
+   * @return The inertia
+   */
+  protected double assign(final Mat data, final double[] pointNorms, final int[] assignments, final double[] sums, final double[] counts, final double[] distances, final int[] changes) {
+    final int n_dims = data.n_rows;
+    final int n_points = data.n_cols;
+    final double[] means = _means._data;
+
+    final double[] meanNorms = new double[_k];
+    if (n_dims > 0) {
+      Reduction.perColumn(Reduction.SQUARED_DIFFERENCE, new double[_k], meanNorms, means, n_dims, _k);
+    }
+
+    /*
+     * The number of blocks depends only on the amount of work, such that the partial sums are merged the same way on
+     * every machine.
+     */
+    long n_work = (long) n_points * Math.max(1, n_dims) * _k;
+    int n_blocks = (int) Math.max(1, Math.min(Math.min(MAXIMAL_BLOCKS, n_points), n_work / Parallel.MINIMAL_BLOCK_SIZE));
+
+    final double[][] partialSums = new double[n_blocks][];
+    final double[][] partialCounts = new double[n_blocks][];
+    final double[] partialInertia = new double[n_blocks];
+    final int[] partialChanges = new int[n_blocks];
+
+    Parallel.run(n_blocks, n_points, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        double[] blockSums = new double[n_dims * _k];
+        double[] blockCounts = new double[_k];
+        double[] products = new double[_k * TILE_SIZE];
+        double inertia = 0;
+        int changes = 0;
+
+        for (int tile = first; tile < last; tile += TILE_SIZE) {
+          int n_tile = Math.min(TILE_SIZE, last - tile);
+
+          if (n_dims > 0) {
+            BLAS.getInstance().dgemm("T", "N", _k, n_tile, n_dims, 1, means, 0, n_dims, data._data, tile * n_dims, n_dims, 0, products, 0, _k);
+          }
+
+          for (int t = 0; t < n_tile; t++) {
+            int p = tile + t;
+
+            int nearest = 0;
+            double nearestDistance = Double.POSITIVE_INFINITY;
+            for (int c = 0; c < _k; c++) {
+              double distance = meanNorms[c] - 2 * products[c + t * _k];
+              if (distance < nearestDistance) {
+                nearest = c;
+                nearestDistance = distance;
+              }
+            }
+
+            double squaredDistance = Math.max(0, nearestDistance + pointNorms[p]);
+            inertia += squaredDistance;
+            distances[p] = squaredDistance;
+
+            if (assignments[p] != nearest) {
+              assignments[p] = nearest;
+              changes++;
+            }
+
+            blockCounts[nearest]++;
+            for (int i = 0, q = p * n_dims, r = nearest * n_dims; i < n_dims; i++, q++, r++) {
+              blockSums[r] += data._data[q];
+            }
+          }
+        }
+
+        partialSums[block] = blockSums;
+        partialCounts[block] = blockCounts;
+        partialInertia[block] = inertia;
+        partialChanges[block] = changes;
+      }
+    });
+
+    System.arraycopy(partialSums[0], 0, sums, 0, sums.length);
+    System.arraycopy(partialCounts[0], 0, counts, 0, counts.length);
+    changes[0] = partialChanges[0];
+    for (int b = 1; b < n_blocks; b++) {
+      Reduction.merge(Reduction.SUM, sums, partialSums[b], sums.length);
+      Reduction.merge(Reduction.SUM, counts, partialCounts[b], counts.length);
+      changes[0] += partialChanges[b];
+    }
+
+    return Reduction.sum(partialInertia, 0, 1, n_blocks);
+  }
+
+  /**
+   * Replaces each mean by the centroid of its cluster and returns the sum of squared movements of all means.
+   * <p>
+   * The mean of an empty cluster is moved to the point farthest from its mean. Each point is used at most once, such
+   * that multiple empty clusters are moved to different points, taken in descending order of their distance.
+   * 
+   * @param data The points
+   * @param sums The sum of all points per cluster, stored column-wise
+   * @param counts The number of points per cluster
+   * @param distances The squared distance between each point and its mean, overwritten for used points
+   * @return The sum of squared movements
+   */
+  protected double update(final Mat data, final double[] sums, final double[] counts, final double[] distances) {
+    int n_dims = data.n_rows;
+    double movement = 0;
+
+    for (int c = 0; c < _k; c++) {
+      int offset = c * n_dims;
+
+      int farthest = -1;
+      if (counts[c] == 0) {
+        farthest = 0;
+        for (int p = 1; p < distances.length; p++) {
+          if (distances[p] > distances[farthest]) {
+            farthest = p;
+          }
+        }
+        distances[farthest] = Double.NEGATIVE_INFINITY;
+      }
+
+      for (int i = 0; i < n_dims; i++) {
+        double mean = (farthest < 0) ? sums[offset + i] / counts[c] : data._data[farthest * n_dims + i];
+        double difference = mean - _means._data[offset + i];
+        movement += difference * difference;
+        _means._data[offset + i] = mean;
+      }
+    }
+
+    return movement;
+  }
+
+  /**
+   * Converts the provided clusters into a column vector.
+   * 
+   * @param assignments The clusters
+   * @return The column vector
+   */
+  protected static Col toCol(final int[] assignments) {
+    Col result = new Col(assignments.length);
+    for (int n = 0; n < assignments.length; n++) {
+      result._data[n] = assignments[n];
+    }
+
+    return result;
+  }
+
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import com.github.fommil.netlib.BLAS;
+
+/**
+ * Provides the kronecker product {@code kron(A, B)} of two matrices as linear operator, without storing its elements.
+ * <p>
+ * The product with a vector x is calculated by {@code vec(B * X * A.t())}, where X is x reshaped into a
+ * ({@code B.n_cols}, {@code A.n_cols})-matrix. This requires O({@code A.n_elem} + {@code B.n_elem}) memory and
+ * O({@code B.n_rows} * {@code B.n_cols} * {@code A.n_cols} + {@code B.n_rows} * {@code A.n_cols} * {@code A.n_rows})
+ * operations, instead of O({@code A.n_elem} * {@code B.n_elem}) for each.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class KronOperator implements LinearOperator {
+
+  /**
+   * The left-hand side factor
+   */
+  protected final Mat _A;
+
+  /**
+   * The right-hand side factor
+   */
+  protected final Mat _B;
+
+  /**
+   * Creates the kronecker product of the provided matrices as linear operator.
+   * <p>
+   * Both matrices are copied.
+   * 
+   * @param A The left-hand side matrix
+   * @param B The right-hand side matrix
+   */
+  public KronOperator(final AbstractMat A, final AbstractMat B) {
+    _A = new Mat(A);
+    _B = new Mat(B);
+  }
+
+  @Override
+  public int n_rows() {
+    return _A.n_rows * _B.n_rows;
+  }
+
+  @Override
+  public int n_cols() {
+    return _A.n_cols * _B.n_cols;
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * @throws RuntimeException The provided vector must have exactly {@link #n_cols()} elements, but had
+   *           {@code X.n_elem}.
+   */
+  @Override
+  public Col times(final Col X) throws RuntimeException {
+    if (X.n_elem != n_cols()) {
+      throw new RuntimeException("The provided vector must have exactly " + n_cols() + " elements, but had " + X.n_elem + ".");
+    }
+
+    Col result = new Col(n_rows(), Fill.ZEROS);
+    if (result.is_empty() || X.is_empty()) {
+      return result;
+    }
+
+    /*
+     * temp = B * X, with X being a (B.n_cols, A.n_cols)-matrix
+     */
+    double[] temp = new double[_B.n_rows * _A.n_cols];
+    BLAS.getInstance().dgemm("N", "N", _B.n_rows, _A.n_cols, _B.n_cols, 1, _B._data, _B.n_rows, X._data, _B.n_cols, 0, temp, _B.n_rows);
+
+    /*
+     * result = temp * A.t(), stored as (B.n_rows, A.n_rows)-matrix
+     */
+    BLAS.getInstance().dgemm("N", "T", _B.n_rows, _A.n_rows, _A.n_cols, 1, temp, _B.n_rows, _A._data, _A.n_rows, 0, result._data, _B.n_rows);
+
+    return result;
+  }
+
+  /**
+   * Returns the kronecker product as matrix.
+   * 
+   * @return The matrix
+   */
+  public Mat toMat() {
+    return Arma.kron(_A, _B);
+  }
+
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides a linear operator that is only accessible by its product with a vector.
+ * <p>
+ * Used by iterative algorithms, such as {@link Arma#eigs_sym(AbstractVector, Mat, LinearOperator, int, String, double)},
+ * that never need the elements of a matrix, but only its action on a vector. This allows for structured, sparse or
+ * implicitly given matrices without storing all their elements.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public interface LinearOperator {
+
+  /**
+   * Returns the number of rows.
+   * 
+   * @return The number of rows
+   */
+  int n_rows();
+
+  /**
+   * Returns the number of columns.
+   * 
+   * @return The number of columns
+   */
+  int n_cols();
+
+  /**
+   * Returns the matrix-vector product with the provided vector.
+   * <p>
+   * The provided vector must remain unchanged.
+   * 
+   * @param X The vector with {@link #n_cols()} elements
+   * 
+   * @return The product with {@link #n_rows()} elements
+   */
+  Col times(Col X);
+
+}
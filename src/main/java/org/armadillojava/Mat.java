@@ -146,13 +146,10 @@ public class Mat extends AbstractMat {
    * 
    * @param view The sub view
    */
-  protected Mat(final AbstractView view) {
+  public Mat(final AbstractView view) {
     copy_size(view);
 
-    view.iteratorReset();
-    for (int n = 0; n < n_elem; n++) {
-      _data[n] = view._data[view.iteratorNext()];
-    }
+    view.gather(_data);
   }
 
   /**
@@ -1234,6 +1231,216 @@ public class Mat extends AbstractMat {
     new ViewElemSubMat(this, vector_of_row_indices._data, vector_of_column_indices._data).inPlace(binary_operator, operand);
   }
 
+  /**
+   * Returns a shallow view of the {@code col_number}th column.
+   * <p>
+   * The view shares its elements with this matrix, such that changes are visible in both.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ returns views from col(int). Since {@link #col(int)} returns a deep copy, views
+   * are accessed separately.
+   * 
+   * @param col_number The column
+   * 
+   * @return The view
+   * 
+   * @throws IndexOutOfBoundsException The specified column ({@code col_number}) is out of bounds.
+   */
+  public ViewSubCol colView(final int col_number) throws IndexOutOfBoundsException {
+    if (col_number < 0 || col_number >= n_cols) {
+      throw new IndexOutOfBoundsException("The specified column (" + col_number + ") is out of bounds.");
+    }
+
+    return new ViewSubCol(this, col_number);
+  }
+
+  /**
+   * Returns a shallow view of the {@code row_number}th row.
+   * <p>
+   * The view shares its elements with this matrix, such that changes are visible in both.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ returns views from row(int). Since {@link #row(int)} returns a deep copy, views
+   * are accessed separately.
+   * 
+   * @param row_number The row
+   * 
+   * @return The view
+   * 
+   * @throws IndexOutOfBoundsException The specified row ({@code row_number}) is out of bounds.
+   */
+  public ViewSubRow rowView(final int row_number) throws IndexOutOfBoundsException {
+    if (row_number < 0 || row_number >= n_rows) {
+      throw new IndexOutOfBoundsException("The specified row (" + row_number + ") is out of bounds.");
+    }
+
+    return new ViewSubRow(this, row_number);
+  }
+
+  /**
+   * Returns a shallow view of the {@code first_col}th to {@code last_col} column.
+   * <p>
+   * The view shares its elements with this matrix, such that changes are visible in both.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ returns views from cols(int, int). Since {@link #cols(int, int)} returns a deep
+   * copy, views are accessed separately.
+   * 
+   * @param first_col The first column
+   * @param last_col The last column
+   * 
+   * @return The view
+   * 
+   * @throws RuntimeException The first specified column ({@code first_col}) must be less than or equal the last
+   *           specified column ({@code last_col}).
+   * @throws IndexOutOfBoundsException The first specified column ({@code first_col}) is out of bounds.
+   * @throws IndexOutOfBoundsException The last specified column ({@code last_col}) is out of bounds.
+   */
+  public ViewSubCols colsView(final int first_col, final int last_col) throws RuntimeException, IndexOutOfBoundsException {
+    if (last_col < first_col) {
+      throw new RuntimeException("The first specified column (" + first_col + ") must be less than or equal the last specified column (" + last_col + ").");
+    }
+
+    if (first_col < 0) {
+      throw new IndexOutOfBoundsException("The first specified column (" + first_col + ") is out of bounds.");
+    }
+
+    if (last_col >= n_cols) {
+      throw new IndexOutOfBoundsException("The last specified column (" + last_col + ") is out of bounds.");
+    }
+
+    return new ViewSubCols(this, first_col, last_col - first_col + 1);
+  }
+
+  /**
+   * Returns a shallow view of the {@code first_row}th to {@code last_row} row.
+   * <p>
+   * The view shares its elements with this matrix, such that changes are visible in both.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ returns views from rows(int, int). Since {@link #rows(int, int)} returns a deep
+   * copy, views are accessed separately.
+   * 
+   * @param first_row The first row
+   * @param last_row The last row
+   * 
+   * @return The view
+   * 
+   * @throws RuntimeException The first specified row ({@code first_row}) must be less than or equal the last specified
+   *           row ({@code last_row}).
+   * @throws IndexOutOfBoundsException The first specified row ({@code first_row}) is out of bounds.
+   * @throws IndexOutOfBoundsException The last specified row ({@code last_row}) is out of bounds.
+   */
+  public ViewSubRows rowsView(final int first_row, final int last_row) throws RuntimeException, IndexOutOfBoundsException {
+    if (last_row < first_row) {
+      throw new RuntimeException("The first specified row (" + first_row + ") must be less than or equal the last specified row (" + last_row + ").");
+    }
+
+    if (first_row < 0) {
+      throw new IndexOutOfBoundsException("The first specified row (" + first_row + ") is out of bounds.");
+    }
+
+    if (last_row >= n_rows) {
+      throw new IndexOutOfBoundsException("The last specified row (" + last_row + ") is out of bounds.");
+    }
+
+    return new ViewSubRows(this, first_row, last_row - first_row + 1);
+  }
+
+  /**
+   * Returns a shallow view of the submatrix from ({@code first_row}, {@code first_col}) to ({@code last_row},
+   * {@code last_col}).
+   * <p>
+   * The view shares its elements with this matrix, such that changes are visible in both.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ returns views from submat(int, int, int, int). Since
+   * {@link #submat(int, int, int, int)} returns a deep copy, views are accessed separately.
+   * 
+   * @param first_row The first row
+   * @param first_col The first column
+   * @param last_row The last row
+   * @param last_col The last column
+   * 
+   * @return The view
+   * 
+   * @throws RuntimeException The first specified row ({@code first_row}) must be less than or equal the last specified
+   *           row ({@code last_row}).
+   * @throws IndexOutOfBoundsException The first specified row ({@code first_row}) is out of bounds.
+   * @throws IndexOutOfBoundsException The last specified row ({@code last_row}) is out of bounds.
+   * @throws RuntimeException The first specified column ({@code first_col}) must be less than or equal the last
+   *           specified column ({@code last_col}).
+   * @throws IndexOutOfBoundsException The first specified column ({@code first_col}) is out of bounds.
+   * @throws IndexOutOfBoundsException The last specified column ({@code last_col}) is out of bounds.
+   */
+  public ViewSubMat submatView(final int first_row, final int first_col, final int last_row, final int last_col) throws RuntimeException, IndexOutOfBoundsException {
+    if (last_row < first_row) {
+      throw new RuntimeException("The first specified row (" + first_row + ") must be less than or equal the last specified row (" + last_row + ").");
+    }
+
+    if (first_row < 0) {
+      throw new IndexOutOfBoundsException("The first specified row (" + first_row + ") is out of bounds.");
+    }
+
+    if (last_row >= n_rows) {
+      throw new IndexOutOfBoundsException("The last specified row (" + last_row + ") is out of bounds.");
+    }
+
+    if (last_col < first_col) {
+      throw new RuntimeException("The first specified column (" + first_col + ") must be less than or equal the last specified column (" + last_col + ").");
+    }
+
+    if (first_col < 0) {
+      throw new IndexOutOfBoundsException("The first specified column (" + first_col + ") is out of bounds.");
+    }
+
+    if (last_col >= n_cols) {
+      throw new IndexOutOfBoundsException("The last specified column (" + last_col + ") is out of bounds.");
+    }
+
+    return new ViewSubMat(this, first_row, first_col, last_row - first_row + 1, last_col - first_col + 1);
+  }
+
+  /**
+   * Returns a shallow view of the main diagonal.
+   * <p>
+   * The view shares its elements with this matrix, such that changes are visible in both.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ returns views from diag(). Since {@link #diag()} returns a deep copy, views are
+   * accessed separately.
+   * 
+   * @return The view
+   */
+  public ViewDiag diagView() {
+    return new ViewDiag(this, 0);
+  }
+
+  /**
+   * Returns a shallow view of the {@code k}th diagonal.
+   * <ul>
+   * <li>For {@code k} = 0, its the main diagonal.
+   * <li>For {@code k} &gt; 0, its the {@code k}th super-diagonal.
+   * <li>For {@code k} &lt; 0, its the {@code k}th sub-diagonal.
+   * </ul>
+   * <p>
+   * The view shares its elements with this matrix, such that changes are visible in both.
+   * <p>
+   * <b>Non-canonical:</b> Armadillo C++ returns views from diag(int). Since {@link #diag(int)} returns a deep copy,
+   * views are accessed separately.
+   * 
+   * @param k The diagonal position
+   * 
+   * @return The view
+   * 
+   * @throws IndexOutOfBoundsException The specified diagonal index ({@code k}) is out of bounds.
+   */
+  public ViewDiag diagView(final int k) throws IndexOutOfBoundsException {
+    if (k > 0 && k >= n_cols) {
+      throw new IndexOutOfBoundsException("The specified diagonal index (" + k + ") is out of bounds.");
+    }
+
+    if (k < 0 && -k >= n_rows) {
+      throw new IndexOutOfBoundsException("The specified diagonal index (" + k + ") is out of bounds.");
+    }
+
+    return new ViewDiag(this, k);
+  }
+
   /**
    * Returns a deep copy of the main diagonal.
    * 
@@ -1402,6 +1609,12 @@ public class Mat extends AbstractMat {
      * The parameter "binary_operator" is validated within AbstractView.inPlace(Op, AbstractMat).
      */
 
+    if (binary_operator == Op.ELEMTIMES && operand.is_colvec() && operand.n_elem == n_rows) {
+      scaleRows(_data, _data, operand._data, n_rows, n_cols);
+      _structure = Structure.GENERAL;
+      return;
+    }
+
     for (int j = 0; j < n_cols; j++) {
       col(j, binary_operator, operand);
     }
@@ -1464,6 +1677,12 @@ public class Mat extends AbstractMat {
      * The parameter "binary_operator" is validated within AbstractView.inPlace(Op, AbstractMat).
      */
 
+    if (binary_operator == Op.ELEMTIMES && operand.is_rowvec() && operand.n_elem == n_cols) {
+      scaleCols(_data, _data, operand._data, n_rows, n_cols);
+      _structure = Structure.GENERAL;
+      return;
+    }
+
     for (int i = 0; i < n_rows; i++) {
       row(i, binary_operator, operand);
     }
@@ -1537,6 +1756,8 @@ public class Mat extends AbstractMat {
    * @throws UnsupportedOperationException Unsupported operator {@code unary_operator}.
    */
   public void at(final int i, final int j, final Op unary_operator) throws UnsupportedOperationException {
+    _structure = Structure.GENERAL;
+
     switch (unary_operator) {
       case INCREMENT:
         _data[i + j * n_rows]++;
@@ -1564,6 +1785,8 @@ public class Mat extends AbstractMat {
    * @throws UnsupportedOperationException Unsupported operator {@code binary_operator}.
    */
   public void at(final int i, final int j, final Op binary_operator, double operand) throws UnsupportedOperationException {
+    _structure = Structure.GENERAL;
+
     switch (binary_operator) {
       case EQUAL:
         _data[i + j * n_rows] = operand;
@@ -1601,6 +1824,8 @@ public class Mat extends AbstractMat {
     for (int n = 0; n < length; n++) {
       _data[n + n * n_rows] = 1;
     }
+
+    _structure = is_square() ? Structure.DIAGONAL : Structure.GENERAL;
   }
 
   /**
@@ -1625,6 +1850,8 @@ public class Mat extends AbstractMat {
     for (int n = 0; n < length; n++) {
       _data[n + n * n_rows] = 1;
     }
+
+    _structure = is_square() ? Structure.DIAGONAL : Structure.GENERAL;
   }
 
   /**
@@ -1640,6 +1867,10 @@ public class Mat extends AbstractMat {
       throw new RuntimeException("The (" + n_rows + ", " + n_cols + ")-matrix must be square.");
     }
 
+    if (!is_empty() && _structure != Structure.GENERAL) {
+      return structuredInverse();
+    }
+
     Mat inverse = new Mat(this);
     int[] pivotIndices = new int[Math.min(n_rows, n_cols)];
     intW info = new intW(0);
@@ -1658,6 +1889,76 @@ public class Mat extends AbstractMat {
     return inverse;
   }
 
+  /**
+   * Returns the inverse of the square matrix, which is known to be diagonal, triangular or symmetric.
+   * <p>
+   * Diagonal matrices are inverted element-wise, triangular matrices by {@code dtrtri} and symmetric matrices by
+   * {@code dsytrf} and {@code dsytri}. The inverse keeps the structure of the matrix.
+   * 
+   * @return The inverse
+   * 
+   * @throws RuntimeException The matrix appears to be singular.
+   */
+  protected Mat structuredInverse() throws RuntimeException {
+    Mat inverse;
+    intW info = new intW(0);
+
+    switch (_structure) {
+      case DIAGONAL:
+        /*
+         * All uninitialised matrices are already equal to a zero matrix.
+         */
+        inverse = new Mat(n_rows, n_cols);
+        for (int i = 0; i < n_rows; i++) {
+          double value = _data[i + i * n_rows];
+          if (value == 0) {
+            throw new RuntimeException("The matrix appears to be singular.");
+          }
+
+          inverse._data[i + i * n_rows] = 1 / value;
+        }
+        break;
+      case UPPER_TRIANGULAR:
+      case LOWER_TRIANGULAR:
+        inverse = new Mat(this);
+        LAPACK.getInstance().dtrtri(_structure.uplo(), "N", n_rows, inverse._data, n_rows, info);
+        if (info.val != 0) {
+          throw new RuntimeException("The matrix appears to be singular.");
+        }
+        break;
+      default:
+        inverse = new Mat(this);
+        int[] pivotIndices = new int[n_rows];
+
+        /*
+         * Queries the optimal workspace size first.
+         */
+        double[] work = new double[1];
+        LAPACK.getInstance().dsytrf("U", n_rows, inverse._data, n_rows, pivotIndices, work, -1, info);
+        work = new double[Math.max(n_rows, (int) work[0])];
+
+        LAPACK.getInstance().dsytrf("U", n_rows, inverse._data, n_rows, pivotIndices, work, work.length, info);
+        if (info.val != 0) {
+          throw new RuntimeException("The matrix appears to be singular.");
+        }
+
+        LAPACK.getInstance().dsytri("U", n_rows, inverse._data, n_rows, pivotIndices, work, info);
+        if (info.val != 0) {
+          throw new RuntimeException("The matrix appears to be singular.");
+        }
+
+        for (int j = 0; j < n_cols; j++) {
+          for (int i = j + 1; i < n_rows; i++) {
+            inverse._data[i + j * n_rows] = inverse._data[j + i * n_rows];
+          }
+        }
+        break;
+    }
+    inverse._structure = _structure;
+
+    return inverse;
+  }
+
   /**
    * Returns {@code true} if the number of rows equals the number of columns.
    * 
@@ -1707,15 +2008,24 @@ public class Mat extends AbstractMat {
         throw new RuntimeException("Both matrices must have the same number of columns (" + n_cols + " and " + X.n_cols + ").");
       }
 
-      Mat temp = new Mat(this);
-      set_size(n_rows + X.n_rows, n_cols);
-
-      new ViewSubRows(this, 0, row_number).inPlace(Op.EQUAL, new ViewSubRows(temp, 0, row_number));
-      new ViewSubRows(this, row_number, X.n_rows).inPlace(Op.EQUAL, X);
       /*
-       * The attribute "n_rows" has been updated by set_size(int, int).
+       * set_size(int, int) allocates a new array, so the current one can be read from without copying it first. This
+       * also holds if X is this matrix.
        */
-      new ViewSubRows(this, row_number + X.n_rows, n_rows - (row_number + X.n_rows)).inPlace(Op.EQUAL, new ViewSubRows(temp, row_number, temp.n_rows - row_number));
+      double[] temp = _data;
+      double[] dataX = X._data;
+      int n_rowsX = X.n_rows;
+      int n_rowsTemp = n_rows;
+      set_size(n_rows + n_rowsX, n_cols);
+
+      for (int j = 0; j < n_cols; j++) {
+        int columnIndex = j * n_rows;
+        int columnIndexTemp = j * n_rowsTemp;
+
+        System.arraycopy(temp, columnIndexTemp, _data, columnIndex, row_number);
+        System.arraycopy(dataX, j * n_rowsX, _data, columnIndex + row_number, n_rowsX);
+        System.arraycopy(temp, columnIndexTemp + row_number, _data, columnIndex + row_number + n_rowsX, n_rowsTemp - row_number);
+      }
     }
   }
 
@@ -1746,14 +2056,20 @@ public class Mat extends AbstractMat {
     } else if (is_empty()) {
       set_size(number_of_rows, 1);
     } else {
-      Mat temp = new Mat(this);
-      set_size(n_rows + number_of_rows, n_cols);
-
-      new ViewSubRows(this, 0, row_number).inPlace(Op.EQUAL, new ViewSubRows(temp, 0, row_number));
       /*
-       * The attribute "n_rows" has been updated by set_size(int, int).
+       * set_size(int, int) allocates a new array, so the current one can be read from without copying it first.
        */
-      new ViewSubRows(this, row_number + number_of_rows, n_rows - (row_number + number_of_rows)).inPlace(Op.EQUAL, new ViewSubRows(temp, row_number, temp.n_rows - row_number));
+      double[] temp = _data;
+      int n_rowsTemp = n_rows;
+      set_size(n_rows + number_of_rows, n_cols);
+
+      for (int j = 0; j < n_cols; j++) {
+        int columnIndex = j * n_rows;
+        int columnIndexTemp = j * n_rowsTemp;
+
+        System.arraycopy(temp, columnIndexTemp, _data, columnIndex, row_number);
+        System.arraycopy(temp, columnIndexTemp + row_number, _data, columnIndex + row_number + number_of_rows, n_rowsTemp - row_number);
+      }
     }
   }
 
@@ -1808,12 +2124,18 @@ public class Mat extends AbstractMat {
         throw new RuntimeException("Both matrices must have the same number of columns (" + n_rows + " and " + X.n_rows + ").");
       }
 
-      double[] temp = Arrays.copyOf(_data, n_elem);
+      /*
+       * set_size(int, int) allocates a new array, so the current one can be read from without copying it first. This
+       * also holds if X is this matrix.
+       */
+      double[] temp = _data;
+      double[] dataX = X._data;
+      int n_elemX = X.n_elem;
       set_size(n_rows, n_cols + X.n_cols);
 
       System.arraycopy(temp, 0, _data, 0, col_number * n_rows);
-      System.arraycopy(X._data, 0, _data, col_number * n_rows, X.n_elem);
-      System.arraycopy(temp, col_number * n_rows, _data, col_number * n_rows + X.n_elem, temp.length - col_number * n_rows);
+      System.arraycopy(dataX, 0, _data, col_number * n_rows, n_elemX);
+      System.arraycopy(temp, col_number * n_rows, _data, col_number * n_rows + n_elemX, temp.length - col_number * n_rows);
     }
   }
 
@@ -1844,7 +2166,10 @@ public class Mat extends AbstractMat {
     } else if (is_empty()) {
       set_size(1, number_of_cols);
     } else {
-      double[] temp = Arrays.copyOf(_data, n_elem);
+      /*
+       * set_size(int, int) allocates a new array, so the current one can be read from without copying it first.
+       */
+      double[] temp = _data;
       set_size(n_rows, n_cols + number_of_cols);
 
       System.arraycopy(temp, 0, _data, 0, col_number * n_rows);
@@ -2115,6 +2440,8 @@ public class Mat extends AbstractMat {
 
       _data = new double[this.n_elem];
     }
+
+    _structure = Structure.GENERAL;
   }
 
   /**
@@ -2129,15 +2456,7 @@ public class Mat extends AbstractMat {
       throw new IndexOutOfBoundsException("The specified row (" + row_number + ") is out of bound.");
     }
 
-    Mat temp = new Mat(this);
-
-    set_size(n_rows - 1, n_cols);
-
-    new ViewSubRows(this, 0, row_number).inPlace(Op.EQUAL, new ViewSubRows(temp, 0, row_number));
-    /*
-     * The attribute "n_rows" has been updated by set_size(int, int).
-     */
-    new ViewSubRows(this, row_number, n_rows - row_number).inPlace(Op.EQUAL, new ViewSubRows(temp, row_number + 1, n_rows - row_number));
+    shedRows(row_number, row_number);
   }
 
   /**
@@ -2164,15 +2483,32 @@ public class Mat extends AbstractMat {
       throw new IndexOutOfBoundsException("The last specified row (" + last_row + ") is out of bound.");
     }
 
-    Mat temp = new Mat(this);
-
-    set_size(n_rows - (last_row - first_row + 1), n_cols);
+    shedRows(first_row, last_row);
+  }
 
-    new ViewSubRows(this, 0, first_row).inPlace(Op.EQUAL, new ViewSubRows(temp, 0, first_row));
+  /**
+   * Removes all rows from the {@code first_row} to the {@code last_row} (inclusive), by copying the remaining parts of
+   * each column directly into the resized storage.
+   * 
+   * @param first_row The first row
+   * @param last_row The last row
+   */
+  protected void shedRows(final int first_row, final int last_row) {
     /*
-     * The attribute "n_rows" has been updated by set_size(int, int).
+     * set_size(int, int) allocates a new array, so the current one can be read from without copying it first.
      */
-    new ViewSubRows(this, first_row, n_rows - first_row).inPlace(Op.EQUAL, new ViewSubRows(temp, last_row + 1, n_rows - first_row));
+    double[] temp = _data;
+    int n_rowsTemp = n_rows;
+    int n_rowsShed = last_row - first_row + 1;
+    set_size(n_rows - n_rowsShed, n_cols);
+
+    for (int j = 0; j < n_cols; j++) {
+      int columnIndex = j * n_rows;
+      int columnIndexTemp = j * n_rowsTemp;
+
+      System.arraycopy(temp, columnIndexTemp, _data, columnIndex, first_row);
+      System.arraycopy(temp, columnIndexTemp + last_row + 1, _data, columnIndex + first_row, n_rowsTemp - last_row - 1);
+    }
   }
 
   /**
@@ -2187,7 +2523,10 @@ public class Mat extends AbstractMat {
       throw new IndexOutOfBoundsException("The specified column (" + col_number + ") is out of bound.");
     }
 
-    double[] temp = Arrays.copyOf(_data, n_elem);
+    /*
+     * set_size(int, int) allocates a new array, so the current one can be read from without copying it first.
+     */
+    double[] temp = _data;
     set_size(n_rows, n_cols - 1);
 
     System.arraycopy(temp, 0, _data, 0, col_number * n_rows);
@@ -2218,7 +2557,10 @@ public class Mat extends AbstractMat {
       throw new IndexOutOfBoundsException("The last specified column (" + last_col + ") is out of bound.");
     }
 
-    double[] temp = Arrays.copyOf(_data, n_elem);
+    /*
+     * set_size(int, int) allocates a new array, so the current one can be read from without copying it first.
+     */
+    double[] temp = _data;
     set_size(n_rows, n_cols - (last_col - first_col + 1));
 
     System.arraycopy(temp, 0, _data, 0, first_col * n_rows);
@@ -2228,12 +2570,15 @@ public class Mat extends AbstractMat {
   @Override
   public void swap(final Mat X) throws RuntimeException {
     Mat temp = new Mat(this);
+    Structure structure = _structure;
 
     copy_size(X);
     System.arraycopy(X._data, 0, _data, 0, X.n_elem);
+    _structure = X._structure;
 
     X.copy_size(temp);
     System.arraycopy(temp._data, 0, X._data, 0, temp.n_elem);
+    X._structure = structure;
   }
 
   @Override
@@ -2280,6 +2625,7 @@ public class Mat extends AbstractMat {
         }
       }
     }
+    transpose._structure = _structure.t();
 
     return transpose;
   }
@@ -2426,7 +2772,9 @@ public class Mat extends AbstractMat {
       return times(X._data[0]);
     } else {
       Mat result = new Mat(n_rows, X.n_cols);
-      BLAS.getInstance().dgemm("N", "N", n_rows, X.n_cols, n_cols, 1, _data, n_rows, X._data, X.n_rows, 0, result._data, n_rows);
+      if (!structuredTimes(result._data, this, X)) {
+        BLAS.getInstance().dgemm("N", "N", n_rows, X.n_cols, n_cols, 1, _data, n_rows, X._data, X.n_rows, 0, result._data, n_rows);
+      }
       return result;
     }
   }
@@ -2447,7 +2795,9 @@ public class Mat extends AbstractMat {
     }
 
     Col result = new Col(n_rows);
-    BLAS.getInstance().dgemv("N", n_rows, n_cols, 1, _data, n_rows, X._data, 1, 0, result._data, 1);
+    if (!structuredTimes(result._data, this, X)) {
+      BLAS.getInstance().dgemv("N", n_rows, n_cols, 1, _data, n_rows, X._data, 1, 0, result._data, 1);
+    }
     return result;
   }
 
@@ -2487,10 +2837,159 @@ public class Mat extends AbstractMat {
     }
 
     Mat result = new Mat(n_rows, X.n_cols);
-    BLAS.getInstance().dgemm("N", "N", n_rows, X.n_cols, n_cols, 1, _data, n_rows, X._data, X.n_rows, 0, result._data, n_rows);
+    if (!structuredTimes(result._data, this, X)) {
+      BLAS.getInstance().dgemm("N", "N", n_rows, X.n_cols, n_cols, 1, _data, n_rows, X._data, X.n_rows, 0, result._data, n_rows);
+    }
+    return result;
+  }
+
+  /**
+   * Return the out-of-place matrix multiplication with the provided right-hand side diagonal multiplier.
+   * <p>
+   * Each column is scaled by the corresponding diagonal element, requiring only O({@code n_elem}) operations.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param X The multiplier
+   * 
+   * @return The product
+   * 
+   * @throws RuntimeException The number of columns ({@code n_cols}) must be equal to the number of rows (
+   *           {@code X.n_rows()}) in the specified multiplier.
+   */
+  public Mat times(final DiagOperator X) throws RuntimeException {
+    if (n_cols != X.n_rows()) {
+      throw new RuntimeException("The numbers of columns (" + n_cols + ") must be equal to the number of rows (" + X.n_rows() + ") in the specified multiplier.");
+    }
+
+    Mat result = new Mat(n_rows, n_cols);
+    scaleCols(result._data, _data, X._diagonal._data, n_rows, n_cols);
     return result;
   }
 
+  /**
+   * Multiplies the (m, k)-matrix {@code A} with the (k, n)-matrix {@code B} and stores the product in {@code result},
+   * if either matrix is known to be diagonal, triangular or symmetric.
+   * <p>
+   * Diagonal matrices scale the rows or columns of the other matrix in O(m * n), while triangular and symmetric matrices
+   * are multiplied by {@code dtrmm} and {@code dsymm}. Returns {@code false} if no structure is known, leaving
+   * {@code result} unchanged.
+   * 
+   * @param result The product
+   * @param A The left-hand side multiplier
+   * @param B The right-hand side multiplier
+   * @return Whether the product was computed
+   */
+  protected static boolean structuredTimes(final double[] result, final AbstractMat A, final AbstractMat B) {
+    if (result.length == 0 || A.n_elem == 0 || (A._structure == Structure.GENERAL && B._structure == Structure.GENERAL)) {
+      return false;
+    }
+
+    int m = A.n_rows;
+    int n = B.n_cols;
+
+    if (A._structure == Structure.DIAGONAL) {
+      scaleRows(result, B._data, diagonal(A), m, n);
+    } else if (B._structure == Structure.DIAGONAL) {
+      scaleCols(result, A._data, diagonal(B), m, n);
+    } else if (A._structure.is_trimat()) {
+      System.arraycopy(B._data, 0, result, 0, result.length);
+      BLAS.getInstance().dtrmm("L", A._structure.uplo(), "N", "N", m, n, 1, A._data, m, result, m);
+    } else if (B._structure.is_trimat()) {
+      System.arraycopy(A._data, 0, result, 0, result.length);
+      BLAS.getInstance().dtrmm("R", B._structure.uplo(), "N", "N", m, n, 1, B._data, n, result, m);
+    } else if (A._structure == Structure.SYMMETRIC) {
+      BLAS.getInstance().dsymm("L", "U", m, n, 1, A._data, m, B._data, m, 0, result, m);
+    } else {
+      BLAS.getInstance().dsymm("R", "U", m, n, 1, B._data, n, A._data, m, 0, result, m);
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the main diagonal of the provided square matrix.
+   * 
+   * @param A The matrix
+   * @return The diagonal
+   */
+  protected static double[] diagonal(final AbstractMat A) {
+    double[] diagonal = new double[A.n_rows];
+    for (int i = 0; i < diagonal.length; i++) {
+      diagonal[i] = A._data[i + i * A.n_rows];
+    }
+
+    return diagonal;
+  }
+
+  /**
+   * Multiplies each row {@code i} of the (n_rows, n_cols)-matrix {@code data} with {@code factors[i]} and stores the
+   * result in {@code result}, which may be {@code data} itself.
+   * <p>
+   * This is equivalent to the product with a diagonal matrix from the left, but requires only O(n_rows * n_cols)
+   * operations. Large matrices are split into contiguous blocks of elements processed in parallel.
+   * 
+   * @param result The result
+   * @param data The matrix
+   * @param factors The factor per row
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   */
+  protected static void scaleRows(final double[] result, final double[] data, final double[] factors, final int n_rows, final int n_cols) {
+    int n_elem = n_rows * n_cols;
+    if (n_elem == 0) {
+      return;
+    }
+
+    Parallel.run(Parallel.numberOfBlocks(n_elem, n_elem), n_elem, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        int i = first % n_rows;
+        for (int n = first; n < last; n++) {
+          result[n] = factors[i] * data[n];
+
+          if (++i == n_rows) {
+            i = 0;
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Multiplies each column {@code j} of the (n_rows, n_cols)-matrix {@code data} with {@code factors[j]} and stores
+   * the result in {@code result}, which may be {@code data} itself.
+   * <p>
+   * This is equivalent to the product with a diagonal matrix from the right, but requires only O(n_rows * n_cols)
+   * operations. Large matrices are split into contiguous blocks of elements processed in parallel.
+   * 
+   * @param result The result
+   * @param data The matrix
+   * @param factors The factor per column
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   */
+  protected static void scaleCols(final double[] result, final double[] data, final double[] factors, final int n_rows, final int n_cols) {
+    int n_elem = n_rows * n_cols;
+    if (n_elem == 0) {
+      return;
+    }
+
+    Parallel.run(Parallel.numberOfBlocks(n_elem, n_elem), n_elem, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        int n = first;
+        for (int j = first / n_rows; n < last; j++) {
+          double factor = factors[j];
+          int end = Math.min(last, (j + 1) * n_rows);
+          for (; n < end; n++) {
+            result[n] = data[n] * factor;
+          }
+        }
+      }
+    });
+  }
+
   @Override
   public Mat elemTimes(final Mat X) throws RuntimeException {
     if (n_rows != X.n_rows || n_cols != X.n_cols) {
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import java.util.Arrays;
+
+/**
+ * Provides a matrix that grows by appending rows or columns at its end, such as a dataset collected sample by sample.
+ * <p>
+ * Unlike {@link Mat#insert_rows(int, AbstractMat)} and {@link Mat#insert_cols(int, AbstractMat)}, which reallocate and
+ * copy the whole matrix each time, the storage keeps spare capacity for further rows and columns and doubles it if
+ * exhausted. Appending n elements therefore requires amortised O(n) operations in total, instead of O(n^2).
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class MatBuilder {
+
+  /**
+   * The number of rows
+   */
+  protected int      _n_rows;
+  /**
+   * The number of columns
+   */
+  protected int      _n_cols;
+  /**
+   * The storage, with {@code _row_capacity} elements per column
+   */
+  protected double[] _data;
+  /**
+   * The number of rows that fit into the storage
+   */
+  protected int      _row_capacity;
+
+  /**
+   * Creates an empty matrix.
+   */
+  public MatBuilder() {
+    reset();
+  }
+
+  /**
+   * Appends the rows of the provided matrix below the current rows.
+   * 
+   * @param X The rows
+   * 
+   * @throws RuntimeException Both matrices must have the same number of columns ({@code n_cols} and {@code X.n_cols}
+   *           ).
+   */
+  public void append_rows(final AbstractMat X) throws RuntimeException {
+    if (X.is_empty()) {
+      return; // Nothing to do here.
+    } else if (_n_cols == 0) {
+      _n_cols = X.n_cols;
+    } else if (_n_cols != X.n_cols) {
+      throw new RuntimeException("Both matrices must have the same number of columns (" + _n_cols + " and " + X.n_cols + ").");
+    }
+
+    reserve(_n_rows + X.n_rows, _n_cols);
+
+    for (int j = 0; j < _n_cols; j++) {
+      System.arraycopy(X._data, j * X.n_rows, _data, j * _row_capacity + _n_rows, X.n_rows);
+    }
+    _n_rows += X.n_rows;
+  }
+
+  /**
+   * Appends the columns of the provided matrix right to the current columns.
+   * 
+   * @param X The columns
+   * 
+   * @throws RuntimeException Both matrices must have the same number of rows ({@code n_rows} and {@code X.n_rows}).
+   */
+  public void append_cols(final AbstractMat X) throws RuntimeException {
+    if (X.is_empty()) {
+      return; // Nothing to do here.
+    } else if (_n_rows == 0) {
+      _n_rows = X.n_rows;
+    } else if (_n_rows != X.n_rows) {
+      throw new RuntimeException("Both matrices must have the same number of rows (" + _n_rows + " and " + X.n_rows + ").");
+    }
+
+    reserve(_n_rows, _n_cols + X.n_cols);
+
+    if (_row_capacity == _n_rows) {
+      System.arraycopy(X._data, 0, _data, _n_cols * _row_capacity, X.n_elem);
+    } else {
+      for (int j = 0; j < X.n_cols; j++) {
+        System.arraycopy(X._data, j * X.n_rows, _data, (_n_cols + j) * _row_capacity, X.n_rows);
+      }
+    }
+    _n_cols += X.n_cols;
+  }
+
+  /**
+   * Returns the number of rows.
+   * 
+   * @return The number of rows
+   */
+  public int n_rows() {
+    return _n_rows;
+  }
+
+  /**
+   * Returns the number of columns.
+   * 
+   * @return The number of columns
+   */
+  public int n_cols() {
+    return _n_cols;
+  }
+
+  /**
+   * Returns a copy of the current matrix.
+   * <p>
+   * Further rows or columns can be appended afterwards.
+   * 
+   * @return The matrix
+   */
+  public Mat build() {
+    Mat result = new Mat(_n_rows, _n_cols);
+
+    if (_row_capacity == _n_rows) {
+      System.arraycopy(_data, 0, result._data, 0, result.n_elem);
+    } else {
+      for (int j = 0; j < result.n_cols; j++) {
+        System.arraycopy(_data, j * _row_capacity, result._data, j * result.n_rows, result.n_rows);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Removes all rows and columns and releases the storage.
+   */
+  public void reset() {
+    _n_rows = 0;
+    _n_cols = 0;
+    _row_capacity = 0;
+    _data = new double[0];
+  }
+
+  /**
+   * Ensures that the storage fits at least the specified number of rows and columns, by at least doubling the
+   * capacity if exceeded.
+   * 
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   */
+  protected void reserve(final int n_rows, final int n_cols) {
+    if (n_rows > _row_capacity) {
+      int row_capacity = Math.max(n_rows, 2 * _row_capacity);
+      int col_capacity = Math.max(n_cols, (_row_capacity > 0 ? _data.length / _row_capacity : 0));
+
+      /*
+       * The leading dimension changes, such that each column must be moved separately.
+       */
+      double[] data = new double[row_capacity * col_capacity];
+      for (int j = 0; j < _n_cols; j++) {
+        System.arraycopy(_data, j * _row_capacity, data, j * row_capacity, _n_rows);
+      }
+
+      _data = data;
+      _row_capacity = row_capacity;
+    } else if (n_cols * _row_capacity > _data.length) {
+      _data = Arrays.copyOf(_data, Math.max(n_cols, 2 * (_data.length / _row_capacity)) * _row_capacity);
+    }
+  }
+
+}
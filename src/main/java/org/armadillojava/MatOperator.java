@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides a linear operator based on a dense matrix.
+ * <p>
+ * The matrix is not copied and must therefore remain unchanged while the operator is in use.
+ * 
+ * @author Sebastian Niemann
+ */
+class MatOperator implements LinearOperator {
+
+  /**
+   * The matrix
+   */
+  protected final Mat _matrix;
+
+  /**
+   * Creates a linear operator based on the provided matrix.
+   * 
+   * @param matrix The matrix
+   */
+  MatOperator(final Mat matrix) {
+    _matrix = matrix;
+  }
+
+  @Override
+  public int n_rows() {
+    return _matrix.n_rows;
+  }
+
+  @Override
+  public int n_cols() {
+    return _matrix.n_cols;
+  }
+
+  @Override
+  public Col times(final Col X) {
+    return _matrix.times(X);
+  }
+
+}
@@ -0,0 +1,424 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import java.util.Arrays;
+
+import com.github.fommil.netlib.BLAS;
+
+/**
+ * Provides pairwise distances between the rows of two matrices, as well as the nearest neighbours of each row.
+ * <p>
+ * Supported metrics are
+ * <ul>
+ * <li>"euclidean": ||x - y||,</li>
+ * <li>"sqeuclidean": ||x - y||^2,</li>
+ * <li>"cosine": 1 - x * y' / (||x|| * ||y||) and</li>
+ * <li>"manhattan": sum(abs(x - y)).</li>
+ * </ul>
+ * The euclidean-type and cosine metrics are based on the identity ||x - y||^2 = ||x||^2 + ||y||^2 - 2 * x * y', such
+ * that the inner products of all pairs are calculated by a single matrix multiplication per tile ({@code dgemm}). Note
+ * that this loses relative precision for distances that are small compared to the norms of both rows.
+ * <p>
+ * The rows are processed in tiles of (at most) {@code tile_size} rows of each matrix, which bounds the temporary
+ * memory of {@link #nearest(Mat, Mat, Mat, Mat, int)} to O({@code tile_size}^2) per thread, independent of the number
+ * of rows. Tiles of the first matrix are processed in parallel.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class PairwiseDistance {
+
+  /**
+   * The default number of rows per tile
+   */
+  public static final int    DEFAULT_TILE_SIZE = 256;
+
+  /**
+   * The euclidean distance
+   */
+  protected static final int EUCLIDEAN         = 0;
+  /**
+   * The squared euclidean distance
+   */
+  protected static final int SQEUCLIDEAN       = 1;
+  /**
+   * The cosine distance
+   */
+  protected static final int COSINE            = 2;
+  /**
+   * The manhattan distance
+   */
+  protected static final int MANHATTAN         = 3;
+  /**
+   * The inner product, only used internally by {@link PairwiseKernel}
+   */
+  protected static final int INNER_PRODUCT     = 4;
+
+  /**
+   * The metric
+   */
+  protected final int        _metric;
+
+  /**
+   * The number of rows per tile
+   */
+  protected final int        _tile_size;
+
+  /**
+   * Creates a pairwise distance calculator for the specified metric, using {@link #DEFAULT_TILE_SIZE} rows per tile.
+   * 
+   * @param metric The metric
+   * 
+   * @throws IllegalArgumentException The specified metric ({@code metric}) must be one of 'euclidean', 'sqeuclidean',
+   *           'cosine' or 'manhattan'.
+   */
+  public PairwiseDistance(final String metric) throws IllegalArgumentException {
+    this(metric, DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Creates a pairwise distance calculator for the specified metric.
+   * 
+   * @param metric The metric
+   * @param tile_size The number of rows per tile
+   * 
+   * @throws IllegalArgumentException The specified metric ({@code metric}) must be one of 'euclidean', 'sqeuclidean',
+   *           'cosine' or 'manhattan'.
+   * @throws IllegalArgumentException The tile size ({@code tile_size}) must be strict greater than 0.
+   */
+  public PairwiseDistance(final String metric, final int tile_size) throws IllegalArgumentException {
+    this(metric(metric), tile_size);
+  }
+
+  /**
+   * Creates a pairwise distance calculator for the specified metric.
+   * 
+   * @param metric The metric, as one of the constants of this class
+   * @param tile_size The number of rows per tile
+   * 
+   * @throws IllegalArgumentException The tile size ({@code tile_size}) must be strict greater than 0.
+   */
+  protected PairwiseDistance(final int metric, final int tile_size) throws IllegalArgumentException {
+    _metric = metric;
+
+    if (tile_size < 1) {
+      throw new IllegalArgumentException("The tile size (" + tile_size + ") must be strict greater than 0.");
+    }
+
+    _tile_size = tile_size;
+  }
+
+  /**
+   * Returns the constant of the specified metric.
+   * 
+   * @param metric The metric
+   * @return The constant
+   * 
+   * @throws IllegalArgumentException The specified metric ({@code metric}) must be one of 'euclidean', 'sqeuclidean',
+   *           'cosine' or 'manhattan'.
+   */
+  protected static int metric(final String metric) throws IllegalArgumentException {
+    switch (metric) {
+      case "euclidean":
+        return EUCLIDEAN;
+      case "sqeuclidean":
+        return SQEUCLIDEAN;
+      case "cosine":
+        return COSINE;
+      case "manhattan":
+        return MANHATTAN;
+      default:
+        throw new IllegalArgumentException("The specified metric (" + metric + ") must be one of 'euclidean', 'sqeuclidean', 'cosine' or 'manhattan'.");
+    }
+  }
+
+  /**
+   * Returns the ({@code X.n_rows}, {@code X.n_rows})-matrix of distances between all rows of the provided matrix.
+   * <p>
+   * The ({@code i}, {@code j})-th entry is the distance between the {@code i}th and {@code j}th row.
+   * 
+   * @param X The matrix
+   * @return The distances
+   */
+  public Mat distances(final Mat X) {
+    return distances(X, X);
+  }
+
+  /**
+   * Returns the ({@code X.n_rows}, {@code Y.n_rows})-matrix of distances between the rows of the first and second
+   * provided matrix.
+   * <p>
+   * The ({@code i}, {@code j})-th entry is the distance between the {@code i}th row of the first and the {@code j}th
+   * row of the second matrix.
+   * 
+   * @param X The first matrix
+   * @param Y The second matrix
+   * @return The distances
+   * 
+   * @throws RuntimeException Both matrices must have the same number of columns ({@code X.n_cols} and
+   *           {@code Y.n_cols}).
+   */
+  public Mat distances(final Mat X, final Mat Y) throws RuntimeException {
+    validate(X, Y);
+
+    final Mat result = new Mat(X.n_rows, Y.n_rows);
+    if (result.is_empty()) {
+      return result;
+    }
+
+    final double[] normsX = squaredNorms(X);
+    final double[] normsY = (X == Y) ? normsX : squaredNorms(Y);
+
+    Parallel.run(Parallel.numberOfBlocks((long) X.n_rows * Y.n_rows * Math.max(1, X.n_cols), X.n_rows), X.n_rows, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int i = first; i < last; i += _tile_size) {
+          int n_x = Math.min(_tile_size, last - i);
+          for (int j = 0; j < Y.n_rows; j += _tile_size) {
+            tile(result._data, i + j * X.n_rows, X.n_rows, X, i, n_x, normsX, Y, j, Math.min(_tile_size, Y.n_rows - j), normsY);
+          }
+        }
+      }
+    });
+
+    return result;
+  }
+
+  /**
+   * Determines the {@code k} nearest rows of the second matrix for each row of the first matrix, without computing all
+   * distances at once.
+   * <p>
+   * The {@code i}th row of {@code indices} holds the row numbers of the second matrix in ascending order of their
+   * distances, which are stored in the {@code i}th row of {@code distances}. Ties are resolved in favour of the smaller
+   * row number, while NaN distances are sorted last.
+   * 
+   * @param indices The row numbers of the nearest neighbours
+   * @param distances The distances of the nearest neighbours
+   * @param X The first matrix
+   * @param Y The second matrix
+   * @param k The number of nearest neighbours
+   * 
+   * @throws RuntimeException Both matrices must have the same number of columns ({@code X.n_cols} and
+   *           {@code Y.n_cols}).
+   * @throws IllegalArgumentException The number of nearest neighbours ({@code k}) must be within [1, {@code Y.n_rows}
+   *           ].
+   */
+  public void nearest(final Mat indices, final Mat distances, final Mat X, final Mat Y, final int k) throws RuntimeException, IllegalArgumentException {
+    validate(X, Y);
+
+    if (k < 1 || k > Y.n_rows) {
+      throw new IllegalArgumentException("The number of nearest neighbours (" + k + ") must be within [1, " + Y.n_rows + "].");
+    }
+
+    final int n_rows = X.n_rows;
+    final double[] normsX = squaredNorms(X);
+    final double[] normsY = (X == Y) ? normsX : squaredNorms(Y);
+
+    final double[] nearestIndices = new double[n_rows * k];
+    final double[] nearestDistances = new double[n_rows * k];
+
+    Parallel.run(Parallel.numberOfBlocks((long) n_rows * Y.n_rows * Math.max(1, X.n_cols), n_rows), n_rows, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        double[] tile = new double[_tile_size * Math.min(_tile_size, Y.n_rows)];
+        int[] bestIndices = new int[_tile_size * k];
+        double[] bestDistances = new double[_tile_size * k];
+        int[] counts = new int[_tile_size];
+
+        for (int i = first; i < last; i += _tile_size) {
+          int n_x = Math.min(_tile_size, last - i);
+          Arrays.fill(counts, 0);
+
+          for (int j = 0; j < Y.n_rows; j += _tile_size) {
+            int n_y = Math.min(_tile_size, Y.n_rows - j);
+            tile(tile, 0, n_x, X, i, n_x, normsX, Y, j, n_y, normsY);
+
+            for (int jj = 0; jj < n_y; jj++) {
+              for (int ii = 0; ii < n_x; ii++) {
+                counts[ii] = insert(bestIndices, bestDistances, ii * k, counts[ii], k, j + jj, tile[ii + jj * n_x]);
+              }
+            }
+          }
+
+          for (int ii = 0; ii < n_x; ii++) {
+            for (int r = 0; r < k; r++) {
+              nearestIndices[(i + ii) + r * n_rows] = bestIndices[ii * k + r];
+              nearestDistances[(i + ii) + r * n_rows] = bestDistances[ii * k + r];
+            }
+          }
+        }
+      }
+    });
+
+    indices.set_size(n_rows, k);
+    System.arraycopy(nearestIndices, 0, indices._data, 0, nearestIndices.length);
+    distances.set_size(n_rows, k);
+    System.arraycopy(nearestDistances, 0, distances._data, 0, nearestDistances.length);
+  }
+
+  /**
+   * Inserts the candidate into the sorted list of the currently nearest neighbours, if it is nearer than the farthest
+   * one or the list is not yet full.
+   * 
+   * @param indices The row numbers of the nearest neighbours
+   * @param distances The distances of the nearest neighbours
+   * @param offset The position of the list
+   * @param count The number of neighbours within the list
+   * @param k The capacity of the list
+   * @param index The row number of the candidate
+   * @param distance The distance of the candidate
+   * @return The number of neighbours within the list after insertion
+   */
+  protected static int insert(final int[] indices, final double[] distances, final int offset, final int count, final int k, final int index, final double distance) {
+    if (count == k && !isNearer(distance, distances[offset + k - 1])) {
+      return count;
+    }
+
+    int position = Math.min(count, k - 1);
+    while (position > 0 && isNearer(distance, distances[offset + position - 1])) {
+      distances[offset + position] = distances[offset + position - 1];
+      indices[offset + position] = indices[offset + position - 1];
+      position--;
+    }
+
+    distances[offset + position] = distance;
+    indices[offset + position] = index;
+
+    return Math.min(count + 1, k);
+  }
+
+  /**
+   * Returns true if the first distance is strictly smaller than the second one, treating NaN as larger than any other
+   * value.
+   * 
+   * @param distance The first distance
+   * @param other The second distance
+   * @return Whether the first distance is smaller
+   */
+  protected static boolean isNearer(final double distance, final double other) {
+    return distance < other || (Double.isNaN(other) && !Double.isNaN(distance));
+  }
+
+  /**
+   * Computes the distances between the rows {@code firstX} to {@code firstX + n_x} of X and {@code firstY} to
+   * {@code firstY + n_y} of Y into {@code target}, starting at {@code offset} with leading dimension {@code ld}.
+   * 
+   * @param target The target
+   * @param offset The position of the first distance within the target
+   * @param ld The leading dimension of the target
+   * @param X The first matrix
+   * @param firstX The first row of X
+   * @param n_x The number of rows of X
+   * @param normsX The squared norms of all rows of X
+   * @param Y The second matrix
+   * @param firstY The first row of Y
+   * @param n_y The number of rows of Y
+   * @param normsY The squared norms of all rows of Y
+   */
+  protected void tile(final double[] target, final int offset, final int ld, final Mat X, final int firstX, final int n_x, final double[] normsX, final Mat Y, final int firstY, final int n_y, final double[] normsY) {
+    int n_cols = X.n_cols;
+
+    if (_metric == MANHATTAN) {
+      for (int jj = 0; jj < n_y; jj++) {
+        int p = offset + jj * ld;
+        for (int ii = 0; ii < n_x; ii++) {
+          target[p + ii] = 0;
+        }
+
+        for (int c = 0; c < n_cols; c++) {
+          double valueY = Y._data[firstY + jj + c * Y.n_rows];
+          int q = firstX + c * X.n_rows;
+          for (int ii = 0; ii < n_x; ii++) {
+            target[p + ii] += Math.abs(X._data[q + ii] - valueY);
+          }
+        }
+      }
+      return;
+    }
+
+    if (n_cols > 0) {
+      BLAS.getInstance().dgemm("N", "T", n_x, n_y, n_cols, 1, X._data, firstX, X.n_rows, Y._data, firstY, Y.n_rows, 0, target, offset, ld);
+    } else {
+      for (int jj = 0; jj < n_y; jj++) {
+        for (int ii = 0; ii < n_x; ii++) {
+          target[offset + ii + jj * ld] = 0;
+        }
+      }
+    }
+
+    if (_metric == INNER_PRODUCT) {
+      return;
+    }
+
+    for (int jj = 0; jj < n_y; jj++) {
+      int j = firstY + jj;
+      int p = offset + jj * ld;
+      for (int ii = 0; ii < n_x; ii++) {
+        int i = firstX + ii;
+        double product = target[p + ii];
+
+        switch (_metric) {
+          case COSINE:
+            target[p + ii] = 1 - product / Math.sqrt(normsX[i] * normsY[j]);
+            break;
+          default:
+            /*
+             * Rounding errors may result in slightly negative squared distances, while the distance of a row to itself
+             * is always 0.
+             */
+            double squaredDistance = (X == Y && i == j) ? 0 : Math.max(0, normsX[i] + normsY[j] - 2 * product);
+            target[p + ii] = (_metric == EUCLIDEAN) ? Math.sqrt(squaredDistance) : squaredDistance;
+            break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the squared euclidean norm of each row of the provided matrix, or null if not needed by the metric.
+   * 
+   * @param X The matrix
+   * @return The squared norms
+   */
+  protected double[] squaredNorms(final Mat X) {
+    if (_metric == MANHATTAN || _metric == INNER_PRODUCT) {
+      return null;
+    }
+
+    double[] norms = new double[X.n_rows];
+    if (X.n_cols > 0 && X.n_rows > 0) {
+      Reduction.perRow(Reduction.SQUARED_DIFFERENCE, new double[X.n_rows], norms, X._data, X.n_rows, X.n_cols);
+    }
+
+    return norms;
+  }
+
+  /**
+   * Validates that both matrices have the same number of columns.
+   * 
+   * @param X The first matrix
+   * @param Y The second matrix
+   * 
+   * @throws RuntimeException Both matrices must have the same number of columns ({@code X.n_cols} and
+   *           {@code Y.n_cols}).
+   */
+  protected static void validate(final Mat X, final Mat Y) throws RuntimeException {
+    if (X.n_cols != Y.n_cols) {
+      throw new RuntimeException("Both matrices must have the same number of columns (" + X.n_cols + " and " + Y.n_cols + ").");
+    }
+  }
+
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides kernel matrices between the rows of two matrices.
+ * <p>
+ * Supported kernels are
+ * <ul>
+ * <li>"linear": x * y',</li>
+ * <li>"polynomial": (gamma * x * y' + coef0)^degree,</li>
+ * <li>"rbf": exp(-gamma * ||x - y||^2) and</li>
+ * <li>"laplacian": exp(-gamma * sum(abs(x - y))).</li>
+ * </ul>
+ * The inner products, squared euclidean or manhattan distances are calculated tile by tile, as by
+ * {@link PairwiseDistance}, and each tile is transformed into kernel values right after, while it is still in cache.
+ * Tiles of the first matrix are processed in parallel.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class PairwiseKernel {
+
+  /**
+   * The linear kernel
+   */
+  protected static final int       LINEAR     = 0;
+  /**
+   * The polynomial kernel
+   */
+  protected static final int       POLYNOMIAL = 1;
+  /**
+   * The gaussian radial basis function kernel
+   */
+  protected static final int       RBF        = 2;
+  /**
+   * The laplacian kernel
+   */
+  protected static final int       LAPLACIAN  = 3;
+
+  /**
+   * The kernel
+   */
+  protected final int              _kernel;
+
+  /**
+   * The scale of the inner product or distance
+   */
+  protected final double           _gamma;
+
+  /**
+   * The offset of the polynomial kernel
+   */
+  protected final double           _coef0;
+
+  /**
+   * The degree of the polynomial kernel
+   */
+  protected final int              _degree;
+
+  /**
+   * The calculator of the underlying inner products or distances
+   */
+  protected final PairwiseDistance _distance;
+
+  /**
+   * Creates a linear kernel, using {@link PairwiseDistance#DEFAULT_TILE_SIZE} rows per tile.
+   */
+  public PairwiseKernel() {
+    this("linear", 1, 0, 1, PairwiseDistance.DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Creates a kernel with the specified scale, using {@link PairwiseDistance#DEFAULT_TILE_SIZE} rows per tile.
+   * <p>
+   * The polynomial kernel is created with {@code coef0} = 1 and {@code degree} = 3.
+   * 
+   * @param kernel The kernel
+   * @param gamma The scale
+   * 
+   * @throws IllegalArgumentException The specified kernel ({@code kernel}) must be one of 'linear', 'polynomial', 'rbf'
+   *           or 'laplacian'.
+   * @throws IllegalArgumentException The scale ({@code gamma}) must be strict greater than 0.
+   */
+  public PairwiseKernel(final String kernel, final double gamma) throws IllegalArgumentException {
+    this(kernel, gamma, 1, 3, PairwiseDistance.DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Creates a kernel with the specified parameters, using {@link PairwiseDistance#DEFAULT_TILE_SIZE} rows per tile.
+   * <p>
+   * The parameters {@code coef0} and {@code degree} are only used by the polynomial kernel, while {@code gamma} is
+   * ignored by the linear kernel.
+   * 
+   * @param kernel The kernel
+   * @param gamma The scale
+   * @param coef0 The offset
+   * @param degree The degree
+   * 
+   * @throws IllegalArgumentException The specified kernel ({@code kernel}) must be one of 'linear', 'polynomial', 'rbf'
+   *           or 'laplacian'.
+   * @throws IllegalArgumentException The scale ({@code gamma}) must be strict greater than 0.
+   * @throws IllegalArgumentException The degree ({@code degree}) must be strict greater than 0.
+   */
+  public PairwiseKernel(final String kernel, final double gamma, final double coef0, final int degree) throws IllegalArgumentException {
+    this(kernel, gamma, coef0, degree, PairwiseDistance.DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Creates a kernel with the specified parameters.
+   * <p>
+   * The parameters {@code coef0} and {@code degree} are only used by the polynomial kernel, while {@code gamma} is
+   * ignored by the linear kernel.
+   * 
+   * @param kernel The kernel
+   * @param gamma The scale
+   * @param coef0 The offset
+   * @param degree The degree
+   * @param tile_size The number of rows per tile
+   * 
+   * @throws IllegalArgumentException The specified kernel ({@code kernel}) must be one of 'linear', 'polynomial', 'rbf'
+   *           or 'laplacian'.
+   * @throws IllegalArgumentException The scale ({@code gamma}) must be strict greater than 0.
+   * @throws IllegalArgumentException The degree ({@code degree}) must be strict greater than 0.
+   * @throws IllegalArgumentException The tile size ({@code tile_size}) must be strict greater than 0.
+   */
+  public PairwiseKernel(final String kernel, final double gamma, final double coef0, final int degree, final int tile_size) throws IllegalArgumentException {
+    int metric;
+    switch (kernel) {
+      case "linear":
+        _kernel = LINEAR;
+        metric = PairwiseDistance.INNER_PRODUCT;
+        break;
+      case "polynomial":
+        _kernel = POLYNOMIAL;
+        metric = PairwiseDistance.INNER_PRODUCT;
+        break;
+      case "rbf":
+        _kernel = RBF;
+        metric = PairwiseDistance.SQEUCLIDEAN;
+        break;
+      case "laplacian":
+        _kernel = LAPLACIAN;
+        metric = PairwiseDistance.MANHATTAN;
+        break;
+      default:
+        throw new IllegalArgumentException("The specified kernel (" + kernel + ") must be one of 'linear', 'polynomial', 'rbf' or 'laplacian'.");
+    }
+
+    if (!(gamma > 0)) {
+      throw new IllegalArgumentException("The scale (" + gamma + ") must be strict greater than 0.");
+    }
+
+    if (degree < 1) {
+      throw new IllegalArgumentException("The degree (" + degree + ") must be strict greater than 0.");
+    }
+
+    _gamma = gamma;
+    _coef0 = coef0;
+    _degree = degree;
+    _distance = new PairwiseDistance(metric, tile_size);
+  }
+
+  /**
+   * Returns the ({@code X.n_rows}, {@code X.n_rows})-matrix of kernel values between all rows of the provided matrix.
+   * <p>
+   * The ({@code i}, {@code j})-th entry is the kernel value of the {@code i}th and {@code j}th row.
+   * 
+   * @param X The matrix
+   * @return The kernel matrix
+   */
+  public Mat kernels(final Mat X) {
+    return kernels(X, X);
+  }
+
+  /**
+   * Returns the ({@code X.n_rows}, {@code Y.n_rows})-matrix of kernel values between the rows of the first and second
+   * provided matrix.
+   * <p>
+   * The ({@code i}, {@code j})-th entry is the kernel value of the {@code i}th row of the first and the {@code j}th row
+   * of the second matrix.
+   * 
+   * @param X The first matrix
+   * @param Y The second matrix
+   * @return The kernel matrix
+   * 
+   * @throws RuntimeException Both matrices must have the same number of columns ({@code X.n_cols} and
+   *           {@code Y.n_cols}).
+   */
+  public Mat kernels(final Mat X, final Mat Y) throws RuntimeException {
+    PairwiseDistance.validate(X, Y);
+
+    final Mat result = new Mat(X.n_rows, Y.n_rows);
+    if (result.is_empty()) {
+      return result;
+    }
+
+    final double[] normsX = _distance.squaredNorms(X);
+    final double[] normsY = (X == Y) ? normsX : _distance.squaredNorms(Y);
+    final int tile_size = _distance._tile_size;
+
+    Parallel.run(Parallel.numberOfBlocks((long) X.n_rows * Y.n_rows * Math.max(1, X.n_cols), X.n_rows), X.n_rows, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int i = first; i < last; i += tile_size) {
+          int n_x = Math.min(tile_size, last - i);
+          for (int j = 0; j < Y.n_rows; j += tile_size) {
+            int n_y = Math.min(tile_size, Y.n_rows - j);
+            int offset = i + j * X.n_rows;
+
+            _distance.tile(result._data, offset, X.n_rows, X, i, n_x, normsX, Y, j, n_y, normsY);
+            transform(result._data, offset, X.n_rows, n_x, n_y);
+          }
+        }
+      }
+    });
+
+    return result;
+  }
+
+  /**
+   * Transforms the ({@code n_x}, {@code n_y})-tile of inner products or distances within {@code target}, starting at
+   * {@code offset} with leading dimension {@code ld}, into kernel values.
+   * 
+   * @param target The target
+   * @param offset The position of the first value within the target
+   * @param ld The leading dimension of the target
+   * @param n_x The number of rows of the tile
+   * @param n_y The number of columns of the tile
+   */
+  protected void transform(final double[] target, final int offset, final int ld, final int n_x, final int n_y) {
+    if (_kernel == LINEAR) {
+      return;
+    }
+
+    for (int jj = 0; jj < n_y; jj++) {
+      int p = offset + jj * ld;
+      for (int ii = 0; ii < n_x; ii++) {
+        double value = target[p + ii];
+
+        switch (_kernel) {
+          case POLYNOMIAL:
+            target[p + ii] = Math.pow(_gamma * value + _coef0, _degree);
+            break;
+          default:
+            target[p + ii] = Math.exp(-_gamma * value);
+            break;
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Provides the thread pool and the partitioning into blocks shared by all parallelised operations.
+ * <p>
+ * An operation is split into contiguous blocks, each processed by a single thread. Operations below
+ * {@link #MINIMAL_BLOCK_SIZE} elements per block are processed by the calling thread only, as the overhead of
+ * scheduling would otherwise exceed the gain.
+ * 
+ * @author Sebastian Niemann
+ */
+class Parallel {
+
+  /**
+   * The minimal amount of elements processed per block
+   */
+  static final int                    MINIMAL_BLOCK_SIZE = 1 << 14;
+
+  /**
+   * The thread pool, using one thread per available processor
+   */
+  protected static final ForkJoinPool _pool              = new ForkJoinPool();
+
+  /**
+   * A block of an operation
+   */
+  static abstract class Block {
+    /**
+     * Processes the elements {@code first} (inclusive) to {@code last} (exclusive) of the operation.
+     * 
+     * @param block The block number
+     * @param first The first element
+     * @param last The last element
+     */
+    abstract void run(int block, int first, int last);
+  }
+
+  /**
+   * Returns the number of blocks to split {@code n} elements into, such that each block covers at least
+   * {@link #MINIMAL_BLOCK_SIZE} of the {@code n_work} operations.
+   * 
+   * @param n_work The amount of operations
+   * @param n The number of elements
+   * @return The number of blocks
+   */
+  static int numberOfBlocks(final long n_work, final int n) {
+    return (int) Math.max(1, Math.min(Math.min(n, _pool.getParallelism()), n_work / MINIMAL_BLOCK_SIZE));
+  }
+
+  /**
+   * Returns the first element of the specified block, if {@code n} elements are split into {@code n_blocks} blocks.
+   * 
+   * @param block The block number
+   * @param n_blocks The number of blocks
+   * @param n The number of elements
+   * @return The first element
+   */
+  static int first(final int block, final int n_blocks, final int n) {
+    return (int) ((long) block * n / n_blocks);
+  }
+
+  /**
+   * Splits {@code n} elements into {@code n_blocks} contiguous blocks and processes them in parallel.
+   * <p>
+   * Returns after all blocks are processed. Exceptions thrown by any block are rethrown.
+   * 
+   * @param n_blocks The number of blocks
+   * @param n The number of elements
+   * @param block The operation
+   */
+  static void run(final int n_blocks, final int n, final Block block) {
+    if (n_blocks <= 1) {
+      block.run(0, 0, n);
+      return;
+    }
+
+    final RecursiveAction[] tasks = new RecursiveAction[n_blocks];
+    for (int b = 0; b < n_blocks; b++) {
+      final int blockNumber = b;
+      tasks[b] = new RecursiveAction() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+          block.run(blockNumber, first(blockNumber, n_blocks, n), first(blockNumber + 1, n_blocks, n));
+        }
+      };
+    }
+
+    if (ForkJoinTask.inForkJoinPool()) {
+      ForkJoinTask.invokeAll(tasks);
+    } else {
+      _pool.invoke(new RecursiveAction() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+          invokeAll(tasks);
+        }
+      });
+    }
+  }
+
+}
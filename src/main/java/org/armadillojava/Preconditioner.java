@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides a preconditioner for iterative solvers, approximating the inverse of a linear operator.
+ * <p>
+ * Used by {@link Arma#cg(Col, LinearOperator, Col, double, int, Preconditioner, ConvergenceCallback)} and similar
+ * methods.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public interface Preconditioner {
+
+  /**
+   * Returns the approximated solution {@code Z} of {@code A.times(Z) = X}.
+   * <p>
+   * The provided vector must remain unchanged.
+   * 
+   * @param X The right-hand side vector
+   * 
+   * @return The approximated solution
+   */
+  Col solve(Col X);
+
+}
@@ -0,0 +1,360 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import java.util.Arrays;
+
+/**
+ * Provides approximated quantiles of all samples using bounded memory.
+ * <p>
+ * Samples are kept within a hierarchy of compactors (KLL sketch). Each compactor on level {@code h} holds samples of
+ * weight 2^h. Once the sketch exceeds its capacity, the lowest overfull compactor is sorted and every other sample is
+ * promoted to the next level, while the others are discarded.
+ * <p>
+ * The memory is bounded by approx. 3 * {@code k} samples, while the rank error is approx. proportional to 1 /
+ * {@code k}.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class QuantileSketch {
+  /**
+   * The default accuracy parameter
+   */
+  public static final int DEFAULT_ACCURACY = 200;
+
+  /**
+   * The accuracy parameter, i.e. the capacity of the highest compactor
+   */
+  protected final int     _k;
+  /**
+   * The samples per level
+   */
+  protected double[][]    _levels;
+  /**
+   * The amount of samples stored per level
+   */
+  protected int[]         _sizes;
+  /**
+   * The amount of levels in use
+   */
+  protected int           _numberOfLevels;
+  /**
+   * The amount of samples stored over all levels
+   */
+  protected int           _size;
+  /**
+   * The capacity of all levels together
+   */
+  protected int           _capacity;
+  /**
+   * Whether the next compaction keeps the samples at odd instead of even positions
+   */
+  protected boolean       _oddCompaction;
+  /**
+   * The smallest sample
+   */
+  protected double        _min;
+  /**
+   * The largest sample
+   */
+  protected double        _max;
+  /**
+   * The amount of samples
+   */
+  protected double        _count;
+
+  /**
+   * Initialises an empty sketch with accuracy parameter {@link #DEFAULT_ACCURACY}.
+   */
+  public QuantileSketch() {
+    this(DEFAULT_ACCURACY);
+  }
+
+  /**
+   * Initialises an empty sketch.
+   * <p>
+   * Larger values of {@code k} result in more accurate quantiles at the cost of memory.
+   * 
+   * @param k The accuracy parameter
+   * 
+   * @throws IllegalArgumentException The accuracy parameter ({@code k}) must be at least 8.
+   */
+  public QuantileSketch(final int k) throws IllegalArgumentException {
+    if (k < 8) {
+      throw new IllegalArgumentException("The accuracy parameter (" + k + ") must be at least 8.");
+    }
+
+    _k = k;
+
+    reset();
+  }
+
+  /**
+   * Adds the sample to the sketch.
+   * 
+   * @param sample The sample
+   * 
+   * @throws IllegalArgumentException NaN is not valid sample value.
+   */
+  public void update(final double sample) throws IllegalArgumentException {
+    if (Double.isNaN(sample)) {
+      throw new IllegalArgumentException("NaN is not valid sample value.");
+    }
+
+    if (_count > 0) {
+      _min = Math.min(_min, sample);
+      _max = Math.max(_max, sample);
+    } else {
+      _min = sample;
+      _max = sample;
+    }
+    _count++;
+
+    append(0, sample);
+
+    if (_size >= _capacity) {
+      compress();
+    }
+  }
+
+  /**
+   * Adds all samples of the provided sketch to this sketch.
+   * <p>
+   * The provided sketch remains unchanged.
+   * 
+   * @param sketch The sketch
+   */
+  public void merge(final QuantileSketch sketch) {
+    if (sketch._count == 0) {
+      return; // Nothing to do here.
+    }
+
+    if (_count > 0) {
+      _min = Math.min(_min, sketch._min);
+      _max = Math.max(_max, sketch._max);
+    } else {
+      _min = sketch._min;
+      _max = sketch._max;
+    }
+    _count += sketch._count;
+
+    for (int h = 0; h < sketch._numberOfLevels; h++) {
+      for (int n = 0; n < sketch._sizes[h]; n++) {
+        append(h, sketch._levels[h][n]);
+      }
+    }
+
+    while (_size >= _capacity) {
+      compress();
+    }
+  }
+
+  /**
+   * Returns the approximated {@code p}-quantile of all samples.
+   * <p>
+   * Returns the smallest sample for {@code p} = 0 and the largest sample for {@code p} = 1. Returns NaN if no sample
+   * was added yet.
+   * 
+   * @param p The probability
+   * @return The quantile
+   * 
+   * @throws IllegalArgumentException The probability ({@code p}) must be within [0, 1].
+   */
+  public double quantile(final double p) throws IllegalArgumentException {
+    if (!(p >= 0 && p <= 1)) {
+      throw new IllegalArgumentException("The probability (" + p + ") must be within [0, 1].");
+    }
+
+    if (_count == 0) {
+      return Double.NaN;
+    }
+
+    if (p == 0) {
+      return _min;
+    } else if (p == 1) {
+      return _max;
+    }
+
+    /*
+     * Each level is sorted independently and afterwards traversed in ascending order of all samples, similar to a
+     * k-way merge. As there are only logarithmic many levels, a linear search for the next level suffices.
+     */
+    double[][] levels = new double[_numberOfLevels][];
+    double totalWeight = 0;
+    for (int h = 0; h < _numberOfLevels; h++) {
+      levels[h] = Arrays.copyOf(_levels[h], _sizes[h]);
+      Arrays.sort(levels[h]);
+
+      totalWeight += Math.scalb((double) _sizes[h], h);
+    }
+
+    double rank = p * totalWeight;
+    double cumulativeWeight = 0;
+    int[] positions = new int[_numberOfLevels];
+    for (int n = 0; n < _size; n++) {
+      int next = -1;
+      for (int h = 0; h < _numberOfLevels; h++) {
+        if (positions[h] < levels[h].length && (next < 0 || levels[h][positions[h]] < levels[next][positions[next]])) {
+          next = h;
+        }
+      }
+
+      cumulativeWeight += Math.scalb(1.0, next);
+      if (cumulativeWeight >= rank) {
+        return levels[next][positions[next]];
+      }
+      positions[next]++;
+    }
+
+    return _max;
+  }
+
+  /**
+   * Returns the amount of samples.
+   * 
+   * @return The amount
+   */
+  public double count() {
+    return _count;
+  }
+
+  /**
+   * Returns the smallest sample.
+   * 
+   * @return The minimum
+   */
+  public double min() {
+    return _min;
+  }
+
+  /**
+   * Returns the largest sample.
+   * 
+   * @return The maximum
+   */
+  public double max() {
+    return _max;
+  }
+
+  /**
+   * Removes all samples from the sketch.
+   */
+  public void reset() {
+    _levels = new double[1][];
+    _levels[0] = new double[_k];
+    _sizes = new int[1];
+    _numberOfLevels = 1;
+    _capacity = capacity();
+    _size = 0;
+    _oddCompaction = false;
+
+    _min = Double.NaN;
+    _max = Double.NaN;
+    _count = 0;
+  }
+
+  /**
+   * Appends the sample to the specified level, adding new levels and growing their storage as needed.
+   * 
+   * @param level The level
+   * @param sample The sample
+   */
+  protected void append(final int level, final double sample) {
+    while (level >= _numberOfLevels) {
+      addLevel();
+    }
+
+    if (_sizes[level] == _levels[level].length) {
+      _levels[level] = Arrays.copyOf(_levels[level], 2 * _levels[level].length);
+    }
+
+    _levels[level][_sizes[level]++] = sample;
+    _size++;
+  }
+
+  /**
+   * Adds an empty level on top of the current levels.
+   */
+  protected void addLevel() {
+    if (_numberOfLevels == _levels.length) {
+      _levels = Arrays.copyOf(_levels, 2 * _levels.length);
+      _sizes = Arrays.copyOf(_sizes, 2 * _sizes.length);
+    }
+
+    _levels[_numberOfLevels] = new double[Math.max(2, capacity(_numberOfLevels + 1, 0))];
+    _sizes[_numberOfLevels] = 0;
+    _numberOfLevels++;
+    _capacity = capacity();
+  }
+
+  /**
+   * Compacts the lowest level that reached its capacity.
+   */
+  protected void compress() {
+    for (int h = 0; h < _numberOfLevels; h++) {
+      if (_sizes[h] >= capacity(_numberOfLevels, h)) {
+        if (h + 1 == _numberOfLevels) {
+          addLevel();
+        }
+
+        double[] level = _levels[h];
+        int size = _sizes[h];
+        Arrays.sort(level, 0, size);
+
+        /*
+         * For an odd amount of samples, the smallest one stays on the current level.
+         */
+        int first = size % 2;
+        for (int n = first + (_oddCompaction ? 1 : 0); n < size; n += 2) {
+          append(h + 1, level[n]);
+        }
+        _oddCompaction = !_oddCompaction;
+
+        _size -= size - first;
+        _sizes[h] = first;
+
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the capacity of all levels together.
+   * 
+   * @return The capacity
+   */
+  protected int capacity() {
+    int capacity = 0;
+    for (int h = 0; h < _numberOfLevels; h++) {
+      capacity += capacity(_numberOfLevels, h);
+    }
+
+    return capacity;
+  }
+
+  /**
+   * Returns the capacity of the specified level, if {@code numberOfLevels} levels are in use.
+   * <p>
+   * The capacity decreases geometrically by a factor of 2/3 from the highest level downwards.
+   * 
+   * @param numberOfLevels The amount of levels
+   * @param level The level
+   * @return The capacity
+   */
+  protected int capacity(final int numberOfLevels, final int level) {
+    return Math.max(2, (int) Math.ceil(_k * Math.pow(2.0 / 3.0, numberOfLevels - 1 - level)));
+  }
+}
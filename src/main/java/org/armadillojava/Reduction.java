@@ -0,0 +1,519 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides the summation kernels shared by all reductions.
+ * <p>
+ * By default, elements are summed pairwise: The range is halved recursively until at most {@link #LEAF_SIZE} elements
+ * remain, which are then summed using four independent accumulators. This bounds the rounding error by
+ * O(log(n) * eps), instead of O(n * eps) for a sequential summation, and breaks the dependency chain between
+ * consecutive additions. Alternatively, elements can be summed using Kahan-Babuska (Neumaier) compensation, whose
+ * rounding error is independent of n.
+ * <p>
+ * Ranges with at least twice {@link Parallel#MINIMAL_BLOCK_SIZE} elements are split into a power of two partial sums
+ * processed in parallel. The split depends only on the number of elements, such that the result does not depend on the
+ * number of available processors.
+ * <p>
+ * Reductions per column ({@link #perColumn(int, double[], double[], double[], int, int)}) and per row (
+ * {@link #perRow(int, double[], double[], double[], int, int)}) of a matrix are split across threads by columns. As
+ * the data is stored in column-major order, rows are reduced by streaming whole columns into a row-length accumulator
+ * instead of jumping {@code n_rows} positions per element.
+ * 
+ * @author Sebastian Niemann
+ */
+class Reduction {
+
+  /**
+   * Sums the elements
+   */
+  static final int           SUM                = 0;
+  /**
+   * Sums the absolute values of the elements
+   */
+  static final int           ABS                = 1;
+  /**
+   * Sums the squares of the elements
+   */
+  static final int           SQUARE             = 2;
+  /**
+   * Sums the squared differences between the elements and the provided parameter
+   */
+  static final int           SQUARED_DIFFERENCE = 3;
+  /**
+   * Sums the absolute values of the elements, raised to the power of the provided parameter
+   */
+  static final int           POWER              = 4;
+  /**
+   * Multiplies the elements (per column or row only)
+   */
+  static final int           PRODUCT            = 5;
+  /**
+   * Returns the smallest element (per column or row only)
+   */
+  static final int           MINIMUM            = 6;
+  /**
+   * Returns the largest element (per column or row only)
+   */
+  static final int           MAXIMUM            = 7;
+  /**
+   * Counts the non-zero elements (per column or row only)
+   */
+  static final int           NON_ZEROS          = 8;
+
+  /**
+   * The maximal amount of elements summed sequentially
+   */
+  protected static final int LEAF_SIZE          = 128;
+
+  /**
+   * The maximal amount of partial sums processed in parallel
+   */
+  protected static final int MAXIMAL_PARTIALS   = 64;
+
+  /**
+   * Returns the sum of {@code n} elements of {@code data}, starting at {@code offset} and {@code stride} elements apart.
+   * 
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param stride The distance between two elements
+   * @param n The number of elements
+   * @return The sum
+   */
+  static double sum(final double[] data, final int offset, final int stride, final int n) {
+    return reduce(SUM, 0, false, data, offset, stride, n);
+  }
+
+  /**
+   * Returns the sum of the specified terms of {@code n} elements of {@code data}, starting at {@code offset} and
+   * {@code stride} elements apart.
+   * <p>
+   * Returns 0 if {@code n} is 0.
+   * 
+   * @param kind The term to be summed, i.e. {@link #SUM}, {@link #ABS}, {@link #SQUARE}, {@link #SQUARED_DIFFERENCE} or
+   *          {@link #POWER}
+   * @param parameter The value subtracted ({@link #SQUARED_DIFFERENCE}) or the exponent ({@link #POWER})
+   * @param compensated Whether to use compensated instead of pairwise summation
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param stride The distance between two elements
+   * @param n The number of elements
+   * @return The sum
+   */
+  static double reduce(final int kind, final double parameter, final boolean compensated, final double[] data, final int offset, final int stride, final int n) {
+    int n_partials = numberOfPartials(n);
+
+    if (n_partials == 1) {
+      return compensated ? compensated(kind, parameter, data, offset, stride, n) : pairwise(kind, parameter, data, offset, stride, n);
+    }
+
+    final double[] partials = new double[n_partials];
+    Parallel.run(n_partials, n, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        if (compensated) {
+          partials[block] = compensated(kind, parameter, data, offset + first * stride, stride, last - first);
+        } else {
+          partials[block] = pairwise(kind, parameter, data, offset + first * stride, stride, last - first);
+        }
+      }
+    });
+
+    return compensated ? compensated(SUM, 0, partials, 0, 1, n_partials) : pairwise(SUM, 0, partials, 0, 1, n_partials);
+  }
+
+  /**
+   * Returns the number of partial sums to split {@code n} elements into.
+   * <p>
+   * The number is a power of two and depends only on {@code n}.
+   * 
+   * @param n The number of elements
+   * @return The number of partial sums
+   */
+  protected static int numberOfPartials(final int n) {
+    int n_partials = Math.min(MAXIMAL_PARTIALS, n / Parallel.MINIMAL_BLOCK_SIZE);
+    if (n_partials < 2) {
+      return 1;
+    }
+
+    return Integer.highestOneBit(n_partials);
+  }
+
+  /**
+   * Returns the pairwise sum of the specified terms of {@code n} elements.
+   * 
+   * @param kind The term to be summed
+   * @param parameter The value subtracted or the exponent
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param stride The distance between two elements
+   * @param n The number of elements
+   * @return The sum
+   */
+  protected static double pairwise(final int kind, final double parameter, final double[] data, final int offset, final int stride, final int n) {
+    if (n <= LEAF_SIZE) {
+      return leaf(kind, parameter, data, offset, stride, n);
+    }
+
+    int half = n >>> 1;
+    return pairwise(kind, parameter, data, offset, stride, half) + pairwise(kind, parameter, data, offset + half * stride, stride, n - half);
+  }
+
+  /**
+   * Returns the sum of the specified terms of {@code n} elements, using four independent accumulators.
+   * 
+   * @param kind The term to be summed
+   * @param parameter The value subtracted or the exponent
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param stride The distance between two elements
+   * @param n The number of elements
+   * @return The sum
+   */
+  protected static double leaf(final int kind, final double parameter, final double[] data, final int offset, final int stride, final int n) {
+    double sum0 = 0;
+    double sum1 = 0;
+    double sum2 = 0;
+    double sum3 = 0;
+
+    int step = 4 * stride;
+    int p = offset;
+    int k = 0;
+
+    switch (kind) {
+      case SUM:
+        for (; k + 3 < n; k += 4, p += step) {
+          sum0 += data[p];
+          sum1 += data[p + stride];
+          sum2 += data[p + 2 * stride];
+          sum3 += data[p + 3 * stride];
+        }
+        for (; k < n; k++, p += stride) {
+          sum0 += data[p];
+        }
+        break;
+      case ABS:
+        for (; k + 3 < n; k += 4, p += step) {
+          sum0 += Math.abs(data[p]);
+          sum1 += Math.abs(data[p + stride]);
+          sum2 += Math.abs(data[p + 2 * stride]);
+          sum3 += Math.abs(data[p + 3 * stride]);
+        }
+        for (; k < n; k++, p += stride) {
+          sum0 += Math.abs(data[p]);
+        }
+        break;
+      case SQUARE:
+        for (; k + 3 < n; k += 4, p += step) {
+          double value0 = data[p];
+          double value1 = data[p + stride];
+          double value2 = data[p + 2 * stride];
+          double value3 = data[p + 3 * stride];
+          sum0 += value0 * value0;
+          sum1 += value1 * value1;
+          sum2 += value2 * value2;
+          sum3 += value3 * value3;
+        }
+        for (; k < n; k++, p += stride) {
+          double value = data[p];
+          sum0 += value * value;
+        }
+        break;
+      case SQUARED_DIFFERENCE:
+        for (; k + 3 < n; k += 4, p += step) {
+          double difference0 = data[p] - parameter;
+          double difference1 = data[p + stride] - parameter;
+          double difference2 = data[p + 2 * stride] - parameter;
+          double difference3 = data[p + 3 * stride] - parameter;
+          sum0 += difference0 * difference0;
+          sum1 += difference1 * difference1;
+          sum2 += difference2 * difference2;
+          sum3 += difference3 * difference3;
+        }
+        for (; k < n; k++, p += stride) {
+          double difference = data[p] - parameter;
+          sum0 += difference * difference;
+        }
+        break;
+      default:
+        for (; k < n; k++, p += stride) {
+          sum0 += term(kind, parameter, data[p]);
+        }
+        break;
+    }
+
+    return (sum0 + sum1) + (sum2 + sum3);
+  }
+
+  /**
+   * Returns the compensated sum of the specified terms of {@code n} elements.
+   * <p>
+   * The compensation is discarded if the sum is not finite, as it would otherwise turn infinities into NaN.
+   * 
+   * @param kind The term to be summed
+   * @param parameter The value subtracted or the exponent
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param stride The distance between two elements
+   * @param n The number of elements
+   * @return The sum
+   */
+  protected static double compensated(final int kind, final double parameter, final double[] data, final int offset, final int stride, final int n) {
+    double sum = 0;
+    double compensation = 0;
+
+    for (int k = 0, p = offset; k < n; k++, p += stride) {
+      double term = term(kind, parameter, data[p]);
+      double temp = sum + term;
+
+      if (Math.abs(sum) >= Math.abs(term)) {
+        compensation += (sum - temp) + term;
+      } else {
+        compensation += (term - temp) + sum;
+      }
+
+      sum = temp;
+    }
+
+    if (Double.isInfinite(sum) || Double.isNaN(sum)) {
+      return sum;
+    }
+
+    return sum + compensation;
+  }
+
+  /**
+   * Returns the specified term of the provided value.
+   * 
+   * @param kind The term
+   * @param parameter The value subtracted or the exponent
+   * @param value The value
+   * @return The term
+   */
+  protected static double term(final int kind, final double parameter, final double value) {
+    switch (kind) {
+      case SUM:
+        return value;
+      case ABS:
+        return Math.abs(value);
+      case SQUARE:
+        return value * value;
+      case SQUARED_DIFFERENCE:
+        double difference = value - parameter;
+        return difference * difference;
+      default:
+        return Math.pow(Math.abs(value), parameter);
+    }
+  }
+
+  /**
+   * Reduces each column of the provided (n_rows, n_cols)-matrix into {@code result}.
+   * <p>
+   * Sums ({@link #SUM}, {@link #SQUARED_DIFFERENCE}) are computed pairwise. The columns are split across threads.
+   * 
+   * @param kind The reduction, i.e. {@link #SUM}, {@link #SQUARED_DIFFERENCE}, {@link #PRODUCT}, {@link #MINIMUM},
+   *          {@link #MAXIMUM} or {@link #NON_ZEROS}
+   * @param center The values subtracted per column ({@link #SQUARED_DIFFERENCE}) or null
+   * @param result The result of length {@code n_cols}
+   * @param data The elements in column-major order
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   */
+  static void perColumn(final int kind, final double[] center, final double[] result, final double[] data, final int n_rows, final int n_cols) {
+    Parallel.run(Parallel.numberOfBlocks((long) n_rows * n_cols, n_cols), n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int j = first; j < last; j++) {
+          int offset = j * n_rows;
+
+          switch (kind) {
+            case SUM:
+              result[j] = pairwise(SUM, 0, data, offset, 1, n_rows);
+              break;
+            case SQUARED_DIFFERENCE:
+              result[j] = pairwise(SQUARED_DIFFERENCE, center[j], data, offset, 1, n_rows);
+              break;
+            default:
+              double value = data[offset];
+              double accumulator = (kind == NON_ZEROS) ? ((value != 0) ? 1 : 0) : value;
+              for (int p = offset + 1; p < offset + n_rows; p++) {
+                accumulator = combine(kind, accumulator, data[p]);
+              }
+              result[j] = accumulator;
+              break;
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Reduces each row of the provided (n_rows, n_cols)-matrix into {@code result}.
+   * <p>
+   * The columns are streamed one after another into a row-length accumulator, such that the data is read
+   * sequentially. Sums ({@link #SUM}, {@link #SQUARED_DIFFERENCE}) are computed pairwise over blocks of columns. For
+   * large matrices, the columns are split into a power of two contiguous blocks, each reduced by a separate thread into
+   * its own accumulator. The accumulators are merged afterwards in order of their blocks.
+   * 
+   * @param kind The reduction, i.e. {@link #SUM}, {@link #SQUARED_DIFFERENCE}, {@link #PRODUCT}, {@link #MINIMUM},
+   *          {@link #MAXIMUM} or {@link #NON_ZEROS}
+   * @param center The values subtracted per row ({@link #SQUARED_DIFFERENCE}) or null
+   * @param result The result of length {@code n_rows}
+   * @param data The elements in column-major order
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   */
+  static void perRow(final int kind, final double[] center, final double[] result, final double[] data, final int n_rows, final int n_cols) {
+    int n_partials = Math.min(numberOfPartials((int) Math.min(Integer.MAX_VALUE, (long) n_rows * n_cols)), Integer.highestOneBit(n_cols));
+
+    if (n_partials == 1) {
+      columns(kind, center, result, data, n_rows, 0, n_cols);
+      return;
+    }
+
+    final double[][] partials = new double[n_partials][];
+    partials[0] = result;
+    Parallel.run(n_partials, n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        if (block > 0) {
+          partials[block] = new double[n_rows];
+        }
+
+        columns(kind, center, partials[block], data, n_rows, first, last);
+      }
+    });
+
+    for (int b = 1; b < n_partials; b++) {
+      merge(kind, result, partials[b], n_rows);
+    }
+  }
+
+  /**
+   * Reduces the columns {@code first} (inclusive) to {@code last} (exclusive) row-wise into {@code accumulator}.
+   * 
+   * @param kind The reduction
+   * @param center The values subtracted per row or null
+   * @param accumulator The accumulator of length {@code n_rows}
+   * @param data The elements in column-major order
+   * @param n_rows The number of rows
+   * @param first The first column
+   * @param last The last column
+   */
+  protected static void columns(final int kind, final double[] center, final double[] accumulator, final double[] data, final int n_rows, final int first, final int last) {
+    if ((kind == SUM || kind == SQUARED_DIFFERENCE) && last - first > LEAF_SIZE) {
+      int middle = first + ((last - first) >>> 1);
+      double[] temp = new double[n_rows];
+      columns(kind, center, accumulator, data, n_rows, first, middle);
+      columns(kind, center, temp, data, n_rows, middle, last);
+      merge(SUM, accumulator, temp, n_rows);
+      return;
+    }
+
+    int offset = first * n_rows;
+    switch (kind) {
+      case SUM:
+        System.arraycopy(data, offset, accumulator, 0, n_rows);
+        for (int j = first + 1; j < last; j++) {
+          offset += n_rows;
+          for (int i = 0; i < n_rows; i++) {
+            accumulator[i] += data[offset + i];
+          }
+        }
+        break;
+      case SQUARED_DIFFERENCE:
+        for (int i = 0; i < n_rows; i++) {
+          double difference = data[offset + i] - center[i];
+          accumulator[i] = difference * difference;
+        }
+        for (int j = first + 1; j < last; j++) {
+          offset += n_rows;
+          for (int i = 0; i < n_rows; i++) {
+            double difference = data[offset + i] - center[i];
+            accumulator[i] += difference * difference;
+          }
+        }
+        break;
+      case NON_ZEROS:
+        for (int i = 0; i < n_rows; i++) {
+          accumulator[i] = (data[offset + i] != 0) ? 1 : 0;
+        }
+        for (int j = first + 1; j < last; j++) {
+          offset += n_rows;
+          for (int i = 0; i < n_rows; i++) {
+            if (data[offset + i] != 0) {
+              accumulator[i]++;
+            }
+          }
+        }
+        break;
+      default:
+        System.arraycopy(data, offset, accumulator, 0, n_rows);
+        for (int j = first + 1; j < last; j++) {
+          offset += n_rows;
+          for (int i = 0; i < n_rows; i++) {
+            accumulator[i] = combine(kind, accumulator[i], data[offset + i]);
+          }
+        }
+        break;
+    }
+  }
+
+  /**
+   * Merges the partial reduction {@code partial} into {@code accumulator}.
+   * 
+   * @param kind The reduction
+   * @param accumulator The accumulator
+   * @param partial The partial reduction
+   * @param n The number of elements
+   */
+  protected static void merge(final int kind, final double[] accumulator, final double[] partial, final int n) {
+    switch (kind) {
+      case SUM:
+      case SQUARED_DIFFERENCE:
+      case NON_ZEROS:
+        for (int i = 0; i < n; i++) {
+          accumulator[i] += partial[i];
+        }
+        break;
+      default:
+        for (int i = 0; i < n; i++) {
+          accumulator[i] = combine(kind, accumulator[i], partial[i]);
+        }
+        break;
+    }
+  }
+
+  /**
+   * Combines the provided accumulator with a value, for all reductions except sums.
+   * 
+   * @param kind The reduction, i.e. {@link #PRODUCT}, {@link #MINIMUM}, {@link #MAXIMUM} or {@link #NON_ZEROS}
+   * @param accumulator The accumulator
+   * @param value The value
+   * @return The combination
+   */
+  protected static double combine(final int kind, final double accumulator, final double value) {
+    switch (kind) {
+      case PRODUCT:
+        return accumulator * value;
+      case MINIMUM:
+        return Math.min(accumulator, value);
+      case MAXIMUM:
+        return Math.max(accumulator, value);
+      default:
+        return (value != 0) ? accumulator + 1 : accumulator;
+    }
+  }
+
+}
@@ -128,13 +128,10 @@ public class Row extends AbstractVector {
    * 
    * @param view The sub view
    */
-  protected Row(final AbstractView view) {
+  public Row(final AbstractView view) {
     copy_size(view);
 
-    view.iteratorReset();
-    for (int n = 0; n < n_elem; n++) {
-      _data[n] = view._data[view.iteratorNext()];
-    }
+    view.gather(_data);
   }
 
   /**
@@ -407,12 +404,18 @@ public class Row extends AbstractVector {
       copy_size(X);
       System.arraycopy(X._data, 0, _data, 0, X.n_elem);
     } else {
-      double[] temp = Arrays.copyOf(_data, n_elem);
-      set_size(n_elem + X.n_elem);
+      /*
+       * set_size(int) allocates a new array, so the current one can be read from without copying it first. This also
+       * holds if X is this vector.
+       */
+      double[] temp = _data;
+      double[] dataX = X._data;
+      int n_elemX = X.n_elem;
+      set_size(n_elem + n_elemX);
 
       System.arraycopy(temp, 0, _data, 0, col_number);
-      System.arraycopy(X._data, col_number, _data, 0, X.n_elem);
-      System.arraycopy(temp, col_number, _data, col_number + X.n_elem, temp.length - col_number);
+      System.arraycopy(dataX, 0, _data, col_number, n_elemX);
+      System.arraycopy(temp, col_number, _data, col_number + n_elemX, temp.length - col_number);
     }
   }
 
@@ -439,7 +442,10 @@ public class Row extends AbstractVector {
     } else if (is_empty()) {
       set_size(number_of_cols);
     } else {
-      double[] temp = Arrays.copyOf(_data, n_elem);
+      /*
+       * set_size(int) allocates a new array, so the current one can be read from without copying it first.
+       */
+      double[] temp = _data;
       set_size(n_elem + number_of_cols);
 
       System.arraycopy(temp, 0, _data, 0, col_number);
@@ -642,7 +648,33 @@ public class Row extends AbstractVector {
     }
 
     Mat result = new Mat(n_rows, X.n_cols);
-    BLAS.getInstance().dgemm("N", "N", n_rows, X.n_cols, n_cols, 1, _data, n_rows, X._data, X.n_rows, 0, result._data, n_rows);
+    if (!Mat.structuredTimes(result._data, this, X)) {
+      BLAS.getInstance().dgemm("N", "N", n_rows, X.n_cols, n_cols, 1, _data, n_rows, X._data, X.n_rows, 0, result._data, n_rows);
+    }
+    return result;
+  }
+
+  /**
+   * Return the out-of-place matrix multiplication with the provided right-hand side diagonal multiplier.
+   * <p>
+   * Each element is scaled by the corresponding diagonal element, requiring only O({@code n_elem}) operations.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param X The multiplier
+   * 
+   * @return The product
+   * 
+   * @throws RuntimeException The number of columns ({@code n_cols}) must be equal to the number of rows (
+   *           {@code X.n_rows()}) in the specified multiplier.
+   */
+  public Row times(final DiagOperator X) throws RuntimeException {
+    if (n_cols != X.n_rows()) {
+      throw new RuntimeException("The numbers of columns (" + n_cols + ") must be equal to the number of rows (" + X.n_rows() + ") in the specified multiplier.");
+    }
+
+    Row result = new Row(n_elem);
+    Mat.scaleCols(result._data, _data, X._diagonal._data, 1, n_cols);
     return result;
   }
 
@@ -951,7 +983,10 @@ public class Row extends AbstractVector {
       throw new IndexOutOfBoundsException("The specified column (" + col_number + ") is out of bound.");
     }
 
-    double[] temp = Arrays.copyOf(_data, n_elem);
+    /*
+     * set_size(int) allocates a new array, so the current one can be read from without copying it first.
+     */
+    double[] temp = _data;
     set_size(n_elem - 1);
 
     System.arraycopy(temp, 0, _data, 0, col_number);
@@ -982,7 +1017,10 @@ public class Row extends AbstractVector {
       throw new IndexOutOfBoundsException("The last specified column (" + last_col + ") is out of bound.");
     }
 
-    double[] temp = Arrays.copyOf(_data, n_elem);
+    /*
+     * set_size(int) allocates a new array, so the current one can be read from without copying it first.
+     */
+    double[] temp = _data;
     set_size(n_elem - (last_col - first_col + 1));
 
     System.arraycopy(temp, 0, _data, 0, first_col);
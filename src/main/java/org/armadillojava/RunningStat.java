@@ -41,11 +41,29 @@ public class RunningStat {
    * The variance of all samples
    */
   protected double _var;
+  /**
+   * The quantile sketch of all samples or null, if the calculation of quantiles is deactivated
+   */
+  protected final QuantileSketch _quantiles;
 
   /**
-   * Initialises the statistical measures.
+   * Initialises the statistical measures. Calculation of quantiles will be deactivated.
    */
   public RunningStat() {
+    this(false);
+  }
+
+  /**
+   * Initialises the statistical measures.
+   * <p>
+   * {@code calculateQuantiles} must be set to true to activate the calculation of quantiles. The quantiles are
+   * approximated by a {@link QuantileSketch} with bounded memory.
+   * 
+   * @param calculateQuantiles Whether to calculate quantiles
+   */
+  public RunningStat(boolean calculateQuantiles) {
+    _quantiles = calculateQuantiles ? new QuantileSketch() : null;
+
     reset();
   }
 
@@ -70,7 +88,8 @@ public class RunningStat {
 
       _max = Math.max(_max, sample);
       _min = Math.min(_min, sample);
-      _var = (_count - 1) / _count * _var + (Math.pow(sample - _mean, 2)) / (_count + 1);
+      double difference = sample - _mean;
+      _var = (_count - 1) / _count * _var + (difference * difference) / (_count + 1);
       _mean = _mean + (sample - _mean) / (_count + 1);
     } else {
       _max = sample;
@@ -79,6 +98,10 @@ public class RunningStat {
       _mean = sample;
     }
 
+    if (_quantiles != null) {
+      _quantiles.update(sample);
+    }
+
     _count++;
   }
 
@@ -179,6 +202,42 @@ public class RunningStat {
     return Math.sqrt(var(normType));
   }
 
+  /**
+   * Returns the approximated {@code p}-quantile of all samples.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param p The probability
+   * @return The quantile
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateQuantiles be set to true to activate
+   *           the calculation of quantiles.
+   * @throws IllegalArgumentException The probability ({@code p}) must be within [0, 1].
+   */
+  public double quantile(double p) throws IllegalAccessException, IllegalArgumentException {
+    return quantiles().quantile(p);
+  }
+
+  /**
+   * Returns the quantile sketch of all samples.
+   * <p>
+   * The sketch can be merged into sketches of other instances (see {@link QuantileSketch#merge(QuantileSketch)}).
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @return The sketch
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateQuantiles be set to true to activate
+   *           the calculation of quantiles.
+   */
+  public QuantileSketch quantiles() throws IllegalAccessException {
+    if (_quantiles == null) {
+      throw new IllegalAccessException("The constructor must be invoked with calculateQuantiles be set to true to activate the calculation of quantiles.");
+    }
+
+    return _quantiles;
+  }
+
   /**
    * Resets all statistical values.
    */
@@ -188,6 +247,10 @@ public class RunningStat {
     _mean = Double.NaN;
     _var = Double.NaN;
 
+    if (_quantiles != null) {
+      _quantiles.reset();
+    }
+
     _count = 0;
   }
 }
@@ -13,6 +13,8 @@
  ******************************************************************************/
 package org.armadillojava;
 
+import com.github.fommil.netlib.BLAS;
+
 /**
  * Provides statistical measures that are updated iterative per sample vector.
  * <p>
@@ -51,6 +53,14 @@ public class RunningStatVec {
    * The covariance of all values
    */
   protected Mat           _cov;
+  /**
+   * Whether to calculate quantiles
+   */
+  protected final boolean _calculateQuantiles;
+  /**
+   * The quantile sketches per dimension
+   */
+  protected QuantileSketch[] _quantiles;
 
   /**
    * Initialises the statistical measures. Calculation of the covariance will be deactivated.
@@ -67,7 +77,22 @@ public class RunningStatVec {
    * @param calculateCovariance Whether to calculate the covariance
    */
   public RunningStatVec(boolean calculateCovariance) {
+    this(calculateCovariance, false);
+  }
+
+  /**
+   * Initialises the statistical measures.
+   * <p>
+   * {@code calculateCovariance} must be set to true to activate the calculation of the covariance and
+   * {@code calculateQuantiles} to activate the calculation of quantiles per dimension. The quantiles are approximated
+   * by a {@link QuantileSketch} per dimension with bounded memory.
+   * 
+   * @param calculateCovariance Whether to calculate the covariance
+   * @param calculateQuantiles Whether to calculate quantiles
+   */
+  public RunningStatVec(boolean calculateCovariance, boolean calculateQuantiles) {
     _calculateCovariance = calculateCovariance;
+    _calculateQuantiles = calculateQuantiles;
 
     _cov = new Mat();
     _max = new Col();
@@ -97,6 +122,14 @@ public class RunningStatVec {
     // samples.isEmptyDetection();
     // TODO fix
 
+    /*
+     * The sketches reject NaN. The samples are checked beforehand, so that a rejected update leaves all statistical
+     * values unchanged.
+     */
+    if (_calculateQuantiles) {
+      rejectNaN(samples._data);
+    }
+
     if (_count > 0) {
       // AbstractMat.isNonEqualNumberOfElementsDetection(_max.n_elem, samples.n_elem);
       // TODO fix
@@ -107,13 +140,13 @@ public class RunningStatVec {
 
       if (_calculateCovariance) {
         Col temp = samples.minus(_mean);
-        _cov.inPlace(Op.ELEMTIMES, (_count - 1) / _count);
+        _cov.inPlace(Op.TIMES, (_count - 1) / _count);
         _cov.inPlace(Op.PLUS, temp.times(temp.t()).divide(_count + 1));
       }
 
       for (int n = 0; n < samples.n_elem; n++) {
         _max.at(n, Op.EQUAL, Math.max(_max.at(n), samples.at(n)));
-        _min.at(n, Op.EQUAL, Math.min(_max.at(n), samples.at(n)));
+        _min.at(n, Op.EQUAL, Math.min(_min.at(n), samples.at(n)));
       }
 
       _var = (Arma.pow(samples.minus(_mean), 2)).divide(_count + 1).plus(_var.times((_count - 1) / _count));
@@ -125,11 +158,156 @@ public class RunningStatVec {
       _min = new Col(samples);
       _var = new Col(samples.n_elem, Fill.ZEROS);
       _mean = new Col(samples);
+
+      initialiseQuantiles(samples.n_elem);
+    }
+
+    if (_calculateQuantiles) {
+      for (int n = 0; n < samples.n_elem; n++) {
+        _quantiles[n].update(samples._data[n]);
+      }
     }
 
     _count++;
   }
 
+  /**
+   * Recalculates the statistical values with inclusion of all sample vectors, each stored as a column of the provided
+   * matrix.
+   * <p>
+   * The samples are first reduced to their block mean and scatter matrix (using BLAS' dsyrk if the covariance is
+   * calculated) and afterwards merged into the current state. This yields the same results as updating each column
+   * individually by {@link #update(Col)}, but avoids one rank-1 update of the covariance per sample.
+   * 
+   * @param samples The sample vectors
+   * 
+   * @throws IllegalArgumentException NaN is not valid sample value for any element.
+   * @throws RuntimeException The number of rows ({@code samples.n_rows}) must be equal to the dimension of previous
+   *           samples.
+   * @throws UnsupportedOperationException No more than 2^53 (approx. 9 * 10^15) samples can be processed without loss
+   *           of precision.
+   */
+  public void update(final Mat samples) throws IllegalArgumentException, RuntimeException, UnsupportedOperationException {
+    if (samples.is_empty()) {
+      return; // Nothing to do here.
+    }
+
+    if (_count > 0 && samples.n_rows != _mean.n_elem) {
+      throw new RuntimeException("The number of rows (" + samples.n_rows + ") must be equal to the dimension of previous samples (" + _mean.n_elem + ").");
+    }
+
+    if (_count + samples.n_cols > 9007199254740992.0) { // 2^53
+      throw new UnsupportedOperationException("No more than 2^53 (approx. 9 * 10^15) samples can be processed without loss of precision.");
+    }
+
+    if (_calculateQuantiles) {
+      rejectNaN(samples._data);
+    }
+
+    int n_dims = samples.n_rows;
+    int n_samples = samples.n_cols;
+
+    /*
+     * Block statistics. The samples are traversed column by column, as this matches their memory layout.
+     */
+    Col blockMin = new Col(n_dims);
+    Col blockMax = new Col(n_dims);
+    Col blockMean = new Col(n_dims, Fill.ZEROS);
+
+    System.arraycopy(samples._data, 0, blockMin._data, 0, n_dims);
+    System.arraycopy(samples._data, 0, blockMax._data, 0, n_dims);
+
+    int n = 0;
+    for (int j = 0; j < n_samples; j++) {
+      for (int i = 0; i < n_dims; i++) {
+        double value = samples._data[n++];
+
+        blockMean._data[i] += value;
+        blockMin._data[i] = Math.min(blockMin._data[i], value);
+        blockMax._data[i] = Math.max(blockMax._data[i], value);
+      }
+    }
+    blockMean.inPlace(Op.DIVIDE, n_samples);
+
+    /*
+     * The centred samples are needed for the sum of squared deviations (and the scatter matrix).
+     */
+    double[] centred = new double[samples.n_elem];
+    Col blockSquaredDeviations = new Col(n_dims, Fill.ZEROS);
+
+    n = 0;
+    for (int j = 0; j < n_samples; j++) {
+      for (int i = 0; i < n_dims; i++) {
+        double deviation = samples._data[n] - blockMean._data[i];
+
+        centred[n++] = deviation;
+        blockSquaredDeviations._data[i] += deviation * deviation;
+      }
+    }
+
+    double count = _count + n_samples;
+    /*
+     * The variance (and covariance) of just one sample is 0.
+     */
+    double normalisation = (count > 1) ? count - 1 : 1;
+
+    if (_count > 0) {
+      /*
+       * Merges both states based on the pairwise update by Chan et al.:
+       * M2 = M2_a + M2_b + delta^2 * n_a * n_b / n
+       */
+      Col delta = blockMean.minus(_mean);
+      double weight = _count * n_samples / count;
+
+      for (int i = 0; i < n_dims; i++) {
+        _min._data[i] = Math.min(_min._data[i], blockMin._data[i]);
+        _max._data[i] = Math.max(_max._data[i], blockMax._data[i]);
+
+        _var._data[i] = (_var._data[i] * (_count - 1) + blockSquaredDeviations._data[i] + delta._data[i] * delta._data[i] * weight) / normalisation;
+        _mean._data[i] += delta._data[i] * n_samples / count;
+      }
+
+      if (_calculateCovariance) {
+        BLAS.getInstance().dsyrk("U", "N", n_dims, n_samples, 1 / normalisation, centred, n_dims, (_count - 1) / normalisation, _cov._data, n_dims);
+        BLAS.getInstance().dsyr("U", n_dims, weight / normalisation, delta._data, 1, _cov._data, n_dims);
+      }
+    } else {
+      _min = blockMin;
+      _max = blockMax;
+      _mean = blockMean;
+      _var = blockSquaredDeviations.divide(normalisation);
+
+      _cov = new Mat(n_dims, n_dims, Fill.ZEROS);
+      if (_calculateCovariance) {
+        BLAS.getInstance().dsyrk("U", "N", n_dims, n_samples, 1 / normalisation, centred, n_dims, 0, _cov._data, n_dims);
+      }
+
+      initialiseQuantiles(n_dims);
+    }
+
+    if (_calculateQuantiles) {
+      n = 0;
+      for (int j = 0; j < n_samples; j++) {
+        for (int i = 0; i < n_dims; i++) {
+          _quantiles[i].update(samples._data[n++]);
+        }
+      }
+    }
+
+    if (_calculateCovariance) {
+      /*
+       * dsyrk and dsyr only update the upper triangular part.
+       */
+      for (int j = 0; j < n_dims; j++) {
+        for (int i = j + 1; i < n_dims; i++) {
+          _cov._data[i + j * n_dims] = _cov._data[j + i * n_dims];
+        }
+      }
+    }
+
+    _count = count;
+  }
+
   /**
    * Returns the amount of samples.
    * 
@@ -268,6 +446,78 @@ public class RunningStatVec {
     }
   }
 
+  /**
+   * Returns the approximated {@code p}-quantile of all samples per dimension.
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @param p The probability
+   * @return The quantile
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateQuantiles be set to true to activate
+   *           the calculation of quantiles.
+   * @throws IllegalArgumentException The probability ({@code p}) must be within [0, 1].
+   */
+  public Col quantile(double p) throws IllegalAccessException, IllegalArgumentException {
+    QuantileSketch[] quantiles = quantiles();
+
+    Col result = new Col(quantiles.length);
+    for (int n = 0; n < quantiles.length; n++) {
+      result._data[n] = quantiles[n].quantile(p);
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the quantile sketches of all samples per dimension.
+   * <p>
+   * The sketches can be merged into sketches of other instances (see {@link QuantileSketch#merge(QuantileSketch)}).
+   * <p>
+   * <b>Non-canonical:</b> Not provided by Armadillo C++.
+   * 
+   * @return The sketches
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateQuantiles be set to true to activate
+   *           the calculation of quantiles.
+   */
+  public QuantileSketch[] quantiles() throws IllegalAccessException {
+    if (!_calculateQuantiles) {
+      throw new IllegalAccessException("The constructor must be invoked with calculateQuantiles be set to true to activate the calculation of quantiles.");
+    }
+
+    return _quantiles;
+  }
+
+  /**
+   * Ensures that none of the provided samples is NaN.
+   * 
+   * @param samples The samples
+   * 
+   * @throws IllegalArgumentException NaN is not valid sample value for any element.
+   */
+  protected static void rejectNaN(final double[] samples) throws IllegalArgumentException {
+    for (double sample : samples) {
+      if (Double.isNaN(sample)) {
+        throw new IllegalArgumentException("NaN is not valid sample value for any element.");
+      }
+    }
+  }
+
+  /**
+   * Initialises one empty quantile sketch per dimension, if the calculation of quantiles is activated.
+   * 
+   * @param n_dims The amount of dimensions
+   */
+  protected void initialiseQuantiles(int n_dims) {
+    if (_calculateQuantiles) {
+      _quantiles = new QuantileSketch[n_dims];
+      for (int n = 0; n < n_dims; n++) {
+        _quantiles[n] = new QuantileSketch();
+      }
+    }
+  }
+
   /**
    * Resets all statistical values.
    */
@@ -277,6 +527,7 @@ public class RunningStatVec {
     _mean.reset();
     _var.reset();
     _cov.reset();
+    _quantiles = new QuantileSketch[0];
 
     _count = 0;
   }
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides the cumulative sums and products (prefix scans) of vectors and matrices.
+ * <p>
+ * Ranges with at least twice {@link Parallel#MINIMAL_BLOCK_SIZE} elements are scanned in two passes: First, the
+ * total of each contiguous block is computed in parallel. Afterwards, each block is scanned in parallel, starting from
+ * the combined totals of all preceding blocks. The split depends only on the number of elements (see
+ * {@link Reduction#numberOfPartials(int)}), such that the result does not depend on the number of available
+ * processors.
+ * <p>
+ * Columns ({@link #perColumn(int, double[], double[], int, int)}) are split across threads. Rows (
+ * {@link #perRow(int, double[], double[], int, int)}) are scanned by combining each column with the previous column of
+ * the result, such that the data is read sequentially.
+ * 
+ * @author Sebastian Niemann
+ */
+class Scan {
+
+  /**
+   * Cumulative sum
+   */
+  static final int SUM     = 0;
+  /**
+   * Cumulative product
+   */
+  static final int PRODUCT = 1;
+
+  /**
+   * Scans {@code n} elements of {@code data} into {@code result}, both starting at {@code offset}.
+   * 
+   * @param kind The scan, i.e. {@link #SUM} or {@link #PRODUCT}
+   * @param result The result
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param n The number of elements
+   */
+  static void scan(final int kind, final double[] result, final double[] data, final int offset, final int n) {
+    final int n_partials = Reduction.numberOfPartials(n);
+
+    if (n_partials == 1) {
+      result[offset] = data[offset];
+      sequential(kind, data[offset], result, data, offset + 1, n - 1);
+      return;
+    }
+
+    /*
+     * The total of the last block is not needed.
+     */
+    final double[] totals = new double[n_partials];
+    Parallel.run(n_partials, n, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        if (block < n_partials - 1) {
+          totals[block] = total(kind, data, offset + first, last - first);
+        }
+      }
+    });
+
+    final double[] offsets = new double[n_partials];
+    offsets[1] = totals[0];
+    for (int b = 2; b < n_partials; b++) {
+      offsets[b] = combine(kind, offsets[b - 1], totals[b - 1]);
+    }
+
+    Parallel.run(n_partials, n, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        if (block == 0) {
+          result[offset] = data[offset];
+          sequential(kind, data[offset], result, data, offset + 1, last - 1);
+        } else {
+          sequential(kind, offsets[block], result, data, offset + first, last - first);
+        }
+      }
+    });
+  }
+
+  /**
+   * Scans each column of the provided (n_rows, n_cols)-matrix into {@code result}.
+   * <p>
+   * The columns are split across threads.
+   * 
+   * @param kind The scan, i.e. {@link #SUM} or {@link #PRODUCT}
+   * @param result The result in column-major order
+   * @param data The elements in column-major order
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   */
+  static void perColumn(final int kind, final double[] result, final double[] data, final int n_rows, final int n_cols) {
+    Parallel.run(Parallel.numberOfBlocks((long) n_rows * n_cols, n_cols), n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        for (int j = first; j < last; j++) {
+          scan(kind, result, data, j * n_rows, n_rows);
+        }
+      }
+    });
+  }
+
+  /**
+   * Scans each row of the provided (n_rows, n_cols)-matrix into {@code result}.
+   * <p>
+   * Each column is combined element-wise with the previous column of the result. If there are at least as many rows as
+   * blocks, the rows are split across threads. Otherwise, the columns are scanned in two passes, using row-length
+   * totals per block of columns.
+   * 
+   * @param kind The scan, i.e. {@link #SUM} or {@link #PRODUCT}
+   * @param result The result in column-major order
+   * @param data The elements in column-major order
+   * @param n_rows The number of rows
+   * @param n_cols The number of columns
+   */
+  static void perRow(final int kind, final double[] result, final double[] data, final int n_rows, final int n_cols) {
+    int n_elem = (int) Math.min(Integer.MAX_VALUE, (long) n_rows * n_cols);
+    final int n_partials = Math.min(Reduction.numberOfPartials(n_elem), Integer.highestOneBit(n_cols));
+
+    if (n_rows >= n_partials) {
+      Parallel.run(Parallel.numberOfBlocks(n_elem, n_rows), n_rows, new Parallel.Block() {
+        @Override
+        void run(final int block, final int first, final int last) {
+          columns(kind, null, result, data, n_rows, first, last, 0, n_cols);
+        }
+      });
+      return;
+    }
+
+    final double[][] totals = new double[n_partials][];
+    Parallel.run(n_partials, n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        if (block < n_partials - 1) {
+          double[] total = new double[n_rows];
+          System.arraycopy(data, first * n_rows, total, 0, n_rows);
+          for (int j = first + 1; j < last; j++) {
+            int offset = j * n_rows;
+            for (int i = 0; i < n_rows; i++) {
+              total[i] = combine(kind, total[i], data[offset + i]);
+            }
+          }
+          totals[block] = total;
+        }
+      }
+    });
+
+    final double[][] offsets = new double[n_partials][];
+    for (int b = 1; b < n_partials; b++) {
+      offsets[b] = totals[b - 1];
+      if (b > 1) {
+        for (int i = 0; i < n_rows; i++) {
+          offsets[b][i] = combine(kind, offsets[b - 1][i], offsets[b][i]);
+        }
+      }
+    }
+
+    Parallel.run(n_partials, n_cols, new Parallel.Block() {
+      @Override
+      void run(final int block, final int first, final int last) {
+        columns(kind, offsets[block], result, data, n_rows, 0, n_rows, first, last);
+      }
+    });
+  }
+
+  /**
+   * Scans the rows {@code firstRow} (inclusive) to {@code lastRow} (exclusive) over the columns {@code firstCol}
+   * (inclusive) to {@code lastCol} (exclusive), column by column.
+   * 
+   * @param kind The scan
+   * @param initial The values preceding the first column per row or null if there are none
+   * @param result The result in column-major order
+   * @param data The elements in column-major order
+   * @param n_rows The number of rows
+   * @param firstRow The first row
+   * @param lastRow The last row
+   * @param firstCol The first column
+   * @param lastCol The last column
+   */
+  protected static void columns(final int kind, final double[] initial, final double[] result, final double[] data, final int n_rows, final int firstRow, final int lastRow, final int firstCol, final int lastCol) {
+    int offset = firstCol * n_rows;
+    if (initial == null) {
+      System.arraycopy(data, offset + firstRow, result, offset + firstRow, lastRow - firstRow);
+    } else {
+      for (int i = firstRow; i < lastRow; i++) {
+        result[offset + i] = combine(kind, initial[i], data[offset + i]);
+      }
+    }
+
+    for (int j = firstCol + 1; j < lastCol; j++) {
+      int previous = offset;
+      offset += n_rows;
+      for (int i = firstRow; i < lastRow; i++) {
+        result[offset + i] = combine(kind, result[previous + i], data[offset + i]);
+      }
+    }
+  }
+
+  /**
+   * Scans {@code n} elements sequentially, starting from {@code initial}.
+   * 
+   * @param kind The scan
+   * @param initial The value preceding the first element
+   * @param result The result
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param n The number of elements
+   */
+  protected static void sequential(final int kind, final double initial, final double[] result, final double[] data, final int offset, final int n) {
+    double accumulator = initial;
+    switch (kind) {
+      case SUM:
+        for (int p = offset; p < offset + n; p++) {
+          accumulator += data[p];
+          result[p] = accumulator;
+        }
+        break;
+      case PRODUCT:
+        for (int p = offset; p < offset + n; p++) {
+          accumulator *= data[p];
+          result[p] = accumulator;
+        }
+        break;
+    }
+  }
+
+  /**
+   * Returns the total of {@code n} elements.
+   * <p>
+   * Sums are computed pairwise.
+   * 
+   * @param kind The scan
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param n The number of elements
+   * @return The total
+   */
+  protected static double total(final int kind, final double[] data, final int offset, final int n) {
+    if (kind == SUM) {
+      return Reduction.sum(data, offset, 1, n);
+    }
+
+    double product = 1;
+    for (int p = offset; p < offset + n; p++) {
+      product *= data[p];
+    }
+    return product;
+  }
+
+  /**
+   * Combines the accumulator with the value.
+   * 
+   * @param kind The scan
+   * @param accumulator The accumulator
+   * @param value The value
+   * @return The combined value
+   */
+  protected static double combine(final int kind, final double accumulator, final double value) {
+    return (kind == SUM) ? accumulator + value : accumulator * value;
+  }
+}
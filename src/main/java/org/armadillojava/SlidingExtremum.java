@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides the smallest or largest sample within a sliding window in amortised constant time per update.
+ * <p>
+ * Holds a monotonic deque of the samples that may become an extremum as the window slides on. Samples are identified
+ * by their (absolute) index, such that samples leaving the window can be discarded.
+ * 
+ * @author Sebastian Niemann
+ */
+class SlidingExtremum {
+  /**
+   * The amount of samples within the window
+   */
+  protected final int     _windowSize;
+  /**
+   * Whether to provide the largest instead of the smallest sample
+   */
+  protected final boolean _maximum;
+  /**
+   * The values of the deque, stored as ring buffer
+   */
+  protected final double[] _values;
+  /**
+   * The indices of the deque, stored as ring buffer
+   */
+  protected final long[]  _indices;
+  /**
+   * The position of the first element within the ring buffer
+   */
+  protected int           _head;
+  /**
+   * The amount of elements within the deque
+   */
+  protected int           _size;
+
+  /**
+   * Initialises an empty deque.
+   * 
+   * @param windowSize The amount of samples within the window
+   * @param maximum Whether to provide the largest instead of the smallest sample
+   */
+  SlidingExtremum(final int windowSize, final boolean maximum) {
+    _windowSize = windowSize;
+    _maximum = maximum;
+
+    _values = new double[windowSize];
+    _indices = new long[windowSize];
+
+    reset();
+  }
+
+  /**
+   * Adds the sample with the specified index and discards all samples, that left the window.
+   * <p>
+   * The indices are expected to be strictly increasing.
+   * 
+   * @param index The index
+   * @param sample The sample
+   */
+  void update(final long index, final double sample) {
+    while (_size > 0 && _indices[_head] <= index - _windowSize) {
+      _head = (_head + 1) % _windowSize;
+      _size--;
+    }
+
+    /*
+     * Samples that are dominated by the new one will never become an extremum again.
+     */
+    while (_size > 0) {
+      double back = _values[(_head + _size - 1) % _windowSize];
+      if (_maximum ? back <= sample : back >= sample) {
+        _size--;
+      } else {
+        break;
+      }
+    }
+
+    int tail = (_head + _size) % _windowSize;
+    _values[tail] = sample;
+    _indices[tail] = index;
+    _size++;
+  }
+
+  /**
+   * Returns the extremum of all samples within the window.
+   * 
+   * @return The extremum
+   */
+  double value() {
+    return (_size > 0) ? _values[_head] : Double.NaN;
+  }
+
+  /**
+   * Removes all samples.
+   */
+  void reset() {
+    _head = 0;
+    _size = 0;
+  }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides predefined constants to identify the known structure of a square matrix.
+ * <p>
+ * The structure is set by operations producing such matrices (e.g. {@link Arma#diagmat(Mat)},
+ * {@link Arma#trimatu(Mat)} or {@link Arma#symmatu(Mat)}) and reset to {@link #GENERAL} by any modification of the
+ * matrix. Operations like {@link Mat#times(Mat)}, {@link Mat#i()}, {@link Arma#det(Mat)} or
+ * {@link Arma#solve(Mat, Mat)} use it to select specialised kernels.
+ * 
+ * @author Sebastian Niemann
+ */
+enum Structure {
+  /**
+   * No structure known
+   */
+  GENERAL,
+  /**
+   * All elements besides the main diagonal are zero.
+   */
+  DIAGONAL,
+  /**
+   * All elements below the main diagonal are zero.
+   */
+  UPPER_TRIANGULAR,
+  /**
+   * All elements above the main diagonal are zero.
+   */
+  LOWER_TRIANGULAR,
+  /**
+   * The matrix is equal to its transpose.
+   */
+  SYMMETRIC;
+
+  /**
+   * Returns the structure of the transposed matrix.
+   * 
+   * @return The structure
+   */
+  Structure t() {
+    switch (this) {
+      case UPPER_TRIANGULAR:
+        return LOWER_TRIANGULAR;
+      case LOWER_TRIANGULAR:
+        return UPPER_TRIANGULAR;
+      default:
+        return this;
+    }
+  }
+
+  /**
+   * Returns true if the matrix is either upper or lower triangular.
+   * 
+   * @return Whether the matrix is triangular
+   */
+  boolean is_trimat() {
+    return (this == UPPER_TRIANGULAR || this == LOWER_TRIANGULAR);
+  }
+
+  /**
+   * Returns the triangle as expected by BLAS and LAPACK, i.e. "U" for upper and "L" for lower triangular matrices.
+   * 
+   * @return The triangle
+   */
+  String uplo() {
+    return (this == LOWER_TRIANGULAR) ? "L" : "U";
+  }
+}
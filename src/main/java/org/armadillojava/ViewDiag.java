@@ -20,21 +20,6 @@ package org.armadillojava;
  */
 public class ViewDiag extends AbstractView {
 
-  /**
-   * First position of the sub view within the underlying matrix
-   */
-  protected final int _first_position;
-
-  /**
-   * Current position of the sub view within the underlying matrix
-   */
-  protected int       _current_position;
-
-  /**
-   * Rows to skip within the underlying matrix to move one position to another within the sub view
-   */
-  protected final int _n_rows_skip;
-
   /**
    * Creates a shallow copy of a matrix and restrict the access to its {@code k}th diagonal.
    * <ul>
@@ -49,33 +34,14 @@ public class ViewDiag extends AbstractView {
   public ViewDiag(final AbstractMat matrix, final int k) {
     super(matrix);
 
-    if (k > 0) {
-      n_rows = Math.min(matrix.n_rows, matrix.n_cols - k);
-      _first_position = k * matrix.n_rows;
-    } else {
-      n_rows = Math.min(matrix.n_rows + k, matrix.n_cols);
-      _first_position = -k;
-    }
-
+    n_rows = (k > 0) ? Math.min(matrix.n_rows, matrix.n_cols - k) : Math.min(matrix.n_rows + k, matrix.n_cols);
     n_cols = 1;
     n_elem = n_rows;
 
-    _n_rows_skip = matrix.n_rows + 1;
-  }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _current_position = _first_position - _n_rows_skip;
-  }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    _current_position += _n_rows_skip;
-    return _current_position;
+    if (k > 0) {
+      describe(k * matrix.n_rows, 1, n_rows, matrix.n_rows + 1, 0);
+    } else {
+      describe(-k, 1, n_rows, matrix.n_rows + 1, 0);
+    }
   }
-
 }
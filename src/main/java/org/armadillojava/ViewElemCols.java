@@ -20,26 +20,6 @@ package org.armadillojava;
  */
 class ViewElemCols extends AbstractView {
 
-  /**
-   * Vector of specified indices
-   */
-  protected final double[] _vector_of_column_indices;
-
-  /**
-   * Current position of the sub view within the underlying matrix
-   */
-  protected int            _current_position;
-
-  /**
-   * Current row number within the sub view
-   */
-  protected int            _row_number;
-
-  /**
-   * Current column number within the sub view
-   */
-  protected int            _col_number;
-
   /**
    * Creates a shallow copy of the specified matrix and restrict the access to a sub view.
    * 
@@ -53,31 +33,7 @@ class ViewElemCols extends AbstractView {
     n_cols = vector_of_column_indices.length;
     n_elem = n_rows * n_cols;
 
-    _vector_of_column_indices = vector_of_column_indices;
-  }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _row_number = 0;
-    _col_number = 0;
-
-    _current_position = (int) _vector_of_column_indices[0] * n_rows - 1;
+    describe(0, n_cols, n_rows, 1, 0);
+    _run_offsets = toIndices(vector_of_column_indices, n_rows);
   }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    if (_row_number >= n_rows) {
-      _row_number = 1;
-      _current_position = (int) _vector_of_column_indices[++_col_number] * n_rows;
-      return _current_position;
-    } else {
-      ++_row_number;
-      return ++_current_position;
-    }
-  }
-
 }
@@ -20,16 +20,6 @@ package org.armadillojava;
  */
 class ViewElemVec extends AbstractView {
 
-  /**
-   * Vector of specified indices
-   */
-  protected final double[] _vector_of_indices;
-
-  /**
-   * Current element number within the sub view
-   */
-  protected int            _elem_number;
-
   /**
    * Creates a shallow copy of the specified matrix and restrict the access to a sub view.
    * 
@@ -48,21 +38,7 @@ class ViewElemVec extends AbstractView {
     }
     n_elem = vector_of_indices.length;
 
-    _vector_of_indices = vector_of_indices;
+    describe(0, 1, n_elem, 1, 0);
+    _indices = toIndices(vector_of_indices, 1);
   }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _elem_number = -1;
-  }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    return (int) _vector_of_indices[++_elem_number];
-  }
-
 }
@@ -18,17 +18,7 @@ package org.armadillojava;
  * 
  * @author Sebastian Niemann
  */
-class ViewSubCol extends AbstractView {
-
-  /**
-   * The first position of the sub view within the underlying matrix.
-   */
-  protected final int _first_position;
-
-  /**
-   * Current position of the sub view within the underlying matrix
-   */
-  protected int       _current_position;
+public class ViewSubCol extends AbstractView {
 
   /**
    * Creates a shallow copy of the specified matrix and restrict its access to a sub view.
@@ -45,7 +35,7 @@ class ViewSubCol extends AbstractView {
     this.n_cols = 1;
     this.n_elem = this.n_rows;
 
-    _first_position = first_row + col_number * matrix.n_rows;
+    describe(first_row + col_number * matrix.n_rows, 1, this.n_rows, 1, 0);
   }
 
   /**
@@ -61,20 +51,6 @@ class ViewSubCol extends AbstractView {
     n_cols = 1;
     n_elem = n_rows;
 
-    _first_position = col_number * n_rows;
-  }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _current_position = _first_position - 1;
-  }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    return ++_current_position;
+    describe(col_number * n_rows, 1, n_rows, 1, 0);
   }
 }
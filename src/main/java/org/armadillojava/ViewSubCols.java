@@ -18,17 +18,7 @@ package org.armadillojava;
  * 
  * @author Sebastian Niemann
  */
-class ViewSubCols extends AbstractView {
-
-  /**
-   * The first position of the sub view within the underlying matrix.
-   */
-  protected final int _first_position;
-
-  /**
-   * Current position of the sub view within the underlying matrix
-   */
-  protected int       _current_position;
+public class ViewSubCols extends AbstractView {
 
   /**
    * Creates a shallow copy of the specified matrix and restrict the access to a sub view.
@@ -44,20 +34,9 @@ class ViewSubCols extends AbstractView {
     this.n_cols = n_cols;
     this.n_elem = this.n_rows * this.n_cols;
 
-    _first_position = first_col * this.n_rows;
-  }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _current_position = _first_position - 1;
-  }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    return ++_current_position;
+    /*
+     * All columns are stored contiguously and can therefore be handled as one single run.
+     */
+    describe(first_col * this.n_rows, 1, this.n_elem, 1, 0);
   }
 }
@@ -18,17 +18,7 @@ package org.armadillojava;
  * 
  * @author Sebastian Niemann
  */
-class ViewSubRow extends AbstractView {
-
-  /**
-   * The first position of the sub view within the underlying matrix.
-   */
-  protected final int _first_position;
-
-  /**
-   * Current position of the sub view within the underlying matrix
-   */
-  protected int       _current_position;
+public class ViewSubRow extends AbstractView {
 
   /**
    * Creates a shallow copy of the specified matrix and restrict its access to a sub view.
@@ -45,7 +35,7 @@ class ViewSubRow extends AbstractView {
     this.n_cols = n_cols;
     this.n_elem = this.n_cols;
 
-    _first_position = row_number + first_col * matrix.n_rows;
+    describe(row_number + first_col * matrix.n_rows, 1, this.n_cols, matrix.n_rows, 0);
   }
 
   /**
@@ -61,21 +51,6 @@ class ViewSubRow extends AbstractView {
     n_cols = matrix.n_cols;
     n_elem = n_cols;
 
-    _first_position = row_number;
-  }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _current_position = _first_position - _matrix.n_rows;
-  }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    _current_position += _matrix.n_rows;
-    return _current_position;
+    describe(row_number, 1, n_cols, matrix.n_rows, 0);
   }
 }
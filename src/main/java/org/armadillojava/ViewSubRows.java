@@ -18,28 +18,7 @@ package org.armadillojava;
  * 
  * @author Sebastian Niemann
  */
-class ViewSubRows extends AbstractView {
-
-  /**
-   * The first position of the sub view within the underlying matrix.
-   */
-  protected final int _first_position;
-
-  /**
-   * Current position of the sub view within the underlying matrix
-   */
-  protected int       _current_position;
-
-  /**
-   * The rows to skip within the underlying matrix to move from the last position of a column to one position before
-   * the first element in the following column.
-   */
-  protected final int _n_rows_skip;
-
-  /**
-   * The current row number within the sub view
-   */
-  protected int       _row_number;
+public class ViewSubRows extends AbstractView {
 
   /**
    * Creates a shallow copy of the specified matrix and restrict the access to a sub view.
@@ -55,30 +34,6 @@ class ViewSubRows extends AbstractView {
     this.n_cols = matrix.n_cols;
     this.n_elem = this.n_rows * this.n_cols;
 
-    _first_position = first_row;
-    _n_rows_skip = matrix.n_rows - this.n_rows + 1;
-  }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _row_number = 0;
-
-    _current_position = _first_position - 1;
-  }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    if (_row_number >= n_rows) {
-      _row_number = 1;
-      _current_position += _n_rows_skip;
-      return _current_position;
-    } else {
-      ++_row_number;
-      return ++_current_position;
-    }
+    describe(first_row, this.n_cols, this.n_rows, 1, matrix.n_rows);
   }
 }
@@ -20,16 +20,6 @@ package org.armadillojava;
  */
 class ViewSubVec extends AbstractView {
 
-  /**
-   * The first position of the sub view within the underlying matrix.
-   */
-  protected final int _first_position;
-
-  /**
-   * Current position of the sub view within the underlying matrix
-   */
-  protected int       _current_position;
-
   /**
    * Creates a shallow copy of the specified matrix and restrict the access to a sub view.
    * 
@@ -49,20 +39,6 @@ class ViewSubVec extends AbstractView {
     }
     this.n_elem = n_elem;
 
-    _first_position = first_elem;
-  }
-
-  @Override
-  protected void iteratorReset() {
-    super.iteratorReset();
-
-    _current_position = _first_position - 1;
-  }
-
-  @Override
-  protected int iteratorNext() {
-    super.iteratorNext();
-
-    return ++_current_position;
+    describe(first_elem, 1, this.n_elem, 1, 0);
   }
 }
@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+/**
+ * Provides statistical measures that are updated iterative per sample, limited to the most recent samples.
+ * <p>
+ * The samples within the window are kept in a ring buffer. Adding a sample removes the oldest one (if the window is
+ * full) from all measures, such that each update takes constant (amortised) time.
+ * <p>
+ * To bound the accumulation of rounding errors, the mean and the sum of squared differences are recalculated from the
+ * ring buffer each time it wraps around. They are also recalculated while any infinite sample is within the window, as
+ * the incremental updates would otherwise remain NaN after the sample left the window.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class WindowedRunningStat {
+  /**
+   * The samples within the window, stored as ring buffer
+   */
+  protected final double[]        _samples;
+  /**
+   * The smallest sample within the window
+   */
+  protected final SlidingExtremum _min;
+  /**
+   * The largest sample within the window
+   */
+  protected final SlidingExtremum _max;
+  /**
+   * The amount of processed samples since the last reset
+   */
+  protected long                  _index;
+  /**
+   * The amount of samples within the window
+   */
+  protected double                _count;
+  /**
+   * The mean of all samples within the window
+   */
+  protected double                _mean;
+  /**
+   * The sum of squared differences to the mean of all samples within the window
+   */
+  protected double                _squaredDifferences;
+  /**
+   * The amount of infinite samples within the window
+   */
+  protected int                   _nonFinite;
+
+  /**
+   * Initialises the statistical measures.
+   * 
+   * @param windowSize The maximal amount of samples to consider
+   * 
+   * @throws IllegalArgumentException The window size ({@code windowSize}) must be strictly positive.
+   */
+  public WindowedRunningStat(final int windowSize) throws IllegalArgumentException {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("The window size (" + windowSize + ") must be strictly positive.");
+    }
+
+    _samples = new double[windowSize];
+    _min = new SlidingExtremum(windowSize, false);
+    _max = new SlidingExtremum(windowSize, true);
+
+    reset();
+  }
+
+  /**
+   * Recalculates the statistical values with inclusion of the sample and exclusion of the oldest sample, if the window
+   * is full.
+   * 
+   * @param sample The sample
+   * 
+   * @throws IllegalArgumentException NaN is not valid sample.
+   */
+  public void update(final double sample) throws IllegalArgumentException {
+    if (Double.isNaN(sample)) {
+      throw new IllegalArgumentException("NaN is not valid sample value.");
+    }
+
+    int position = (int) (_index % _samples.length);
+    boolean recalculate = (position == _samples.length - 1);
+
+    if (_count == _samples.length) {
+      double oldest = _samples[position];
+      if (Double.isInfinite(oldest)) {
+        _nonFinite--;
+        recalculate = true;
+      }
+
+      if (_count > 1) {
+        double delta = oldest - _mean;
+        _mean -= delta / (_count - 1);
+        _squaredDifferences -= delta * (oldest - _mean);
+      } else {
+        _mean = 0;
+        _squaredDifferences = 0;
+      }
+      _count--;
+    }
+
+    _count++;
+    double delta = sample - _mean;
+    _mean += delta / _count;
+    _squaredDifferences += delta * (sample - _mean);
+
+    _samples[position] = sample;
+    _min.update(_index, sample);
+    _max.update(_index, sample);
+
+    if (Double.isInfinite(sample)) {
+      _nonFinite++;
+    }
+
+    if (recalculate || _nonFinite > 0) {
+      recalculate();
+    }
+
+    _index++;
+  }
+
+  /**
+   * Recalculates the mean and the sum of squared differences from all samples within the window.
+   */
+  protected void recalculate() {
+    /*
+     * Before the ring buffer wrapped around for the first time, the samples are stored at the first _count positions.
+     */
+    int count = (int) _count;
+
+    double sum = 0;
+    for (int n = 0; n < count; n++) {
+      sum += _samples[n];
+    }
+    _mean = sum / count;
+
+    double squaredDifferences = 0;
+    for (int n = 0; n < count; n++) {
+      double difference = _samples[n] - _mean;
+      squaredDifferences += difference * difference;
+    }
+    _squaredDifferences = squaredDifferences;
+  }
+
+  /**
+   * Returns the amount of samples within the window.
+   * 
+   * @return The amount
+   */
+  public double count() {
+    return _count;
+  }
+
+  /**
+   * Returns the maximal amount of samples within the window.
+   * 
+   * @return The window size
+   */
+  public int windowSize() {
+    return _samples.length;
+  }
+
+  /**
+   * Returns the smallest sample within the window.
+   * 
+   * @return The minimum
+   */
+  public double min() {
+    return _min.value();
+  }
+
+  /**
+   * Returns the largest sample within the window.
+   * 
+   * @return The maximum
+   */
+  public double max() {
+    return _max.value();
+  }
+
+  /**
+   * Returns the mean of all samples within the window.
+   * 
+   * @return The mean
+   */
+  public double mean() {
+    return (_count > 0) ? _mean : Double.NaN;
+  }
+
+  /**
+   * Returns the variance of all samples within the window with normalisation by {@link #count()} - 1.
+   * 
+   * @return The variance
+   */
+  public double var() {
+    return var(0);
+  }
+
+  /**
+   * Returns the variance of all samples within the window.
+   * <p>
+   * Performs either normalisation by {@link #count()} - 1 ({@code normType} = 0) or {@code #count()} ({@code normType}
+   * = 1).
+   * 
+   * @param normType The normalisation
+   * @return The variance
+   * 
+   * @throws IllegalArgumentException The normalisation type must be one of 0 or 1, but was: {@code normType}.
+   */
+  public double var(int normType) throws IllegalArgumentException {
+    if (normType != 0 && normType != 1) {
+      throw new IllegalArgumentException("The normalisation type must be one of 0 or 1, but was:" + normType + ".");
+    }
+
+    if (_count == 0) {
+      return Double.NaN;
+    } else if (_count == 1) {
+      return 0;
+    }
+
+    /*
+     * Rounding errors due to the removal of samples might result in slightly negative values.
+     */
+    return Math.max(0, _squaredDifferences) / (normType == 0 ? _count - 1 : _count);
+  }
+
+  /**
+   * Returns the standard deviation of all samples within the window with normalisation by {@link #count()} - 1.
+   * 
+   * @return The standard deviation.
+   */
+  public double stddev() {
+    return Math.sqrt(var(0));
+  }
+
+  /**
+   * Returns the standard deviation of all samples within the window.
+   * <p>
+   * Performs either normalisation by {@link #count()} - 1 ({@code normType} = 0) or {@code #count()} ({@code normType}
+   * = 1).
+   * 
+   * @param normType The normalisation
+   * @return The standard deviation
+   * 
+   * @throws IllegalArgumentException The normalisation type must be one of 0 or 1, but was: {@code normType}.
+   */
+  public double stddev(int normType) throws IllegalArgumentException {
+    return Math.sqrt(var(normType));
+  }
+
+  /**
+   * Resets all statistical values.
+   */
+  public void reset() {
+    _min.reset();
+    _max.reset();
+
+    _index = 0;
+    _count = 0;
+    _mean = 0;
+    _squaredDifferences = 0;
+    _nonFinite = 0;
+  }
+}
@@ -0,0 +1,505 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import java.util.Arrays;
+
+import com.github.fommil.netlib.BLAS;
+
+/**
+ * Provides statistical measures that are updated iterative per sample vector, limited to the most recent samples.
+ * <p>
+ * The samples within the window are kept as columns of a ring buffer. Adding a sample removes the oldest one (if the
+ * window is full) from all measures. Besides the buffers allocated for the first sample, updates are performed in-place
+ * without further allocations.
+ * <p>
+ * To bound the accumulation of rounding errors, the mean, the sum of squared differences and the scatter matrix are
+ * recalculated from the ring buffer each time it wraps around. They are also recalculated while any sample with
+ * infinite values is within the window, as the incremental updates would otherwise remain NaN after the sample left
+ * the window.
+ * <p>
+ * Besides the covariance, each measurement is calculated per dimension.
+ * <p>
+ * <b>Non-canonical:</b> Not provided by Armadillo C++.
+ * 
+ * @author Sebastian Niemann
+ */
+public class WindowedRunningStatVec {
+  /**
+   * The maximal amount of samples within the window
+   */
+  protected final int       _windowSize;
+  /**
+   * Whether to calculate the covariance
+   */
+  protected final boolean   _calculateCovariance;
+  /**
+   * The samples within the window, stored column-wise as ring buffer
+   */
+  protected Mat             _samples;
+  /**
+   * The smallest value within the window per dimension
+   */
+  protected SlidingExtremum[] _minima;
+  /**
+   * The largest value within the window per dimension
+   */
+  protected SlidingExtremum[] _maxima;
+  /**
+   * The amount of processed samples since the last reset
+   */
+  protected long            _index;
+  /**
+   * The amount of samples within the window
+   */
+  protected double          _count;
+  /**
+   * The smallest value
+   */
+  protected Col             _min;
+  /**
+   * The largest value
+   */
+  protected Col             _max;
+  /**
+   * The mean of all values
+   */
+  protected Col             _mean;
+  /**
+   * The variance of all values
+   */
+  protected Col             _var;
+  /**
+   * The sum of squared differences to the mean of all values
+   */
+  protected double[]        _squaredDifferences;
+  /**
+   * The upper triangular part of the scatter matrix
+   */
+  protected Mat             _scatter;
+  /**
+   * The differences to the mean of the current update
+   */
+  protected double[]        _delta;
+  /**
+   * The centred samples within the window, only used to recalculate the scatter matrix
+   */
+  protected double[]        _centred;
+  /**
+   * The amount of samples with infinite values within the window
+   */
+  protected int             _nonFinite;
+
+  /**
+   * Initialises the statistical measures. Calculation of the covariance will be deactivated.
+   * 
+   * @param windowSize The maximal amount of samples to consider
+   * 
+   * @throws IllegalArgumentException The window size ({@code windowSize}) must be strictly positive.
+   */
+  public WindowedRunningStatVec(final int windowSize) throws IllegalArgumentException {
+    this(windowSize, false);
+  }
+
+  /**
+   * Initialises the statistical measures.
+   * <p>
+   * {@code calculateCovariance} must be set to true to activate the calculation of the covariance.
+   * 
+   * @param windowSize The maximal amount of samples to consider
+   * @param calculateCovariance Whether to calculate the covariance
+   * 
+   * @throws IllegalArgumentException The window size ({@code windowSize}) must be strictly positive.
+   */
+  public WindowedRunningStatVec(final int windowSize, final boolean calculateCovariance) throws IllegalArgumentException {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("The window size (" + windowSize + ") must be strictly positive.");
+    }
+
+    _windowSize = windowSize;
+    _calculateCovariance = calculateCovariance;
+
+    _samples = new Mat();
+    _minima = new SlidingExtremum[0];
+    _maxima = new SlidingExtremum[0];
+    _min = new Col();
+    _max = new Col();
+    _mean = new Col();
+    _var = new Col();
+    _squaredDifferences = new double[0];
+    _scatter = new Mat();
+    _delta = new double[0];
+
+    reset();
+  }
+
+  /**
+   * Recalculates the statistical values with inclusion of the sample vector and exclusion of the oldest sample vector,
+   * if the window is full.
+   * 
+   * @param samples The vector
+   * 
+   * @throws IllegalArgumentException NaN is not valid sample value for any element.
+   * @throws RuntimeException The number of elements ({@code samples.n_elem}) must be equal to the dimension of previous
+   *           samples.
+   */
+  public void update(final Col samples) throws IllegalArgumentException, RuntimeException {
+    for (int n = 0; n < samples.n_elem; n++) {
+      if (Double.isNaN(samples._data[n])) {
+        throw new IllegalArgumentException("NaN is not valid sample value for any element.");
+      }
+    }
+
+    if (samples.n_elem != _mean.n_elem) {
+      if (_count > 0) {
+        throw new RuntimeException("The number of elements (" + samples.n_elem + ") must be equal to the dimension of previous samples (" + _mean.n_elem + ").");
+      }
+
+      initialise(samples.n_elem);
+    }
+
+    int n_dims = samples.n_elem;
+    int position = (int) (_index % _windowSize);
+    int offset = position * n_dims;
+    boolean recalculate = (position == _windowSize - 1);
+
+    if (_count == _windowSize) {
+      if (!isFinite(_samples._data, offset, n_dims)) {
+        _nonFinite--;
+        recalculate = true;
+      }
+
+      if (_count > 1) {
+        for (int i = 0; i < n_dims; i++) {
+          double oldest = _samples._data[offset + i];
+          double delta = oldest - _mean._data[i];
+
+          _mean._data[i] -= delta / (_count - 1);
+          _squaredDifferences[i] -= delta * (oldest - _mean._data[i]);
+          _delta[i] = delta;
+        }
+
+        if (_calculateCovariance) {
+          BLAS.getInstance().dsyr("U", n_dims, -_count / (_count - 1), _delta, 1, _scatter._data, n_dims);
+        }
+      } else {
+        _mean.fill(0);
+        _scatter.fill(0);
+        Arrays.fill(_squaredDifferences, 0);
+      }
+
+      _count--;
+    }
+
+    _count++;
+    for (int i = 0; i < n_dims; i++) {
+      double sample = samples._data[i];
+      double delta = sample - _mean._data[i];
+
+      _mean._data[i] += delta / _count;
+      _squaredDifferences[i] += delta * (sample - _mean._data[i]);
+      _delta[i] = delta;
+
+      /*
+       * Rounding errors due to the removal of samples might result in slightly negative values.
+       */
+      _var._data[i] = (_count > 1) ? Math.max(0, _squaredDifferences[i]) / (_count - 1) : 0;
+
+      _minima[i].update(_index, sample);
+      _maxima[i].update(_index, sample);
+      _min._data[i] = _minima[i].value();
+      _max._data[i] = _maxima[i].value();
+    }
+
+    if (_calculateCovariance) {
+      BLAS.getInstance().dsyr("U", n_dims, (_count - 1) / _count, _delta, 1, _scatter._data, n_dims);
+    }
+
+    System.arraycopy(samples._data, 0, _samples._data, offset, n_dims);
+
+    if (!isFinite(samples._data, 0, n_dims)) {
+      _nonFinite++;
+    }
+
+    if (recalculate || _nonFinite > 0) {
+      recalculate();
+    }
+
+    _index++;
+  }
+
+  /**
+   * Returns true if all values within the specified range are finite.
+   * 
+   * @param data The values
+   * @param offset The position of the first value
+   * @param length The number of values
+   * @return Whether all values are finite
+   */
+  protected static boolean isFinite(final double[] data, final int offset, final int length) {
+    for (int n = offset; n < offset + length; n++) {
+      if (Double.isInfinite(data[n])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Recalculates the mean, variance and scatter matrix from all samples within the window.
+   */
+  protected void recalculate() {
+    /*
+     * Before the ring buffer wrapped around for the first time, the samples are stored within the first _count columns.
+     */
+    int n_dims = _mean.n_elem;
+    int count = (int) _count;
+
+    Arrays.fill(_mean._data, 0);
+    for (int j = 0, n = 0; j < count; j++) {
+      for (int i = 0; i < n_dims; i++, n++) {
+        _mean._data[i] += _samples._data[n];
+      }
+    }
+
+    for (int i = 0; i < n_dims; i++) {
+      _mean._data[i] /= count;
+    }
+
+    Arrays.fill(_squaredDifferences, 0);
+    for (int j = 0, n = 0; j < count; j++) {
+      for (int i = 0; i < n_dims; i++, n++) {
+        double difference = _samples._data[n] - _mean._data[i];
+        _squaredDifferences[i] += difference * difference;
+
+        if (_calculateCovariance) {
+          _centred[n] = difference;
+        }
+      }
+    }
+
+    for (int i = 0; i < n_dims; i++) {
+      _var._data[i] = (count > 1) ? _squaredDifferences[i] / (count - 1) : 0;
+    }
+
+    if (_calculateCovariance && n_dims > 0) {
+      BLAS.getInstance().dsyrk("U", "N", n_dims, count, 1, _centred, n_dims, 0, _scatter._data, n_dims);
+    }
+  }
+
+  /**
+   * Returns the amount of samples within the window.
+   * 
+   * @return The amount
+   */
+  public double count() {
+    return _count;
+  }
+
+  /**
+   * Returns the maximal amount of samples within the window.
+   * 
+   * @return The window size
+   */
+  public int windowSize() {
+    return _windowSize;
+  }
+
+  /**
+   * Returns the smallest value within the window per dimension.
+   * 
+   * @return The minimum
+   */
+  public Col min() {
+    return _min;
+  }
+
+  /**
+   * Returns the largest value within the window per dimension.
+   * 
+   * @return The maximum
+   */
+  public Col max() {
+    return _max;
+  }
+
+  /**
+   * Returns the mean of all samples within the window per dimension.
+   * 
+   * @return The mean
+   */
+  public Col mean() {
+    return _mean;
+  }
+
+  /**
+   * Returns the variance of all samples within the window per dimension with normalisation by {@link #count()} - 1.
+   * 
+   * @return The variance
+   */
+  public Col var() {
+    return var(0);
+  }
+
+  /**
+   * Returns the variance of all samples within the window per dimension.
+   * <p>
+   * Performs either normalisation by {@link #count()} - 1 ({@code normType} = 0) or {@code #count()} ({@code normType}
+   * = 1).
+   * 
+   * @param normType The normalisation
+   * @return The variance
+   * 
+   * @throws IllegalArgumentException The normalisation type must be one of 0 or 1, but was: {@code normType}.
+   */
+  public Col var(int normType) throws IllegalArgumentException {
+    if (normType == 0) {
+      return _var;
+    } else if (normType == 1) {
+      if (_count > 0) {
+        return _var.times((_count - 1) / _count);
+      } else {
+        return _var;
+      }
+    } else {
+      throw new IllegalArgumentException("The normalisation type must be one of 0 or 1, but was:" + normType + ".");
+    }
+  }
+
+  /**
+   * Returns the standard deviation of all samples within the window per dimension with normalisation by
+   * {@link #count()} - 1.
+   * 
+   * @return The standard deviation
+   */
+  public Col stddev() {
+    return stddev(0);
+  }
+
+  /**
+   * Returns the standard deviation of all samples within the window per dimension.
+   * <p>
+   * Performs either normalisation by {@link #count()} - 1 ({@code normType} = 0) or {@code #count()} ({@code normType}
+   * = 1).
+   * 
+   * @param normType The normalisation
+   * @return The standard deviation
+   * 
+   * @throws IllegalArgumentException The normalisation type must be one of 0 or 1, but was: {@code normType}.
+   */
+  public Col stddev(int normType) throws IllegalArgumentException {
+    return Arma.sqrt(var(normType));
+  }
+
+  /**
+   * Returns the covariance of all samples within the window with normalisation by {@link #count()} - 1.
+   * 
+   * @return The covariance
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  public Mat cov() throws IllegalAccessException {
+    return cov(0);
+  }
+
+  /**
+   * Returns the covariance of all samples within the window.
+   * <p>
+   * Performs either normalisation by {@link #count()} - 1 ({@code normType} = 0) or {@code #count()} ({@code normType}
+   * = 1).
+   * 
+   * @param normType The normalisation
+   * @return The covariance
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   * @throws IllegalArgumentException The normalisation type must be one of 0 or 1, but was: {@code normType}.
+   */
+  public Mat cov(int normType) throws IllegalAccessException, IllegalArgumentException {
+    if (!_calculateCovariance) {
+      throw new IllegalAccessException("The constructor must be invoked with calculateCovariance be set to true to activate the calculation of the covariance.");
+    }
+
+    if (normType != 0 && normType != 1) {
+      throw new IllegalArgumentException("The normalisation type must be one of 0 or 1, but was:" + normType + ".");
+    }
+
+    int n_dims = _scatter.n_rows;
+    double normalisation = (normType == 0) ? _count - 1 : _count;
+    if (normalisation < 1) {
+      normalisation = 1;
+    }
+
+    Mat result = new Mat(n_dims, n_dims);
+    for (int j = 0; j < n_dims; j++) {
+      for (int i = 0; i <= j; i++) {
+        double value = _scatter._data[i + j * n_dims] / normalisation;
+
+        result._data[i + j * n_dims] = value;
+        result._data[j + i * n_dims] = value;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Resets all statistical values.
+   */
+  public void reset() {
+    initialise(_mean.n_elem);
+  }
+
+  /**
+   * Sets up all buffers for samples with the specified dimension and resets all statistical values.
+   * 
+   * @param n_dims The dimension
+   */
+  protected void initialise(final int n_dims) {
+    if (n_dims != _mean.n_elem) {
+      _samples = new Mat(n_dims, _windowSize);
+      _minima = new SlidingExtremum[n_dims];
+      _maxima = new SlidingExtremum[n_dims];
+      for (int n = 0; n < n_dims; n++) {
+        _minima[n] = new SlidingExtremum(_windowSize, false);
+        _maxima[n] = new SlidingExtremum(_windowSize, true);
+      }
+      _min = new Col(n_dims);
+      _max = new Col(n_dims);
+      _mean = new Col(n_dims);
+      _var = new Col(n_dims);
+      _squaredDifferences = new double[n_dims];
+      _scatter = new Mat(n_dims, n_dims);
+      _delta = new double[n_dims];
+      _centred = _calculateCovariance ? new double[n_dims * _windowSize] : null;
+    }
+
+    for (int n = 0; n < n_dims; n++) {
+      _minima[n].reset();
+      _maxima[n].reset();
+    }
+    _min.fill(Double.NaN);
+    _max.fill(Double.NaN);
+    _mean.fill(0);
+    _var.fill(Double.NaN);
+    _scatter.fill(0);
+    Arrays.fill(_squaredDifferences, 0);
+
+    _index = 0;
+    _count = 0;
+    _nonFinite = 0;
+  }
+}
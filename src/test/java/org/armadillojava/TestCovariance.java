@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestCovariance {
+
+  /**
+   * Test method for {@link Arma#cov(Mat, int)} and {@link Arma#cor(Mat, int)} with enough columns to be computed in
+   * parallel.
+   */
+  @Test
+  public void testArmaCovCor() {
+    RNG.set_seed(1);
+    Mat X = Arma.randn(200, 300);
+    X.inPlace(Op.PLUS, 1e6);
+
+    for (int norm_type = 0; norm_type < 2; norm_type++) {
+      Mat expected = expectedCov(X, X, norm_type);
+      Mat cov = Arma.cov(X, norm_type);
+      assertMatEquals(cov, expected, 1e-10);
+      assertMatEquals(cov, cov.t(), 0);
+
+      assertMatEquals(Arma.cor(X, norm_type), expectedCor(X, X, norm_type), 1e-10);
+    }
+  }
+
+  /**
+   * Test method for {@link Arma#cov(Mat, Mat, int)} and {@link Arma#cor(Mat, Mat, int)} with enough columns to be
+   * computed in parallel.
+   */
+  @Test
+  public void testArmaCovCorPairs() {
+    RNG.set_seed(2);
+    Mat X = Arma.randn(200, 300);
+    Mat Y = Arma.randu(200, 300);
+    for (int i = 0; i < Y.n_rows; i++) {
+      Y.at(i, 7, Op.EQUAL, 3);
+    }
+
+    for (int norm_type = 0; norm_type < 2; norm_type++) {
+      assertMatEquals(Arma.cov(X, Y, norm_type), expectedCov(X, Y, norm_type), 1e-10);
+      assertMatEquals(Arma.cor(X, Y, norm_type), expectedCor(X, Y, norm_type), 1e-10);
+    }
+  }
+
+  /**
+   * Returns the covariance between the columns of X and Y, computed element-wise.
+   * 
+   * @param X The first matrix
+   * @param Y The second matrix
+   * @param norm_type The normalisation
+   * @return The covariance
+   */
+  protected static Mat expectedCov(final Mat X, final Mat Y, final int norm_type) {
+    int n = X.n_rows;
+    Mat expected = new Mat(X.n_cols, Y.n_cols);
+    for (int i = 0; i < X.n_cols; i++) {
+      double meanX = Arma.mean(X.col(i));
+      for (int j = 0; j < Y.n_cols; j++) {
+        double meanY = Arma.mean(Y.col(j));
+
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+          sum += (X.at(k, i) - meanX) * (Y.at(k, j) - meanY);
+        }
+        expected.at(i, j, Op.EQUAL, sum / ((norm_type == 0) ? n - 1 : n));
+      }
+    }
+
+    return expected;
+  }
+
+  /**
+   * Returns the correlation between the columns of X and Y, computed element-wise.
+   * <p>
+   * As in Armadillo C++, the standard deviations are always normalised by n - 1.
+   * 
+   * @param X The first matrix
+   * @param Y The second matrix
+   * @param norm_type The normalisation
+   * @return The correlation
+   */
+  protected static Mat expectedCor(final Mat X, final Mat Y, final int norm_type) {
+    Mat expected = expectedCov(X, Y, norm_type);
+    for (int i = 0; i < X.n_cols; i++) {
+      for (int j = 0; j < Y.n_cols; j++) {
+        expected.at(i, j, Op.DIVIDE, Arma.stddev(X.col(i)) * Arma.stddev(Y.col(j)));
+      }
+    }
+
+    return expected;
+  }
+
+}
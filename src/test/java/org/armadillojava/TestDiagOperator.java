@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestDiagOperator {
+
+  /**
+   * Test method for {@link DiagOperator#times(Mat)}, {@link DiagOperator#times(Col)}, {@link Mat#times(DiagOperator)}
+   * and {@link Row#times(DiagOperator)}.
+   */
+  @Test
+  public void testTimes() {
+    RNG.set_seed(1);
+    Col d = Arma.randn(Col.class, 7);
+    DiagOperator D = new DiagOperator(d);
+    Mat dense = new Mat(Arma.diagmat(d));
+
+    Mat X = Arma.randn(7, 5);
+    Col x = Arma.randn(Col.class, 7);
+    Row y = Arma.randn(Row.class, 7);
+    Mat Y = Arma.randn(4, 7);
+
+    assertMatEquals(D.times(X), dense.times(X), 1e-14);
+    assertMatEquals(D.times(x), dense.times(x), 1e-14);
+    assertMatEquals(y.times(D), y.times(dense), 1e-14);
+    assertMatEquals(Y.times(D), Y.times(dense), 1e-14);
+    assertMatEquals(D.times(D.i()).toMat(), Arma.eye(7, 7), 1e-14);
+    assertMatEquals(new DiagOperator(Arma.diagmat(d)).diag(), d);
+
+    /*
+     * Products with diagonal matrices returned by Arma.diagmat use the same kernels.
+     */
+    assertMatEquals(Arma.diagmat(d).times(X), D.times(X));
+    assertMatEquals(Y.times(Arma.diagmat(d)), Y.times(D));
+  }
+
+  /**
+   * Test method for {@link Mat#each_col(Op, AbstractMat)} and {@link Mat#each_row(Op, AbstractMat)} with
+   * {@link Op#ELEMTIMES}, for enough elements to be scaled in parallel.
+   */
+  @Test
+  public void testEach() {
+    RNG.set_seed(2);
+    for (Mat X : new Mat[]{Arma.randn(1000, 300), Arma.randn(3, 50000), Arma.randn(50000, 3)}) {
+      Col c = Arma.randn(Col.class, X.n_rows);
+      Row r = Arma.randn(Row.class, X.n_cols);
+
+      Mat expected = new Mat(X.n_rows, X.n_cols);
+      for (int j = 0; j < X.n_cols; j++) {
+        for (int i = 0; i < X.n_rows; i++) {
+          expected.at(i, j, Op.EQUAL, X.at(i, j) * c.at(i) * r.at(j));
+        }
+      }
+
+      Mat Y = new Mat(X);
+      Y.each_col(Op.ELEMTIMES, c);
+      assertMatEquals(Y, new DiagOperator(c).times(X));
+      Y.each_row(Op.ELEMTIMES, r);
+      assertMatEquals(Y, expected, 1e-12);
+      assertMatEquals(new DiagOperator(c).times(X).times(new DiagOperator(r)), expected, 1e-12);
+    }
+  }
+
+  /**
+   * Test method for {@link DiagOperator#times(Mat)}.
+   */
+  @Test(expected = RuntimeException.class)
+  public void testTimesShape() {
+    new DiagOperator(Arma.ones(Col.class, 3)).times(Arma.ones(4, 2));
+  }
+
+}
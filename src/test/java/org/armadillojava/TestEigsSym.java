@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestEigsSym {
+
+  /**
+   * Returns a random symmetric matrix with the specified number of rows and columns.
+   * 
+   * @param n The number of rows and columns
+   * 
+   * @return The matrix
+   */
+  protected static Mat randomSymmetricMatrix(final int n) {
+    Mat X = Arma.randn(n, n);
+    return X.plus(X.t());
+  }
+
+  /**
+   * Test method for {@link Arma#eigs_sym(AbstractVector, Mat, Mat, int, String, double)}.
+   */
+  @Test
+  public void testEigs_sym() {
+    RNG.set_seed(1);
+    Mat X = randomSymmetricMatrix(200);
+
+    Col expected = Arma.eig_sym(X);
+    int n = expected.n_elem;
+
+    Col eigval = new Col();
+    Mat eigvec = new Mat();
+
+    Arma.eigs_sym(eigval, eigvec, X, 5, "la", 0);
+    assertMatEquals(eigval, expected.rows(n - 5, n - 1), 1e-8);
+    assertMatEquals(X.times(eigvec), eigvec.times(Arma.diagmat(eigval)), 1e-8);
+
+    Arma.eigs_sym(eigval, eigvec, X, 5, "sa", 0);
+    assertMatEquals(eigval, expected.rows(0, 4), 1e-8);
+    assertMatEquals(X.times(eigvec), eigvec.times(Arma.diagmat(eigval)), 1e-8);
+  }
+
+  /**
+   * Test method for {@link Arma#eigs_sym(LinearOperator, int)}.
+   */
+  @Test
+  public void testEigs_symOperator() {
+    RNG.set_seed(1);
+    final Mat X = randomSymmetricMatrix(150);
+
+    Col expected = Arma.eig_sym(X);
+    Col magnitudes = Arma.sort(Arma.abs(expected), "descend");
+
+    Col eigval = Arma.eigs_sym(new LinearOperator() {
+      @Override
+      public int n_rows() {
+        return X.n_rows;
+      }
+
+      @Override
+      public int n_cols() {
+        return X.n_cols;
+      }
+
+      @Override
+      public Col times(final Col x) {
+        return X.times(x);
+      }
+    }, 10);
+
+    assertMatEquals(Arma.sort(Arma.abs(eigval), "descend"), magnitudes.rows(0, 9), 1e-8);
+  }
+
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.number.IsCloseTo.closeTo;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestExponentialRunningStat {
+
+  /**
+   * Test method for {@link ExponentialRunningStat}.
+   */
+  @Test
+  public void testExponentialRunningStat() {
+    RNG.set_seed(1);
+    Col samples = Arma.randn(Col.class, 100);
+    double alpha = 0.1;
+
+    ExponentialRunningStat stat = new ExponentialRunningStat(alpha);
+    for (int n = 0; n < samples.n_elem; n++) {
+      stat.update(samples.at(n));
+    }
+
+    /*
+     * The first sample is weighted by (1 - alpha)^(N - 1) and the n-th by alpha * (1 - alpha)^(N - 1 - n).
+     */
+    Col weights = new Col(samples.n_elem);
+    for (int n = 0; n < samples.n_elem; n++) {
+      weights.at(n, Op.EQUAL, (n > 0 ? alpha : 1) * Math.pow(1 - alpha, samples.n_elem - 1 - n));
+    }
+    double mean = Arma.accu(samples.elemTimes(weights));
+
+    assertThat(stat.count(), is(100.0));
+    assertThat(stat.mean(), is(closeTo(mean, 1e-12)));
+    assertThat(stat.var() >= 0, is(true));
+
+    ExponentialRunningStat last = new ExponentialRunningStat(1);
+    last.update(1);
+    last.update(2);
+    assertThat(last.mean(), is(2.0));
+    assertThat(last.var(), is(0.0));
+  }
+
+  /**
+   * Test method for {@link ExponentialRunningStatVec}.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  @Test
+  public void testExponentialRunningStatVec() throws IllegalAccessException {
+    RNG.set_seed(1);
+    Mat samples = Arma.randn(3, 50);
+
+    ExponentialRunningStatVec stat = new ExponentialRunningStatVec(0.2, true);
+    ExponentialRunningStat[] expected = new ExponentialRunningStat[samples.n_rows];
+    for (int i = 0; i < samples.n_rows; i++) {
+      expected[i] = new ExponentialRunningStat(0.2);
+    }
+
+    for (int n = 0; n < samples.n_cols; n++) {
+      stat.update(samples.col(n));
+      for (int i = 0; i < samples.n_rows; i++) {
+        expected[i].update(samples.at(i, n));
+      }
+    }
+
+    Mat cov = stat.cov();
+    for (int i = 0; i < samples.n_rows; i++) {
+      assertThat(stat.mean().at(i), is(closeTo(expected[i].mean(), 1e-12)));
+      assertThat(stat.var().at(i), is(closeTo(expected[i].var(), 1e-12)));
+      assertThat(cov.at(i, i), is(closeTo(expected[i].var(), 1e-12)));
+    }
+    assertMatEquals(cov, cov.t(), 0);
+  }
+
+  /**
+   * Test method for {@link ExponentialRunningStatVec#update(Col)}, rejecting NaN without changing any statistical value.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  @Test
+  public void testExponentialRunningStatVecRejectNaN() throws IllegalAccessException {
+    RNG.set_seed(1);
+    Mat samples = Arma.randn(3, 10);
+
+    ExponentialRunningStatVec stat = new ExponentialRunningStatVec(0.2, true);
+    for (int n = 0; n < samples.n_cols; n++) {
+      stat.update(samples.col(n));
+    }
+
+    Col mean = new Col(stat.mean());
+    Col var = new Col(stat.var());
+    Mat cov = new Mat(stat.cov());
+
+    try {
+      stat.update(new Col(new double[]{1, Datum.nan, 1}));
+      fail("NaN must be rejected.");
+    } catch (IllegalArgumentException e) {
+    }
+
+    assertThat(stat.count(), is(10.0));
+    assertMatEquals(stat.mean(), mean, 0);
+    assertMatEquals(stat.var(), var, 0);
+    assertMatEquals(stat.cov(), cov, 0);
+  }
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestFusedUpdates {
+
+  /**
+   * Test method for {@link AbstractMat#axpy(double, AbstractMat)} and
+   * {@link AbstractMat#axpby(double, AbstractMat, double)}.
+   */
+  @Test
+  public void testAxpy() {
+    RNG.set_seed(1);
+    Mat X = Arma.randn(6, 4);
+    Mat Y = Arma.randn(6, 4);
+
+    Mat expected = Y.plus(X.times(2.5));
+    Mat result = new Mat(Y);
+    result.axpy(2.5, X);
+    assertMatEquals(result, expected, 1e-14);
+
+    expected = X.times(-1.5).plus(Y.times(0.5));
+    result = new Mat(Y);
+    result.axpby(-1.5, X, 0.5);
+    assertMatEquals(result, expected, 1e-14);
+
+    result = new Mat(Y);
+    result.fill(Datum.nan);
+    result.axpby(3, X, 0);
+    assertMatEquals(result, X.times(3), 1e-14);
+  }
+
+  /**
+   * Test method for {@link AbstractMat#ger(double, AbstractVector, AbstractVector)}.
+   */
+  @Test
+  public void testGer() {
+    RNG.set_seed(2);
+    Mat A = Arma.randn(5, 3);
+    Col x = Arma.randn(Col.class, 5);
+    Row y = Arma.randn(Row.class, 3);
+
+    Mat expected = A.plus(x.times(y).times(0.5));
+    A.ger(0.5, x, y);
+    assertMatEquals(A, expected, 1e-14);
+  }
+
+  /**
+   * Test method for {@link AbstractMat#syrk(double, AbstractMat)}.
+   */
+  @Test
+  public void testSyrk() {
+    RNG.set_seed(3);
+    Mat X = Arma.randn(5, 3);
+    Mat expectedUpdate = X.times(X.t()).times(2);
+
+    Mat A = Arma.randn(5, 5);
+    Mat expected = A.plus(expectedUpdate);
+    A.syrk(2, X);
+    assertMatEquals(A, expected, 1e-13);
+
+    Mat S = Arma.symmatu(Arma.randn(5, 5));
+    assertThat(S._structure, is(Structure.SYMMETRIC));
+    expected = S.plus(expectedUpdate);
+    S.syrk(2, X);
+    assertMatEquals(S, expected, 1e-13);
+    assertThat(S._structure, is(Structure.SYMMETRIC));
+  }
+
+  /**
+   * Test method for {@link AbstractMat#gemm(double, AbstractMat, AbstractMat, double)}.
+   */
+  @Test
+  public void testGemm() {
+    RNG.set_seed(4);
+    Mat A = Arma.randn(4, 6);
+    Mat B = Arma.randn(6, 3);
+    Mat C = Arma.randn(4, 3);
+
+    Mat expected = A.times(B).times(2).plus(C.times(-0.5));
+    C.gemm(2, A, B, -0.5);
+    assertMatEquals(C, expected, 1e-13);
+
+    /*
+     * The result may be an operand itself.
+     */
+    Mat D = Arma.randn(4, 4);
+    expected = D.times(D).plus(D);
+    D.gemm(1, D, D, 1);
+    assertMatEquals(D, expected, 1e-13);
+  }
+
+}
@@ -227,6 +227,14 @@ public class TestGenMat extends TestClass {
     assertThat(Arma.rank(_genMat), is(expected));
   }
 
+  @Test
+  public void testArmaRankQr() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    int expected = (int) load("Arma.rank")._data[0];
+    assertThat(Arma.rank_qr(_genMat), is(expected));
+  }
+
   @Test
   public void testArmaDiagvec() throws IOException {
     assertMatEquals(Arma.diagvec(_genMat), load("Arma.diagvec"));
@@ -470,6 +478,108 @@ public class TestGenMat extends TestClass {
     }
   }
 
+  @Test
+  public void testArmaQr_insert_col() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat Q = new Mat();
+    Mat R = new Mat();
+    Arma.qr(Q, R, _genMat);
+
+    Col x = Arma.linspace(Col.class, -1, 2, _genMat.n_rows);
+    for (int j = 0; j <= _genMat.n_cols; j++) {
+      Mat expectedQ = new Mat(Q);
+      Mat expectedR = new Mat(R);
+      Arma.qr_insert_col(expectedQ, expectedR, j, x);
+
+      Mat expected = new Mat(_genMat);
+      expected.insert_cols(j, x);
+
+      assertUpperTriangular(expectedR);
+      assertMatEquals(expectedQ.t().times(expectedQ), Arma.eye(_genMat.n_rows, _genMat.n_rows));
+      assertMatEquals(expectedQ.times(expectedR), expected, TestUtil.globalDelta(expected, 1e-12));
+    }
+  }
+
+  @Test
+  public void testArmaQr_delete_col() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat Q = new Mat();
+    Mat R = new Mat();
+    Arma.qr(Q, R, _genMat);
+
+    for (int j = 0; j < _genMat.n_cols; j++) {
+      Mat expectedQ = new Mat(Q);
+      Mat expectedR = new Mat(R);
+      Arma.qr_delete_col(expectedQ, expectedR, j);
+
+      Mat expected = new Mat(_genMat);
+      expected.shed_col(j);
+
+      assertUpperTriangular(expectedR);
+      assertMatEquals(expectedQ.t().times(expectedQ), Arma.eye(_genMat.n_rows, _genMat.n_rows));
+      if (!expected.is_empty()) {
+        assertMatEquals(expectedQ.times(expectedR), expected, TestUtil.globalDelta(_genMat, 1e-12));
+      }
+    }
+  }
+
+  @Test
+  public void testArmaQr_insert_row() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat Q = new Mat();
+    Mat R = new Mat();
+    Arma.qr(Q, R, _genMat);
+
+    Row x = Arma.linspace(Row.class, -1, 2, _genMat.n_cols);
+    for (int i = 0; i <= _genMat.n_rows; i++) {
+      Mat expectedQ = new Mat(Q);
+      Mat expectedR = new Mat(R);
+      Arma.qr_insert_row(expectedQ, expectedR, i, x);
+
+      Mat expected = new Mat(_genMat);
+      expected.insert_rows(i, x);
+
+      assertUpperTriangular(expectedR);
+      assertMatEquals(expectedQ.t().times(expectedQ), Arma.eye(_genMat.n_rows + 1, _genMat.n_rows + 1));
+      assertMatEquals(expectedQ.times(expectedR), expected, TestUtil.globalDelta(expected, 1e-12));
+    }
+  }
+
+  @Test
+  public void testArmaQr_delete_row() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat Q = new Mat();
+    Mat R = new Mat();
+    Arma.qr(Q, R, _genMat);
+
+    for (int i = 0; i < _genMat.n_rows; i++) {
+      Mat expectedQ = new Mat(Q);
+      Mat expectedR = new Mat(R);
+      Arma.qr_delete_row(expectedQ, expectedR, i);
+
+      Mat expected = new Mat(_genMat);
+      expected.shed_row(i);
+
+      assertUpperTriangular(expectedR);
+      if (!expected.is_empty()) {
+        assertMatEquals(expectedQ.t().times(expectedQ), Arma.eye(_genMat.n_rows - 1, _genMat.n_rows - 1));
+        assertMatEquals(expectedQ.times(expectedR), expected, TestUtil.globalDelta(_genMat, 1e-12));
+      }
+    }
+  }
+
+  protected static void assertUpperTriangular(final Mat R) {
+    for (int j = 0; j < R.n_cols; j++) {
+      for (int i = j + 1; i < R.n_rows; i++) {
+        assertThat(Math.abs(R.at(i, j)), is(0.0));
+      }
+    }
+  }
+
   @Test
   public void testArmaSvdA() throws IOException {
     assertMatEquals(Arma.svd(_genMat), load("Arma.svd"));
@@ -499,6 +609,73 @@ public class TestGenMat extends TestClass {
     }
   }
 
+  @Test
+  public void testArmaSvdDc() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+
+    Arma.svd(U, s, V, _genMat, "dc");
+
+    assertMatEquals(s, load("Arma.svd"));
+    assertMatEquals(U.cols(0, s.n_elem - 1).times(Arma.diagmat(s)).times(V.cols(0, s.n_elem - 1).t()), _genMat);
+  }
+
+  @Test
+  public void testArmaSvd_econDc() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+
+    Arma.svd_econ(U, s, V, _genMat, "both", "dc");
+
+    assertMatEquals(s, load("Arma.svd_econ"));
+    assertMatEquals(U.times(Arma.diagmat(s)).times(V.t()), _genMat);
+  }
+
+  @Test
+  public void testArmaSvds() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+
+    int k = Math.min(_genMat.n_rows, _genMat.n_cols);
+    Arma.svds(U, s, V, _genMat, k);
+
+    assertMatEquals(s, load("Arma.svd"));
+    assertMatEquals(U.times(Arma.diagmat(s)).times(V.t()), _genMat);
+
+    Col largest = Arma.svds(_genMat, 1);
+    assertMatEquals(largest, new Col(load("Arma.svd")).rows(0, 0));
+  }
+
+  @Test
+  public void testArmaPrincompK() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    Mat coeff = new Mat();
+    Mat score = new Mat();
+    Col latent = new Col();
+
+    int k = Math.min(_genMat.n_rows, _genMat.n_cols);
+    Arma.princomp(coeff, score, latent, _genMat, k);
+
+    assertMatEquals(latent, new Col(load("Arma.princompLatent")).rows(0, k - 1));
+  }
+
+  @Test
+  public void testArmaPinvDc() throws IOException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    assertMatEquals(Arma.pinv(_genMat, 0, "dc"), load("Arma.pinv"), TestUtil.globalDelta(load("Arma.pinv"), 1e-12));
+  }
+
   @Test
   public void testArmaSvd_econ() throws IOException {
     Mat U = new Mat();
@@ -732,6 +909,88 @@ public class TestGenMat extends TestClass {
     
   }
   
+  @Test
+  public void testRunningStatVecUpdate() throws IllegalAccessException {
+    assumeThat(_genMat.is_finite(), is(true));
+
+    RunningStatVec expected = new RunningStatVec(true);
+    for (int j = 0; j < _genMat.n_cols; j++) {
+      expected.update(_genMat.col(j));
+    }
+
+    RunningStatVec batch = new RunningStatVec(true);
+    batch.update(_genMat.cols(0, (_genMat.n_cols - 1) / 2));
+    if (_genMat.n_cols > 1) {
+      batch.update(_genMat.cols((_genMat.n_cols - 1) / 2 + 1, _genMat.n_cols - 1));
+    }
+
+    assertThat(batch.count(), is(expected.count()));
+    assertMatEquals(batch.min(), expected.min());
+    assertMatEquals(batch.max(), expected.max());
+    assertMatEquals(batch.mean(), expected.mean());
+    assertMatEquals(batch.var(), expected.var());
+    assertMatEquals(batch.cov(), expected.cov());
+  }
+
+  @Test
+  public void testMatViews() {
+    for (int j = 0; j < _genMat.n_cols; j++) {
+      assertMatEquals(new Col(_genMat.colView(j)), _genMat.col(j), 0);
+    }
+
+    for (int i = 0; i < _genMat.n_rows; i++) {
+      assertMatEquals(new Row(_genMat.rowView(i)), _genMat.row(i), 0);
+    }
+
+    assertMatEquals(new Mat(_genMat.colsView(0, _genMat.n_cols - 1)), _genMat.cols(0, _genMat.n_cols - 1), 0);
+    assertMatEquals(new Mat(_genMat.rowsView(0, _genMat.n_rows - 1)), _genMat.rows(0, _genMat.n_rows - 1), 0);
+    assertMatEquals(new Mat(_genMat.submatView(0, 0, _genMat.n_rows - 1, _genMat.n_cols - 1)), _genMat, 0);
+    assertMatEquals(new Col(_genMat.diagView()), _genMat.diag(), 0);
+
+    if (_genMat.n_rows > 1 && _genMat.n_cols > 1) {
+      Mat expected = _genMat.submat(1, 1, _genMat.n_rows - 1, _genMat.n_cols - 1);
+      ViewSubMat view = _genMat.submatView(1, 1, _genMat.n_rows - 1, _genMat.n_cols - 1);
+
+      assertMatEquals(new Mat(view), expected, 0);
+      assertMatEquals(view.plus(1), expected.plus(1));
+      assertMatEquals(view.elemTimes(expected), expected.elemTimes(expected));
+      assertThat(view.at(0, 0), is(_genMat.at(1, 1)));
+
+      if (_genMat.is_finite()) {
+        assertThat(Arma.accu(view), is(closeTo(Arma.accu(expected), 1e-12)));
+        assertThat(Arma.min(view), is(Arma.min(Arma.vectorise(Col.class, expected))));
+        assertThat(Arma.max(view), is(Arma.max(Arma.vectorise(Col.class, expected))));
+      }
+    }
+
+    Mat copy = new Mat(_genMat);
+    copy.colView(0).fill(42);
+    copy.submatView(0, 0, 0, copy.n_cols - 1).inPlace(Op.PLUS, 1);
+    assertThat(copy.at(0, 0), is(43.0));
+    if (copy.n_rows > 1) {
+      assertThat(copy.at(1, 0), is(42.0));
+    }
+  }
+
+  @Test
+  public void testMatViewsElementwise() {
+    ViewSubMat view = _genMat.submatView(0, 0, _genMat.n_rows - 1, _genMat.n_cols / 2);
+    Mat expected = _genMat.submat(0, 0, _genMat.n_rows - 1, _genMat.n_cols / 2);
+
+    assertMatEquals(Arma.abs(view), Arma.abs(expected), 0);
+    assertMatEquals(Arma.exp(view), Arma.exp(expected), 0);
+    assertMatEquals(Arma.log(view), Arma.log(expected), 0);
+    assertMatEquals(Arma.sqrt(view), Arma.sqrt(expected), 0);
+    assertMatEquals(Arma.square(view), Arma.square(expected), 0);
+    assertMatEquals(Arma.pow(view, 3), Arma.pow(expected, 3), 0);
+    assertMatEquals(Arma.round(view), Arma.round(expected), 0);
+    assertMatEquals(Arma.sign(view), Arma.sign(expected), 0);
+    assertMatEquals(Arma.tanh(view), Arma.tanh(expected), 0);
+
+    ViewSubCol column = _genMat.colView(_genMat.n_cols - 1);
+    assertMatEquals(Arma.cos(column), Arma.cos(_genMat.col(_genMat.n_cols - 1)), 0);
+  }
+
   @Test
   public void testMat() throws IOException {
     assertMatEquals(new Mat(_genMat), load("Mat"));
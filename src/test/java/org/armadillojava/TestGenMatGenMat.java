@@ -14,6 +14,7 @@
 package org.armadillojava;
 
 import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assume.assumeThat;
 import static org.hamcrest.CoreMatchers.is;
 
@@ -148,6 +149,22 @@ public class TestGenMatGenMat extends TestClass {
     assertMatEquals(Arma.kron(_genMatA, _genMatB), load("Arma.kron"));
   }
 
+  @Test
+  public void testKronOperator() throws IOException {
+    assumeThat(_genMatA.is_finite(), is(true));
+    assumeThat(_genMatB.is_finite(), is(true));
+
+    Mat expected = load("Arma.kron");
+    KronOperator operator = new KronOperator(_genMatA, _genMatB);
+
+    assertThat(operator.n_rows(), is(expected.n_rows));
+    assertThat(operator.n_cols(), is(expected.n_cols));
+
+    Col X = Arma.linspace(Col.class, -1, 2, expected.n_cols);
+    assertMatEquals(operator.times(X), expected.times(X));
+    assertMatEquals(operator.toMat(), expected);
+  }
+
   @Test
   public void testArmaSolveA() throws IOException {
     assumeThat(_genMatA.n_rows, is(_genMatB.n_rows));
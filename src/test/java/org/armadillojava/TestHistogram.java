@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestHistogram {
+
+  /**
+   * Test method for {@link Arma#hist(AbstractMat, AbstractMat)} with enough values to be counted in parallel.
+   */
+  @Test
+  public void testHist() {
+    RNG.set_seed(1);
+    Col values = Arma.randn(Col.class, 100000);
+    values.at(0, Op.EQUAL, Double.POSITIVE_INFINITY);
+    values.at(1, Op.EQUAL, Double.NEGATIVE_INFINITY);
+    values.at(2, Op.EQUAL, Double.NaN);
+
+    Col uniformCenters = Arma.linspace(Col.class, -3, 3, 25);
+    assertMatEquals(Arma.hist(values, uniformCenters), expectedHist(values, uniformCenters), 0);
+
+    Col centers = new Col(new double[]{-4, -1, -0.5, -0.25, 0, 0.1, 2, 3.5});
+    assertMatEquals(Arma.hist(values, centers), expectedHist(values, centers), 0);
+
+    Mat matrix = Arma.randn(1000, 50);
+    Mat expected = new Mat(centers.n_elem, matrix.n_cols);
+    for (int j = 0; j < matrix.n_cols; j++) {
+      expected.col(j, Op.EQUAL, expectedHist(matrix.col(j), centers));
+    }
+    assertMatEquals(Arma.hist(matrix, centers), expected, 0);
+    assertMatEquals(Arma.hist(matrix.t(), centers, 1), expected.t(), 0);
+  }
+
+  /**
+   * Test method for {@link Arma#histc(AbstractMat, AbstractMat)} with enough values to be counted in parallel.
+   */
+  @Test
+  public void testHistc() {
+    RNG.set_seed(2);
+    Col values = Arma.randn(Col.class, 100000);
+    values.at(0, Op.EQUAL, 3);
+    values.at(1, Op.EQUAL, Double.NaN);
+
+    Col uniformEdges = Arma.linspace(Col.class, -3, 3, 25);
+    assertMatEquals(Arma.histc(values, uniformEdges), expectedHistc(values, uniformEdges), 0);
+
+    Col edges = new Col(new double[]{Double.NEGATIVE_INFINITY, -1, -0.5, -0.5, 0, 0.1, 2, 3.5});
+    assertMatEquals(Arma.histc(values, edges), expectedHistc(values, edges), 0);
+  }
+
+  protected static Col expectedHist(final Col values, final Col centers) {
+    Col expected = new Col(centers.n_elem, Fill.ZEROS);
+
+    for (int n = 0; n < values.n_elem; n++) {
+      double value = values.at(n);
+
+      if (Double.isNaN(value)) {
+        continue;
+      } else if (value == Double.POSITIVE_INFINITY) {
+        expected.at(centers.n_elem - 1, Op.INCREMENT);
+        continue;
+      }
+
+      int index = 0;
+      for (int nn = 1; nn < centers.n_elem; nn++) {
+        if (Math.abs(value - centers.at(nn)) < Math.abs(value - centers.at(index))) {
+          index = nn;
+        }
+      }
+
+      expected.at(index, Op.INCREMENT);
+    }
+
+    return expected;
+  }
+
+  protected static Col expectedHistc(final Col values, final Col edges) {
+    Col expected = new Col(edges.n_elem, Fill.ZEROS);
+
+    for (int n = 0; n < values.n_elem; n++) {
+      double value = values.at(n);
+
+      if (value == edges.at(edges.n_elem - 1)) {
+        expected.at(edges.n_elem - 1, Op.INCREMENT);
+      }
+
+      for (int nn = 0; nn < edges.n_elem - 1; nn++) {
+        if (edges.at(nn) <= value && value < edges.at(nn + 1)) {
+          expected.at(nn, Op.INCREMENT);
+        }
+      }
+    }
+
+    return expected;
+  }
+
+}
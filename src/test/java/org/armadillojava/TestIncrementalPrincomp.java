@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestIncrementalPrincomp {
+
+  /**
+   * Test method for {@link IncrementalPrincomp#update(Mat)} with all principal components kept.
+   */
+  @Test
+  public void testUpdate() {
+    RNG.set_seed(1);
+    Mat X = Arma.randn(200, 6);
+    X.each_row(Op.PLUS, Arma.linspace(Row.class, -3, 3, 6));
+
+    IncrementalPrincomp pca = new IncrementalPrincomp(6);
+    for (int n = 0; n < X.n_rows; n += 17) {
+      assertThat(pca.update(X.rows(n, Math.min(n + 16, X.n_rows - 1))), is(true));
+    }
+
+    Mat coeff = new Mat();
+    Mat score = new Mat();
+    Col latent = new Col();
+    Arma.princomp(coeff, score, latent, X);
+
+    assertThat(pca.count(), is(200.0));
+    assertMatEquals(pca.mean(), Arma.mean(Row.class, X), 1e-10);
+    assertMatEquals(pca.latent(), latent, 1e-10);
+    assertMatEquals(Arma.abs(pca.coeff()), Arma.abs(coeff), 1e-10);
+    assertMatEquals(Arma.abs(pca.score(X)), Arma.abs(score), 1e-10);
+  }
+
+  /**
+   * Test method for {@link IncrementalPrincomp#update(Row)} with a low-rank basis.
+   */
+  @Test
+  public void testUpdateLowRank() {
+    RNG.set_seed(2);
+    Mat X = Arma.randn(100, 2).times(Arma.randn(2, 8));
+    X.each_row(Op.PLUS, Arma.randn(Row.class, 8));
+
+    IncrementalPrincomp pca = new IncrementalPrincomp(2);
+    for (int n = 0; n < X.n_rows; n++) {
+      assertThat(pca.update(X.row(n)), is(true));
+    }
+
+    Mat coeff = new Mat();
+    Mat score = new Mat();
+    Col latent = new Col();
+    Arma.princomp(coeff, score, latent, X);
+
+    assertThat(pca.coeff().n_cols, is(2));
+    assertMatEquals(pca.latent(), latent.rows(0, 1), 1e-10);
+    assertMatEquals(Arma.abs(pca.coeff()), Arma.abs(coeff.cols(0, 1)), 1e-10);
+    assertMatEquals(Arma.abs(pca.score(X)), Arma.abs(score.cols(0, 1)), 1e-10);
+
+    pca.reset();
+    assertThat(pca.count(), is(0.0));
+    assertThat(pca.coeff().is_empty(), is(true));
+  }
+
+  /**
+   * Test method for {@link IncrementalPrincomp#IncrementalPrincomp(int)}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidNumberOfComponents() {
+    new IncrementalPrincomp(0);
+  }
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestInterp1 {
+
+  /**
+   * Test method for {@link Arma#interp1(AbstractVector, AbstractVector, AbstractVector, AbstractVector, String, double)}
+   * with sorted and unsorted query points.
+   */
+  @Test
+  public void testInterp1Linear() {
+    Col X = new Col(new double[]{0, 1, 3, 4});
+    Col Y = new Col(new double[]{0, 2, 6, -2});
+    Col XI = new Col(new double[]{-1, 0, 0.5, 1, 2, 3.5, 4, 5, Datum.nan});
+    Col expected = new Col(new double[]{-7, 0, 1, 2, 4, 2, -2, -7, Datum.nan});
+
+    Col YI = new Col();
+    Arma.interp1(X, Y, XI, YI, "linear", -7);
+    assertMatEquals(YI, expected);
+
+    Col permutation = new Col(new double[]{4, 8, 0, 7, 2, 6, 1, 5, 3});
+    Col unsortedYI = new Col();
+    Arma.interp1(X, Y, XI.elem(permutation), unsortedYI, "linear", -7);
+    assertMatEquals(unsortedYI, expected.elem(permutation));
+
+    Row rowYI = new Row();
+    Arma.interp1(X.t(), Y.t(), XI.t(), rowYI);
+    assertThat(rowYI.at(0), is(Datum.nan));
+    assertThat(rowYI.at(4), is(4.0));
+  }
+
+  /**
+   * Test method for {@link Arma#interp1(AbstractVector, AbstractVector, AbstractVector, AbstractVector, String)} with
+   * unsorted points.
+   */
+  @Test
+  public void testInterp1Nearest() {
+    Col X = new Col(new double[]{2, 0, 1});
+    Col Y = new Col(new double[]{20, 0, 10});
+    Col XI = new Col(new double[]{0.5, 0.6, 1.4, 1.5, 2, 2.5});
+
+    Col YI = new Col();
+    Arma.interp1(X, Y, XI, YI, "nearest");
+    assertMatEquals(YI, new Col(new double[]{0, 10, 10, 10, 20, Datum.nan}));
+  }
+
+  /**
+   * Test method for {@link Arma#interp1(AbstractVector, AbstractVector, AbstractVector, AbstractVector, String, double)}
+   * with enough query points to be located in parallel.
+   */
+  @Test
+  public void testInterp1Parallel() {
+    RNG.set_seed(1);
+    int n = 1000;
+    Col X = Arma.linspace(Col.class, 0, 1, n);
+    Col Y = Arma.randu(Col.class, n);
+
+    int m = 100000;
+    Col XI = Arma.linspace(Col.class, -0.1, 1.1, m);
+    Col YI = new Col();
+    Arma.interp1(X, Y, XI, YI, "linear", 0);
+
+    Col shuffledXI = Arma.shuffle(XI);
+    Col shuffledYI = new Col();
+    Arma.interp1(X, Y, shuffledXI, shuffledYI, "linear", 0);
+
+    for (int q = 0; q < m; q++) {
+      double value = XI.at(q);
+      double expected = 0;
+      if (value >= 0 && value <= 1) {
+        int k = Math.min((int) Math.floor(value * (n - 1)), n - 2);
+        while (X.at(k) > value) {
+          k--;
+        }
+        while (X.at(k + 1) <= value && k < n - 2) {
+          k++;
+        }
+        double t = (value - X.at(k)) / (X.at(k + 1) - X.at(k));
+        expected = Y.at(k) + t * (Y.at(k + 1) - Y.at(k));
+      }
+      assertThat(Math.abs(YI.at(q) - expected) <= 1e-12, is(true));
+    }
+
+    for (int q = 0; q < m; q += 97) {
+      Col single = new Col();
+      Arma.interp1(X, Y, new Col(new double[]{shuffledXI.at(q)}), single, "linear", 0);
+      assertThat(shuffledYI.at(q), is(single.at(0)));
+    }
+  }
+
+  /**
+   * Test method for {@link Arma#interp1(AbstractVector, Mat, AbstractVector, Mat, String, double)}.
+   */
+  @Test
+  public void testInterp1Mat() {
+    RNG.set_seed(2);
+    Col X = Arma.sort(Arma.randu(Col.class, 50));
+    Mat Y = Arma.randn(50, 7);
+    Col XI = Arma.randu(Col.class, 20000);
+
+    for (String method : new String[]{"nearest", "linear"}) {
+      Mat YI = new Mat();
+      Arma.interp1(X, Y, XI, YI, method, Datum.inf);
+      assertThat(YI.n_rows, is(XI.n_elem));
+      assertThat(YI.n_cols, is(Y.n_cols));
+
+      for (int j = 0; j < Y.n_cols; j++) {
+        Col expected = new Col();
+        Arma.interp1(X, Y.col(j), XI, expected, method, Datum.inf);
+        assertMatEquals(YI.col(j), expected);
+      }
+    }
+  }
+
+  /**
+   * Test method for {@link Arma#interp1(AbstractVector, AbstractVector, AbstractVector, AbstractVector, String)}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInterp1Method() {
+    Arma.interp1(new Col(new double[]{0, 1}), new Col(new double[]{0, 1}), new Col(new double[]{0.5}), new Col(), "cubic");
+  }
+
+  /**
+   * Test method for {@link Arma#interp1(AbstractVector, AbstractVector, AbstractVector, AbstractVector)}.
+   */
+  @Test(expected = RuntimeException.class)
+  public void testInterp1Duplicates() {
+    Arma.interp1(new Col(new double[]{0, 1, 0}), new Col(new double[]{0, 1, 2}), new Col(new double[]{0.5}), new Col());
+  }
+
+}
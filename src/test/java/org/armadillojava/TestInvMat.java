@@ -14,6 +14,9 @@
 package org.armadillojava;
 
 import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -74,6 +77,19 @@ public class TestInvMat extends TestClass {
     assertMatEquals(inv, load("Arma.inv"));
   }
 
+  @Test
+  public void testArmaRcond() throws IOException {
+    double expected = 1 / (Arma.norm(_invMat, 1) * Arma.norm(Arma.inv(_invMat), 1));
+    double rcond = Arma.rcond(_invMat);
+
+    /*
+     * The norm of the inverse is estimated from below, overestimating the reciprocal condition number by a small factor
+     * at most.
+     */
+    assertThat(rcond, greaterThanOrEqualTo(expected * (1 - 1e-10)));
+    assertThat(rcond, lessThanOrEqualTo(expected * 3));
+  }
+
   @Test
   public void testMatI() throws IOException {
     assertMatEquals(_invMat.i(), load("Mat.i"));
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestIterativeSolvers {
+
+  /**
+   * A symmetric and positive-definite matrix
+   */
+  protected Mat _symPDMat;
+
+  /**
+   * A symmetric, but indefinite matrix
+   */
+  protected Mat _symMat;
+
+  /**
+   * A non-symmetric matrix
+   */
+  protected Mat _genMat;
+
+  /**
+   * The right-hand side vector
+   */
+  protected Col _b;
+
+  @Before
+  public void before() {
+    RNG.set_seed(1);
+
+    int n = 60;
+    Mat X = Arma.randn(n, n);
+
+    _symPDMat = X.t().times(X).plus(Arma.eye(n, n).times(n));
+    _symMat = X.plus(X.t()).plus(Arma.diagmat(Arma.linspace(Col.class, -n, n, n)));
+    _genMat = X.plus(Arma.eye(n, n).times(2 * Math.sqrt(n)));
+    _b = Arma.randn(Col.class, n);
+  }
+
+  /**
+   * Returns the solution of {@code A.times(x) = b} by a direct solver.
+   * 
+   * @param A The matrix
+   * @param b The right-hand side vector
+   * 
+   * @return The solution
+   */
+  protected static Mat direct(final Mat A, final Col b) {
+    return Arma.solve(A, new Mat(b));
+  }
+
+  /**
+   * Test method for {@link Arma#cg(Col, LinearOperator, Col, double, int, Preconditioner, ConvergenceCallback)}.
+   */
+  @Test
+  public void testCg() {
+    assertMatEquals(Arma.cg(_symPDMat, _b), direct(_symPDMat, _b), 1e-8);
+
+    Col x = new Col();
+    Arma.cg(x, new MatOperator(_symPDMat), _b, 1e-12, 1000, new JacobiPreconditioner(_symPDMat), null);
+    assertMatEquals(x, direct(_symPDMat, _b), 1e-8);
+  }
+
+  /**
+   * Test method for {@link Arma#minres(Col, LinearOperator, Col, double, int, Preconditioner, ConvergenceCallback)}.
+   */
+  @Test
+  public void testMinres() {
+    assertMatEquals(Arma.minres(_symMat, _b), direct(_symMat, _b), 1e-6);
+
+    Col x = new Col();
+    Arma.minres(x, new MatOperator(_symPDMat), _b, 1e-12, 1000, new JacobiPreconditioner(_symPDMat), null);
+    assertMatEquals(x, direct(_symPDMat, _b), 1e-8);
+  }
+
+  /**
+   * Test method for {@link Arma#gmres(Col, LinearOperator, Col, double, int, int, Preconditioner, ConvergenceCallback)}.
+   */
+  @Test
+  public void testGmres() {
+    assertMatEquals(Arma.gmres(_genMat, _b), direct(_genMat, _b), 1e-8);
+
+    Col x = new Col();
+    Arma.gmres(x, new MatOperator(_genMat), _b, 1e-12, 1000, 5, new JacobiPreconditioner(_genMat), null);
+    assertMatEquals(x, direct(_genMat, _b), 1e-8);
+  }
+
+  /**
+   * Test method for {@link Arma#bicgstab(Col, LinearOperator, Col, double, int, Preconditioner, ConvergenceCallback)}.
+   */
+  @Test
+  public void testBicgstab() {
+    assertMatEquals(Arma.bicgstab(_genMat, _b), direct(_genMat, _b), 1e-8);
+
+    Col x = new Col();
+    Arma.bicgstab(x, new MatOperator(_genMat), _b, 1e-12, 1000, new JacobiPreconditioner(_genMat), null);
+    assertMatEquals(x, direct(_genMat, _b), 1e-8);
+  }
+
+  /**
+   * Test method for {@link IncompleteCholeskyPreconditioner}.
+   */
+  @Test
+  public void testIncompleteCholeskyPreconditioner() {
+    /*
+     * Without zeros, the incomplete Cholesky decomposition is exact.
+     */
+    Preconditioner M = new IncompleteCholeskyPreconditioner(_symPDMat);
+    assertMatEquals(M.solve(_b), direct(_symPDMat, _b), 1e-10);
+
+    Mat tridiagonal = Arma.zeros(50, 50);
+    for (int n = 0; n < 50; n++) {
+      tridiagonal.at(n, n, Op.EQUAL, 4);
+      if (n > 0) {
+        tridiagonal.at(n, n - 1, Op.EQUAL, -1);
+        tridiagonal.at(n - 1, n, Op.EQUAL, -1);
+      }
+    }
+
+    /*
+     * Tridiagonal matrices have no fill-in.
+     */
+    Col b = Arma.ones(Col.class, 50);
+    assertMatEquals(new IncompleteCholeskyPreconditioner(tridiagonal).solve(b), direct(tridiagonal, b), 1e-10);
+  }
+
+  /**
+   * Test method for warm starts and callbacks.
+   */
+  @Test
+  public void testWarmStartAndCallback() {
+    final int[] iterations = new int[1];
+    ConvergenceCallback counter = new ConvergenceCallback() {
+      @Override
+      public boolean update(final int iteration, final double relative_residual) {
+        iterations[0] = iteration;
+        return true;
+      }
+    };
+
+    Col x = new Col(direct(_symPDMat, _b));
+    assertThat(Arma.cg(x, new MatOperator(_symPDMat), _b, 1e-8, 1000, null, counter), is(true));
+    assertThat(iterations[0], is(0));
+
+    ConvergenceCallback stop = new ConvergenceCallback() {
+      @Override
+      public boolean update(final int iteration, final double relative_residual) {
+        iterations[0] = iteration;
+        return iteration < 3;
+      }
+    };
+
+    x = new Col();
+    assertThat(Arma.gmres(x, new MatOperator(_genMat), _b, 1e-12, 1000, 20, null, stop), is(false));
+    assertThat(iterations[0], is(3));
+
+    Col residual = _b.minus(_genMat.times(x));
+    assertThat(Arma.norm(residual, 2), lessThanOrEqualTo(Arma.norm(_b, 2)));
+  }
+
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestKMeans {
+
+  /**
+   * The true means of the generated clusters, stored column-wise
+   */
+  protected static final Mat CENTERS = new Mat(new double[][]{{-10, 0, 10}, {5, -5, 5}, {0, 0, 20}, {1, 2, 3}});
+
+  /**
+   * Test method for {@link KMeans#fit(Mat)} with enough points to be clustered in parallel.
+   */
+  @Test
+  public void testFit() {
+    RNG.set_seed(1);
+    int n_points = 30000;
+    Mat data = generate(n_points);
+
+    KMeans kmeans = new KMeans(3);
+    assertThat(kmeans.fit(data), is(true));
+
+    Mat means = kmeans.means();
+    Col assignments = kmeans.assignments();
+    assertThat(assignments.n_elem, is(n_points));
+
+    /*
+     * The generated clusters are well-separated, such that each is found exactly, up to the order of the clusters.
+     */
+    for (int c = 0; c < CENTERS.n_cols; c++) {
+      int cluster = (int) assignments.at(c);
+      for (int p = c; p < n_points; p += CENTERS.n_cols) {
+        assertThat(assignments.at(p), is((double) cluster));
+      }
+
+      double distance = Arma.norm(means.col(cluster).minus(CENTERS.col(c)), 2);
+      assertThat(distance, is(lessThan(0.05)));
+    }
+
+    assertMatEquals(kmeans.assign(data), assignments, 0);
+  }
+
+  /**
+   * Test method for {@link KMeans#fit(Mat)}, fitting the same points twice with the same seed.
+   */
+  @Test
+  public void testDeterministic() {
+    RNG.set_seed(2);
+    Mat data = Arma.randn(5, 20000);
+
+    RNG.set_seed(3);
+    KMeans kmeans = new KMeans(8, 20, 0);
+    kmeans.fit(data);
+
+    RNG.set_seed(3);
+    KMeans other = new KMeans(8, 20, 0);
+    other.fit(data);
+
+    assertMatEquals(other.means(), kmeans.means(), 0);
+    assertMatEquals(other.assignments(), kmeans.assignments(), 0);
+    assertThat(other.inertia(), is(kmeans.inertia()));
+    assertThat(other.iterations(), is(kmeans.iterations()));
+    assertThat(kmeans.iterations(), is(lessThan(21)));
+  }
+
+  /**
+   * Test method for {@link KMeans#update(Mat, double[], double[], double[])} with multiple empty clusters, which must
+   * be moved to different points.
+   */
+  @Test
+  public void testEmptyClusters() {
+    Mat data = new Mat(new double[][]{{0, 1, 3, 10, 11, 14}});
+    double[] pointNorms = new double[data.n_cols];
+    for (int p = 0; p < data.n_cols; p++) {
+      pointNorms[p] = data.at(p) * data.at(p);
+    }
+
+    KMeans kmeans = new KMeans(4);
+    kmeans._means = new Mat(new double[][]{{1, 11, 1000, 2000}});
+    int[] assignments = new int[data.n_cols];
+    double[] sums = new double[4];
+    double[] counts = new double[4];
+    double[] distances = new double[data.n_cols];
+    kmeans.assign(data, pointNorms, assignments, sums, counts, distances, new int[1]);
+
+    assertThat(counts[2], is(0.0));
+    assertThat(counts[3], is(0.0));
+
+    kmeans.update(data, sums, counts, distances);
+
+    /*
+     * The empty clusters are moved to the farthest (14) and the next-farthest point (3).
+     */
+    assertMatEquals(kmeans._means, new Mat(new double[][]{{4.0 / 3, 35.0 / 3, 14, 3}}), 1e-12);
+  }
+
+  /**
+   * Test method for {@link KMeans#fit(Mat)} with more clusters than distinct points.
+   */
+  @Test
+  public void testMoreClustersThanDistinctPoints() {
+    RNG.set_seed(4);
+    Mat data = Arma.repmat(new Mat(new double[][]{{0, 5, 0}, {0, 0, 5}}), 1, 4);
+
+    KMeans kmeans = new KMeans(5);
+    assertThat(kmeans.fit(data), is(true));
+    assertThat(kmeans.inertia(), is(0.0));
+
+    Mat means = kmeans.means();
+    Col assignments = kmeans.assignments();
+    for (int p = 0; p < data.n_cols; p++) {
+      assertMatEquals(means.col((int) assignments.at(p)), data.col(p), 0);
+    }
+  }
+
+  /**
+   * Test method for {@link KMeans#KMeans(int)}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidNumberOfClusters() {
+    new KMeans(0);
+  }
+
+  /**
+   * Test method for {@link KMeans#fit(Mat)}.
+   */
+  @Test(expected = RuntimeException.class)
+  public void testTooFewPoints() {
+    new KMeans(4).fit(Arma.randn(2, 3));
+  }
+
+  /**
+   * Returns {@code n_points} points, with the {@code p}th point drawn from a normal distribution around the
+   * {@code p % 3}th center.
+   * 
+   * @param n_points The number of points
+   * @return The points
+   */
+  protected static Mat generate(final int n_points) {
+    Mat data = Arma.randn(CENTERS.n_rows, n_points);
+    for (int p = 0; p < n_points; p++) {
+      for (int i = 0; i < CENTERS.n_rows; i++) {
+        data.at(i, p, Op.PLUS, CENTERS.at(i, p % CENTERS.n_cols));
+      }
+    }
+
+    return data;
+  }
+
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestMatBuilder {
+
+  /**
+   * Test method for {@link MatBuilder#append_rows(AbstractMat)}.
+   */
+  @Test
+  public void testAppend_rows() {
+    RNG.set_seed(1);
+    Mat expected = Arma.randn(1000, 7);
+
+    MatBuilder builder = new MatBuilder();
+    for (int i = 0; i < 500; i++) {
+      builder.append_rows(expected.row(i));
+    }
+    builder.append_rows(expected.rows(500, 999));
+
+    assertThat(builder.n_rows(), is(1000));
+    assertThat(builder.n_cols(), is(7));
+    assertMatEquals(builder.build(), expected, 0);
+  }
+
+  /**
+   * Test method for {@link MatBuilder#append_cols(AbstractMat)}, mixed with {@link MatBuilder#append_rows(AbstractMat)}.
+   */
+  @Test
+  public void testAppend_cols() {
+    RNG.set_seed(2);
+    Mat expected = Arma.randn(5, 300);
+
+    MatBuilder builder = new MatBuilder();
+    for (int j = 0; j < expected.n_cols; j++) {
+      builder.append_cols(expected.col(j));
+    }
+    assertMatEquals(builder.build(), expected, 0);
+
+    Row row = Arma.randn(Row.class, expected.n_cols);
+    builder.append_rows(row);
+    expected.insert_rows(expected.n_rows, row);
+    assertMatEquals(builder.build(), expected, 0);
+
+    Mat cols = Arma.randn(6, 3);
+    builder.append_cols(cols);
+    expected.insert_cols(expected.n_cols, cols);
+    assertMatEquals(builder.build(), expected, 0);
+
+    builder.reset();
+    assertThat(builder.build().is_empty(), is(true));
+  }
+
+  /**
+   * Test method for {@link MatBuilder#append_rows(AbstractMat)} with a mismatching number of columns.
+   */
+  @Test(expected = RuntimeException.class)
+  public void testAppend_rowsMismatch() {
+    MatBuilder builder = new MatBuilder();
+    builder.append_rows(Arma.ones(2, 3));
+    builder.append_rows(Arma.ones(2, 4));
+  }
+
+  /**
+   * Test method for {@link Mat#insert_rows(int, AbstractMat)} and {@link Mat#insert_cols(int, AbstractMat)} with the
+   * matrix itself.
+   */
+  @Test
+  public void testInsertSelf() {
+    Mat X = Arma.reshape(Arma.linspace(Mat.class, 1, 6, 6), 2, 3);
+
+    Mat rows = new Mat(X);
+    rows.insert_rows(1, rows);
+    assertMatEquals(rows, Arma.join_vert(Arma.join_vert(X.rows(0, 0), X), X.rows(1, 1)), 0);
+
+    Mat cols = new Mat(X);
+    cols.insert_cols(3, cols);
+    assertMatEquals(cols, Arma.join_horiz(X, X), 0);
+  }
+
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestPairwiseDistance {
+
+  /**
+   * The supported metrics
+   */
+  protected static final String[] METRICS = {"euclidean", "sqeuclidean", "cosine", "manhattan"};
+
+  /**
+   * Test method for {@link PairwiseDistance#distances(Mat, Mat)} and {@link PairwiseDistance#distances(Mat)} with
+   * enough rows to be computed in parallel.
+   */
+  @Test
+  public void testDistances() {
+    RNG.set_seed(1);
+    Mat X = Arma.randn(700, 20);
+    Mat Y = Arma.randn(300, 20);
+
+    for (String metric : METRICS) {
+      PairwiseDistance pairwiseDistance = new PairwiseDistance(metric, 64);
+      assertMatEquals(pairwiseDistance.distances(X, Y), expectedDistances(metric, X, Y), 1e-10);
+
+      Mat distances = pairwiseDistance.distances(Y);
+      assertMatEquals(distances, expectedDistances(metric, Y, Y), 1e-10);
+      assertMatEquals(distances, distances.t(), 1e-12);
+      if (!metric.equals("cosine")) {
+        assertMatEquals(Arma.diagvec(distances), new Col(Y.n_rows), 0);
+      }
+    }
+  }
+
+  /**
+   * Test method for {@link PairwiseDistance#nearest(Mat, Mat, Mat, Mat, int)}.
+   * <p>
+   * The expected neighbours are determined by sorting all distances, as computed by
+   * {@link PairwiseDistance#distances(Mat, Mat)}.
+   */
+  @Test
+  public void testNearest() {
+    RNG.set_seed(2);
+    Mat X = Arma.randn(500, 10);
+    Mat Y = Arma.randn(200, 10);
+    /*
+     * Duplicated rows result in ties, which are resolved in favour of the smaller row number.
+     */
+    Y.row(150, Op.EQUAL, Y.row(20));
+
+    int k = 7;
+    for (String metric : METRICS) {
+      PairwiseDistance pairwiseDistance = new PairwiseDistance(metric, 64);
+      Mat expected = pairwiseDistance.distances(X, Y);
+
+      Mat indices = new Mat();
+      Mat distances = new Mat();
+      pairwiseDistance.nearest(indices, distances, X, Y, k);
+
+      assertThat(indices.n_rows, is(X.n_rows));
+      assertThat(indices.n_cols, is(k));
+      for (int i = 0; i < X.n_rows; i++) {
+        Col order = Arma.stable_sort_index(expected.row(i).t());
+        for (int r = 0; r < k; r++) {
+          assertThat(indices.at(i, r), is(order.at(r)));
+          assertThat(distances.at(i, r), is(expected.at(i, (int) order.at(r))));
+        }
+      }
+    }
+  }
+
+  /**
+   * Test method for {@link PairwiseDistance#PairwiseDistance(String)}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownMetric() {
+    new PairwiseDistance("chebyshev");
+  }
+
+  /**
+   * Returns the distances between all rows of X and Y, computed element-wise.
+   * 
+   * @param metric The metric
+   * @param X The first matrix
+   * @param Y The second matrix
+   * @return The distances
+   */
+  protected static Mat expectedDistances(final String metric, final Mat X, final Mat Y) {
+    Mat expected = new Mat(X.n_rows, Y.n_rows);
+    for (int i = 0; i < X.n_rows; i++) {
+      for (int j = 0; j < Y.n_rows; j++) {
+        double distance = 0;
+        double product = 0;
+        double normX = 0;
+        double normY = 0;
+        for (int c = 0; c < X.n_cols; c++) {
+          double difference = X.at(i, c) - Y.at(j, c);
+          switch (metric) {
+            case "manhattan":
+              distance += Math.abs(difference);
+              break;
+            default:
+              distance += difference * difference;
+              product += X.at(i, c) * Y.at(j, c);
+              normX += X.at(i, c) * X.at(i, c);
+              normY += Y.at(j, c) * Y.at(j, c);
+              break;
+          }
+        }
+
+        switch (metric) {
+          case "euclidean":
+            distance = Math.sqrt(distance);
+            break;
+          case "cosine":
+            distance = 1 - product / Math.sqrt(normX * normY);
+            break;
+        }
+
+        expected.at(i, j, Op.EQUAL, distance);
+      }
+    }
+
+    return expected;
+  }
+
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestPairwiseKernel {
+
+  /**
+   * Test method for {@link PairwiseKernel#kernels(Mat, Mat)} and {@link PairwiseKernel#kernels(Mat)} with enough rows
+   * to be computed in parallel.
+   */
+  @Test
+  public void testKernels() {
+    RNG.set_seed(1);
+    Mat X = Arma.randn(700, 20);
+    Mat Y = Arma.randn(300, 20);
+
+    PairwiseKernel[] kernels = {new PairwiseKernel("linear", 1, 0, 1, 64), new PairwiseKernel("polynomial", 0.1, 2, 3, 64), new PairwiseKernel("rbf", 0.05, 0, 1, 64), new PairwiseKernel("laplacian", 0.05, 0, 1, 64)};
+    Mat[] expected = new Mat[kernels.length];
+    expected[0] = X.times(Y.t());
+    expected[1] = Arma.pow(X.times(Y.t()).times(0.1).plus(2), 3);
+    expected[2] = Arma.exp(new PairwiseDistance("sqeuclidean").distances(X, Y).times(-0.05));
+    expected[3] = Arma.exp(new PairwiseDistance("manhattan").distances(X, Y).times(-0.05));
+
+    for (int n = 0; n < kernels.length; n++) {
+      assertMatEquals(kernels[n].kernels(X, Y), expected[n], 1e-9);
+
+      Mat symmetric = kernels[n].kernels(Y);
+      assertMatEquals(symmetric, symmetric.t(), 1e-12);
+    }
+
+    /*
+     * The rbf and laplacian kernels of a row with itself are 1.
+     */
+    assertMatEquals(Arma.diagvec(kernels[2].kernels(Y)), Arma.ones(Col.class, Y.n_rows), 0);
+    assertMatEquals(Arma.diagvec(kernels[3].kernels(Y)), Arma.ones(Col.class, Y.n_rows), 0);
+  }
+
+  /**
+   * Test method for {@link PairwiseKernel#PairwiseKernel(String, double)}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownKernel() {
+    new PairwiseKernel("sigmoid", 1);
+  }
+
+  /**
+   * Test method for {@link PairwiseKernel#PairwiseKernel(String, double)}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidScale() {
+    new PairwiseKernel("rbf", 0);
+  }
+
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestPinv {
+
+  /**
+   * Test method for {@link Arma#pinv(Mat)}, {@link Arma#pinv(Mat, double, String)} and
+   * {@link Arma#pinv(Mat, Mat, double)} with a zero matrix.
+   */
+  @Test
+  public void testPinvZeros() {
+    Mat A = Arma.zeros(4, 3);
+
+    Mat B = Arma.pinv(A);
+    assertThat(B.n_rows, is(3));
+    assertThat(B.n_cols, is(4));
+    assertMatEquals(B, Arma.zeros(3, 4), 0);
+
+    assertMatEquals(Arma.pinv(A.t()), Arma.zeros(4, 3), 0);
+    assertMatEquals(Arma.pinv(A, 0, "std"), Arma.zeros(3, 4), 0);
+    assertMatEquals(Arma.pinv(A, 0, "dc"), Arma.zeros(3, 4), 0);
+
+    Mat C = new Mat();
+    assertThat(Arma.pinv(C, A, 1e-10), is(true));
+    assertMatEquals(C, Arma.zeros(3, 4), 0);
+  }
+
+  /**
+   * Test method for {@link Arma#pinv(Mat)} with a non-zero rank-deficient matrix.
+   */
+  @Test
+  public void testPinvRankDeficient() {
+    RNG.set_seed(1);
+    Col x = Arma.randn(Col.class, 4);
+    Row y = Arma.randn(Row.class, 3);
+    Mat A = x.times(y);
+
+    Mat B = Arma.pinv(A);
+    assertThat(B.n_rows, is(3));
+    assertThat(B.n_cols, is(4));
+    assertMatEquals(A.times(B).times(A), A, 1e-12);
+    assertMatEquals(B.times(A).times(B), B, 1e-12);
+  }
+
+}
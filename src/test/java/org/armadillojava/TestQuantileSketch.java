@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.number.IsCloseTo.closeTo;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestQuantileSketch {
+
+  /**
+   * Test method for {@link QuantileSketch#quantile(double)}.
+   */
+  @Test
+  public void testQuantile() {
+    RNG.set_seed(1);
+
+    QuantileSketch sketch = new QuantileSketch();
+    for (int n = 0; n < 100000; n++) {
+      sketch.update(RNG._rng.nextDouble());
+    }
+
+    assertThat(sketch.count(), is(100000.0));
+    for (double p = 0.01; p < 1; p += 0.01) {
+      assertThat(sketch.quantile(p), is(closeTo(p, 0.02)));
+    }
+  }
+
+  /**
+   * Test method for {@link QuantileSketch#merge(QuantileSketch)}.
+   */
+  @Test
+  public void testMerge() {
+    QuantileSketch lower = new QuantileSketch();
+    QuantileSketch upper = new QuantileSketch();
+    for (int n = 0; n < 50000; n++) {
+      lower.update(n);
+      upper.update(50000 + n);
+    }
+
+    lower.merge(upper);
+
+    assertThat(lower.count(), is(100000.0));
+    assertThat(lower.quantile(0), is(0.0));
+    assertThat(lower.quantile(1), is(99999.0));
+    for (double p = 0.05; p < 1; p += 0.05) {
+      assertThat(lower.quantile(p), is(closeTo(p * 100000, 2000)));
+    }
+  }
+
+  /**
+   * Test method for {@link RunningStat#quantile(double)}.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateQuantiles be set to true to activate
+   *           the calculation of quantiles.
+   */
+  @Test
+  public void testRunningStatQuantile() throws IllegalAccessException {
+    RunningStat stat = new RunningStat(true);
+    for (int n = 1; n <= 99; n++) {
+      stat.update(n);
+    }
+
+    assertThat(stat.quantile(0.5), is(50.0));
+    assertThat(stat.quantile(0.99), is(99.0));
+  }
+
+  /**
+   * Test method for {@link RunningStatVec#quantile(double)}.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateQuantiles be set to true to activate
+   *           the calculation of quantiles.
+   */
+  @Test
+  public void testRunningStatVecQuantile() throws IllegalAccessException {
+    RunningStatVec stat = new RunningStatVec(false, true);
+    Mat samples = new Mat(2, 99);
+    for (int n = 0; n < 99; n++) {
+      samples.at(0, n, Op.EQUAL, n + 1);
+      samples.at(1, n, Op.EQUAL, -(n + 1));
+    }
+    stat.update(samples.cols(0, 9));
+    stat.update(samples.cols(10, 98));
+
+    Col median = stat.quantile(0.5);
+    assertThat(median.at(0), is(50.0));
+    assertThat(median.at(1), is(-50.0));
+  }
+
+  /**
+   * Test method for {@link RunningStatVec#update(Col)} and {@link RunningStatVec#update(Mat)}, rejecting NaN without
+   * changing any statistical value.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateQuantiles be set to true to activate
+   *           the calculation of quantiles.
+   */
+  @Test
+  public void testRunningStatVecRejectNaN() throws IllegalAccessException {
+    RNG.set_seed(1);
+    RunningStatVec stat = new RunningStatVec(true, true);
+    stat.update(Arma.randn(3, 20));
+
+    Col mean = new Col(stat.mean());
+    Col var = new Col(stat.var());
+    Col min = new Col(stat.min());
+    Col max = new Col(stat.max());
+    Mat cov = new Mat(stat.cov());
+    Col median = stat.quantile(0.5);
+
+    Col sample = new Col(new double[]{100, Datum.nan, 100});
+    try {
+      stat.update(sample);
+      fail("NaN must be rejected.");
+    } catch (IllegalArgumentException e) {
+    }
+
+    Mat samples = Arma.randn(3, 5);
+    samples.at(2, 4, Op.EQUAL, Datum.nan);
+    try {
+      stat.update(samples);
+      fail("NaN must be rejected.");
+    } catch (IllegalArgumentException e) {
+    }
+
+    assertThat(stat.count(), is(20.0));
+    TestUtil.assertMatEquals(stat.mean(), mean);
+    TestUtil.assertMatEquals(stat.var(), var);
+    TestUtil.assertMatEquals(stat.min(), min);
+    TestUtil.assertMatEquals(stat.max(), max);
+    TestUtil.assertMatEquals(stat.cov(), cov);
+    TestUtil.assertMatEquals(stat.quantile(0.5), median);
+  }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestReduction {
+
+  /**
+   * Test method for {@link Arma#accu(AbstractMat, String)} with enough values to be summed in parallel.
+   */
+  @Test
+  public void testAccu() {
+    RNG.set_seed(1);
+    Col values = Arma.randn(Col.class, 1000000);
+    values.inPlace(Op.PLUS, 1e8);
+    double exact = exactSum(values._data, 0, 1, values.n_elem);
+
+    assertEquals(exact, Arma.accu(values, "compensated"), Math.ulp(exact));
+    assertEquals(exact, Arma.accu(values, "pairwise"), 1e-14 * Math.abs(exact));
+    assertEquals(Arma.accu(values, "pairwise"), Arma.accu(values), 0);
+    assertEquals(Arma.accu(values), Arma.sum(values), 0);
+
+    values.at(5, Op.EQUAL, Double.POSITIVE_INFINITY);
+    assertEquals(Double.POSITIVE_INFINITY, Arma.accu(values, "compensated"), 0);
+    assertEquals(Double.POSITIVE_INFINITY, Arma.accu(values, "pairwise"), 0);
+  }
+
+  /**
+   * Test method for {@link Arma#sum(Class, Mat, int)} and {@link Arma#mean(Class, Mat, int)}.
+   */
+  @Test
+  public void testSumDim() {
+    RNG.set_seed(2);
+    Mat matrix = Arma.randn(1000, 300);
+
+    Row expectedColumnSums = new Row(matrix.n_cols);
+    for (int j = 0; j < matrix.n_cols; j++) {
+      expectedColumnSums.at(j, Op.EQUAL, exactSum(matrix._data, j * matrix.n_rows, 1, matrix.n_rows));
+    }
+    assertMatEquals(Arma.sum(Row.class, matrix, 0), expectedColumnSums);
+    assertMatEquals(Arma.mean(Row.class, matrix, 0), expectedColumnSums.divide(matrix.n_rows));
+
+    Col expectedRowSums = new Col(matrix.n_rows);
+    for (int i = 0; i < matrix.n_rows; i++) {
+      expectedRowSums.at(i, Op.EQUAL, exactSum(matrix._data, i, matrix.n_rows, matrix.n_cols));
+    }
+    assertMatEquals(Arma.sum(Col.class, matrix, 1), expectedRowSums);
+    assertMatEquals(Arma.mean(Col.class, matrix, 1), expectedRowSums.divide(matrix.n_cols));
+  }
+
+  /**
+   * Test method for {@link Arma#var(AbstractVector)} and {@link Arma#norm(AbstractVector, int)} with enough values to
+   * be summed in parallel.
+   */
+  @Test
+  public void testVarAndNorm() {
+    RNG.set_seed(3);
+    Col values = Arma.randn(Col.class, 500000);
+
+    double mean = exactSum(values._data, 0, 1, values.n_elem) / values.n_elem;
+    BigDecimal squaredDifferences = BigDecimal.ZERO;
+    BigDecimal squares = BigDecimal.ZERO;
+    BigDecimal absolutes = BigDecimal.ZERO;
+    for (int n = 0; n < values.n_elem; n++) {
+      BigDecimal value = new BigDecimal(values._data[n]);
+      BigDecimal difference = value.subtract(new BigDecimal(mean));
+      squaredDifferences = squaredDifferences.add(difference.multiply(difference));
+      squares = squares.add(value.multiply(value));
+      absolutes = absolutes.add(value.abs());
+    }
+
+    double variance = squaredDifferences.doubleValue() / (values.n_elem - 1);
+    assertEquals(variance, Arma.var(values), 1e-13 * variance);
+    assertEquals(Math.sqrt(variance), Arma.stddev(values), 1e-13 * Math.sqrt(variance));
+    assertEquals(Math.sqrt(squares.doubleValue()), Arma.norm(values, 2), 1e-13 * Math.sqrt(squares.doubleValue()));
+    assertEquals(absolutes.doubleValue(), Arma.norm(values, 1), 1e-13 * absolutes.doubleValue());
+    assertEquals(Math.sqrt(squares.doubleValue()), Arma.norm(values, "fro"), 1e-13 * Math.sqrt(squares.doubleValue()));
+  }
+
+  /**
+   * Test method for the dimension reductions of {@link Arma} with enough values to be reduced in parallel.
+   */
+  @Test
+  public void testDimensionReductions() {
+    RNG.set_seed(4);
+    Mat matrix = Arma.randu(300, 2000);
+    matrix.inPlace(Op.TIMES, 0.02);
+    matrix.inPlace(Op.PLUS, 0.99);
+    for (int j = 0; j < matrix.n_cols; j += 7) {
+      matrix.at(j % matrix.n_rows, j, Op.EQUAL, 0);
+    }
+    matrix.at(3, 5, Op.EQUAL, Double.NaN);
+
+    for (int dim = 0; dim < 2; dim++) {
+      int n = (dim == 0) ? matrix.n_cols : matrix.n_rows;
+      Col expectedSum = new Col(n);
+      Col expectedProd = new Col(n);
+      Col expectedMin = new Col(n);
+      Col expectedMax = new Col(n);
+      Col expectedAll = new Col(n);
+      Col expectedAny = new Col(n);
+      Col expectedVar = new Col(n);
+      Col expectedStddev = new Col(n);
+      for (int k = 0; k < n; k++) {
+        AbstractVector vector = (dim == 0) ? matrix.col(k) : matrix.row(k);
+        expectedSum.at(k, Op.EQUAL, Arma.accu(vector, "compensated"));
+        expectedProd.at(k, Op.EQUAL, Arma.prod(vector));
+        expectedMin.at(k, Op.EQUAL, Arma.min(vector));
+        expectedMax.at(k, Op.EQUAL, Arma.max(vector));
+        expectedAll.at(k, Op.EQUAL, Arma.all(vector) ? 1 : 0);
+        expectedAny.at(k, Op.EQUAL, Arma.any(vector) ? 1 : 0);
+        expectedVar.at(k, Op.EQUAL, Arma.var(vector, 1));
+        expectedStddev.at(k, Op.EQUAL, Arma.stddev(vector, 0));
+      }
+
+      assertMatEquals(Arma.sum(Col.class, matrix, dim), expectedSum);
+      assertMatEquals(Arma.mean(Col.class, matrix, dim), expectedSum.divide((dim == 0) ? matrix.n_rows : matrix.n_cols));
+      assertMatEquals(Arma.prod(Col.class, matrix, dim), expectedProd);
+      assertMatEquals(Arma.min(Col.class, matrix, dim), expectedMin, 0);
+      assertMatEquals(Arma.max(Col.class, matrix, dim), expectedMax, 0);
+      assertMatEquals(Arma.all(Col.class, matrix, dim), expectedAll, 0);
+      assertMatEquals(Arma.any(Col.class, matrix, dim), expectedAny, 0);
+      assertMatEquals(Arma.var(Col.class, matrix, 1, dim), expectedVar);
+      assertMatEquals(Arma.stddev(Col.class, matrix, 0, dim), expectedStddev);
+    }
+  }
+
+  /**
+   * Returns the exact sum of {@code n} elements of {@code data}, starting at {@code offset} and {@code stride} elements
+   * apart, rounded to the nearest double.
+   * 
+   * @param data The elements
+   * @param offset The position of the first element
+   * @param stride The distance between two elements
+   * @param n The number of elements
+   * @return The sum
+   */
+  protected static double exactSum(final double[] data, final int offset, final int stride, final int n) {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (int k = 0, p = offset; k < n; k++, p += stride) {
+      sum = sum.add(new BigDecimal(data[p]));
+    }
+
+    return sum.doubleValue();
+  }
+
+}
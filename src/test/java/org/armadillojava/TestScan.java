@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestScan {
+
+  /**
+   * Test method for {@link Arma#cumsum(Col)} and {@link Arma#cumprod(Col)} with enough elements to be scanned in
+   * parallel.
+   */
+  @Test
+  public void testVector() {
+    RNG.set_seed(1);
+    int n = 1 << 20;
+    Col V = Arma.randu(Col.class, n);
+    Col W = V.times(1e-5).plus(1 - 0.5e-5);
+
+    Col sums = Arma.cumsum(V);
+    Col products = Arma.cumprod(W);
+
+    double sum = 0;
+    double product = 1;
+    for (int i = 0; i < n; i++) {
+      sum += V.at(i);
+      product *= W.at(i);
+      assertThat(Math.abs(sums.at(i) - sum), is(lessThan(1e-12 * Math.max(1, sum))));
+      assertThat(Math.abs(products.at(i) - product), is(lessThan(1e-12)));
+    }
+
+    assertThat(sums.at(0), is(V.at(0)));
+    assertThat(products.at(0), is(W.at(0)));
+
+    Row rowSums = Arma.cumsum(V.t());
+    assertMatEquals(rowSums.t(), sums);
+  }
+
+  /**
+   * Test method for {@link Arma#cumsum(Mat, int)} and {@link Arma#cumprod(Mat, int)}, for matrices with many rows as
+   * well as many columns.
+   */
+  @Test
+  public void testMatrix() {
+    RNG.set_seed(2);
+    for (Mat X : new Mat[]{Arma.randu(200, 300), Arma.randu(3, 40000), Arma.randu(40000, 3)}) {
+      Mat Y = X.times(1e-4).plus(1 - 0.5e-4);
+
+      for (int dim = 0; dim <= 1; dim++) {
+        Mat sums = Arma.cumsum(X, dim);
+        Mat products = Arma.cumprod(Y, dim);
+
+        Mat expectedSums = new Mat(X.n_rows, X.n_cols);
+        Mat expectedProducts = new Mat(X.n_rows, X.n_cols);
+        if (dim == 0) {
+          for (int j = 0; j < X.n_cols; j++) {
+            expectedSums.col(j, Op.EQUAL, Arma.cumsum(X.col(j)));
+            expectedProducts.col(j, Op.EQUAL, Arma.cumprod(Y.col(j)));
+          }
+        } else {
+          for (int i = 0; i < X.n_rows; i++) {
+            expectedSums.row(i, Op.EQUAL, Arma.cumsum(X.row(i)));
+            expectedProducts.row(i, Op.EQUAL, Arma.cumprod(Y.row(i)));
+          }
+        }
+
+        assertMatEquals(sums, expectedSums, 1e-9);
+        assertMatEquals(products, expectedProducts, 1e-12);
+      }
+    }
+
+    assertMatEquals(Arma.cumsum(new Mat(new double[][]{{1, 2}, {3, 4}})), new Mat(new double[][]{{1, 2}, {4, 6}}));
+    assertMatEquals(Arma.cumprod(new Mat(new double[][]{{1, 2}, {3, 4}}), 1), new Mat(new double[][]{{1, 2}, {3, 12}}));
+  }
+
+  /**
+   * Test method for {@link Arma#cumprod(Mat, int)}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDimension() {
+    Arma.cumprod(Arma.ones(2, 2), 2);
+  }
+
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestStructure {
+
+  /**
+   * Returns the structured matrices tested, i.e. a diagonal, an upper and lower triangular and a symmetric matrix.
+   * 
+   * @return The matrices
+   */
+  protected static Mat[] structured() {
+    RNG.set_seed(1);
+    Mat A = Arma.randu(6, 6).plus(Arma.eye(6, 6).times(6));
+
+    return new Mat[]{Arma.diagmat(A), Arma.trimatu(A), Arma.trimatl(A), Arma.symmatu(A)};
+  }
+
+  /**
+   * Test method for the structure set by {@link Arma#diagmat(Mat)}, {@link Arma#trimatu(Mat)},
+   * {@link Arma#trimatl(Mat)}, {@link Arma#symmatu(Mat)}, {@link Arma#symmatl(Mat)} and {@link Arma#inv_sympd(Mat)},
+   * as well as its reset upon modification.
+   */
+  @Test
+  public void testStructure() {
+    Mat[] matrices = structured();
+    assertThat(matrices[0]._structure, is(Structure.DIAGONAL));
+    assertThat(matrices[1]._structure, is(Structure.UPPER_TRIANGULAR));
+    assertThat(matrices[2]._structure, is(Structure.LOWER_TRIANGULAR));
+    assertThat(matrices[3]._structure, is(Structure.SYMMETRIC));
+    assertThat(Arma.symmatl(matrices[2])._structure, is(Structure.SYMMETRIC));
+    assertThat(Arma.inv_sympd(matrices[3].times(matrices[3]))._structure, is(Structure.SYMMETRIC));
+    assertThat(Arma.diagmat(Arma.ones(Col.class, 3))._structure, is(Structure.DIAGONAL));
+    assertThat(matrices[1].t()._structure, is(Structure.LOWER_TRIANGULAR));
+    assertThat(Arma.eye(3, 3)._structure, is(Structure.DIAGONAL));
+    assertThat(new Mat(matrices[1])._structure, is(Structure.GENERAL));
+
+    Mat X = Arma.trimatu(matrices[3]);
+    X.at(4, 1, Op.EQUAL, 1);
+    assertThat(X._structure, is(Structure.GENERAL));
+
+    X = Arma.trimatu(matrices[3]);
+    X.col(1, Op.PLUS, 1);
+    assertThat(X._structure, is(Structure.GENERAL));
+
+    X = Arma.diagmat(matrices[3]);
+    X.submat(0, 0, 2, 2, Op.EQUAL, Arma.ones(3, 3));
+    assertThat(X._structure, is(Structure.GENERAL));
+
+    X = Arma.symmatu(matrices[3]);
+    X.memptr()[1] = 2;
+    assertThat(X._structure, is(Structure.GENERAL));
+
+    X = Arma.symmatu(matrices[3]);
+    X.inPlace(Op.PLUS, Arma.ones(6, 6));
+    assertThat(X._structure, is(Structure.GENERAL));
+
+    X = Arma.diagmat(matrices[3]);
+    X.fill(1);
+    assertThat(X._structure, is(Structure.GENERAL));
+
+    X = Arma.trimatl(matrices[3]);
+    Arma.inplace_trans(X);
+    assertThat(X._structure, is(Structure.UPPER_TRIANGULAR));
+  }
+
+  /**
+   * Test method for {@link Mat#times(Mat)} and {@link Mat#times(Col)} with structured matrices.
+   */
+  @Test
+  public void testTimes() {
+    Mat B = Arma.randn(6, 4);
+    Col b = Arma.randn(Col.class, 6);
+    Mat C = Arma.randn(4, 6);
+
+    for (Mat A : structured()) {
+      Mat dense = new Mat(A);
+
+      assertMatEquals(A.times(B), dense.times(B), 1e-12);
+      assertMatEquals(A.times(b), dense.times(b), 1e-12);
+      assertMatEquals(C.times(A), C.times(dense), 1e-12);
+      assertMatEquals(A.times(A), dense.times(dense), 1e-12);
+    }
+  }
+
+  /**
+   * Test method for {@link Arma#inv(Mat)}, {@link Arma#det(Mat)}, {@link Arma#solve(Mat, Mat)} and
+   * {@link Arma#eig_sym(AbstractVector, Mat, Mat)} with structured matrices.
+   */
+  @Test
+  public void testDecompositions() {
+    Mat B = Arma.randn(6, 3);
+
+    for (Mat A : structured()) {
+      Mat dense = new Mat(A);
+
+      Mat inverse = Arma.inv(A);
+      assertThat(inverse._structure, is(A._structure));
+      assertMatEquals(inverse, Arma.inv(dense), 1e-12);
+      assertThat(Math.abs(Arma.det(A) - Arma.det(dense)) < 1e-12 * Math.abs(Arma.det(dense)), is(true));
+      assertMatEquals(Arma.solve(A, B), Arma.solve(dense, B), 1e-12);
+    }
+
+    Mat D = Arma.diagmat(new Col(new double[]{3, -1, 2, -1}));
+    Col eigval = new Col();
+    Mat eigvec = new Mat();
+    assertThat(Arma.eig_sym(eigval, eigvec, D), is(true));
+    assertMatEquals(eigval, new Col(new double[]{-1, -1, 2, 3}));
+    assertMatEquals(eigvec.t().times(new Mat(D)).times(eigvec), Arma.diagmat(eigval));
+    assertMatEquals(Arma.eig_sym(D), eigval);
+  }
+
+  /**
+   * Test method for {@link Mat#i()} with a singular diagonal matrix.
+   */
+  @Test(expected = RuntimeException.class)
+  public void testSingular() {
+    Arma.diagmat(new Col(new double[]{1, 0, 2})).i();
+  }
+
+  /**
+   * Test method for {@link Arma#solve(Mat, Mat, Mat)} with a singular triangular matrix.
+   */
+  @Test
+  public void testSolveSingular() {
+    Mat A = Arma.trimatu(Arma.ones(3, 3));
+    A = Arma.trimatu(A.minus(Arma.eye(3, 3)));
+    assertThat(Arma.solve(new Mat(), A, Arma.ones(3, 1)), is(false));
+  }
+
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestSvds {
+
+  /**
+   * Returns a (40, 25)-matrix with singular values 2^0, 2^-1, ..., 2^-24.
+   * 
+   * @return The matrix
+   */
+  protected static Mat decayingSpectrum() {
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+    Arma.svd_econ(U, s, V, Arma.randn(40, 25));
+
+    for (int n = 0; n < s.n_elem; n++) {
+      s.at(n, Op.EQUAL, Math.pow(2, -n));
+    }
+
+    return U.times(Arma.diagmat(s)).times(V.t());
+  }
+
+  /**
+   * Test method for {@link Arma#svds(Mat, Col, Mat, Mat, int)} with fewer singular values than {@code min(X.n_rows,
+   * X.n_cols)}.
+   */
+  @Test
+  public void testSvdsTruncated() {
+    RNG.set_seed(1);
+    Mat X = decayingSpectrum();
+    int k = 5;
+
+    Mat U = new Mat();
+    Col s = new Col();
+    Mat V = new Mat();
+    Arma.svds(U, s, V, X, k);
+
+    assertThat(U.n_rows, is(40));
+    assertThat(U.n_cols, is(k));
+    assertThat(s.n_elem, is(k));
+    assertThat(V.n_rows, is(25));
+    assertThat(V.n_cols, is(k));
+
+    Mat expectedU = new Mat();
+    Col expectedS = new Col();
+    Mat expectedV = new Mat();
+    Arma.svd_econ(expectedU, expectedS, expectedV, X);
+
+    assertMatEquals(s, expectedS.subvec(0, k - 1), 1e-12);
+    /*
+     * Singular vectors are only unique up to their sign.
+     */
+    assertMatEquals(Arma.abs(U), Arma.abs(expectedU.cols(0, k - 1)), 1e-10);
+    assertMatEquals(Arma.abs(V), Arma.abs(expectedV.cols(0, k - 1)), 1e-10);
+
+    /*
+     * The truncated decomposition is the best rank-k approximation, with the remaining singular values as error.
+     */
+    Mat approximation = U.times(Arma.diagmat(s)).times(V.t());
+    assertMatEquals(approximation, expectedU.cols(0, k - 1).times(Arma.diagmat(expectedS.subvec(0, k - 1))).times(expectedV.cols(0, k - 1).t()), 1e-12);
+    assertThat(Arma.norm(X.minus(approximation), "fro"), is(closeTo(Arma.norm(expectedS.subvec(k, expectedS.n_elem - 1), 2), 1e-12)));
+  }
+
+  /**
+   * Test method for {@link Arma#princomp(Mat, Mat, Col, Mat, int)} with fewer principal components than
+   * {@code min(X.n_rows, X.n_cols)}.
+   */
+  @Test
+  public void testPrincompTruncated() {
+    RNG.set_seed(2);
+    Mat X = decayingSpectrum();
+    int k = 5;
+
+    Mat coeff = new Mat();
+    Mat score = new Mat();
+    Col latent = new Col();
+    Arma.princomp(coeff, score, latent, X, k);
+
+    assertThat(coeff.n_rows, is(25));
+    assertThat(coeff.n_cols, is(k));
+    assertThat(score.n_rows, is(40));
+    assertThat(score.n_cols, is(k));
+    assertThat(latent.n_elem, is(k));
+
+    Mat expectedCoeff = new Mat();
+    Mat expectedScore = new Mat();
+    Col expectedLatent = new Col();
+    Arma.princomp(expectedCoeff, expectedScore, expectedLatent, X);
+
+    assertMatEquals(latent, expectedLatent.subvec(0, k - 1), 1e-12);
+    /*
+     * Principal components are only unique up to their sign.
+     */
+    assertMatEquals(Arma.abs(coeff), Arma.abs(expectedCoeff.cols(0, k - 1)), 1e-10);
+    assertMatEquals(Arma.abs(score), Arma.abs(expectedScore.cols(0, k - 1)), 1e-10);
+  }
+
+}
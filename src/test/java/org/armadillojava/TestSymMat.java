@@ -105,4 +105,51 @@ public class TestSymMat extends TestClass {
     assertMatEquals(eigvec, load("Arma.eig_symEigvec"));
   }
 
+  @Test
+  public void testArmaEig_symDc() throws IOException {
+    Col eigval = new Col();
+    Mat eigvec = new Mat();
+
+    Arma.eig_sym(eigval, eigvec, _symMat, "dc");
+
+    assertMatEquals(eigval, load("Arma.eig_symEigval"));
+    assertMatEquals(_symMat.times(eigvec), eigvec.times(Arma.diagmat(eigval)));
+  }
+
+  @Test
+  public void testArmaEig_sym_index() throws IOException {
+    Col expected = new Col(load("Arma.eig_symEigval"));
+    int first = expected.n_elem / 2;
+
+    Col eigval = new Col();
+    Mat eigvec = new Mat();
+
+    Arma.eig_sym_index(eigval, eigvec, _symMat, first, expected.n_elem - 1);
+
+    assertMatEquals(eigval, expected.rows(first, expected.n_elem - 1));
+    assertMatEquals(_symMat.times(eigvec), eigvec.times(Arma.diagmat(eigval)));
+  }
+
+  @Test
+  public void testArmaEig_sym_interval() throws IOException {
+    Col expected = new Col(load("Arma.eig_symEigval"));
+
+    Col eigval = new Col();
+
+    Arma.eig_sym_interval(eigval, _symMat, expected.min() - 1, expected.max() + 1);
+
+    assertMatEquals(eigval, expected);
+  }
+
+  @Test
+  public void testArmaEigs_sym() throws IOException {
+    Col eigval = new Col();
+    Mat eigvec = new Mat();
+
+    Arma.eigs_sym(eigval, eigvec, _symMat, _symMat.n_rows);
+
+    assertMatEquals(eigval, load("Arma.eig_symEigval"));
+    assertMatEquals(_symMat.times(eigvec), eigvec.times(Arma.diagmat(eigval)));
+  }
+
 }
@@ -14,6 +14,8 @@
 package org.armadillojava;
 
 import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -76,6 +78,35 @@ public class TestSymPDMat extends TestClass {
     assertMatEquals((R.t()).times(R), _symPDMat);
   }
 
+  @Test
+  public void testArmaChol_update() throws IOException {
+    Mat R = Arma.chol(_symPDMat);
+    Col x = Arma.linspace(Col.class, -1, 2, _symPDMat.n_rows);
+
+    Arma.chol_update(R, x);
+
+    assertMatEquals(Arma.trimatu(R), R, 0);
+    assertMatEquals((R.t()).times(R), _symPDMat.plus(x.times(x.t())));
+  }
+
+  @Test
+  public void testArmaChol_downdate() throws IOException {
+    Mat R = Arma.chol(_symPDMat);
+    Col x = Arma.linspace(Col.class, -1, 2, _symPDMat.n_rows);
+
+    Arma.chol_update(R, x);
+    assertThat(Arma.chol_downdate(R, x), is(true));
+
+    assertMatEquals(Arma.trimatu(R), R, 0);
+    assertMatEquals((R.t()).times(R), _symPDMat);
+
+    Mat expected = new Mat(R);
+    Col y = Arma.zeros(Col.class, _symPDMat.n_rows);
+    y.at(0, Op.EQUAL, 2 * R.at(0, 0));
+    assertThat(Arma.chol_downdate(R, y), is(false));
+    assertMatEquals(R, expected, 0);
+  }
+
   @Test
   public void testArmaInv_sympdA() throws IOException {
 
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright 2013-2014 Sebastian Niemann <niemann@sra.uni-hannover.de>.
+ * 
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://opensource.org/licenses/MIT
+ * 
+ * Developers:
+ * Sebastian Niemann - Lead developer
+ * Daniel Kiechle - Unit testing
+ ******************************************************************************/
+package org.armadillojava;
+
+import static org.armadillojava.TestUtil.assertMatEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.number.IsCloseTo.closeTo;
+
+import org.junit.Test;
+
+/**
+ * @author Sebastian Niemann <niemann@sra.uni-hannovr.de>
+ */
+public class TestWindowedRunningStat {
+
+  /**
+   * Test method for {@link WindowedRunningStat}.
+   */
+  @Test
+  public void testWindowedRunningStat() {
+    RNG.set_seed(1);
+    Col samples = Arma.randn(Col.class, 100);
+
+    for (int windowSize : new int[]{1, 2, 7, 100}) {
+      WindowedRunningStat stat = new WindowedRunningStat(windowSize);
+
+      for (int n = 0; n < samples.n_elem; n++) {
+        stat.update(samples.at(n));
+
+        RunningStat expected = new RunningStat();
+        for (int k = Math.max(0, n - windowSize + 1); k <= n; k++) {
+          expected.update(samples.at(k));
+        }
+
+        assertThat(stat.count(), is(expected.count()));
+        assertThat(stat.min(), is(expected.min()));
+        assertThat(stat.max(), is(expected.max()));
+        assertThat(stat.mean(), is(closeTo(expected.mean(), 1e-12)));
+        assertThat(stat.var(), is(closeTo(expected.var(), 1e-12)));
+        assertThat(stat.var(1), is(closeTo(expected.var(1), 1e-12)));
+      }
+    }
+  }
+
+  /**
+   * Test method for {@link WindowedRunningStatVec}.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  @Test
+  public void testWindowedRunningStatVec() throws IllegalAccessException {
+    RNG.set_seed(1);
+    Mat samples = Arma.randn(3, 50);
+
+    for (int windowSize : new int[]{1, 2, 7, 50}) {
+      WindowedRunningStatVec stat = new WindowedRunningStatVec(windowSize, true);
+
+      for (int n = 0; n < samples.n_cols; n++) {
+        stat.update(samples.col(n));
+
+        RunningStatVec expected = new RunningStatVec(true);
+        for (int k = Math.max(0, n - windowSize + 1); k <= n; k++) {
+          expected.update(samples.col(k));
+        }
+
+        assertThat(stat.count(), is(expected.count()));
+        assertMatEquals(stat.min(), expected.min(), 0);
+        assertMatEquals(stat.max(), expected.max(), 0);
+        assertMatEquals(stat.mean(), expected.mean(), 1e-12);
+        assertMatEquals(stat.var(), expected.var(), 1e-12);
+        assertMatEquals(stat.cov(), expected.cov(), 1e-12);
+      }
+    }
+  }
+
+  /**
+   * Test method for {@link WindowedRunningStatVec#update(Col)}, rejecting NaN without changing any statistical value.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  @Test
+  public void testWindowedRunningStatVecRejectNaN() throws IllegalAccessException {
+    RNG.set_seed(1);
+    Mat samples = Arma.randn(3, 10);
+
+    WindowedRunningStatVec stat = new WindowedRunningStatVec(5, true);
+    for (int n = 0; n < samples.n_cols; n++) {
+      stat.update(samples.col(n));
+    }
+
+    Col mean = new Col(stat.mean());
+    Col var = new Col(stat.var());
+    Mat cov = new Mat(stat.cov());
+
+    try {
+      stat.update(new Col(new double[]{1, Datum.nan, 1}));
+      fail("NaN must be rejected.");
+    } catch (IllegalArgumentException e) {
+    }
+
+    assertThat(stat.count(), is(5.0));
+    assertMatEquals(stat.mean(), mean, 0);
+    assertMatEquals(stat.var(), var, 0);
+    assertMatEquals(stat.cov(), cov, 0);
+  }
+
+  /**
+   * Test method for {@link WindowedRunningStat#update(double)} with an infinite sample passing through the window.
+   */
+  @Test
+  public void testWindowedRunningStatInfinity() {
+    WindowedRunningStat stat = new WindowedRunningStat(3);
+    stat.update(1);
+    stat.update(Double.POSITIVE_INFINITY);
+
+    assertThat(stat.mean(), is(Double.POSITIVE_INFINITY));
+    assertThat(stat.max(), is(Double.POSITIVE_INFINITY));
+
+    for (int n = 0; n < 10; n++) {
+      stat.update(n);
+    }
+
+    assertThat(stat.mean(), is(8.0));
+    assertThat(stat.var(), is(1.0));
+    assertThat(stat.max(), is(9.0));
+  }
+
+  /**
+   * Test method for {@link WindowedRunningStat#update(double)} after a sudden change of scale.
+   */
+  @Test
+  public void testWindowedRunningStatChangeOfScale() {
+    RNG.set_seed(2);
+    Col large = Arma.randn(Col.class, 100000).plus(1e12);
+    Col small = Arma.randn(Col.class, 57);
+
+    WindowedRunningStat stat = new WindowedRunningStat(50);
+    for (int n = 0; n < large.n_elem; n++) {
+      stat.update(large.at(n));
+    }
+    for (int n = 0; n < small.n_elem; n++) {
+      stat.update(small.at(n));
+    }
+
+    RunningStat expected = new RunningStat();
+    for (int n = small.n_elem - 50; n < small.n_elem; n++) {
+      expected.update(small.at(n));
+    }
+
+    assertThat(stat.mean(), is(closeTo(expected.mean(), 1e-12)));
+    assertThat(stat.var(), is(closeTo(expected.var(), 1e-12)));
+  }
+
+  /**
+   * Test method for {@link WindowedRunningStatVec#update(Col)} with an infinite sample passing through the window.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  @Test
+  public void testWindowedRunningStatVecInfinity() throws IllegalAccessException {
+    RNG.set_seed(3);
+    Mat samples = Arma.randn(3, 10);
+
+    WindowedRunningStatVec stat = new WindowedRunningStatVec(3, true);
+    stat.update(new Col(new double[]{1, Double.NEGATIVE_INFINITY, 1}));
+
+    assertThat(stat.mean().at(1), is(Double.NEGATIVE_INFINITY));
+
+    for (int n = 0; n < samples.n_cols; n++) {
+      stat.update(samples.col(n));
+    }
+
+    RunningStatVec expected = new RunningStatVec(true);
+    for (int n = samples.n_cols - 3; n < samples.n_cols; n++) {
+      expected.update(samples.col(n));
+    }
+
+    assertMatEquals(stat.mean(), expected.mean(), 1e-12);
+    assertMatEquals(stat.var(), expected.var(), 1e-12);
+    assertMatEquals(stat.cov(), expected.cov(), 1e-12);
+  }
+
+  /**
+   * Test method for {@link WindowedRunningStatVec#update(Col)} after a sudden change of scale.
+   * 
+   * @throws IllegalAccessException The constructor must be invoked with calculateCovariance be set to true to activate
+   *           the calculation of the covariance.
+   */
+  @Test
+  public void testWindowedRunningStatVecChangeOfScale() throws IllegalAccessException {
+    RNG.set_seed(4);
+    Mat large = Arma.randn(2, 20000).plus(1e12);
+    Mat small = Arma.randn(2, 57);
+
+    WindowedRunningStatVec stat = new WindowedRunningStatVec(50, true);
+    for (int n = 0; n < large.n_cols; n++) {
+      stat.update(large.col(n));
+    }
+    for (int n = 0; n < small.n_cols; n++) {
+      stat.update(small.col(n));
+    }
+
+    RunningStatVec expected = new RunningStatVec(true);
+    for (int n = small.n_cols - 50; n < small.n_cols; n++) {
+      expected.update(small.col(n));
+    }
+
+    assertMatEquals(stat.mean(), expected.mean(), 1e-12);
+    assertMatEquals(stat.var(), expected.var(), 1e-12);
+    assertMatEquals(stat.cov(), expected.cov(), 1e-12);
+  }
+}